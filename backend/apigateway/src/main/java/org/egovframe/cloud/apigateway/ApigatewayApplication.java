@@ -1,7 +1,9 @@
 package org.egovframe.cloud.apigateway;
 
+import org.egovframe.cloud.apigateway.event.AuthorizationChangedEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 /**
@@ -22,6 +24,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
  *  2021/06/30    jaeyeolkim  최초 생성
  * </pre>
  */
+@RemoteApplicationEventScan(basePackageClasses = AuthorizationChangedEvent.class)
 @EnableDiscoveryClient
 @SpringBootApplication
 public class ApigatewayApplication {
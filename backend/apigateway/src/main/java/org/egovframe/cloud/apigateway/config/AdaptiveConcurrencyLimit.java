@@ -0,0 +1,125 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * org.egovframe.cloud.apigateway.config.AdaptiveConcurrencyLimit
+ * <p>
+ * 응답 시간 변화로 동시 요청 한도를 조정하는 클래스 (gradient 방식)
+ * 장기 응답 시간 EWMA 와 단기 응답 시간 EWMA 의 비율(gradient, 0.5 ~ 1.0)을 현재 한도에 곱하고 sqrt(한도) 만큼의 여유를 더한다.
+ * 응답 시간이 평소와 같으면 한도가 늘어나고, 백엔드가 밀려 응답 시간이 길어지면 최대 절반까지 줄어든다.
+ * 처리 중인 요청이 한도의 절반보다 적을 때는 한도를 늘리지 않는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /**
+     * 장기 응답 시간 대비 단기 응답 시간이 이 배수까지는 정상으로 본다.
+     */
+    private static final double RTT_TOLERANCE = 1.5;
+
+    /**
+     * 새 한도를 반영하는 비율
+     */
+    private static final double SMOOTHING = 0.2;
+
+    private static final double SHORT_RTT_WEIGHT = 0.5;
+
+    private static final double LONG_RTT_WEIGHT = 2.0 / (600 + 1);
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    private double shortRtt;
+
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안이면 처리 중 요청 수를 늘리고 true 를 리턴한다.
+     *
+     * @return boolean 요청 처리 가능 여부
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청이 끝나면 처리 중 요청 수를 줄이고 응답 시간으로 한도를 조정한다.
+     *
+     * @param rttNanos 응답 시간, 0 이하이면 한도를 조정하지 않는다 (요청 취소 등)
+     */
+    public void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, inFlightAtRelease);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtRelease) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt = shortRtt * (1 - SHORT_RTT_WEIGHT) + rttNanos * SHORT_RTT_WEIGHT;
+        longRtt = longRtt * (1 - LONG_RTT_WEIGHT) + rttNanos * LONG_RTT_WEIGHT;
+        // 부하가 줄어 응답이 빨라졌으면 장기 응답 시간도 빨리 따라가도록 한다.
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double newLimit = current * gradient + Math.sqrt(current);
+        if (newLimit > current && inFlightAtRelease < current / 2) {
+            return;
+        }
+        newLimit = current * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    /**
+     * 현재 동시 요청 한도
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 처리 중인 요청 수
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+}
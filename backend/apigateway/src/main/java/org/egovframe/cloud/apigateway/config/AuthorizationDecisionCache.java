@@ -0,0 +1,166 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.egovframe.cloud.apigateway.event.AuthorizationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.apigateway.config.AuthorizationDecisionCache
+ * <p>
+ * user-service 인가 결과를 게이트웨이에 캐시하는 클래스
+ * 키는 (토큰의 권한 목록, Http Method, 요청 경로) 이며 최대 건수와 만료 시간을 가진다.
+ * user-service 에서 인가 정보가 변경되면 spring cloud bus 로 전달되는 AuthorizationChangedEvent 를 받아 전체를 비운다.
+ * 적중/부적중 통계는 cache.gets 등 micrometer 지표(cache=gateway-authorization-decision)로 노출된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AuthorizationDecisionCache {
+
+    public static final String CACHE_NAME = "gateway-authorization-decision";
+
+    /**
+     * 토큰이 없는 요청의 권한 (user-service 의 AnonymousAuthenticationToken 권한과 같다)
+     */
+    public static final String ANONYMOUS_ROLE = "ROLE_ANONYMOUS";
+
+    private final Cache<String, Boolean> cache;
+
+    /**
+     * 캐시를 비울 때마다 증가한다. 비우기 전에 시작된 인가 요청의 결과가 다시 저장되는 것을 막는다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthorizationDecisionCache(MeterRegistry meterRegistry,
+                                      @Value("${apigateway.authorization.cache.maximum-size:10000}") long maximumSize,
+                                      @Value("${apigateway.authorization.cache.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param roles      정렬된 권한 목록 문자열
+     * @param httpMethod Http Method
+     * @param path       정규화된 요청 경로
+     * @return String 캐시 키
+     */
+    public String key(String roles, HttpMethod httpMethod, String path) {
+        return roles + '|' + httpMethod + '|' + path;
+    }
+
+    /**
+     * 현재 세대 번호. 원격 인가 요청 전에 읽어 두었다가 put 할 때 넘긴다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 인가 결과 조회
+     *
+     * @param key 캐시 키
+     * @return Boolean 인가 결과, 없으면 null
+     */
+    public Boolean get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 인가 결과 저장
+     * 요청 이후 캐시가 비워졌으면 저장하지 않는다.
+     *
+     * @param key        캐시 키
+     * @param granted    인가 결과
+     * @param generation 요청 시작 시점의 세대 번호
+     */
+    public void put(String key, Boolean granted, long generation) {
+        if (granted == null || this.generation.get() != generation) {
+            return;
+        }
+        cache.put(key, granted);
+    }
+
+    /**
+     * 캐시 전체 삭제
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * user-service 의 인가 정보 변경 이벤트 수신
+     *
+     * @param event 인가 정보 변경 이벤트
+     */
+    @EventListener
+    public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+        log.info("authorization changed by {}, clear authorization decision cache", event.getOriginService());
+        invalidateAll();
+    }
+
+    /**
+     * 토큰의 authorities 클레임을 순서에 무관한 문자열로 정규화한다.
+     *
+     * @param authorities 콤마로 구분된 권한 목록
+     * @return String 정렬된 권한 목록
+     */
+    public static String normalizeRoles(String authorities) {
+        if (!StringUtils.hasText(authorities)) {
+            return ANONYMOUS_ROLE;
+        }
+        return Arrays.stream(authorities.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasLength)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 연속된 슬래시를 하나로 합친다.
+     * user-service 의 AntPathMatcher 는 빈 경로 조각을 무시하므로 인가 결과가 달라지지 않는다.
+     *
+     * @param path 요청 경로
+     * @return String 정규화된 요청 경로
+     */
+    public static String normalizePath(String path) {
+        if (path.indexOf("//") < 0) {
+            return path;
+        }
+        return path.replaceAll("/{2,}", "/");
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.apigateway.config.AuthorizationRequestCoalescer
+ * <p>
+ * 같은 키로 동시에 들어온 user-service 인가 요청을 하나로 합치는 클래스
+ * 진행 중인 요청이 있으면 새 요청을 보내지 않고 그 결과를 같이 받으며, 요청이 끝나면(성공/실패 모두) 진행 목록에서 제거된다.
+ * 제거할 때는 자기 요청일 때만 지워 같은 키로 새로 등록된 요청을 지우지 않는다.
+ * 키에는 AuthorizationDecisionCache 의 세대 번호가 포함되어 캐시를 비운 뒤에는 이전 요청에 합쳐지지 않는다.
+ * 합쳐진 비율은 gateway.authorization.remote.requests 지표의 coalesced 태그(true/false)로 계산할 수 있다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   끝난 요청이 같은 키의 다른 요청을 진행 목록에서 지우지 않도록 수정
+ * </pre>
+ */
+@Component
+public class AuthorizationRequestCoalescer {
+
+    public static final String REQUESTS_METRIC = "gateway.authorization.remote.requests";
+    public static final String IN_FLIGHT_METRIC = "gateway.authorization.remote.in-flight";
+
+    /**
+     * 키 -> 진행 중인 인가 요청
+     */
+    private final Map<String, Mono<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+
+    private final Counter coalesced;
+
+    public AuthorizationRequestCoalescer(MeterRegistry meterRegistry) {
+        this.executed = Counter.builder(REQUESTS_METRIC)
+                .description("user-service authorization checks")
+                .tag("coalesced", "false")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(REQUESTS_METRIC)
+                .description("user-service authorization checks")
+                .tag("coalesced", "true")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, Map::size)
+                .description("user-service authorization checks in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키로 진행 중인 요청이 있으면 그 결과를, 없으면 새 요청의 결과를 리턴한다.
+     *
+     * @param key     요청 키
+     * @param request 인가 요청, 진행 중인 요청이 없을 때만 호출된다
+     * @return Mono<Boolean> 공유되는 인가 결과
+     */
+    public Mono<Boolean> execute(String key, Supplier<Mono<Boolean>> request) {
+        return Mono.defer(() -> {
+            Mono<Boolean> current = inFlight.get(key);
+            if (current != null) {
+                coalesced.increment();
+                return current;
+            }
+            AtomicReference<Mono<Boolean>> self = new AtomicReference<>();
+            Mono<Boolean> created = Mono.defer(request)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(created);
+            current = inFlight.putIfAbsent(key, created);
+            if (current != null) {
+                coalesced.increment();
+                return current;
+            }
+            executed.increment();
+            return created;
+        });
+    }
+
+    /**
+     * 진행 중인 요청 건수
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+}
@@ -0,0 +1,202 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationSnapshotDto;
+import org.egovframe.cloud.apigateway.event.AuthorizationChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.apigateway.config.AuthorizationRuleEngine
+ * <p>
+ * user-service 의 인가 규칙 스냅샷을 내려받아 게이트웨이 안에서 인가 여부를 판단하는 클래스
+ * 스냅샷은 기동 시, 인가 정보 변경 이벤트(AuthorizationChangedEvent) 수신 시, 그리고 refresh-interval 주기로 다시 조회하며
+ * 버전이 바뀐 경우에만 컴파일된 규칙을 교체한다.
+ * 스냅샷을 아직 받지 못했거나 비활성화된 경우 decide 는 null 을 리턴하고 ReactiveAuthorization 이 user-service 에 인가를 요청한다.
+ * 스냅샷 API 는 서비스 간 호출만 허용하므로 apigateway 서비스 권한(SERVICE_AUTHORITY)을 담은 내부 인증 헤더를 붙여 조회한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   스냅샷 조회 시 내부 인증 헤더 전달
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AuthorizationRuleEngine implements DisposableBean {
+
+    /**
+     * 스냅샷 조회용 내부 인증 헤더 유효 시간
+     */
+    private static final Duration SERVICE_IDENTITY_TTL = Duration.ofMinutes(1);
+
+    private final WebClient webClient;
+
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+
+    private final InternalIdentityHeader internalIdentityHeader;
+
+    private final boolean enabled;
+
+    private final String snapshotUri;
+
+    private final Duration refreshInterval;
+
+    /**
+     * 현재 적용 중인 인가 규칙, 스냅샷을 받기 전에는 null
+     */
+    private volatile AuthorizationRuleSet ruleSet;
+
+    /**
+     * 스냅샷 조회 중복 실행 방지
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    /**
+     * 조회 중에 다시 요청된 경우 조회가 끝난 뒤 한 번 더 조회한다.
+     */
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private Disposable scheduler;
+
+    public AuthorizationRuleEngine(WebClient.Builder webClientBuilder,
+                                   ObjectProvider<LoadBalancedExchangeFilterFunction> loadBalancerFilter,
+                                   AuthorizationDecisionCache authorizationDecisionCache,
+                                   InternalIdentityHeader internalIdentityHeader,
+                                   @Value("${apigateway.authorization.rules.enabled:true}") boolean enabled,
+                                   @Value("${apigateway.authorization.rules.snapshot-uri:http://USER-SERVICE/api/v1/role-authorizations/snapshot}") String snapshotUri,
+                                   @Value("${apigateway.authorization.rules.refresh-interval:PT5M}") Duration refreshInterval) {
+        WebClient.Builder builder = webClientBuilder.clone();
+        loadBalancerFilter.ifAvailable(builder::filter);
+        this.webClient = builder.build();
+        this.authorizationDecisionCache = authorizationDecisionCache;
+        this.internalIdentityHeader = internalIdentityHeader;
+        this.enabled = enabled;
+        this.snapshotUri = snapshotUri;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * 인가 여부 판단
+     *
+     * @param roles      정규화된 권한 목록
+     * @param httpMethod Http Method
+     * @param path       정규화된 요청 경로
+     * @return Boolean 인가 여부, 규칙을 아직 받지 못했으면 null
+     */
+    public Boolean decide(String roles, HttpMethod httpMethod, String path) {
+        AuthorizationRuleSet current = ruleSet;
+        if (current == null) {
+            return null;
+        }
+        return current.decide(roles, httpMethod.name(), path);
+    }
+
+    /**
+     * 현재 적용 중인 스냅샷 버전, 스냅샷을 받기 전에는 null
+     */
+    public Long version() {
+        AuthorizationRuleSet current = ruleSet;
+        return current == null ? null : current.getVersion();
+    }
+
+    /**
+     * 기동 완료 후 스냅샷을 조회하고 주기적 조회를 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("gateway authorization rule engine disabled, every request is checked by user-service");
+            return;
+        }
+        scheduler = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .subscribe(tick -> refresh().subscribe());
+    }
+
+    /**
+     * user-service 의 인가 정보 변경 이벤트 수신
+     *
+     * @param event 인가 정보 변경 이벤트
+     */
+    @EventListener
+    public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+        if (enabled) {
+            refresh().subscribe();
+        }
+    }
+
+    /**
+     * 스냅샷을 조회하여 버전이 바뀌었으면 인가 규칙을 교체한다.
+     * 조회에 실패하면 기존 규칙을 유지한다.
+     *
+     * @return Mono<Void> 조회 완료 신호
+     */
+    public Mono<Void> refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            refreshPending.set(true);
+            return Mono.empty();
+        }
+        return webClient.get()
+                .uri(snapshotUri)
+                .header(InternalIdentityHeader.HEADER_NAME, internalIdentityHeader.encode(InternalIdentityHeader.SERVICE_SUBJECT,
+                        InternalIdentityHeader.SERVICE_AUTHORITY, System.currentTimeMillis() + SERVICE_IDENTITY_TTL.toMillis()))
+                .retrieve()
+                .bodyToMono(AuthorizationSnapshotDto.class)
+                .doOnNext(this::apply)
+                .doOnError(e -> log.warn("인가 규칙 스냅샷 조회 오류 : {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .doFinally(signal -> {
+                    refreshing.set(false);
+                    if (refreshPending.compareAndSet(true, false)) {
+                        refresh().subscribe();
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * 스냅샷 적용
+     *
+     * @param snapshot 인가 규칙 스냅샷
+     */
+    void apply(AuthorizationSnapshotDto snapshot) {
+        AuthorizationRuleSet current = ruleSet;
+        if (current != null && snapshot.getVersion() != null && current.getVersion() == snapshot.getVersion()) {
+            return;
+        }
+        AuthorizationRuleSet compiled = AuthorizationRuleSet.compile(snapshot);
+        ruleSet = compiled;
+        authorizationDecisionCache.invalidateAll();
+        log.info("gateway authorization rules applied. version={}, rules={}", compiled.getVersion(), compiled.size());
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+}
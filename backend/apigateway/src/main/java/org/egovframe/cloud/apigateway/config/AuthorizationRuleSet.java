@@ -0,0 +1,283 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationRuleDto;
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationSnapshotDto;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * org.egovframe.cloud.apigateway.config.AuthorizationRuleSet
+ * <p>
+ * user-service 인가 규칙 스냅샷을 컴파일한 불변 클래스
+ * Http Method 별로 URL 패턴을 경로 조각 단위 트리로 만들고, 각 패턴의 권한 목록은 BitSet 으로 가진다.
+ * 판단 결과는 user-service AuthorizationService 의 AntPathMatcher 비교 결과와 같다.
+ * <ul>
+ *     <li>빈 경로 조각은 무시하고, 패턴과 요청 경로의 시작 슬래시 여부가 같아야 한다.</li>
+ *     <li>** 로 끝나는 패턴은 끝 슬래시 여부를 비교하지 않고, 그 밖의 패턴은 끝 슬래시 여부까지 같아야 한다.</li>
+ *     <li>** 가 없고 마지막 조각이 * 인 패턴은 슬래시로 끝나는 상위 경로와도 일치한다. (/a/* 는 /a/ 와 일치)</li>
+ * </ul>
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public final class AuthorizationRuleSet {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String DOUBLE_STAR = "**";
+    private static final String SINGLE_STAR = "*";
+
+    /**
+     * 와일드카드 경로 조각 비교용. 경로 조각 패턴은 내부에서 캐시된다.
+     */
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private final long version;
+
+    /**
+     * 권한 id -> BitSet 위치
+     */
+    private final Map<String, Integer> roleIndex;
+
+    /**
+     * Http Method -> [슬래시로 시작하지 않는 패턴 트리, 슬래시로 시작하는 패턴 트리]
+     */
+    private final Map<String, Node[]> roots;
+
+    private final int ruleCount;
+
+    private AuthorizationRuleSet(long version, Map<String, Integer> roleIndex, Map<String, Node[]> roots, int ruleCount) {
+        this.version = version;
+        this.roleIndex = roleIndex;
+        this.roots = roots;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * 인가 규칙 스냅샷 컴파일
+     *
+     * @param snapshot 인가 규칙 스냅샷
+     * @return AuthorizationRuleSet 컴파일된 인가 규칙
+     */
+    public static AuthorizationRuleSet compile(AuthorizationSnapshotDto snapshot) {
+        Map<String, Integer> roleIndex = new HashMap<>();
+        Map<String, Node[]> roots = new HashMap<>();
+        int ruleCount = 0;
+
+        List<AuthorizationRuleDto> authorizations = snapshot.getAuthorizations() == null
+                ? Collections.emptyList() : snapshot.getAuthorizations();
+        for (AuthorizationRuleDto rule : authorizations) {
+            if (rule.getUrlPatternValue() == null || rule.getHttpMethodCode() == null
+                    || rule.getRoleIds() == null || rule.getRoleIds().isEmpty()) {
+                continue;
+            }
+            BitSet roles = new BitSet();
+            for (String roleId : rule.getRoleIds()) {
+                roles.set(roleIndex.computeIfAbsent(roleId, id -> roleIndex.size()));
+            }
+
+            String pattern = rule.getUrlPatternValue();
+            Node[] methodRoots = roots.computeIfAbsent(rule.getHttpMethodCode(), method -> new Node[]{new Node(false), new Node(false)});
+            Node node = methodRoots[pattern.startsWith(PATH_SEPARATOR) ? 1 : 0];
+            boolean hasDoubleStar = false;
+            String lastSegment = null;
+            for (String segment : tokenize(pattern)) {
+                lastSegment = segment;
+                if (DOUBLE_STAR.equals(segment)) {
+                    hasDoubleStar = true;
+                    if (node.doubleStarChild == null) {
+                        node.doubleStarChild = new Node(true);
+                    }
+                    node = node.doubleStarChild;
+                } else if (isLiteral(segment)) {
+                    node = node.literalChildren.computeIfAbsent(segment, s -> new Node(false));
+                } else {
+                    node = node.wildcardChildren.computeIfAbsent(segment, s -> new Node(false));
+                }
+            }
+
+            if (DOUBLE_STAR.equals(lastSegment)) {
+                node.anyTrailing = or(node.anyTrailing, roles);
+            } else if (pattern.endsWith(PATH_SEPARATOR)) {
+                node.exactSlash = or(node.exactSlash, roles);
+            } else {
+                node.exactNoSlash = or(node.exactNoSlash, roles);
+            }
+            if (!hasDoubleStar && SINGLE_STAR.equals(lastSegment)) {
+                node.parentSlash = or(node.parentSlash, roles);
+            }
+            ruleCount++;
+        }
+
+        Long version = snapshot.getVersion();
+        return new AuthorizationRuleSet(version == null ? 0L : version, roleIndex, roots, ruleCount);
+    }
+
+    /**
+     * 스냅샷 버전
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 컴파일된 인가 규칙 건수
+     */
+    public int size() {
+        return ruleCount;
+    }
+
+    /**
+     * 인가 여부 판단
+     *
+     * @param roles      콤마로 구분된 권한 목록
+     * @param httpMethod Http Method
+     * @param path       요청 경로
+     * @return boolean 권한 중 하나라도 일치하는 인가 규칙이 있으면 true
+     */
+    public boolean decide(String roles, String httpMethod, String path) {
+        Node[] methodRoots = roots.get(httpMethod);
+        if (methodRoots == null) {
+            return false;
+        }
+        BitSet roleBits = new BitSet();
+        for (String role : StringUtils.commaDelimitedListToStringArray(roles)) {
+            Integer index = roleIndex.get(role.trim());
+            if (index != null) {
+                roleBits.set(index);
+            }
+        }
+        if (roleBits.isEmpty()) {
+            return false;
+        }
+        Match match = new Match(tokenize(path), path.endsWith(PATH_SEPARATOR), roleBits);
+        return match.visit(methodRoots[path.startsWith(PATH_SEPARATOR) ? 1 : 0], 0);
+    }
+
+    private static String[] tokenize(String path) {
+        return StringUtils.tokenizeToStringArray(path, PATH_SEPARATOR, false, true);
+    }
+
+    private static boolean isLiteral(String segment) {
+        return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+    }
+
+    private static BitSet or(BitSet target, BitSet roles) {
+        BitSet result = target == null ? new BitSet() : target;
+        result.or(roles);
+        return result;
+    }
+
+    /**
+     * 경로 조각 트리 노드
+     */
+    private static final class Node {
+
+        /**
+         * ** 조각 노드 여부. 0개 이상의 경로 조각을 소비한다.
+         */
+        private final boolean doubleStar;
+
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private final Map<String, Node> wildcardChildren = new HashMap<>();
+        private Node doubleStarChild;
+
+        /**
+         * 이 노드에서 끝나는 패턴 중 슬래시로 끝나는 패턴의 권한 (** 로 끝나는 패턴 제외)
+         */
+        private BitSet exactSlash;
+
+        /**
+         * 이 노드에서 끝나는 패턴 중 슬래시로 끝나지 않는 패턴의 권한 (** 로 끝나는 패턴 제외)
+         */
+        private BitSet exactNoSlash;
+
+        /**
+         * 이 노드에서 끝나는 ** 로 끝나는 패턴의 권한
+         */
+        private BitSet anyTrailing;
+
+        /**
+         * ** 가 없고 * 로 끝나는 패턴의 권한. 슬래시로 끝나는 상위 경로와도 일치한다.
+         */
+        private BitSet parentSlash;
+
+        private Node(boolean doubleStar) {
+            this.doubleStar = doubleStar;
+        }
+    }
+
+    /**
+     * 요청 경로 하나에 대한 트리 탐색
+     */
+    private final class Match {
+
+        private final String[] segments;
+        private final boolean endsWithSlash;
+        private final BitSet roles;
+
+        private Match(String[] segments, boolean endsWithSlash, BitSet roles) {
+            this.segments = segments;
+            this.endsWithSlash = endsWithSlash;
+            this.roles = roles;
+        }
+
+        private boolean visit(Node node, int index) {
+            if (node.doubleStar) {
+                for (int i = index; i <= segments.length; i++) {
+                    if (visitChildren(node, i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return visitChildren(node, index);
+        }
+
+        private boolean visitChildren(Node node, int index) {
+            if (index == segments.length) {
+                if (granted(node.anyTrailing) || granted(endsWithSlash ? node.exactSlash : node.exactNoSlash)) {
+                    return true;
+                }
+                if (endsWithSlash) {
+                    Node star = node.wildcardChildren.get(SINGLE_STAR);
+                    if (star != null && granted(star.parentSlash)) {
+                        return true;
+                    }
+                }
+                return node.doubleStarChild != null && visit(node.doubleStarChild, index);
+            }
+
+            String segment = segments[index];
+            Node literal = node.literalChildren.get(segment);
+            if (literal != null && visit(literal, index + 1)) {
+                return true;
+            }
+            for (Map.Entry<String, Node> entry : node.wildcardChildren.entrySet()) {
+                if (antPathMatcher.match(entry.getKey(), segment) && visit(entry.getValue(), index + 1)) {
+                    return true;
+                }
+            }
+            return node.doubleStarChild != null && visit(node.doubleStarChild, index);
+        }
+
+        private boolean granted(BitSet bits) {
+            return bits != null && bits.intersects(roles);
+        }
+    }
+
+}
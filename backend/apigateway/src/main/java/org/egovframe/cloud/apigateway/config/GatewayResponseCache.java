@@ -0,0 +1,177 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.egovframe.cloud.apigateway.event.PortalContentChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.apigateway.config.GatewayResponseCache
+ * <p>
+ * 조회 위주 GET 응답을 게이트웨이 메모리에 캐시하는 클래스
+ * 응답 본문 크기 합계(maximum-weight)와 만료 시간(ttl)을 가지며, portal-service 에서 데이터가 변경되면
+ * spring cloud bus 로 전달되는 PortalContentChangedEvent 를 받아 전체를 비운다.
+ * 적중/부적중 통계는 cache.gets 등 micrometer 지표(cache=gateway-response)로 노출된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class GatewayResponseCache {
+
+    public static final String CACHE_NAME = "gateway-response";
+
+    private final Cache<String, CachedResponse> cache;
+
+    private final long maxBodySize;
+
+    /**
+     * 캐시를 비울 때마다 증가한다. 비우기 전에 시작된 요청의 응답이 다시 저장되는 것을 막는다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public GatewayResponseCache(MeterRegistry meterRegistry,
+                                @Value("${apigateway.response-cache.maximum-weight:64MB}") DataSize maximumWeight,
+                                @Value("${apigateway.response-cache.max-body-size:1MB}") DataSize maxBodySize,
+                                @Value("${apigateway.response-cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.getBody().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.maxBodySize = maxBodySize.toBytes();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 현재 세대 번호. 백엔드 요청 전에 읽어 두었다가 put 할 때 넘긴다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 응답 조회
+     *
+     * @param key 캐시 키
+     * @return CachedResponse 캐시된 응답, 없으면 null
+     */
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 응답 본문을 캐시할 수 있는 크기인지 확인
+     *
+     * @param size 본문 크기
+     * @return boolean 캐시 가능 여부
+     */
+    public boolean isCacheable(long size) {
+        return size <= maxBodySize;
+    }
+
+    /**
+     * 응답 저장
+     * 요청 이후 캐시가 비워졌으면 저장하지 않는다.
+     *
+     * @param key        캐시 키
+     * @param response   응답
+     * @param generation 요청 시작 시점의 세대 번호
+     */
+    public void put(String key, CachedResponse response, long generation) {
+        if (this.generation.get() != generation) {
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    /**
+     * 캐시 전체 삭제
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * portal-service 의 데이터 변경 이벤트 수신
+     *
+     * @param event 포털 데이터 변경 이벤트
+     */
+    @EventListener
+    public void onPortalContentChanged(PortalContentChangedEvent event) {
+        log.info("portal content changed by {}, clear gateway response cache", event.getOriginService());
+        invalidateAll();
+    }
+
+    /**
+     * 응답 본문의 SHA-256 다이제스트로 strong ETag 를 만든다.
+     *
+     * @param body 응답 본문
+     * @return String 따옴표를 포함한 ETag
+     */
+    public static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 캐시된 응답
+     */
+    public static final class CachedResponse {
+
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private final String etag;
+
+        public CachedResponse(HttpHeaders headers, byte[] body, String etag) {
+            this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+            this.body = body;
+            this.etag = etag;
+        }
+
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+    }
+
+}
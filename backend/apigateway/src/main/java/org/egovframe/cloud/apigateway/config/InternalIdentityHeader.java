@@ -0,0 +1,97 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * org.egovframe.cloud.apigateway.config.InternalIdentityHeader
+ * <p>
+ * JWT 검증 후 하위 서비스로 전달하는 내부 인증 헤더를 만드는 클래스
+ * 헤더 값은 "v1.{subject}.{authorities}.{만료 시각(ms)}.{HMAC-SHA256}" 형식이며 하위 서비스는 공통 모듈의 InternalIdentityHeader 로 검증한다.
+ * apigateway 는 공통 모듈을 사용하지 않으므로 org.egovframe.cloud.common.util.InternalIdentityHeader 와 같은 형식과 키 파생을 둔다. 같이 변경해주어야 한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Component
+public class InternalIdentityHeader {
+
+    public static final String HEADER_NAME = "X-Egov-Internal-Identity";
+
+    /**
+     * apigateway 가 직접 하위 서비스를 호출할 때(인가 규칙 스냅샷 조회 등) 쓰는 subject 와 권한
+     * 사용자 토큰에는 담기지 않는 권한이며 common 의 InternalIdentityHeader 값도 같이 변경해주어야 한다.
+     */
+    public static final String SERVICE_SUBJECT = "apigateway";
+    public static final String SERVICE_AUTHORITY = "ROLE_INTERNAL_SERVICE";
+
+    private static final String VERSION = "v1";
+    private static final String KEY_PURPOSE = ":internal-identity";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec key;
+
+    /**
+     * Mac 은 스레드 안전하지 않으므로 스레드마다 초기화된 인스턴스를 사용한다.
+     */
+    private final ThreadLocal<Mac> mac;
+
+    public InternalIdentityHeader(@Value("${token.secret}") String tokenSecret) {
+        this.key = new SecretKeySpec(sha256(tokenSecret + KEY_PURPOSE), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 내부 인증 헤더 값 생성
+     *
+     * @param subject     사용자 id
+     * @param authorities 콤마로 구분된 권한 목록
+     * @param expiresAt   만료 시각(ms), 토큰의 exp 와 같다
+     * @return String 헤더 값
+     */
+    public String encode(String subject, String authorities, long expiresAt) {
+        String payload = VERSION
+                + '.' + ENCODER.encodeToString(subject.getBytes(StandardCharsets.UTF_8))
+                + '.' + ENCODER.encodeToString((authorities == null ? "" : authorities).getBytes(StandardCharsets.UTF_8))
+                + '.' + expiresAt;
+        return payload + '.' + ENCODER.encodeToString(mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+}
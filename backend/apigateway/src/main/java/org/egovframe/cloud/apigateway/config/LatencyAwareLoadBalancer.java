@@ -0,0 +1,214 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.apigateway.config.LatencyAwareLoadBalancer
+ * <p>
+ * 인스턴스별 응답 시간 EWMA 와 처리 중인 요청 수로 부하가 적은 인스턴스를 고르는 로드밸런서
+ * 임의의 두 인스턴스를 뽑아 비용((EWMA + 1ns) x (처리 중인 요청 수 + 1))이 작은 쪽을 선택한다(power of two choices).
+ * 응답 시간과 처리 중인 요청 수는 LoadBalancerLifecycle 콜백(onStartRequest/onComplete)으로 갱신하며,
+ * EWMA 는 마지막 갱신 이후 경과 시간에 따라 decay-time 을 시간 상수로 감쇠한다.
+ * 응답 기록이 없는 새 인스턴스는 비용이 낮아 첫 응답이 올 때까지 우선 선택된다.
+ * apigateway(WebFlux)는 servlet 기반인 공통 모듈(egovframe-cloud-module-common)을 의존할 수 없으므로
+ * apigateway 와 공통 모듈에 같은 파일을 두고 있다. package 외에는 두 파일을 같게 유지한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   apigateway 와 공통 모듈의 파일을 같게 맞춤
+ * </pre>
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+
+    private final String serviceId;
+
+    private final double decayNanos;
+
+    /**
+     * 인스턴스 키 -> 응답 시간/처리 중 요청 통계
+     */
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                    String serviceId, Duration decayTime) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.decayNanos = decayTime.toNanos();
+    }
+
+    /**
+     * ReactorLoadBalancer 가 choose 의 인자를 raw type(Request)으로 선언하므로 Request<?> 로는 재정의할 수 없다.
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    /**
+     * 인스턴스 목록에서 하나를 고른다.
+     *
+     * @param instances 인스턴스 목록
+     * @return Response<ServiceInstance> 선택된 인스턴스, 목록이 비어 있으면 EmptyResponse
+     */
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (stats.size() > instances.size() * 2) {
+            purge(instances);
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        long now = System.nanoTime();
+        return new DefaultResponse(cost(a, now) <= cost(b, now) ? a : b);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+        // 인스턴스가 정해진 뒤 onStartRequest 에서 처리한다.
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        stats(lbResponse.getServer()).outstanding.incrementAndGet();
+        if (request != null && request.getContext() instanceof TimedRequestContext) {
+            TimedRequestContext context = (TimedRequestContext) request.getContext();
+            if (context.getRequestStartTime() == 0) {
+                context.setRequestStartTime(System.nanoTime());
+            }
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        InstanceStats instanceStats = stats(lbResponse.getServer());
+        instanceStats.outstanding.updateAndGet(value -> value > 0 ? value - 1 : 0);
+
+        if (completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        Object context = completionContext.getLoadBalancerRequest() == null ? null
+                : completionContext.getLoadBalancerRequest().getContext();
+        if (context instanceof TimedRequestContext && ((TimedRequestContext) context).getRequestStartTime() > 0) {
+            long now = System.nanoTime();
+            instanceStats.observe(now - ((TimedRequestContext) context).getRequestStartTime(), now, decayNanos);
+        }
+    }
+
+    /**
+     * 선택 비용, 작을수록 먼저 선택된다.
+     */
+    double cost(ServiceInstance instance, long now) {
+        InstanceStats instanceStats = stats.get(key(instance));
+        if (instanceStats == null) {
+            return 0;
+        }
+        return (instanceStats.ewma(now, decayNanos) + 1) * (instanceStats.outstanding.get() + 1);
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    private InstanceStats stats(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> new InstanceStats());
+    }
+
+    /**
+     * 목록에서 사라진 인스턴스의 통계를 지운다.
+     */
+    private void purge(List<ServiceInstance> instances) {
+        Set<String> keys = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            keys.add(key(instance));
+        }
+        stats.keySet().retainAll(keys);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getInstanceId() != null ? instance.getInstanceId() : instance.getHost() + ':' + instance.getPort();
+    }
+
+    /**
+     * 인스턴스별 통계
+     */
+    private static final class InstanceStats {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        private double ewmaNanos;
+
+        private long updatedAt;
+
+        synchronized void observe(long latencyNanos, long now, double decayNanos) {
+            if (updatedAt == 0) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(now - updatedAt) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            updatedAt = now;
+        }
+
+        synchronized double ewma(long now, double decayNanos) {
+            if (updatedAt == 0) {
+                return 0;
+            }
+            // 응답이 없는 동안에도 감쇠하여 한 번 느렸던 인스턴스가 계속 배제되지 않도록 한다.
+            return ewmaNanos * Math.exp(-Math.max(0, now - updatedAt) / decayNanos);
+        }
+    }
+
+}
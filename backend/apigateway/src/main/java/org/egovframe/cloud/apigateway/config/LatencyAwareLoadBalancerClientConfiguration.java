@@ -0,0 +1,39 @@
+package org.egovframe.cloud.apigateway.config;
+
+import java.time.Duration;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * org.egovframe.cloud.apigateway.config.LatencyAwareLoadBalancerClientConfiguration
+ * <p>
+ * 서비스별 로드밸런서 자식 컨텍스트에 등록되는 설정
+ * 부모 컨텍스트에 등록되지 않도록 @Configuration 을 붙이지 않는다.
+ * 빈이 LoadBalancerLifecycle 도 구현하므로 게이트웨이의 ReactiveLoadBalancerClientFilter 가 요청 시작/완료를 알려준다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public class LatencyAwareLoadBalancerClientConfiguration {
+
+    @Bean
+    LatencyAwareLoadBalancer latencyAwareLoadBalancer(Environment environment, LoadBalancerClientFactory loadBalancerClientFactory) {
+        String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        Duration decayTime = environment.getProperty("loadbalancer.latency-aware.decay-time", Duration.class, Duration.ofSeconds(10));
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class), name, decayTime);
+    }
+
+}
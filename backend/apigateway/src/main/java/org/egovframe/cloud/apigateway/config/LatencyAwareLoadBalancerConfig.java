@@ -0,0 +1,29 @@
+package org.egovframe.cloud.apigateway.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * org.egovframe.cloud.apigateway.config.LatencyAwareLoadBalancerConfig
+ * <p>
+ * 모든 lb:// 라우트의 로드밸런서를 기본 round robin 대신 LatencyAwareLoadBalancer 로 설정한다.
+ * loadbalancer.latency-aware.enabled=false 이면 Spring Cloud LoadBalancer 기본 설정을 사용한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(name = "loadbalancer.latency-aware.enabled", havingValue = "true", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerClientConfiguration.class)
+public class LatencyAwareLoadBalancerConfig {
+}
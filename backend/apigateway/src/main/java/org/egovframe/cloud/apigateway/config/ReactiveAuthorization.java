@@ -1,16 +1,15 @@
 package org.egovframe.cloud.apigateway.config;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 
-import javax.crypto.SecretKey;
-
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.server.RequestPath;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.AuthorizationServiceException;
 import org.springframework.security.authorization.AuthorizationDecision;
@@ -21,12 +20,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 
 /**
@@ -44,37 +45,71 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/19    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   WebClient 재사용, 동시 인가 요청 합치기, 인가 처리 시간 지표
+ *  2026/10/18    eGovFrame   관리자 권한 체크(checkAdmin) 추가
  * </pre>
  */
 @Slf4j
-@RequiredArgsConstructor
 @Component
-public class ReactiveAuthorization implements ReactiveAuthorizationManager<AuthorizationContext> {
+public class ReactiveAuthorization implements ReactiveAuthorizationManager<AuthorizationContext>, DisposableBean {
+
+    private final WebClient webClient;
+
+    private final ConnectionProvider connectionProvider;
+
+    private final AuthorizationDecisionCache authorizationDecisionCache;
+
+    private final AuthorizationRuleEngine authorizationRuleEngine;
+
+    private final JwtVerifier jwtVerifier;
 
-    private final WebClient.Builder webClientBuilder;
+    private final AuthorizationRequestCoalescer authorizationRequestCoalescer;
+
+    private final MeterRegistry meterRegistry;
 
     @Value("${apigateway.host:http://localhost:8000}")
     private String APIGATEWAY_HOST;
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
-
     // org.egovframe.cloud.common.config.GlobalConstant 값도 같이 변경해주어야 한다.
     public static final String AUTHORIZATION_URI = "/user-service" + "/api/v1/authorizations/check";
     public static final String REFRESH_TOKEN_URI = "/user-service" + "/api/v1/users/token/refresh";
+    public static final String TOKEN_CLAIM_NAME = "authorities";
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+    public static final String AUTHORIZATION_METRIC = "gateway.authorization";
 
-    private SecretKey verificationKey() {
-        try {
-            byte[] digest = MessageDigest.getInstance("SHA-256")
-                    .digest(TOKEN_SECRET.getBytes(StandardCharsets.UTF_8));
-            return Keys.hmacShaKeyFor(digest);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
+    /**
+     * 인가 요청용 WebClient 는 한 번만 만들고 전용 커넥션 풀을 사용한다.
+     */
+    public ReactiveAuthorization(WebClient.Builder webClientBuilder,
+                                 AuthorizationDecisionCache authorizationDecisionCache,
+                                 AuthorizationRuleEngine authorizationRuleEngine,
+                                 JwtVerifier jwtVerifier,
+                                 AuthorizationRequestCoalescer authorizationRequestCoalescer,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${apigateway.authorization.client.max-connections:200}") int maxConnections,
+                                 @Value("${apigateway.authorization.client.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout,
+                                 @Value("${apigateway.authorization.client.max-idle-time:PT30S}") Duration maxIdleTime) {
+        this.connectionProvider = ConnectionProvider.builder("gateway-authorization")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+        this.webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        this.authorizationDecisionCache = authorizationDecisionCache;
+        this.authorizationRuleEngine = authorizationRuleEngine;
+        this.jwtVerifier = jwtVerifier;
+        this.authorizationRequestCoalescer = authorizationRequestCoalescer;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
      * 요청에 대한 사용자의 권한여부 체크하여 true/false 리턴한다 헤더에 토큰이 있으면 유효성을 체크한다.
+     * 인가 규칙 스냅샷이 있으면 AuthorizationRuleEngine 으로 게이트웨이 안에서 판단하고,
+     * 없으면 user-service 에 요청하여 그 결과를 토큰의 권한 목록, Http Method, 요청 경로 별로 AuthorizationDecisionCache 에 캐시한다.
+     * 같은 키로 동시에 들어온 user-service 요청은 AuthorizationRequestCoalescer 로 하나로 합친다.
+     * 인가 처리 시간은 판단 방식(source=token/rule/cache/remote) 별로 gateway.authorization 지표에 기록한다.
      *
      * @param authentication
      * @param context
@@ -84,16 +119,14 @@ public class ReactiveAuthorization implements ReactiveAuthorizationManager<Autho
     @Override
     public Mono<AuthorizationDecision> check(Mono<Authentication> authentication,
         AuthorizationContext context) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         ServerHttpRequest request = context.getExchange().getRequest();
         RequestPath requestPath = request.getPath();
         HttpMethod httpMethod = request.getMethod();
-
-        String baseUrl =
-            APIGATEWAY_HOST + AUTHORIZATION_URI + "?httpMethod=" + httpMethod + "&requestPath="
-                + requestPath;
-        log.info("baseUrl={}", baseUrl);
+        String path = AuthorizationDecisionCache.normalizePath(requestPath.value());
 
         String authorizationHeader = "";
+        String roles = AuthorizationDecisionCache.ANONYMOUS_ROLE;
 
         List<String> authorizations =
             request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) ?
@@ -105,24 +138,18 @@ public class ReactiveAuthorization implements ReactiveAuthorizationManager<Autho
         ) {
             try {
                 authorizationHeader = authorizations.get(0);
-                String raw = authorizationHeader.trim();
-                String jwt = raw.startsWith("Bearer ") ? raw.substring(7).trim() : raw;
-                SecretKey key = verificationKey();
-                String subject = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(jwt)
-                    .getPayload()
-                    .getSubject();
+                Claims claims = jwtVerifier.verify(authorizationHeader);
+                String subject = claims.getSubject();
 
                 // refresh token 요청 시 토큰 검증만 하고 인가 처리 한다.
                 if (REFRESH_TOKEN_URI.equals(requestPath + "")) {
-                    return Mono.just(new AuthorizationDecision(true));
+                    return timed(Mono.just(new AuthorizationDecision(true)), sample, "token");
                 }
                 if (subject == null || subject.isEmpty()) {
                     log.error("토큰 인증 오류");
                     throw new AuthorizationServiceException("토큰 인증 오류");
                 }
+                roles = AuthorizationDecisionCache.normalizeRoles(claims.get(TOKEN_CLAIM_NAME, String.class));
             } catch (IllegalArgumentException e) {
                 log.error("토큰 헤더 오류 : {}", e.getMessage());
                 throw new AuthorizationServiceException("토큰 인증 오류");
@@ -135,21 +162,86 @@ public class ReactiveAuthorization implements ReactiveAuthorizationManager<Autho
             }
         }
 
+        Boolean decided = authorizationRuleEngine.decide(roles, httpMethod, path);
+        if (decided != null) {
+            return timed(Mono.just(new AuthorizationDecision(decided)), sample, "rule");
+        }
+
+        String cacheKey = authorizationDecisionCache.key(roles, httpMethod, path);
+        Boolean cached = authorizationDecisionCache.get(cacheKey);
+        if (cached != null) {
+            return timed(Mono.just(new AuthorizationDecision(cached)), sample, "cache");
+        }
+        long generation = authorizationDecisionCache.generation();
+
+        String baseUrl =
+            APIGATEWAY_HOST + AUTHORIZATION_URI + "?httpMethod=" + httpMethod + "&requestPath="
+                + path;
+
         String token = authorizationHeader;
-        return webClientBuilder.clone()
-            .baseUrl(baseUrl)
-            .build()
-            .get()
-            .headers(httpHeaders -> httpHeaders.add(HttpHeaders.AUTHORIZATION, token))
-            .retrieve()
-            .bodyToMono(Boolean.class)
-            .defaultIfEmpty(false)
-            .doOnNext(granted -> log.info("Security AuthorizationDecision granted={}", granted))
+        Mono<AuthorizationDecision> remote = authorizationRequestCoalescer.execute(cacheKey + '#' + generation, () -> {
+                log.debug("baseUrl={}", baseUrl);
+                return webClient.get()
+                    .uri(baseUrl)
+                    .headers(httpHeaders -> httpHeaders.add(HttpHeaders.AUTHORIZATION, token))
+                    .retrieve()
+                    .bodyToMono(Boolean.class)
+                    .doOnNext(granted -> authorizationDecisionCache.put(cacheKey, granted, generation))
+                    .defaultIfEmpty(false)
+                    .doOnNext(granted -> log.debug("Security AuthorizationDecision granted={}", granted));
+            })
             .map(AuthorizationDecision::new)
             .onErrorMap(e -> {
                 log.error("인가 서버에 요청 중 오류 : {}", e.getMessage());
                 return new AuthorizationServiceException("인가 요청시 오류 발생", e);
             });
+        return timed(remote, sample, "remote");
+    }
+
+    /**
+     * 토큰의 권한 목록에 관리자 권한이 있는지 체크한다.
+     * 게이트웨이는 SecurityContext 에 인증 정보를 두지 않으므로 hasAuthority 대신 토큰의 권한 목록으로 판단한다.
+     * 토큰이 없거나 유효하지 않으면 거부한다.
+     *
+     * @param authentication
+     * @param context
+     * @return
+     * @see WebFluxSecurityConfig
+     */
+    public Mono<AuthorizationDecision> checkAdmin(Mono<Authentication> authentication, AuthorizationContext context) {
+        String authorization = context.getExchange().getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (!StringUtils.hasLength(authorization) || "undefined".equals(authorization)) {
+            return Mono.just(new AuthorizationDecision(false));
+        }
+        try {
+            String roles = AuthorizationDecisionCache.normalizeRoles(
+                jwtVerifier.verify(authorization).get(TOKEN_CLAIM_NAME, String.class));
+            return Mono.just(new AuthorizationDecision(Arrays.asList(roles.split(",")).contains(ADMIN_ROLE)));
+        } catch (Exception e) {
+            log.debug("관리자 권한 체크 토큰 오류 : {}", e.getMessage());
+            return Mono.just(new AuthorizationDecision(false));
+        }
+    }
+
+    /**
+     * 인가 결과가 나올 때까지의 시간을 기록한다.
+     *
+     * @param decision 인가 결과
+     * @param sample   check 시작 시점
+     * @param source   판단 방식
+     * @return Mono<AuthorizationDecision> 인가 결과
+     */
+    private Mono<AuthorizationDecision> timed(Mono<AuthorizationDecision> decision, Timer.Sample sample, String source) {
+        return decision.doFinally(signal -> sample.stop(Timer.builder(AUTHORIZATION_METRIC)
+                .description("gateway authorization phase latency")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry)));
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
     }
 
 }
@@ -4,13 +4,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authorization.ReactiveAuthorizationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
-import org.springframework.security.web.server.authorization.AuthorizationContext;
 import org.springframework.security.web.server.header.ReferrerPolicyServerHttpHeadersWriter.ReferrerPolicy;
 import org.springframework.security.web.server.header.XFrameOptionsServerHttpHeadersWriter.Mode;
 
@@ -30,6 +28,8 @@ import org.springframework.security.web.server.header.XFrameOptionsServerHttpHea
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   actuator 는 health, info 만 인증 없이 허용, 그 외(metrics 등)는 인가 규칙으로 판단
+ *  2026/10/18    eGovFrame   게이트웨이 actuator(health, info 외)는 관리자만 조회
  * </pre>
  */
 @Configuration
@@ -39,24 +39,26 @@ public class WebFluxSecurityConfig {
     private final static String[] PERMITALL_ANTPATTERNS = {
             ReactiveAuthorization.AUTHORIZATION_URI, "/", "/csrf",
             "/user-service/login", "/user-service/auth/login", "/?*-service/api/v1/messages/**", "/api/v1/messages/**",
-            "/?*-service/actuator/?*", "/actuator/?*",
+            "/?*-service/actuator/health", "/?*-service/actuator/health/**", "/?*-service/actuator/info", "/?*-service/actuator/health-info",
+            "/actuator/health", "/actuator/health/**", "/actuator/info",
             "/v3/api-docs/**", "/?*-service/v3/api-docs", "/?*-service/v3/api-docs/**",
             "/swagger*/**", "/webjars/**",
             "/?*-service/swagger-ui.html", "/?*-service/swagger-ui/**", "/?*-service/webjars/**"
     };
     private final static String USER_JOIN_ANTPATTERNS = "/user-service/api/v1/users";
+    private final static String ACTUATOR_ANTPATTERNS = "/actuator/**";
 
     /**
      * WebFlux 스프링 시큐리티 설정
      *
      * @see ReactiveAuthorization
      * @param http
-     * @param check check(Mono<Authentication> authentication, AuthorizationContext context)
+     * @param check check(Mono<Authentication> authentication, AuthorizationContext context), 게이트웨이 actuator 는 checkAdmin
      * @return
      * @throws Exception
      */
     @Bean
-    SecurityWebFilterChain configure(ServerHttpSecurity http, ReactiveAuthorizationManager<AuthorizationContext> check) throws Exception {
+    SecurityWebFilterChain configure(ServerHttpSecurity http, ReactiveAuthorization check) throws Exception {
         http.headers(headers -> headers
                 .frameOptions(frameOptions -> frameOptions.mode(Mode.DENY))
                 .contentTypeOptions(Customizer.withDefaults())
@@ -69,6 +71,7 @@ public class WebFluxSecurityConfig {
             .authorizeExchange(exchanges -> exchanges
                 .pathMatchers(PERMITALL_ANTPATTERNS).permitAll()
                 .pathMatchers(HttpMethod.POST, USER_JOIN_ANTPATTERNS).permitAll()
+                .pathMatchers(ACTUATOR_ANTPATTERNS).access(check::checkAdmin) // metrics 는 관리자만 조회
                 .anyExchange().access(check));
 
         return http.build();
@@ -0,0 +1,59 @@
+package org.egovframe.cloud.apigateway.config.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.apigateway.config.dto.AuthorizationRuleDto
+ * <p>
+ * user-service 인가 규칙 응답 DTO 클래스
+ * 인가 하나와 해당 인가를 가진 권한 목록
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class AuthorizationRuleDto {
+
+    /**
+     * 인가 번호
+     */
+    private Integer authorizationNo;
+
+    /**
+     * URL 패턴 값
+     */
+    private String urlPatternValue;
+
+    /**
+     * Http Method 코드
+     */
+    private String httpMethodCode;
+
+    /**
+     * 권한 id 목록
+     */
+    private List<String> roleIds;
+
+    @Builder
+    public AuthorizationRuleDto(Integer authorizationNo, String urlPatternValue, String httpMethodCode, List<String> roleIds) {
+        this.authorizationNo = authorizationNo;
+        this.urlPatternValue = urlPatternValue;
+        this.httpMethodCode = httpMethodCode;
+        this.roleIds = roleIds;
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.egovframe.cloud.apigateway.config.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.apigateway.config.dto.AuthorizationSnapshotDto
+ * <p>
+ * user-service 인가 규칙 스냅샷 응답 DTO 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class AuthorizationSnapshotDto {
+
+    /**
+     * 스냅샷 버전 (규칙 내용의 해시)
+     */
+    private Long version;
+
+    /**
+     * 인가 규칙 목록
+     */
+    private List<AuthorizationRuleDto> authorizations;
+
+    @Builder
+    public AuthorizationSnapshotDto(Long version, List<AuthorizationRuleDto> authorizations) {
+        this.version = version;
+        this.authorizations = authorizations;
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.egovframe.cloud.apigateway.event;
+
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * org.egovframe.cloud.apigateway.event.AuthorizationChangedEvent
+ * <p>
+ * user-service 에서 인가 또는 권한 인가 정보가 변경되었을 때 spring cloud bus 로 전달되는 이벤트
+ * 클래스 이름으로 직렬화되므로 user-service 의 AuthorizationChangedEvent 와 이름을 같게 유지해야 한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   deprecated 생성자 대신 Destination 을 받는 생성자 사용
+ * </pre>
+ */
+public class AuthorizationChangedEvent extends RemoteApplicationEvent {
+
+    /**
+     * 역직렬화를 위한 기본 생성자
+     */
+    public AuthorizationChangedEvent() {
+        super();
+    }
+
+    /**
+     * 모든 서비스(destination 없음)로 보내는 이벤트
+     */
+    public AuthorizationChangedEvent(Object source, String originService) {
+        super(source, originService, DEFAULT_DESTINATION_FACTORY.getDestination(null));
+    }
+
+}
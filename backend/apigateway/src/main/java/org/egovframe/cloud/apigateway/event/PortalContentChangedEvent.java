@@ -0,0 +1,40 @@
+package org.egovframe.cloud.apigateway.event;
+
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * org.egovframe.cloud.apigateway.event.PortalContentChangedEvent
+ * <p>
+ * portal-service 에서 메뉴, 메시지, 배너, 코드, 약관 등 조회 위주 데이터가 변경되었을 때 spring cloud bus 로 전달되는 이벤트
+ * 클래스 이름으로 직렬화되므로 portal-service 의 PortalContentChangedEvent 와 이름을 같게 유지해야 한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   deprecated 생성자 대신 Destination 을 받는 생성자 사용
+ * </pre>
+ */
+public class PortalContentChangedEvent extends RemoteApplicationEvent {
+
+    /**
+     * 역직렬화를 위한 기본 생성자
+     */
+    public PortalContentChangedEvent() {
+        super();
+    }
+
+    /**
+     * 모든 서비스(destination 없음)로 보내는 이벤트
+     */
+    public PortalContentChangedEvent(Object source, String originService) {
+        super(source, originService, DEFAULT_DESTINATION_FACTORY.getDestination(null));
+    }
+
+}
@@ -0,0 +1,155 @@
+package org.egovframe.cloud.apigateway.filter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.egovframe.cloud.apigateway.config.AdaptiveConcurrencyLimit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * org.egovframe.cloud.apigateway.filter.ConcurrencyLimitFilter
+ * <p>
+ * 라우트별로 백엔드에 보내는 동시 요청 수를 AdaptiveConcurrencyLimit 로 제한하는 필터
+ * 한도를 넘는 요청은 백엔드로 보내지 않고 바로 503 과 Retry-After 헤더로 응답한다.
+ * 현재 한도, 처리 중 요청 수, 거절 건수는 gateway.concurrency.* 지표(route 태그)로 노출된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter implements org.springframework.cloud.gateway.filter.GlobalFilter, Ordered {
+
+    public static final String LIMIT_METRIC = "gateway.concurrency.limit";
+    public static final String IN_FLIGHT_METRIC = "gateway.concurrency.in-flight";
+    public static final String REJECTED_METRIC = "gateway.concurrency.rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final List<String> routes;
+
+    private final int initialLimit;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final String retryAfter;
+
+    /**
+     * 라우트 id -> 동시 요청 한도
+     */
+    private final Map<String, RouteLimit> limits = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${apigateway.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${apigateway.concurrency-limit.routes:}") List<String> routes,
+                                  @Value("${apigateway.concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${apigateway.concurrency-limit.min-limit:4}") int minLimit,
+                                  @Value("${apigateway.concurrency-limit.max-limit:500}") int maxLimit,
+                                  @Value("${apigateway.concurrency-limit.retry-after:PT1S}") Duration retryAfter) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.routes = routes.stream().map(String::trim).filter(route -> !route.isEmpty()).toList();
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.retryAfter = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!enabled || route == null || (!routes.isEmpty() && !routes.contains(route.getId()))) {
+            return chain.filter(exchange);
+        }
+
+        RouteLimit routeLimit = limits.computeIfAbsent(route.getId(), this::newRouteLimit);
+        if (!routeLimit.limit.tryAcquire()) {
+            routeLimit.rejected.increment();
+            log.debug("concurrency limit exceeded. route={}, limit={}", route.getId(), routeLimit.limit.getLimit());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+            return response.setComplete();
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> routeLimit.limit.release(signal == SignalType.CANCEL ? 0 : System.nanoTime() - start));
+    }
+
+    /**
+     * 인가 처리와 응답 캐시(ResponseCacheFilter) 이후, 라우팅 필터보다 먼저 실행된다.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    /**
+     * 라우트의 현재 동시 요청 한도, 요청이 없었으면 null
+     */
+    AdaptiveConcurrencyLimit limit(String routeId) {
+        RouteLimit routeLimit = limits.get(routeId);
+        return routeLimit == null ? null : routeLimit.limit;
+    }
+
+    private RouteLimit newRouteLimit(String routeId) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        Gauge.builder(LIMIT_METRIC, limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("gateway adaptive concurrency limit")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("gateway requests in flight")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder(REJECTED_METRIC)
+                .description("gateway requests rejected by concurrency limit")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return new RouteLimit(limit, rejected);
+    }
+
+    private static final class RouteLimit {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final Counter rejected;
+
+        private RouteLimit(AdaptiveConcurrencyLimit limit, Counter rejected) {
+            this.limit = limit;
+            this.rejected = rejected;
+        }
+    }
+
+}
@@ -1,21 +1,46 @@
 package org.egovframe.cloud.apigateway.filter;
 
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.Data;
-import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Mono;
 
-@Slf4j
+/**
+ * 모든 라우트에 적용되는 기본 필터
+ * 요청마다 라우트 id, Http Method, 응답 상태 그룹(2xx 등) 별 처리 시간을 gateway.route.requests 지표(히스토그램 포함)로 기록한다.
+ * 접근 로그는 sampleRate 비율의 요청만 access 로거로 남기며, logback-spring.xml 에서 비동기 appender 로 출력한다.
+ */
 @Component
 public class GlobalFilter extends AbstractGatewayFilterFactory<GlobalFilter.Config> {
 
-    public GlobalFilter() {
+    public static final String REQUESTS_METRIC = "gateway.route.requests";
+
+    /**
+     * 접근 로그 로거 이름, logback-spring.xml 의 비동기 appender 설정과 같이 변경해주어야 한다.
+     */
+    public static final String ACCESS_LOGGER_NAME = "org.egovframe.cloud.apigateway.access";
+
+    private static final Logger accessLog = LoggerFactory.getLogger(ACCESS_LOGGER_NAME);
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalFilter(MeterRegistry meterRegistry) {
         super(Config.class);
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -25,18 +50,30 @@ public class GlobalFilter extends AbstractGatewayFilterFactory<GlobalFilter.Conf
             // Netty 비동기 방식 서버 사용시에는 ServerHttpRequest 를 사용해야 한다.
             ServerHttpRequest request = exchange.getRequest();
             ServerHttpResponse response = exchange.getResponse();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            boolean sampled = config.isSampled();
 
-            if (config.isPreLogger()) {
-                log.info("[GlobalFilter Start] request ID: {}, method: {}, path: {}", request.getId(), request.getMethod(), request.getPath());
+            if (sampled && config.isPreLogger()) {
+                accessLog.info("[GlobalFilter Start] request ID: {}, method: {}, path: {}", request.getId(), request.getMethod(), request.getPath());
             }
 
             // Post Filter
             // 비동기 방식의 단일값 전달시 Mono 사용(Webflux)
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                if (config.isPostLogger()) {
-                    log.info("[GlobalFilter End  ] request ID: {}, method: {}, path: {}, statusCode: {}", request.getId(), request.getMethod(), request.getPath(), response.getStatusCode());
+            return chain.filter(exchange).doFinally(signal -> {
+                Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+                HttpStatusCode statusCode = response.getStatusCode();
+                sample.stop(Timer.builder(REQUESTS_METRIC)
+                        .description("gateway route request latency")
+                        .tag("route", route == null ? UNKNOWN : route.getId())
+                        .tag("method", request.getMethod() == null ? UNKNOWN : request.getMethod().name())
+                        .tag("status", statusCode == null ? UNKNOWN : (statusCode.value() / 100) + "xx")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+
+                if (sampled && config.isPostLogger()) {
+                    accessLog.info("[GlobalFilter End  ] request ID: {}, method: {}, path: {}, statusCode: {}", request.getId(), request.getMethod(), request.getPath(), statusCode);
                 }
-            }));
+            });
         });
     }
 
@@ -46,5 +83,16 @@ public class GlobalFilter extends AbstractGatewayFilterFactory<GlobalFilter.Conf
         private String baseMessage;
         private boolean preLogger;
         private boolean postLogger;
+        /**
+         * 접근 로그를 남길 요청 비율 (0.0 ~ 1.0)
+         */
+        private double sampleRate = 1.0;
+
+        boolean isSampled() {
+            if (!preLogger && !postLogger) {
+                return false;
+            }
+            return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        }
     }
 }
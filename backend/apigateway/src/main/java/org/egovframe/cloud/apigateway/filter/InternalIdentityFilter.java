@@ -0,0 +1,111 @@
+package org.egovframe.cloud.apigateway.filter;
+
+import java.util.Date;
+
+import org.egovframe.cloud.apigateway.config.InternalIdentityHeader;
+import org.egovframe.cloud.apigateway.config.JwtVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.apigateway.filter.InternalIdentityFilter
+ * <p>
+ * 하위 서비스로 라우팅하는 모든 요청에 내부 인증 헤더를 붙이는 필터
+ * 클라이언트가 보낸 같은 이름의 헤더는 항상 제거하고, Authorization 토큰이 유효하면 검증된 클레임으로 헤더를 만든다.
+ * 토큰 검증은 ReactiveAuthorization 에서 이미 수행되어 JwtVerifier 캐시에서 바로 조회된다.
+ * 하위 서비스는 이 헤더가 유효하면 JWT 를 다시 파싱하지 않는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class InternalIdentityFilter implements org.springframework.cloud.gateway.filter.GlobalFilter, Ordered {
+
+    private static final String TOKEN_CLAIM_NAME = "authorities";
+
+    private final JwtVerifier jwtVerifier;
+
+    private final InternalIdentityHeader internalIdentityHeader;
+
+    private final boolean enabled;
+
+    public InternalIdentityFilter(JwtVerifier jwtVerifier, InternalIdentityHeader internalIdentityHeader,
+                                  @Value("${apigateway.internal-identity.enabled:true}") boolean enabled) {
+        this.jwtVerifier = jwtVerifier;
+        this.internalIdentityHeader = internalIdentityHeader;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String identity = enabled ? createIdentity(authorization) : null;
+
+        if (identity == null && !request.getHeaders().containsKey(InternalIdentityHeader.HEADER_NAME)) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest mutated = request.mutate()
+                .headers(headers -> {
+                    headers.remove(InternalIdentityHeader.HEADER_NAME);
+                    if (identity != null) {
+                        headers.set(InternalIdentityHeader.HEADER_NAME, identity);
+                    }
+                })
+                .build();
+        return chain.filter(exchange.mutate().request(mutated).build());
+    }
+
+    /**
+     * 토큰의 클레임으로 내부 인증 헤더 값을 만든다.
+     *
+     * @param authorization Authorization 헤더 값
+     * @return String 헤더 값, 토큰이 없거나 유효하지 않으면 null
+     */
+    private String createIdentity(String authorization) {
+        if (!StringUtils.hasText(authorization) || "undefined".equals(authorization)) {
+            return null;
+        }
+        try {
+            Claims claims = jwtVerifier.verify(authorization);
+            Date expiration = claims.getExpiration();
+            if (claims.getSubject() == null || expiration == null) {
+                return null;
+            }
+            return internalIdentityHeader.encode(claims.getSubject(), claims.get(TOKEN_CLAIM_NAME, String.class), expiration.getTime());
+        } catch (Exception e) {
+            log.debug("internal identity header not created : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 라우팅 필터보다 먼저 실행되도록 가장 높은 우선순위를 사용한다.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+}
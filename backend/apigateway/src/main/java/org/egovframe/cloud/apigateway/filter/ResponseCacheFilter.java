@@ -0,0 +1,257 @@
+package org.egovframe.cloud.apigateway.filter;
+
+import java.util.List;
+
+import org.egovframe.cloud.apigateway.config.AuthorizationDecisionCache;
+import org.egovframe.cloud.apigateway.config.GatewayResponseCache;
+import org.egovframe.cloud.apigateway.config.JwtVerifier;
+import org.egovframe.cloud.apigateway.config.ReactiveAuthorization;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.apigateway.filter.ResponseCacheFilter
+ * <p>
+ * 조회 위주 API 의 GET 응답을 게이트웨이에서 캐시하고 ETag/If-None-Match 를 처리하는 필터
+ * apigateway.response-cache.patterns 에 해당하는 경로의 200 응답만 캐시하며, 키는 (토큰의 권한 목록, Accept-Language, 경로와 쿼리) 이다.
+ * 사이트 id, 언어 등은 경로와 쿼리에 포함되어 키가 달라진다.
+ * 응답에는 본문 SHA-256 기반 strong ETag 와 "private, no-cache" 를 붙여 클라이언트가 재검증하도록 하고,
+ * If-None-Match 가 일치하면 백엔드를 호출하지 않고 304 를 응답한다.
+ * 인가 처리(ReactiveAuthorization) 이후에 실행되므로 캐시된 응답도 인가된 요청에만 전달된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter implements org.springframework.cloud.gateway.filter.GlobalFilter, Ordered {
+
+    public static final String NOT_MODIFIED_METRIC = "gateway.response-cache.not-modified";
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final GatewayResponseCache gatewayResponseCache;
+
+    private final JwtVerifier jwtVerifier;
+
+    private final boolean enabled;
+
+    private final List<String> patterns;
+
+    private final List<String> excludePatterns;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private final Counter notModified;
+
+    public ResponseCacheFilter(GatewayResponseCache gatewayResponseCache, JwtVerifier jwtVerifier, MeterRegistry meterRegistry,
+                               @Value("${apigateway.response-cache.enabled:true}") boolean enabled,
+                               @Value("${apigateway.response-cache.patterns:}") List<String> patterns,
+                               @Value("${apigateway.response-cache.exclude-patterns:}") List<String> excludePatterns) {
+        this.gatewayResponseCache = gatewayResponseCache;
+        this.jwtVerifier = jwtVerifier;
+        this.enabled = enabled;
+        this.patterns = patterns;
+        this.excludePatterns = excludePatterns;
+        this.notModified = Counter.builder(NOT_MODIFIED_METRIC)
+                .description("gateway responses answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!enabled || request.getMethod() != HttpMethod.GET || !isTarget(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+        String roles = roles(request);
+        if (roles == null) {
+            return chain.filter(exchange);
+        }
+
+        String key = key(roles, request);
+        GatewayResponseCache.CachedResponse cached = gatewayResponseCache.get(key);
+        if (cached != null) {
+            return writeCached(exchange, cached);
+        }
+
+        CachingResponse response = new CachingResponse(exchange, key, gatewayResponseCache.generation());
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    /**
+     * NettyWriteResponseFilter 가 응답을 쓰기 전에 응답을 감싸야 한다.
+     */
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private boolean isTarget(String path) {
+        for (String excludePattern : excludePatterns) {
+            if (StringUtils.hasText(excludePattern) && antPathMatcher.match(excludePattern.trim(), path)) {
+                return false;
+            }
+        }
+        for (String pattern : patterns) {
+            if (StringUtils.hasText(pattern) && antPathMatcher.match(pattern.trim(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 토큰의 권한 목록, 토큰이 없으면 ROLE_ANONYMOUS
+     *
+     * @param request 요청
+     * @return String 정렬된 권한 목록, 토큰이 유효하지 않으면 null
+     */
+    private String roles(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (!StringUtils.hasLength(authorization) || "undefined".equals(authorization)) {
+            return AuthorizationDecisionCache.ANONYMOUS_ROLE;
+        }
+        try {
+            return AuthorizationDecisionCache.normalizeRoles(
+                    jwtVerifier.verify(authorization).get(ReactiveAuthorization.TOKEN_CLAIM_NAME, String.class));
+        } catch (Exception e) {
+            log.debug("response cache skipped, invalid token : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String key(String roles, ServerHttpRequest request) {
+        String acceptLanguage = request.getHeaders().getFirst(HttpHeaders.ACCEPT_LANGUAGE);
+        String query = request.getURI().getRawQuery();
+        return roles + '|' + (acceptLanguage == null ? "" : acceptLanguage) + '|' + request.getURI().getRawPath()
+                + (query == null ? "" : '?' + query);
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, GatewayResponseCache.CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (isNotModified(exchange.getRequest(), cached.getEtag())) {
+            return writeNotModified(response, cached.getEtag());
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().putAll(cached.getHeaders());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    private Mono<Void> writeNotModified(ServerHttpResponse response, String etag) {
+        notModified.increment();
+        response.setStatusCode(HttpStatus.NOT_MODIFIED);
+        response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+        response.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+        response.getHeaders().setETag(etag);
+        response.getHeaders().setCacheControl(CACHE_CONTROL);
+        return response.setComplete();
+    }
+
+    private boolean isNotModified(ServerHttpRequest request, String etag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            String value = candidate.trim();
+            if ("*".equals(value) || etag.equals(value) || ("W/" + etag).equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 백엔드 응답 본문을 모아 캐시하고 ETag 를 붙이는 응답
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final long generation;
+
+        CachingResponse(ServerWebExchange exchange, String key, long generation) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.generation = generation;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (getStatusCode() == null || getStatusCode().value() != HttpStatus.OK.value()
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)
+                    || !gatewayResponseCache.isCacheable(Math.max(headers.getContentLength(), 0))) {
+                return super.writeWith(body);
+            }
+            return Flux.from(body).collectList().flatMap(buffers -> {
+                long size = 0;
+                for (DataBuffer buffer : buffers) {
+                    size += buffer.readableByteCount();
+                }
+                if (!gatewayResponseCache.isCacheable(size)) {
+                    return super.writeWith(Flux.fromIterable(buffers));
+                }
+                byte[] bytes = new byte[(int) size];
+                int offset = 0;
+                for (DataBuffer buffer : buffers) {
+                    int length = buffer.readableByteCount();
+                    buffer.read(bytes, offset, length);
+                    offset += length;
+                    DataBufferUtils.release(buffer);
+                }
+                return writeAndCache(bytes);
+            });
+        }
+
+        private Mono<Void> writeAndCache(byte[] bytes) {
+            String etag = GatewayResponseCache.etag(bytes);
+            HttpHeaders headers = getHeaders();
+            headers.setETag(etag);
+            headers.setCacheControl(CACHE_CONTROL);
+            headers.remove(HttpHeaders.PRAGMA);
+            headers.remove(HttpHeaders.EXPIRES);
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            headers.setContentLength(bytes.length);
+
+            HttpHeaders cachedHeaders = new HttpHeaders();
+            cachedHeaders.putAll(headers);
+            cachedHeaders.remove(HttpHeaders.DATE);
+            gatewayResponseCache.put(key, new GatewayResponseCache.CachedResponse(cachedHeaders, bytes, etag), generation);
+
+            if (isNotModified(exchange.getRequest(), etag)) {
+                return writeNotModified(getDelegate(), etag);
+            }
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+    }
+
+}
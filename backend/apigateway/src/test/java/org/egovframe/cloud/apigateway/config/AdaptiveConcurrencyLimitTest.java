@@ -0,0 +1,60 @@
+package org.egovframe.cloud.apigateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    void rejectsWhenInFlightReachesLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(0);
+        assertThat(limit.getInFlight()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileLatencyIsStableAndShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 500);
+
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limit, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int grown = limit.getLimit();
+        assertThat(grown).isGreaterThan(20);
+
+        saturateAndRelease(limit, TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(limit.getLimit()).isLessThan(grown / 2 + 1);
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void doesNotGrowWhenApplicationLimited() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 500);
+
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    private void saturateAndRelease(AdaptiveConcurrencyLimit limit, long rttNanos) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(rttNanos);
+        }
+    }
+
+}
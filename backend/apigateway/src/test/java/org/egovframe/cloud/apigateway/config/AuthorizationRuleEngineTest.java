@@ -0,0 +1,61 @@
+package org.egovframe.cloud.apigateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class AuthorizationRuleEngineTest {
+
+    private static final String TOKEN_SECRET = "test-token-secret";
+
+    @Test
+    void requestsSnapshotWithServiceIdentityHeader() {
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            sent.set(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"version\":1,\"authorizations\":[]}")
+                    .build());
+        });
+        AuthorizationRuleEngine engine = new AuthorizationRuleEngine(webClientBuilder,
+                new StaticListableBeanFactory().getBeanProvider(LoadBalancedExchangeFilterFunction.class),
+                new AuthorizationDecisionCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)),
+                new InternalIdentityHeader(TOKEN_SECRET), true,
+                "http://USER-SERVICE/api/v1/role-authorizations/snapshot", Duration.ofMinutes(5));
+
+        engine.refresh().block();
+
+        String identity = sent.get().headers().getFirst(InternalIdentityHeader.HEADER_NAME);
+        assertThat(identity).isNotNull();
+        String[] parts = identity.split("\\.");
+        assertThat(decode(parts[1])).isEqualTo(InternalIdentityHeader.SERVICE_SUBJECT);
+        assertThat(decode(parts[2])).isEqualTo(InternalIdentityHeader.SERVICE_AUTHORITY);
+        assertThat(Long.parseLong(parts[3])).isGreaterThan(System.currentTimeMillis());
+        assertThat(sent.get().headers().containsKey(HttpHeaders.AUTHORIZATION)).isFalse();
+        assertThat(engine.version()).isEqualTo(1L);
+        assertThat(engine.decide("ROLE_USER", HttpMethod.GET, "/user-service/api/v1/users")).isNotNull();
+    }
+
+    private String decode(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+}
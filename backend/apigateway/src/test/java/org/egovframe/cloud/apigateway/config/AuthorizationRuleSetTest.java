@@ -0,0 +1,106 @@
+package org.egovframe.cloud.apigateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationRuleDto;
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationSnapshotDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+class AuthorizationRuleSetTest {
+
+    private static final List<String> PATTERNS = Arrays.asList(
+            "/", "/user-service/api/v1/users", "/user-service/api/v1/users/", "/user-service/api/v1/users/*",
+            "/user-service/api/v1/users/**", "/user-service/api/v1/users/{userId}/roles", "/user-service/api/v1/*/check",
+            "/user-service/api/v1/users/?", "/user-service/api/v1/users/*.json", "/**/users", "/**", "/**/api/**/roles/*",
+            "/*-service/api/v1/menus/{siteId:\\d+}/tree", "/user-service/**/roles/**", "user-service/api/v1/users",
+            "/portal-service/api/v1/**/files/*", "/board-service/api/v1/boards/*/");
+
+    private static final List<String> PATHS = Arrays.asList(
+            "/", "/user-service/api/v1/users", "/user-service/api/v1/users/", "/user-service/api/v1/users/abc",
+            "/user-service/api/v1/users/abc/", "/user-service/api/v1/users/a", "/user-service/api/v1/users/abc/roles",
+            "/user-service/api/v1/users/abc/roles/", "/user-service/api/v1/authorizations/check", "/user-service/api/v1/users/list.json",
+            "/users", "/x/users", "/x/y/users/", "/x/api/y/roles/z", "/x/api/roles/z", "/portal-service/api/v1/menus/12/tree",
+            "/portal-service/api/v1/menus/ab/tree", "/user-service/roles", "/user-service/a/roles/b", "user-service/api/v1/users",
+            "/portal-service/api/v1/files/a", "/portal-service/api/v1/a/b/files/c", "/portal-service/api/v1/a/files/",
+            "/board-service/api/v1/boards/1/", "/board-service/api/v1/boards/1", "/board-service/api/v1/boards/", "");
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Test
+    void decidesSameAsAntPathMatcherForEverySinglePattern() {
+        for (String pattern : PATTERNS) {
+            AuthorizationRuleSet ruleSet = AuthorizationRuleSet.compile(snapshot(rule(1, pattern, "GET", "ROLE_USER")));
+            for (String path : PATHS) {
+                assertThat(ruleSet.decide("ROLE_USER", "GET", path))
+                        .as("pattern=%s, path=%s", pattern, path)
+                        .isEqualTo(antPathMatcher.match(pattern, path));
+            }
+        }
+    }
+
+    @Test
+    void decidesSameAsAntPathMatcherForCombinedPatternsAndRoles() {
+        List<AuthorizationRuleDto> rules = new ArrayList<>();
+        for (int i = 0; i < PATTERNS.size(); i++) {
+            rules.add(rule(i, PATTERNS.get(i), i % 2 == 0 ? "GET" : "POST", i % 3 == 0 ? "ROLE_ADMIN" : "ROLE_USER"));
+        }
+        AuthorizationRuleSet ruleSet = AuthorizationRuleSet.compile(snapshot(rules.toArray(new AuthorizationRuleDto[0])));
+
+        for (String roles : Arrays.asList("ROLE_USER", "ROLE_ADMIN", "ROLE_ADMIN,ROLE_USER", "ROLE_ANONYMOUS")) {
+            for (String method : Arrays.asList("GET", "POST", "PUT")) {
+                for (String path : PATHS) {
+                    assertThat(ruleSet.decide(roles, method, path))
+                            .as("roles=%s, method=%s, path=%s", roles, method, path)
+                            .isEqualTo(expected(rules, roles, method, path));
+                }
+            }
+        }
+    }
+
+    @Test
+    void ignoresRulesWithoutRoles() {
+        AuthorizationRuleSet ruleSet = AuthorizationRuleSet.compile(snapshot(
+                AuthorizationRuleDto.builder().authorizationNo(1).urlPatternValue("/**").httpMethodCode("GET")
+                        .roleIds(Collections.emptyList()).build()));
+
+        assertThat(ruleSet.size()).isZero();
+        assertThat(ruleSet.decide("ROLE_USER", "GET", "/user-service/api/v1/users")).isFalse();
+    }
+
+    /**
+     * user-service AuthorizationService.isContainMatch 와 같은 방식의 판단
+     */
+    private boolean expected(List<AuthorizationRuleDto> rules, String roles, String method, String path) {
+        List<String> roleList = Arrays.asList(roles.split(","));
+        for (AuthorizationRuleDto rule : rules) {
+            if (rule.getRoleIds().stream().anyMatch(roleList::contains)
+                    && antPathMatcher.match(rule.getUrlPatternValue(), path) && rule.getHttpMethodCode().equals(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AuthorizationRuleDto rule(int authorizationNo, String pattern, String method, String roleId) {
+        return AuthorizationRuleDto.builder()
+                .authorizationNo(authorizationNo)
+                .urlPatternValue(pattern)
+                .httpMethodCode(method)
+                .roleIds(Collections.singletonList(roleId))
+                .build();
+    }
+
+    private AuthorizationSnapshotDto snapshot(AuthorizationRuleDto... rules) {
+        return AuthorizationSnapshotDto.builder()
+                .version(1L)
+                .authorizations(Arrays.asList(rules))
+                .build();
+    }
+
+}
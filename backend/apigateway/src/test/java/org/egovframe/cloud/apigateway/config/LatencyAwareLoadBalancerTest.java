@@ -0,0 +1,73 @@
+package org.egovframe.cloud.apigateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+class LatencyAwareLoadBalancerTest {
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", "reserve-check-service", "10.0.0.1", 8080, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", "reserve-check-service", "10.0.0.2", 8080, false);
+
+    private final LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+            new StaticListableBeanFactory().getBeanProvider(ServiceInstanceListSupplier.class),
+            "reserve-check-service", Duration.ofSeconds(10));
+
+    @Test
+    void prefersInstanceWithLowerLatency() throws Exception {
+        complete(fast, 1);
+        complete(slow, 50);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(loadBalancer.choose(Arrays.asList(fast, slow)).getServer()).isEqualTo(fast);
+        }
+    }
+
+    @Test
+    void avoidsInstanceWithOutstandingRequests() {
+        Request<Object> stalled = request();
+        loadBalancer.onStartRequest(stalled, new DefaultResponse(slow));
+        loadBalancer.onStartRequest(request(), new DefaultResponse(slow));
+
+        assertThat(loadBalancer.cost(slow, System.nanoTime())).isGreaterThan(loadBalancer.cost(fast, System.nanoTime()));
+        for (int i = 0; i < 20; i++) {
+            assertThat(loadBalancer.choose(Arrays.asList(fast, slow)).getServer()).isEqualTo(fast);
+        }
+    }
+
+    @Test
+    void returnsEmptyResponseWithoutInstancesAndOnlyInstanceOtherwise() {
+        List<ServiceInstance> none = Collections.emptyList();
+
+        assertThat(loadBalancer.choose(none).hasServer()).isFalse();
+        assertThat(loadBalancer.choose(Collections.singletonList(slow)).getServer()).isEqualTo(slow);
+    }
+
+    private void complete(ServiceInstance instance, long sleepMillis) throws InterruptedException {
+        Request<Object> request = request();
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+        loadBalancer.onStartRequest(request, response);
+        Thread.sleep(sleepMillis);
+        loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+    }
+
+    private Request<Object> request() {
+        return new DefaultRequest<>(new RequestDataContext());
+    }
+
+}
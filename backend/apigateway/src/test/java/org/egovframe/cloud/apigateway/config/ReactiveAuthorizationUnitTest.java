@@ -3,18 +3,37 @@ package org.egovframe.cloud.apigateway.config;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationRuleDto;
+import org.egovframe.cloud.apigateway.config.dto.AuthorizationSnapshotDto;
+import org.egovframe.cloud.apigateway.event.AuthorizationChangedEvent;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.security.access.AuthorizationServiceException;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.web.server.authorization.AuthorizationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 class ReactiveAuthorizationUnitTest {
@@ -53,6 +72,137 @@ class ReactiveAuthorizationUnitTest {
                 .hasCauseInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void reusesCachedDecisionUntilAuthorizationChanged() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchangeFunction = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse
+                    .create(HttpStatus.OK)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .body("true")
+                    .build());
+        };
+        AuthorizationDecisionCache decisionCache = newDecisionCache();
+        ReactiveAuthorization authorization = authorizationWith(exchangeFunction, decisionCache);
+
+        authorization.check(Mono.empty(), authorizationContext()).block();
+        authorization.check(Mono.empty(), authorizationContext()).block();
+        assertThat(calls.get()).isEqualTo(1);
+
+        decisionCache.onAuthorizationChanged(new AuthorizationChangedEvent(this, "user-service"));
+
+        assertThat(authorization.check(Mono.empty(), authorizationContext()).block())
+                .matches(decision -> decision != null && decision.isGranted());
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheDecisionWhenAuthorizationServerFails() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchangeFunction = request -> {
+            calls.incrementAndGet();
+            return Mono.error(new IllegalStateException("connection failed"));
+        };
+        ReactiveAuthorization authorization = authorizationWith(exchangeFunction);
+
+        assertThatThrownBy(() -> authorization.check(Mono.empty(), authorizationContext()).block())
+                .isInstanceOf(AuthorizationServiceException.class);
+        assertThatThrownBy(() -> authorization.check(Mono.empty(), authorizationContext()).block())
+                .isInstanceOf(AuthorizationServiceException.class);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void coalescesConcurrentIdenticalChecksIntoOneRequest() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchangeFunction = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse
+                    .create(HttpStatus.OK)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .body("true")
+                    .build())
+                    .delayElement(Duration.ofMillis(100));
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthorizationDecisionCache decisionCache = newDecisionCache();
+        AuthorizationRequestCoalescer coalescer = new AuthorizationRequestCoalescer(meterRegistry);
+        ReactiveAuthorization authorization = authorizationWith(exchangeFunction, decisionCache, newRuleEngine(decisionCache), coalescer);
+
+        List<AuthorizationDecision> decisions = Flux.range(0, 5)
+                .flatMap(i -> authorization.check(Mono.empty(), authorizationContext()))
+                .collectList()
+                .block();
+
+        assertThat(decisions).hasSize(5).allMatch(AuthorizationDecision::isGranted);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.inFlight()).isZero();
+        assertThat(meterRegistry.get(AuthorizationRequestCoalescer.REQUESTS_METRIC).tag("coalesced", "true").counter().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void decidesInGatewayWhenRuleSnapshotIsLoaded() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction exchangeFunction = request -> {
+            calls.incrementAndGet();
+            return Mono.error(new IllegalStateException("authorization server must not be called"));
+        };
+        AuthorizationDecisionCache decisionCache = newDecisionCache();
+        AuthorizationRuleEngine ruleEngine = newRuleEngine(decisionCache);
+        ruleEngine.apply(AuthorizationSnapshotDto.builder()
+                .version(1L)
+                .authorizations(Collections.singletonList(AuthorizationRuleDto.builder()
+                        .authorizationNo(1)
+                        .urlPatternValue("/user-service/api/v1/users/**")
+                        .httpMethodCode("GET")
+                        .roleIds(Collections.singletonList(AuthorizationDecisionCache.ANONYMOUS_ROLE))
+                        .build()))
+                .build());
+        ReactiveAuthorization authorization = authorizationWith(exchangeFunction, decisionCache, ruleEngine);
+
+        assertThat(authorization.check(Mono.empty(), authorizationContext()).block())
+                .matches(decision -> decision != null && decision.isGranted());
+        assertThat(authorization.check(Mono.empty(), authorizationContext(MockServerHttpRequest.post("/user-service/api/v1/users").build())).block())
+                .matches(decision -> decision != null && !decision.isGranted());
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void grantsActuatorOnlyToAdminToken() throws Exception {
+        ReactiveAuthorization authorization = authorizationWith(request -> Mono.error(new IllegalStateException("authorization server must not be called")));
+
+        assertThat(authorization.checkAdmin(Mono.empty(), actuatorContext(token("ROLE_USER,ROLE_ADMIN"))).block())
+                .matches(decision -> decision != null && decision.isGranted());
+        assertThat(authorization.checkAdmin(Mono.empty(), actuatorContext(token("ROLE_USER"))).block())
+                .matches(decision -> decision != null && !decision.isGranted());
+        assertThat(authorization.checkAdmin(Mono.empty(), actuatorContext("invalid-token")).block())
+                .matches(decision -> decision != null && !decision.isGranted());
+        assertThat(authorization.checkAdmin(Mono.empty(), authorizationContext(MockServerHttpRequest.get("/actuator/metrics").build())).block())
+                .matches(decision -> decision != null && !decision.isGranted());
+    }
+
+    @Test
+    void normalizesRolesAndPathForCacheKey() {
+        assertThat(AuthorizationDecisionCache.normalizeRoles("ROLE_USER, ROLE_ADMIN,ROLE_USER"))
+                .isEqualTo("ROLE_ADMIN,ROLE_USER");
+        assertThat(AuthorizationDecisionCache.normalizeRoles(null))
+                .isEqualTo(AuthorizationDecisionCache.ANONYMOUS_ROLE);
+        assertThat(AuthorizationDecisionCache.normalizePath("/user-service//api/v1/users/"))
+                .isEqualTo("/user-service/api/v1/users/");
+    }
+
+    private AuthorizationDecisionCache newDecisionCache() {
+        return new AuthorizationDecisionCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+    }
+
+    private AuthorizationRuleEngine newRuleEngine(AuthorizationDecisionCache decisionCache) {
+        return new AuthorizationRuleEngine(WebClient.builder(),
+                new StaticListableBeanFactory().getBeanProvider(LoadBalancedExchangeFilterFunction.class),
+                decisionCache, new InternalIdentityHeader("test-token-secret"), false, "http://USER-SERVICE/api/v1/role-authorizations/snapshot", Duration.ofMinutes(5));
+    }
+
     private ReactiveAuthorization authorizationReturning(String responseBody) {
         ExchangeFunction exchangeFunction = request -> {
             ClientResponse.Builder response = ClientResponse
@@ -67,17 +217,51 @@ class ReactiveAuthorizationUnitTest {
     }
 
     private ReactiveAuthorization authorizationWith(ExchangeFunction exchangeFunction) {
+        return authorizationWith(exchangeFunction, newDecisionCache());
+    }
+
+    private ReactiveAuthorization authorizationWith(ExchangeFunction exchangeFunction, AuthorizationDecisionCache decisionCache) {
+        return authorizationWith(exchangeFunction, decisionCache, newRuleEngine(decisionCache));
+    }
+
+    private ReactiveAuthorization authorizationWith(ExchangeFunction exchangeFunction, AuthorizationDecisionCache decisionCache,
+                                                    AuthorizationRuleEngine ruleEngine) {
+        return authorizationWith(exchangeFunction, decisionCache, ruleEngine, new AuthorizationRequestCoalescer(new SimpleMeterRegistry()));
+    }
+
+    private ReactiveAuthorization authorizationWith(ExchangeFunction exchangeFunction, AuthorizationDecisionCache decisionCache,
+                                                    AuthorizationRuleEngine ruleEngine, AuthorizationRequestCoalescer coalescer) {
         ReactiveAuthorization authorization = new ReactiveAuthorization(
-                WebClient.builder().exchangeFunction(exchangeFunction));
+                WebClient.builder().exchangeFunction(exchangeFunction), decisionCache, ruleEngine,
+                new JwtVerifier("test-token-secret", 100), coalescer, new SimpleMeterRegistry(), 10, Duration.ofSeconds(5), Duration.ofSeconds(30));
         ReflectionTestUtils.setField(authorization, "APIGATEWAY_HOST", "http://localhost:8000");
-        ReflectionTestUtils.setField(authorization, "TOKEN_SECRET", "test-token-secret");
         return authorization;
     }
 
+    private AuthorizationContext actuatorContext(String token) {
+        return authorizationContext(MockServerHttpRequest
+                .get("/actuator/metrics")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .build());
+    }
+
+    private String token(String authorities) throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest("test-token-secret".getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject("user-id")
+                .claim(ReactiveAuthorization.TOKEN_CLAIM_NAME, authorities)
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+    }
+
     private AuthorizationContext authorizationContext() {
-        MockServerHttpRequest request = MockServerHttpRequest
+        return authorizationContext(MockServerHttpRequest
                 .get("/user-service/api/v1/users")
-                .build();
+                .build());
+    }
+
+    private AuthorizationContext authorizationContext(MockServerHttpRequest request) {
         return new AuthorizationContext(MockServerWebExchange.from(request));
     }
 }
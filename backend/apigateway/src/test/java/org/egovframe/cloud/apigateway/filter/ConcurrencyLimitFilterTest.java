@@ -0,0 +1,67 @@
+package org.egovframe.cloud.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(meterRegistry, true,
+            Collections.singletonList("reserve-request-service"), 1, 1, 10, Duration.ofSeconds(2));
+
+    @Test
+    void rejectsExcessRequestsWithServiceUnavailableAndRetryAfter() {
+        Sinks.Empty<Void> backend = Sinks.empty();
+        GatewayFilterChain pending = exchange -> backend.asMono();
+
+        filter.filter(exchange("reserve-request-service"), pending).subscribe();
+        MockServerWebExchange rejected = exchange("reserve-request-service");
+        filter.filter(rejected, pending).block();
+
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(meterRegistry.get(ConcurrencyLimitFilter.REJECTED_METRIC).tag("route", "reserve-request-service").counter().count())
+                .isEqualTo(1);
+
+        backend.tryEmitEmpty();
+        assertThat(filter.limit("reserve-request-service").getInFlight()).isZero();
+    }
+
+    @Test
+    void passesThroughRoutesThatAreNotLimited() {
+        Sinks.Empty<Void> backend = Sinks.empty();
+        GatewayFilterChain pending = exchange -> backend.asMono();
+
+        filter.filter(exchange("portal-service"), pending).subscribe();
+        MockServerWebExchange second = exchange("portal-service");
+        filter.filter(second, exchange -> Mono.empty()).block();
+
+        assertThat(second.getResponse().getStatusCode()).isNull();
+        assertThat(filter.limit("portal-service")).isNull();
+    }
+
+    private MockServerWebExchange exchange(String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/" + routeId + "/api/v1/test"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id(routeId).uri(URI.create("lb://" + routeId)).predicate(e -> true).build());
+        return exchange;
+    }
+
+}
@@ -14,6 +14,8 @@ import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Mono;
 
 /**
@@ -32,7 +34,8 @@ class GlobalFilterTest {
     @DisplayName("필터 적용 시 Pre 및 Post 로깅 설정이 정상 작동하며 체인이 계속된다")
     void should_executeFilterChain_when_applyFilter() {
         // given
-        GlobalFilter filter = new GlobalFilter();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GlobalFilter filter = new GlobalFilter(meterRegistry);
         GlobalFilter.Config config = new GlobalFilter.Config();
         config.setBaseMessage("Base Message");
         config.setPreLogger(true);
@@ -56,5 +59,24 @@ class GlobalFilterTest {
         assertThat(result).isNotNull();
         result.block(); // execute the Mono
         verify(chain).filter(exchange);
+        assertThat(meterRegistry.get(GlobalFilter.REQUESTS_METRIC).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0 이면 접근 로그를 남기지 않고, 1 이면 항상 남긴다")
+    void should_sampleAccessLog_when_sampleRateIsSet() {
+        GlobalFilter.Config config = new GlobalFilter.Config();
+        config.setPreLogger(true);
+        config.setPostLogger(true);
+
+        config.setSampleRate(0.0);
+        assertThat(config.isSampled()).isFalse();
+
+        config.setSampleRate(1.0);
+        assertThat(config.isSampled()).isTrue();
+
+        config.setPreLogger(false);
+        config.setPostLogger(false);
+        assertThat(config.isSampled()).isFalse();
     }
 }
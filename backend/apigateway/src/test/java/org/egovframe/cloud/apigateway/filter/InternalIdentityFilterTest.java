@@ -0,0 +1,78 @@
+package org.egovframe.cloud.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.egovframe.cloud.apigateway.config.InternalIdentityHeader;
+import org.egovframe.cloud.apigateway.config.JwtVerifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import reactor.core.publisher.Mono;
+
+class InternalIdentityFilterTest {
+
+    private static final String TOKEN_SECRET = "test-token-secret";
+
+    private final InternalIdentityHeader internalIdentityHeader = new InternalIdentityHeader(TOKEN_SECRET);
+
+    private final InternalIdentityFilter filter =
+            new InternalIdentityFilter(new JwtVerifier(TOKEN_SECRET, 100), internalIdentityHeader, true);
+
+    @Test
+    void addsSignedIdentityHeaderForValidToken() throws Exception {
+        long expiration = (System.currentTimeMillis() / 1000 + 60) * 1000;
+        String token = token(TOKEN_SECRET, expiration);
+
+        ServerHttpRequest forwarded = filter(MockServerHttpRequest.get("/user-service/api/v1/users")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(InternalIdentityHeader.HEADER_NAME, "v1.spoofed"));
+
+        assertThat(forwarded.getHeaders().get(InternalIdentityHeader.HEADER_NAME))
+                .containsExactly(internalIdentityHeader.encode("user-id", "ROLE_USER", expiration));
+    }
+
+    @Test
+    void removesClientIdentityHeaderWhenTokenIsMissingOrInvalid() throws Exception {
+        ServerHttpRequest anonymous = filter(MockServerHttpRequest.get("/user-service/api/v1/users")
+                .header(InternalIdentityHeader.HEADER_NAME, "v1.spoofed"));
+        ServerHttpRequest invalid = filter(MockServerHttpRequest.get("/user-service/api/v1/users")
+                .header(HttpHeaders.AUTHORIZATION, token("other-secret", System.currentTimeMillis() + 60_000))
+                .header(InternalIdentityHeader.HEADER_NAME, "v1.spoofed"));
+
+        assertThat(anonymous.getHeaders().containsKey(InternalIdentityHeader.HEADER_NAME)).isFalse();
+        assertThat(invalid.getHeaders().containsKey(InternalIdentityHeader.HEADER_NAME)).isFalse();
+    }
+
+    private ServerHttpRequest filter(MockServerHttpRequest.BaseBuilder<?> request) {
+        AtomicReference<ServerHttpRequest> forwarded = new AtomicReference<>();
+        GatewayFilterChain chain = (ServerWebExchange exchange) -> {
+            forwarded.set(exchange.getRequest());
+            return Mono.empty();
+        };
+        filter.filter(MockServerWebExchange.from(request), chain).block();
+        return forwarded.get();
+    }
+
+    private String token(String secret, long expiration) throws Exception {
+        byte[] key = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject("user-id")
+                .claim("authorities", "ROLE_USER")
+                .expiration(new Date(expiration))
+                .signWith(Keys.hmacShaKeyFor(key))
+                .compact();
+    }
+
+}
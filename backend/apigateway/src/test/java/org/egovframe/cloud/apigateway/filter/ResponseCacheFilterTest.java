@@ -0,0 +1,97 @@
+package org.egovframe.cloud.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.egovframe.cloud.apigateway.config.GatewayResponseCache;
+import org.egovframe.cloud.apigateway.config.JwtVerifier;
+import org.egovframe.cloud.apigateway.event.PortalContentChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheFilterTest {
+
+    private static final String MESSAGES_URI = "/portal-service/api/v1/messages/ko";
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final GatewayResponseCache responseCache = new GatewayResponseCache(new SimpleMeterRegistry(),
+            DataSize.ofMegabytes(1), DataSize.ofKilobytes(1), Duration.ofMinutes(1));
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(responseCache,
+            new JwtVerifier("test-token-secret", 100), new SimpleMeterRegistry(), true,
+            Arrays.asList("/portal-service/api/v1/messages/*", "/portal-service/api/v1/banners/**"),
+            Collections.singletonList("/portal-service/api/v1/messages/refresh"));
+
+    private final GatewayFilterChain chain = exchange -> {
+        int call = calls.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        String body = exchange.getRequest().getPath().value().contains("banners") ? "x".repeat(2048) : "{\"call\":" + call + "}";
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    };
+
+    @Test
+    void servesCachedResponseWithETagAndAnswersNotModified() {
+        MockServerWebExchange first = get(MESSAGES_URI, null);
+        MockServerWebExchange second = get(MESSAGES_URI, null);
+        String etag = first.getResponse().getHeaders().getETag();
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(etag).startsWith("\"");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("{\"call\":1}");
+        assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(etag);
+        assertThat(second.getResponse().getHeaders().getCacheControl()).isEqualTo("private, no-cache");
+
+        MockServerWebExchange revalidated = get(MESSAGES_URI, etag);
+        assertThat(revalidated.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void fetchesAgainAfterPortalContentChanged() {
+        get(MESSAGES_URI, null);
+        responseCache.onPortalContentChanged(new PortalContentChangedEvent(this, "portal-service"));
+
+        assertThat(get(MESSAGES_URI, null).getResponse().getBodyAsString().block()).isEqualTo("{\"call\":2}");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheExcludedOrLargeResponses() {
+        get("/portal-service/api/v1/messages/refresh", null);
+        get("/portal-service/api/v1/messages/refresh", null);
+        get("/portal-service/api/v1/banners/1", null);
+        MockServerWebExchange large = get("/portal-service/api/v1/banners/1", null);
+
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(large.getResponse().getBodyAsString().block()).hasSize(2048);
+    }
+
+    private MockServerWebExchange get(String uri, String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(uri);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+}
@@ -1,15 +1,12 @@
 package org.egovframe.cloud.boardservice.config;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.common.util.JwtVerifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,8 +17,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.util.ObjectUtils;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -29,37 +24,22 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-/** SHA-256(UTF-8) 키 파생으로 오버라이드 */
+/** 공통 JwtVerifier(SHA-256(UTF-8) 키 파생, 검증 결과 캐시)로 토큰을 검증한다 */
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private final String TOKEN_CLAIM_NAME = "authorities";
-    private final String TOKEN_SECRET;
+    private final JwtVerifier jwtVerifier;
+    private final InternalIdentityHeader internalIdentityHeader;
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager, String tokenSecret) {
+    public AuthenticationFilter(AuthenticationManager authenticationManager, JwtVerifier jwtVerifier,
+                                InternalIdentityHeader internalIdentityHeader) {
         super.setAuthenticationManager(authenticationManager);
-        this.TOKEN_SECRET = tokenSecret;
-    }
-
-    private SecretKey verificationKey() {
-        try {
-            byte[] digest = MessageDigest.getInstance("SHA-256")
-                .digest(TOKEN_SECRET.getBytes(StandardCharsets.UTF_8));
-            return Keys.hmacShaKeyFor(digest);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
+        this.jwtVerifier = jwtVerifier;
+        this.internalIdentityHeader = internalIdentityHeader;
     }
 
     public Claims getClaimsFromToken(String token) {
-        String tokenContent = token.trim();
-        if (tokenContent.startsWith("Bearer ")) {
-            tokenContent = tokenContent.substring(7).trim();
-        }
-        return Jwts.parser()
-            .verifyWith(verificationKey())
-            .build()
-            .parseSignedClaims(tokenContent)
-            .getPayload();
+        return jwtVerifier.verify(token);
     }
 
     @Override
@@ -69,15 +49,24 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         if (ObjectUtils.isEmpty(token)) {
             super.doFilter(request, response, chain);
         } else {
-            Claims claims = getClaimsFromToken(token);
-            String authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+            String username;
+            String authoritiesStr;
+            // apigateway 가 토큰 검증 후 전달한 내부 인증 헤더가 유효하면 JWT 를 다시 파싱하지 않는다.
+            InternalIdentityHeader.Identity identity = internalIdentityHeader.decode(httpRequest.getHeader(InternalIdentityHeader.HEADER_NAME));
+            if (identity != null) {
+                username = identity.getSubject();
+                authoritiesStr = identity.getAuthorities();
+            } else {
+                Claims claims = getClaimsFromToken(token);
+                username = claims.getSubject();
+                authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+            }
             List<SimpleGrantedAuthority> roleList = authoritiesStr == null ? List.of() :
                 Arrays.stream(authoritiesStr.split(","))
                     .map(String::trim)
                     .filter(s -> !s.isEmpty())
                     .map(SimpleGrantedAuthority::new)
                     .collect(Collectors.toList());
-            String username = claims.getSubject();
             if (username != null) {
                 SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, roleList));
                 chain.doFilter(request, response);
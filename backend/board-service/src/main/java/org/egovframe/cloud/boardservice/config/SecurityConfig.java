@@ -2,7 +2,8 @@ package org.egovframe.cloud.boardservice.config;
 
 import static org.egovframe.cloud.common.config.GlobalConstant.SECURITY_PERMITALL_ANTPATTERNS;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.common.util.JwtVerifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,11 +42,12 @@ import lombok.RequiredArgsConstructor;
 @EnableWebSecurity // Spring Security 설정들을 활성화시켜 준다
 public class SecurityConfig {
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
-
     private final ApplicationContext applicationContext;
 
+    private final JwtVerifier jwtVerifier;
+
+    private final InternalIdentityHeader internalIdentityHeader;
+
     /**
      * 스프링 시큐리티 설정
      *
@@ -96,7 +98,7 @@ public class SecurityConfig {
      * @return AuthenticationFilter
      */
     private AuthenticationFilter getAuthenticationFilter(AuthenticationManager authenticationManager) {
-        return new AuthenticationFilter(authenticationManager, TOKEN_SECRET);
+        return new AuthenticationFilter(authenticationManager, jwtVerifier, internalIdentityHeader);
     }
 
 }
@@ -0,0 +1,46 @@
+package org.egovframe.cloud.boardservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.egovframe.cloud.servlet.config.WebMvcConfig;
+import org.egovframe.cloud.servlet.domain.log.ApiLogBatchWriter;
+import org.egovframe.cloud.servlet.service.ApiLogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * org.egovframe.cloud.boardservice.config.ApiLogAutoConfigurationTest
+ * <p>
+ * component scan 대상이 아닌 module-common servlet 패키지의 API 로그 빈이 자동 설정으로 등록되는지 확인하는 테스트 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@SpringBootTest
+@EnableConfigurationProperties
+@ActiveProfiles(profiles = "test")
+class ApiLogAutoConfigurationTest {
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Test
+    void API로그_빈이_등록된다() {
+        assertThat(applicationContext.getBeansOfType(ApiLogBatchWriter.class)).hasSize(1);
+        assertThat(applicationContext.getBeansOfType(ApiLogService.class)).hasSize(1);
+        assertThat(applicationContext.getBeansOfType(WebMvcConfig.class)).hasSize(1);
+    }
+}
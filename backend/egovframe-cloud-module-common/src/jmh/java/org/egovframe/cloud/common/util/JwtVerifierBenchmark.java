@@ -0,0 +1,91 @@
+package org.egovframe.cloud.common.util;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * org.egovframe.cloud.common.util.JwtVerifierBenchmark
+ * <p>
+ * 요청 한 건의 JWT 검증 비용 비교
+ * <ul>
+ *     <li>perRequestParser : 기존 방식. 요청마다 키를 만들고 JwtParser 를 만들어 토큰을 파싱한다.</li>
+ *     <li>sharedParser : 키와 JwtParser 를 재사용하고 클레임 캐시는 사용하지 않는다. (cache-size 0)</li>
+ *     <li>cachedVerifier : JwtVerifier 기본 설정. 같은 토큰의 두 번째 요청부터 캐시된 클레임을 반환한다.</li>
+ * </ul>
+ * 실행 : gradlew :egovframe-cloud-module-common:jmh
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifierBenchmark {
+
+    private static final String TOKEN_SECRET = "egovframe_user_token";
+
+    private String authorizationHeader;
+
+    private JwtVerifier sharedParser;
+
+    private JwtVerifier cachedVerifier;
+
+    @Setup
+    public void setUp() {
+        String token = Jwts.builder()
+                .subject("65a00f65-8460-49af-98ec-042977e56f4b")
+                .claim("authorities", "ROLE_USER")
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(JwtHs512Keys.keyFromSecret(TOKEN_SECRET))
+                .compact();
+        authorizationHeader = "Bearer " + token;
+        sharedParser = new JwtVerifier(TOKEN_SECRET, 0);
+        cachedVerifier = new JwtVerifier(TOKEN_SECRET, 10000);
+    }
+
+    @Benchmark
+    public Claims perRequestParser() {
+        return Jwts.parser()
+                .verifyWith(JwtHs512Keys.keyFromSecret(TOKEN_SECRET))
+                .build()
+                .parseSignedClaims(JwtHs512Keys.normalizeBearerToken(authorizationHeader))
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParser.verify(authorizationHeader);
+    }
+
+    @Benchmark
+    public Claims cachedVerifier() {
+        return cachedVerifier.verify(authorizationHeader);
+    }
+
+}
@@ -0,0 +1,106 @@
+package org.egovframe.cloud.common.util;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * org.egovframe.cloud.common.util.OccupancySweepBenchmark
+ * <p>
+ * 예약 기간의 일자별 최대 예약 수량 계산 비용 비교
+ * <ul>
+ *     <li>perDayScan : 기존 방식. 조회 기간의 날짜마다 모든 예약을 비교해서 합계를 낸다. O(일수 x 예약 수)</li>
+ *     <li>sweep : OccupancySweep. 예약의 시작/종료 이벤트를 정렬해서 한 번 훑는다. O(예약 수 log 예약 수)</li>
+ * </ul>
+ * 기존 방식은 날짜마다 예약을 다시 조회했으므로 실제 차이는 DB 조회 횟수만큼 더 크다.
+ * 실행 : gradlew :egovframe-cloud-module-common:jmh
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OccupancySweepBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    /**
+     * 조회 기간에 겹치는 예약 수
+     */
+    @Param({"1000", "5000"})
+    private int reserves;
+
+    /**
+     * 조회 기간 일수
+     */
+    @Param({"30", "365"})
+    private int days;
+
+    private LocalDateTime[] starts;
+    private LocalDateTime[] ends;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20261018L);
+        starts = new LocalDateTime[reserves];
+        ends = new LocalDateTime[reserves];
+        quantities = new int[reserves];
+        for (int i = 0; i < reserves; i++) {
+            starts[i] = START.plusMinutes(random.nextInt(days * 24 * 60));
+            ends[i] = starts[i].plusMinutes(random.nextInt(7 * 24 * 60));
+            quantities[i] = random.nextInt(5) + 1;
+        }
+    }
+
+    @Benchmark
+    public int perDayScan() {
+        int max = 0;
+        for (int day = 0; day < days; day++) {
+            LocalDateTime point = START.plusDays(day);
+            int occupied = 0;
+            for (int i = 0; i < reserves; i++) {
+                if (!point.isBefore(starts[i]) && !point.isAfter(ends[i])) {
+                    occupied += quantities[i];
+                }
+            }
+            max = Math.max(max, occupied);
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int sweep() {
+        OccupancySweep sweep = new OccupancySweep();
+        for (int i = 0; i < reserves; i++) {
+            sweep.add(starts[i], ends[i], quantities[i]);
+        }
+        return sweep.maxOnDays(START, START.plusDays(days));
+    }
+
+}
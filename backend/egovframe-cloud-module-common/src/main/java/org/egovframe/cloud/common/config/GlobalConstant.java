@@ -15,6 +15,7 @@ package org.egovframe.cloud.common.config;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/19    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   actuator 는 health, info 만 인증 없이 허용
  * </pre>
  */
 public interface GlobalConstant {
@@ -24,7 +25,8 @@ public interface GlobalConstant {
     String REFRESH_TOKEN_URI = "/api/v1/users/token/refresh";
     String MESSAGES_URI = "/api/v1/messages/**";
     String LOGIN_URI = "/login";
-    String[] SECURITY_PERMITALL_ANTPATTERNS = {AUTHORIZATION_URI, REFRESH_TOKEN_URI, MESSAGES_URI, LOGIN_URI, "/actuator/**", "/v3/api-docs/**", "/api/v1/images/**", "/swagger-ui.html"};
+    String ACTUATOR_URI = "/actuator/**"; // health, info 외 actuator 엔드포인트(metrics 등)는 관리자(ROLE_ADMIN)만 조회한다
+    String[] SECURITY_PERMITALL_ANTPATTERNS = {AUTHORIZATION_URI, REFRESH_TOKEN_URI, MESSAGES_URI, LOGIN_URI, "/actuator/health", "/actuator/health/**", "/actuator/info", "/actuator/health-info", "/v3/api-docs/**", "/api/v1/images/**", "/swagger-ui.html"};
     String USER_SERVICE_URI = "/user-service";
     //예약 신청 후 재고 변경 성공여부 exchange name
     String SUCCESS_OR_NOT_EX_NAME = "success-or-not.direct";
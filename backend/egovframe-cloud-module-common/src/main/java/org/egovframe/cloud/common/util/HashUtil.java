@@ -0,0 +1,45 @@
+package org.egovframe.cloud.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * org.egovframe.cloud.common.util.HashUtil
+ * <p>
+ * 토큰 등 원문을 남기지 않아야 하는 값을 저장 키나 캐시 키로 쓸 때 사용하는 해시
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public final class HashUtil {
+
+    private HashUtil() {
+    }
+
+    /**
+     * UTF-8 문자열의 SHA-256 다이제스트를 Base64 로 인코딩한다.
+     *
+     * @param value 원문
+     * @return String Base64 SHA-256 해시
+     */
+    public static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
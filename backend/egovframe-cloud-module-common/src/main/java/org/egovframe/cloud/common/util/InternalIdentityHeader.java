@@ -0,0 +1,170 @@
+package org.egovframe.cloud.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * org.egovframe.cloud.common.util.InternalIdentityHeader
+ * <p>
+ * apigateway 가 JWT 검증 후 하위 서비스로 전달하는 내부 인증 헤더를 만들고 검증하는 클래스
+ * 헤더 값은 "v1.{subject}.{authorities}.{만료 시각(ms)}.{HMAC-SHA256}" 형식이며 subject, authorities, HMAC 은 Base64 URL 인코딩한다.
+ * HMAC 키는 token.secret 에서 JWT 서명 키와 다른 용도 구분 문자열로 파생한다.
+ * 하위 서비스의 인증 필터는 이 헤더가 유효하면 JWT 를 다시 파싱하지 않고, 없거나 유효하지 않으면 기존처럼 JWT 를 검증한다.
+ * apigateway 는 클라이언트가 보낸 같은 이름의 헤더를 항상 제거한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Component
+public class InternalIdentityHeader {
+
+    /**
+     * 내부 인증 헤더 이름, apigateway 의 InternalIdentityHeader 값도 같이 변경해주어야 한다.
+     */
+    public static final String HEADER_NAME = "X-Egov-Internal-Identity";
+
+    /**
+     * apigateway 가 직접 호출할 때 내부 인증 헤더에 담는 권한, 사용자 토큰에는 담기지 않는다.
+     * 서비스 간 호출만 허용하는 API 는 이 권한을 요구한다. apigateway 의 InternalIdentityHeader 값도 같이 변경해주어야 한다.
+     */
+    public static final String SERVICE_AUTHORITY = "ROLE_INTERNAL_SERVICE";
+
+    private static final String VERSION = "v1";
+    private static final String KEY_PURPOSE = ":internal-identity";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    /**
+     * Mac 은 스레드 안전하지 않으므로 스레드마다 초기화된 인스턴스를 사용한다.
+     */
+    private final ThreadLocal<Mac> mac;
+
+    public InternalIdentityHeader(@Value("${token.secret}") String tokenSecret) {
+        this.key = new SecretKeySpec(sha256(tokenSecret + KEY_PURPOSE), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 내부 인증 헤더 값 생성
+     *
+     * @param subject     사용자 id
+     * @param authorities 콤마로 구분된 권한 목록
+     * @param expiresAt   만료 시각(ms), 토큰의 exp 와 같다
+     * @return String 헤더 값
+     */
+    public String encode(String subject, String authorities, long expiresAt) {
+        String payload = VERSION
+                + '.' + ENCODER.encodeToString(subject.getBytes(StandardCharsets.UTF_8))
+                + '.' + ENCODER.encodeToString((authorities == null ? "" : authorities).getBytes(StandardCharsets.UTF_8))
+                + '.' + expiresAt;
+        return payload + '.' + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 내부 인증 헤더 값 검증
+     *
+     * @param value 헤더 값
+     * @return Identity 검증된 인증 정보, 헤더가 없거나 서명이 다르거나 만료되었으면 null
+     */
+    public Identity decode(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        String[] parts = value.split("\\.", -1);
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            return null;
+        }
+        try {
+            long expiresAt = Long.parseLong(parts[3]);
+            if (expiresAt <= System.currentTimeMillis()) {
+                return null;
+            }
+            String payload = value.substring(0, value.lastIndexOf('.'));
+            if (!MessageDigest.isEqual(sign(payload), DECODER.decode(parts[4]))) {
+                return null;
+            }
+            return new Identity(
+                    new String(DECODER.decode(parts[1]), StandardCharsets.UTF_8),
+                    new String(DECODER.decode(parts[2]), StandardCharsets.UTF_8),
+                    expiresAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 검증된 내부 인증 정보
+     */
+    public static final class Identity {
+
+        private final String subject;
+        private final String authorities;
+        private final long expiresAt;
+
+        private Identity(String subject, String authorities, long expiresAt) {
+            this.subject = subject;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        /**
+         * 콤마로 구분된 권한 목록, 토큰의 authorities 클레임과 같다
+         */
+        public String getAuthorities() {
+            return authorities;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+
+}
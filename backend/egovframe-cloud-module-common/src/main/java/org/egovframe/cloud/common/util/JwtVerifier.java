@@ -0,0 +1,144 @@
+package org.egovframe.cloud.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * org.egovframe.cloud.common.util.JwtVerifier
+ * <p>
+ * JWT 검증 클래스
+ * 서명 키와 JwtParser 는 생성 시 한 번만 만들고, 검증된 클레임은 토큰 다이제스트를 키로 토큰 만료 시각(exp)까지 캐시한다.
+ * 캐시 건수는 token.verifier.cache-size 를 넘지 않으며, 넘으면 Caffeine 이 자주 쓰이지 않는 항목부터 하나씩 지운다.
+ * 만료 시각이 없는 토큰은 캐시하지 않는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   가득 차면 모두 비우던 캐시를 만료 시각까지 보관하는 Caffeine 캐시로 변경
+ * </pre>
+ */
+@Component
+public class JwtVerifier {
+
+    private final SecretKey key;
+
+    private final JwtParser parser;
+
+    /**
+     * 토큰 SHA-256 다이제스트(Base64) -> 검증된 클레임, cache-size 가 0 이하이면 null
+     */
+    private final Cache<String, Claims> cache;
+
+    public JwtVerifier(@Value("${token.secret}") String tokenSecret,
+                       @Value("${token.verifier.cache-size:10000}") int maximumSize) {
+        this.key = JwtHs512Keys.keyFromSecret(tokenSecret);
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.cache = maximumSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * 서명 키. 토큰을 발급하는 곳에서도 같은 키를 사용한다.
+     */
+    public SecretKey getKey() {
+        return key;
+    }
+
+    /**
+     * Authorization 헤더 값(선택적 Bearer 접두)에서 JWT를 검증해 클레임을 반환한다.
+     * 검증에 실패하면 JwtParser 와 같은 예외(ExpiredJwtException, JwtException, IllegalArgumentException)를 던진다.
+     *
+     * @param token JWT 또는 Authorization 헤더 값
+     * @return Claims 검증된 클레임
+     */
+    public Claims verify(String token) {
+        String compact = JwtHs512Keys.normalizeBearerToken(token);
+        if (cache == null || compact.isEmpty()) {
+            return parser.parseSignedClaims(compact).getPayload();
+        }
+
+        String digest = digest(compact);
+        Claims cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 만료된 토큰은 여기서 ExpiredJwtException 이 발생한다.
+        Claims claims = parser.parseSignedClaims(compact).getPayload();
+        if (claims.getExpiration() != null) {
+            cache.put(digest, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * 캐시된 클레임 건수
+     */
+    public int cacheSize() {
+        if (cache == null) {
+            return 0;
+        }
+        cache.cleanUp();
+        return (int) cache.estimatedSize();
+    }
+
+    private static String digest(String compact) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(compact.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 항목마다 토큰 만료 시각(exp)에 만료된다.
+     */
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
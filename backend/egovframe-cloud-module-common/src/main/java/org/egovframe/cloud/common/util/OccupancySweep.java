@@ -0,0 +1,127 @@
+package org.egovframe.cloud.common.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * org.egovframe.cloud.common.util.OccupancySweep
+ * <p>
+ * 기간이 겹치는 예약들의 최대 동시 점유 수량을 계산하는 클래스
+ * 예약마다 시작 시점에 +수량, 종료 시점 직후에 -수량 이벤트를 만들고 시간순으로 정렬한 뒤 한 번 훑어서 계산한다. O(n log n)
+ * 조회 기간의 시작 일시부터 하루 간격의 시점마다 점유 수량을 보며, 기간이 하루 미만이면 시작 일시 한 시점만 본다.
+ * 예약은 시작 일시와 종료 일시를 모두 포함한다.
+ * 점유 수량은 이벤트가 있는 일자에만 바뀌므로 조회 기간의 길이와 무관하게 이벤트 수만큼만 계산한다.
+ * <pre>
+ * reserveFlux.collect(OccupancySweep::new, (sweep, reserve) -> sweep.add(reserve.getReserveStartDate(), reserve.getReserveEndDate(), reserve.getReserveQty()))
+ *     .map(sweep -> sweep.maxOnDays(startDate, endDate));
+ * </pre>
+ * 스레드에 안전하지 않다. 한 번의 조회에서만 사용한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public class OccupancySweep {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_DAY = 86_400L * NANOS_PER_SECOND;
+    private static final long MAX_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND - 86_400L;
+
+    /**
+     * 이벤트 시점(UTC 기준 epoch 나노초)과 수량 변화, 인덱스가 같은 값끼리 한 이벤트이다.
+     */
+    private long[] times = new long[16];
+    private int[] deltas = new int[16];
+    private int size;
+
+    /**
+     * 예약 추가
+     *
+     * @param start    예약 시작 일시
+     * @param end      예약 종료 일시, 이 시점까지 점유한다
+     * @param quantity 예약 수량, null 이면 0
+     */
+    public void add(LocalDateTime start, LocalDateTime end, Integer quantity) {
+        if (start == null || end == null || end.isBefore(start) || quantity == null || quantity == 0) {
+            return;
+        }
+        ensureCapacity(size + 2);
+        append(toNanos(start), quantity);
+        append(toNanos(end) + 1, -quantity);
+    }
+
+    /**
+     * 조회 기간의 일자별 최대 점유 수량
+     * startDate + i일 (0 <= i < 기간 일수) 시점 중 점유 수량이 가장 많은 시점의 수량을 반환한다.
+     *
+     * @param startDate 조회 시작 일시
+     * @param endDate   조회 종료 일시
+     * @return int 최대 점유 수량, 예약이 없으면 0
+     */
+    public int maxOnDays(LocalDateTime startDate, LocalDateTime endDate) {
+        long days = Math.max(1, ChronoUnit.DAYS.between(startDate, endDate));
+        long from = toNanos(startDate);
+
+        // 이벤트가 반영되는 첫 조회 일자(시점 <= startDate + day)를 상위 32비트, 수량 변화를 하위 32비트에 담아 정렬한다.
+        long[] events = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long elapsed = times[i] - from;
+            long day = elapsed <= 0 ? 0 : (elapsed + NANOS_PER_DAY - 1) / NANOS_PER_DAY;
+            if (day < days && day <= Integer.MAX_VALUE) {
+                events[count++] = (day << 32) | (deltas[i] & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(events, 0, count);
+
+        int max = 0;
+        int occupied = 0;
+        for (int i = 0; i < count; i++) {
+            occupied += (int) events[i];
+            // 같은 일자의 이벤트를 모두 반영한 뒤에 비교한다.
+            if (i + 1 == count || (events[i + 1] >>> 32) != (events[i] >>> 32)) {
+                max = Math.max(max, occupied);
+            }
+        }
+        return max;
+    }
+
+    private void append(long time, int delta) {
+        times[size] = time;
+        deltas[size] = delta;
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > times.length) {
+            int length = Math.max(capacity, times.length * 2);
+            times = Arrays.copyOf(times, length);
+            deltas = Arrays.copyOf(deltas, length);
+        }
+    }
+
+    /**
+     * epoch 나노초로 변환, long 으로 나타낼 수 있는 1677년 ~ 2262년을 벗어나면 범위 끝 값으로 맞춘다.
+     */
+    private static long toNanos(LocalDateTime dateTime) {
+        long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= MAX_SECONDS) {
+            return MAX_SECONDS * NANOS_PER_SECOND;
+        }
+        if (seconds <= -MAX_SECONDS) {
+            return -MAX_SECONDS * NANOS_PER_SECOND;
+        }
+        return seconds * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+}
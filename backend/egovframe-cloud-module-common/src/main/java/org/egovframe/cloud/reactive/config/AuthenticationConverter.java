@@ -4,10 +4,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
-import org.egovframe.cloud.common.util.JwtHs512Keys;
-import org.springframework.beans.factory.annotation.Value;
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.common.util.JwtVerifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,7 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 /**
@@ -40,13 +38,15 @@ import reactor.core.publisher.Mono;
  *  2021/09/06    shinmj       최초 생성
  * </pre>
  */
+@RequiredArgsConstructor
 @Component
 public class AuthenticationConverter implements ServerAuthenticationConverter {
 
     private static final String TOKEN_CLAIM_NAME = "authorities";
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
+    private final JwtVerifier jwtVerifier;
+
+    private final InternalIdentityHeader internalIdentityHeader;
 
     @Override
     public Mono<Authentication> convert(ServerWebExchange exchange) {
@@ -62,8 +62,19 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
                         return Mono.empty();
                     }
 
-                    Claims claims = getClaimsFromToken(token);
-                    String authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+                    // apigateway 가 검증한 내부 인증 헤더가 유효하면 JWT 를 다시 파싱하지 않는다.
+                    InternalIdentityHeader.Identity identity = internalIdentityHeader.decode(
+                            exchange.getRequest().getHeaders().getFirst(InternalIdentityHeader.HEADER_NAME));
+                    String username;
+                    String authoritiesStr;
+                    if (identity != null) {
+                        username = identity.getSubject();
+                        authoritiesStr = identity.getAuthorities();
+                    } else {
+                        Claims claims = getClaimsFromToken(token);
+                        username = claims.getSubject();
+                        authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+                    }
                     List<SimpleGrantedAuthority> roleList = authoritiesStr == null ? List.of() :
                             Arrays.stream(authoritiesStr.split(","))
                                     .map(String::trim)
@@ -71,8 +82,6 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
                                     .map(SimpleGrantedAuthority::new)
                                     .collect(Collectors.toList());
 
-                    String username = claims.getSubject();
-
                     if (username == null) {
                         ReactiveSecurityContextHolder.withAuthentication(null);
                         return Mono.empty();
@@ -87,13 +96,7 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
     }
 
     public Claims getClaimsFromToken(String token) {
-        SecretKey key = JwtHs512Keys.keyFromSecret(TOKEN_SECRET);
-        String compact = JwtHs512Keys.normalizeBearerToken(token);
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(compact)
-                .getPayload();
+        return jwtVerifier.verify(token);
     }
 
 }
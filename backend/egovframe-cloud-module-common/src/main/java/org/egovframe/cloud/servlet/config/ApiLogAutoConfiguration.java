@@ -0,0 +1,39 @@
+package org.egovframe.cloud.servlet.config;
+
+import org.egovframe.cloud.servlet.domain.log.ApiLogBatchWriter;
+import org.egovframe.cloud.servlet.service.ApiLogService;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * org.egovframe.cloud.servlet.config.ApiLogAutoConfiguration
+ * <p>
+ * API 로그 저장 자동 설정 클래스
+ * 서비스는 org.egovframe.cloud.common 패키지만 component scan 하므로 servlet 패키지의 API 로그 빈은 여기서 등록한다.
+ * JdbcTemplate 이 있는 servlet 서비스(user, portal, board)에만 ApiLogBatchWriter, ApiLogService 와
+ * ApiLogInterceptor 를 붙이는 WebMvcConfig 를 등록한다. WebFlux 서비스에는 등록하지 않는다.
+ * WebMvcConfig 의 validator 가 기본 validator 대신 쓰이도록 ValidationAutoConfiguration 보다 먼저 처리한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class, before = ValidationAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnBean(JdbcTemplate.class)
+@Import({ApiLogBatchWriter.class, ApiLogService.class, WebMvcConfig.class})
+public class ApiLogAutoConfiguration {
+}
@@ -5,9 +5,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
-import org.egovframe.cloud.common.util.JwtHs512Keys;
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.common.util.JwtVerifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,7 +17,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.util.ObjectUtils;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -47,27 +45,35 @@ import jakarta.servlet.http.HttpServletResponse;
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private final String TOKEN_CLAIM_NAME = "authorities";
-    private final String TOKEN_SECRET;
+    private final JwtVerifier jwtVerifier;
+    private final InternalIdentityHeader internalIdentityHeader;
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager, String tokenSecret) {
+    /**
+     * @param internalIdentityHeader apigateway 내부 인증 헤더 검증, null 이면 항상 JWT 를 검증한다.
+     */
+    public AuthenticationFilter(AuthenticationManager authenticationManager, JwtVerifier jwtVerifier,
+                                InternalIdentityHeader internalIdentityHeader) {
         super.setAuthenticationManager(authenticationManager);
-        this.TOKEN_SECRET = tokenSecret;
+        this.jwtVerifier = jwtVerifier;
+        this.internalIdentityHeader = internalIdentityHeader;
     }
 
-    private SecretKey verificationKey() {
-        return JwtHs512Keys.keyFromSecret(TOKEN_SECRET);
+    public AuthenticationFilter(AuthenticationManager authenticationManager, JwtVerifier jwtVerifier) {
+        this(authenticationManager, jwtVerifier, null);
+    }
+
+    /**
+     * 토큰 시크릿으로 필터 전용 JwtVerifier, InternalIdentityHeader 를 만든다. 가능하면 빈을 받는 생성자를 사용한다.
+     */
+    public AuthenticationFilter(AuthenticationManager authenticationManager, String tokenSecret) {
+        this(authenticationManager, new JwtVerifier(tokenSecret, 10000), new InternalIdentityHeader(tokenSecret));
     }
 
     /**
      * Authorization 헤더 값(선택적 Bearer 접두)에서 JWT를 검증해 클레임을 반환한다.
      */
     public Claims getClaimsFromToken(String token) {
-        String tokenContent = JwtHs512Keys.normalizeBearerToken(token);
-        return Jwts.parser()
-                .verifyWith(verificationKey())
-                .build()
-                .parseSignedClaims(tokenContent)
-                .getPayload();
+        return jwtVerifier.verify(token);
     }
 
     @Override
@@ -78,15 +84,25 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         if (ObjectUtils.isEmpty(token)) {
             super.doFilter(request, response, chain);
         } else {
-            Claims claims = getClaimsFromToken(token);
-            String authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+            String username;
+            String authoritiesStr;
+            // apigateway 가 토큰 검증 후 전달한 내부 인증 헤더가 유효하면 JWT 를 다시 파싱하지 않는다.
+            InternalIdentityHeader.Identity identity = internalIdentityHeader == null ? null
+                    : internalIdentityHeader.decode(httpRequest.getHeader(InternalIdentityHeader.HEADER_NAME));
+            if (identity != null) {
+                username = identity.getSubject();
+                authoritiesStr = identity.getAuthorities();
+            } else {
+                Claims claims = getClaimsFromToken(token);
+                username = claims.getSubject();
+                authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+            }
             List<SimpleGrantedAuthority> roleList = authoritiesStr == null ? List.of() :
                     Arrays.stream(authoritiesStr.split(","))
                             .map(String::trim)
                             .filter(s -> !s.isEmpty())
                             .map(SimpleGrantedAuthority::new)
                             .collect(Collectors.toList());
-            String username = claims.getSubject();
             if (username != null) {
                 SecurityContextHolder.getContext().setAuthentication(
                         new UsernamePasswordAuthenticationToken(username, null, roleList));
@@ -0,0 +1,209 @@
+package org.egovframe.cloud.servlet.domain.log;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.servlet.domain.log.ApiLogBatchWriter
+ * <p>
+ * API 로그를 링 버퍼에 모아 별도 스레드에서 JDBC batch insert 로 저장하는 클래스
+ * 요청 스레드는 ApiLogRingBuffer 에 넣고 바로 돌아가며, 쓰기 스레드는 batch-size 건이 모이거나 첫 건 이후 flush-interval 이 지나면 저장한다.
+ * 버퍼가 가득 차면 가장 오래된 로그를 버린다. 요청을 기다리게 하거나 요청 스레드에서 저장하지 않는다.
+ * 요청 스레드가 쓰기 스레드를 깨우지 않도록 쓰기 스레드는 버퍼가 비어 있으면 짧게 쉬었다가 다시 확인한다.
+ * 종료 시 shutdown-timeout 동안 버퍼에 남은 로그를 모두 저장한다.
+ * 버퍼 크기, 저장 건수, 버린 건수는 api-log.* 지표로 노출된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ApiLogBatchWriter implements InitializingBean, DisposableBean {
+
+    public static final String QUEUE_METRIC = "api-log.queue";
+    public static final String WRITTEN_METRIC = "api-log.written";
+    public static final String DROPPED_METRIC = "api-log.dropped";
+
+    private static final String INSERT_SQL = "insert into api_log "
+            + "(site_id, user_id, http_method, request_url, ip_addr, created_date, modified_date) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 버퍼가 비어 있을 때 쓰기 스레드가 쉬는 시간
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ApiLogRingBuffer buffer;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final Duration shutdownTimeout;
+
+    private final Counter written;
+
+    private final Counter droppedWriteFailed;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    public ApiLogBatchWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                             @Value("${api-log.writer.buffer-capacity:8192}") int bufferCapacity,
+                             @Value("${api-log.writer.batch-size:500}") int batchSize,
+                             @Value("${api-log.writer.flush-interval:PT1S}") Duration flushInterval,
+                             @Value("${api-log.writer.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ApiLogRingBuffer(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder(QUEUE_METRIC, buffer, ApiLogRingBuffer::size)
+                .description("api logs waiting to be written")
+                .register(meterRegistry);
+        this.written = Counter.builder(WRITTEN_METRIC)
+                .description("api logs written")
+                .register(meterRegistry);
+        FunctionCounter.builder(DROPPED_METRIC, buffer, ApiLogRingBuffer::getOverwritten)
+                .description("api logs dropped")
+                .tag("reason", "buffer-full")
+                .register(meterRegistry);
+        this.droppedWriteFailed = Counter.builder(DROPPED_METRIC)
+                .description("api logs dropped")
+                .tag("reason", "write-failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        worker = new Thread(this::run, "api-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * API 로그 저장 요청
+     * 버퍼에 넣고 바로 리턴한다.
+     *
+     * @param record API 로그
+     */
+    public void write(ApiLogRecord record) {
+        buffer.offer(record);
+    }
+
+    /**
+     * 쓰기 스레드를 멈추고 버퍼에 남은 로그를 저장한다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        LockSupport.unpark(worker);
+        worker.join(shutdownTimeout.toMillis());
+        if (worker.isAlive()) {
+            log.warn("api log writer did not finish in {}. remaining={}", shutdownTimeout, buffer.size());
+        }
+    }
+
+    private void run() {
+        List<ApiLogRecord> batch = new ArrayList<>(batchSize);
+        long firstNanos = 0;
+        while (true) {
+            try {
+                boolean stopping = !running;
+                boolean wasEmpty = batch.isEmpty();
+                int drained = buffer.drainTo(batch, batchSize - batch.size());
+                if (wasEmpty && drained > 0) {
+                    firstNanos = System.nanoTime();
+                }
+                if (!batch.isEmpty()
+                        && (batch.size() >= batchSize || stopping || System.nanoTime() - firstNanos >= flushIntervalNanos)) {
+                    flush(batch);
+                    batch.clear();
+                    continue;
+                }
+                if (stopping && batch.isEmpty() && buffer.isEmpty()) {
+                    return;
+                }
+                if (drained == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                if (Thread.interrupted()) {
+                    running = false;
+                }
+            } catch (RuntimeException e) {
+                log.error("api log writer error", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ApiLogRecord> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ApiLogRecord record = batch.get(i);
+                    if (record.getSiteId() == null) {
+                        ps.setNull(1, Types.BIGINT);
+                    } else {
+                        ps.setLong(1, record.getSiteId());
+                    }
+                    ps.setString(2, record.getUserId());
+                    ps.setString(3, record.getHttpMethod());
+                    ps.setString(4, record.getRequestUrl());
+                    ps.setString(5, record.getRemoteIp());
+                    Timestamp createdDate = Timestamp.valueOf(record.getCreatedDate());
+                    ps.setTimestamp(6, createdDate);
+                    ps.setTimestamp(7, createdDate);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            droppedWriteFailed.increment(batch.size());
+            log.error("api log batch insert failed. size={}", batch.size(), e);
+        }
+    }
+
+}
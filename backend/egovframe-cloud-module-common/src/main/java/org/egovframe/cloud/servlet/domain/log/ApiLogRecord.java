@@ -0,0 +1,69 @@
+package org.egovframe.cloud.servlet.domain.log;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.servlet.domain.log.ApiLogRecord
+ * <p>
+ * API 로그 저장 대기 항목
+ * 요청 스레드에서 만들어 ApiLogBatchWriter 쓰기 스레드로 넘기므로 변경할 수 없는 값만 가진다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+public final class ApiLogRecord {
+
+    /**
+     * api_log.http_method 컬럼 길이
+     */
+    static final int HTTP_METHOD_LENGTH = 10;
+
+    /**
+     * api_log.request_url 컬럼 길이
+     */
+    static final int REQUEST_URL_LENGTH = 500;
+
+    private final Long siteId;
+
+    private final String userId;
+
+    private final String httpMethod;
+
+    private final String requestUrl;
+
+    private final String remoteIp;
+
+    private final LocalDateTime createdDate;
+
+    /**
+     * 컬럼 길이를 넘는 값은 잘라서 저장한다. batch insert 에서 한 건이 실패하면 같이 저장하는 로그가 모두 실패하기 때문이다.
+     */
+    @Builder
+    public ApiLogRecord(Long siteId, String userId, String httpMethod, String requestUrl, String remoteIp,
+                        LocalDateTime createdDate) {
+        this.siteId = siteId;
+        this.userId = userId;
+        this.httpMethod = truncate(httpMethod, HTTP_METHOD_LENGTH);
+        this.requestUrl = truncate(requestUrl, REQUEST_URL_LENGTH);
+        this.remoteIp = remoteIp;
+        this.createdDate = createdDate == null ? LocalDateTime.now() : createdDate;
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.egovframe.cloud.servlet.domain.log;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * org.egovframe.cloud.servlet.domain.log.ApiLogRingBuffer
+ * <p>
+ * 여러 요청 스레드가 넣고 하나의 쓰기 스레드가 꺼내는 크기 고정 링 버퍼
+ * 넣는 쪽은 순번을 하나 받아 해당 칸에 바꿔 넣기만 하므로 락을 잡거나 기다리지 않는다.
+ * 버퍼가 가득 차면 가장 오래된 항목을 덮어쓰고(drop-oldest) 덮어쓴 건수를 센다.
+ * 크기는 2의 제곱수로 올려서 사용한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public class ApiLogRingBuffer {
+
+    private final AtomicReferenceArray<Slot> slots;
+
+    private final int mask;
+
+    /**
+     * 다음에 넣을 항목의 순번
+     */
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    /**
+     * 다음에 꺼낼 항목의 순번, 쓰기 스레드만 변경한다.
+     */
+    private volatile long consumerIndex;
+
+    private final LongAdder overwritten = new LongAdder();
+
+    public ApiLogRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 항목을 넣는다. 버퍼가 가득 찼으면 같은 칸의 가장 오래된 항목을 덮어쓴다.
+     *
+     * @param record API 로그
+     */
+    public void offer(ApiLogRecord record) {
+        long sequence = producerIndex.getAndIncrement();
+        int index = (int) (sequence & mask);
+        Slot slot = new Slot(sequence, record);
+        Slot previous = slots.getAndSet(index, slot);
+        if (previous == null) {
+            return;
+        }
+        if (previous.sequence < sequence) {
+            overwritten.increment();
+        } else if (slots.compareAndSet(index, slot, previous)) {
+            // 한 바퀴 이상 늦게 넣은 경우 새 항목을 되돌리고 자신을 버린다.
+            overwritten.increment();
+        }
+    }
+
+    /**
+     * 쓰기 스레드에서 항목을 순서대로 꺼낸다.
+     * 순번을 받았지만 아직 넣지 않은 항목을 만나면 거기서 멈추고 다음 호출에서 다시 읽는다.
+     *
+     * @param target 꺼낸 항목을 담을 목록
+     * @param max    최대 건수
+     * @return int 꺼낸 건수
+     */
+    public int drainTo(List<ApiLogRecord> target, int max) {
+        long head = producerIndex.get();
+        long index = Math.max(consumerIndex, head - slots.length()); // 덮어쓴 구간은 건너뛴다
+        int count = 0;
+        while (count < max && index < head) {
+            int slotIndex = (int) (index & mask);
+            Slot slot = slots.get(slotIndex);
+            if (slot == null || slot.sequence < index) {
+                break;
+            }
+            // 순번이 더 크면 이미 덮어쓴 항목이다. 덮어쓴 건수는 넣는 쪽에서 센다.
+            if (slot.sequence == index && slots.compareAndSet(slotIndex, slot, null)) {
+                target.add(slot.record);
+                count++;
+            }
+            index++;
+        }
+        consumerIndex = index;
+        return count;
+    }
+
+    /**
+     * 꺼내지 않은 항목 수
+     */
+    public int size() {
+        long size = producerIndex.get() - consumerIndex;
+        return (int) Math.max(0, Math.min(size, slots.length()));
+    }
+
+    public boolean isEmpty() {
+        return producerIndex.get() <= consumerIndex;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * 가득 차서 덮어쓴 건수
+     */
+    public long getOverwritten() {
+        return overwritten.sum();
+    }
+
+    private static final class Slot {
+
+        private final long sequence;
+        private final ApiLogRecord record;
+
+        private Slot(long sequence, ApiLogRecord record) {
+            this.sequence = sequence;
+            this.record = record;
+        }
+    }
+
+}
@@ -4,13 +4,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.cloud.common.service.AbstractService;
 import org.egovframe.cloud.common.util.LogUtil;
-import org.egovframe.cloud.servlet.domain.log.ApiLog;
-import org.egovframe.cloud.servlet.domain.log.ApiLogRepository;
+import org.egovframe.cloud.servlet.domain.log.ApiLogBatchWriter;
+import org.egovframe.cloud.servlet.domain.log.ApiLogRecord;
 import org.egovframe.cloud.servlet.interceptor.ApiLogInterceptor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 /**
  * org.egovframe.cloud.servlet.service.ApiLogService
@@ -27,34 +28,36 @@ import org.springframework.transaction.annotation.Transactional;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/01    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   요청 스레드에서 insert 하지 않고 ApiLogBatchWriter 로 넘기도록 변경
  * </pre>
  */
 @Slf4j
 @Service
 public class ApiLogService extends AbstractService {
 
-    private final ApiLogRepository apiLogRepository;
+    private final ApiLogBatchWriter apiLogBatchWriter;
 
-    public ApiLogService(ApiLogRepository apiLogRepository) {
-        this.apiLogRepository = apiLogRepository;
+    public ApiLogService(ApiLogBatchWriter apiLogBatchWriter) {
+        this.apiLogBatchWriter = apiLogBatchWriter;
     }
 
     /**
      * API log 입력
      * LogInterceptor 에서 호출된다
+     * 요청 정보만 읽어 저장 대기 항목을 만들고, 저장은 ApiLogBatchWriter 쓰기 스레드에서 한다.
      *
      * @see ApiLogInterceptor
      */
-    @Transactional
     public void saveApiLog(HttpServletRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        apiLogRepository.save(
-                ApiLog.builder()
+        apiLogBatchWriter.write(
+                ApiLogRecord.builder()
                         .siteId(LogUtil.getSiteId(request))
                         .httpMethod(request.getMethod())
                         .requestUrl(request.getRequestURI())
-                        .userId(authentication.getName())
+                        .userId(authentication == null ? null : authentication.getName())
                         .remoteIp(LogUtil.getUserIp())
+                        .createdDate(LocalDateTime.now())
                         .build()
         );
     }
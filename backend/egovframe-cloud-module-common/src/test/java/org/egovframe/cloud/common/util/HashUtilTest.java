@@ -0,0 +1,35 @@
+package org.egovframe.cloud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * org.egovframe.cloud.common.util.HashUtilTest
+ * <p>
+ * HashUtil 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class HashUtilTest {
+
+    @Test
+    @DisplayName("SHA-256 다이제스트를 Base64 로 반환해야 한다")
+    void sha256_해시() {
+        assertEquals("47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU=", HashUtil.sha256(""));
+        assertEquals(HashUtil.sha256("token"), HashUtil.sha256("token"));
+        assertNotEquals(HashUtil.sha256("token"), HashUtil.sha256("token2"));
+    }
+}
@@ -0,0 +1,68 @@
+package org.egovframe.cloud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * org.egovframe.cloud.common.util.InternalIdentityHeaderTest
+ * <p>
+ * InternalIdentityHeader 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class InternalIdentityHeaderTest {
+
+    private static final String TOKEN_SECRET = "egovframe_user_token";
+
+    private final InternalIdentityHeader internalIdentityHeader = new InternalIdentityHeader(TOKEN_SECRET);
+
+    @Test
+    @DisplayName("생성한 헤더 값을 검증하면 같은 사용자와 권한을 반환해야 한다")
+    void 생성_검증() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        String value = internalIdentityHeader.encode("user-id", "ROLE_ADMIN,ROLE_USER", expiresAt);
+
+        InternalIdentityHeader.Identity identity = internalIdentityHeader.decode(value);
+
+        assertNotNull(identity);
+        assertEquals("user-id", identity.getSubject());
+        assertEquals("ROLE_ADMIN,ROLE_USER", identity.getAuthorities());
+        assertEquals(expiresAt, identity.getExpiresAt());
+        assertEquals("", internalIdentityHeader.decode(internalIdentityHeader.encode("user-id", null, expiresAt)).getAuthorities());
+    }
+
+    @Test
+    @DisplayName("변조되었거나 다른 키로 만들었거나 만료된 헤더 값은 null 을 반환해야 한다")
+    void 검증실패() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        String value = internalIdentityHeader.encode("user-id", "ROLE_USER", expiresAt);
+        String forged = new InternalIdentityHeader(TOKEN_SECRET)
+                .encode("user-id", "ROLE_ADMIN", expiresAt);
+        String[] parts = value.split("\\.");
+        String[] forgedParts = forged.split("\\.");
+
+        assertNull(internalIdentityHeader.decode(
+                String.join(".", parts[0], parts[1], forgedParts[2], parts[3], parts[4])));
+        assertNull(internalIdentityHeader.decode(
+                String.join(".", parts[0], parts[1], parts[2], String.valueOf(expiresAt + 1), parts[4])));
+        assertNull(internalIdentityHeader.decode(new InternalIdentityHeader("other_secret").encode("user-id", "ROLE_USER", expiresAt)));
+        assertNull(internalIdentityHeader.decode(internalIdentityHeader.encode("user-id", "ROLE_USER", System.currentTimeMillis() - 1)));
+        assertNull(internalIdentityHeader.decode("v1.abc"));
+        assertNull(internalIdentityHeader.decode(null));
+    }
+
+}
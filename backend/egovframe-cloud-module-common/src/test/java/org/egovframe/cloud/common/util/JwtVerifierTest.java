@@ -0,0 +1,111 @@
+package org.egovframe.cloud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * org.egovframe.cloud.common.util.JwtVerifierTest
+ * <p>
+ * JwtVerifier 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class JwtVerifierTest {
+
+    private static final String TOKEN_SECRET = "egovframe_user_token";
+
+    @Test
+    @DisplayName("검증된 클레임은 토큰 만료 시각까지 캐시되어 같은 인스턴스를 반환해야 한다")
+    void 검증결과_캐시() {
+        JwtVerifier verifier = new JwtVerifier(TOKEN_SECRET, 10);
+        String token = token(TOKEN_SECRET, System.currentTimeMillis() + 60_000);
+
+        assertEquals("user-id", verifier.verify(token).getSubject());
+        assertSame(verifier.verify(token), verifier.verify("Bearer " + token));
+        assertEquals(1, verifier.cacheSize());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰과 만료된 토큰은 예외가 발생해야 한다")
+    void 검증실패() {
+        JwtVerifier verifier = new JwtVerifier(TOKEN_SECRET, 10);
+
+        assertThrows(SignatureException.class,
+                () -> verifier.verify(token("other_secret", System.currentTimeMillis() + 60_000)));
+        assertThrows(ExpiredJwtException.class,
+                () -> verifier.verify(token(TOKEN_SECRET, System.currentTimeMillis() - 1_000)));
+        assertEquals(0, verifier.cacheSize());
+    }
+
+    @Test
+    @DisplayName("캐시 건수는 최대 건수를 넘지 않아야 한다")
+    void 캐시_최대건수() {
+        JwtVerifier verifier = new JwtVerifier(TOKEN_SECRET, 3);
+        for (int i = 0; i < 10; i++) {
+            verifier.verify(token(TOKEN_SECRET, "user-" + i, System.currentTimeMillis() + 60_000));
+        }
+
+        assertTrue(verifier.cacheSize() <= 3);
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차도 모두 비우지 않고 최대 건수만큼 유지해야 한다")
+    void 캐시_가득참_유지() {
+        JwtVerifier verifier = new JwtVerifier(TOKEN_SECRET, 3);
+        for (int i = 0; i < 10; i++) {
+            verifier.verify(token(TOKEN_SECRET, "user-" + i, System.currentTimeMillis() + 60_000));
+            assertEquals(Math.min(i + 1, 3), verifier.cacheSize());
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 클레임은 토큰 만료 시각이 지나면 반환하지 않아야 한다")
+    void 캐시_토큰만료() throws InterruptedException {
+        JwtVerifier verifier = new JwtVerifier(TOKEN_SECRET, 10);
+        // exp 는 초 단위로 저장된다
+        long expiration = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String token = token(TOKEN_SECRET, expiration);
+
+        assertEquals("user-id", verifier.verify(token).getSubject());
+        assertEquals(1, verifier.cacheSize());
+        Thread.sleep(expiration - System.currentTimeMillis() + 100);
+
+        assertThrows(ExpiredJwtException.class, () -> verifier.verify(token));
+        assertEquals(0, verifier.cacheSize());
+    }
+
+    private String token(String secret, long expiration) {
+        return token(secret, "user-id", expiration);
+    }
+
+    private String token(String secret, String subject, long expiration) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("authorities", "ROLE_USER")
+                .expiration(new Date(expiration))
+                .signWith(JwtHs512Keys.keyFromSecret(secret))
+                .compact();
+    }
+
+}
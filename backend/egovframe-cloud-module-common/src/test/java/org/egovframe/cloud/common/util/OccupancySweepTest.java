@@ -0,0 +1,122 @@
+package org.egovframe.cloud.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * org.egovframe.cloud.common.util.OccupancySweepTest
+ * <p>
+ * OccupancySweep 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class OccupancySweepTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 6, 1, 0, 0);
+
+    @Test
+    @DisplayName("예약이 없으면 0 을 반환해야 한다")
+    void 예약_없음() {
+        assertEquals(0, new OccupancySweep().maxOnDays(START, START.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("기간이 하루 미만이면 시작 일시에 겹치는 예약 수량의 합을 반환해야 한다")
+    void 하루_미만_기간() {
+        OccupancySweep sweep = new OccupancySweep();
+        sweep.add(START.minusDays(2), START.plusDays(1), 5);
+        sweep.add(START.minusDays(1), START, 3);
+        sweep.add(START.plusHours(1), START.plusHours(2), 7);
+
+        assertEquals(8, sweep.maxOnDays(START, START.plusHours(23)));
+    }
+
+    @Test
+    @DisplayName("예약 종료 일시는 점유에 포함하고 그 이후는 포함하지 않아야 한다")
+    void 종료_일시_포함() {
+        OccupancySweep sweep = new OccupancySweep();
+        sweep.add(START.minusDays(1), START, 4);
+
+        assertEquals(4, sweep.maxOnDays(START, START));
+        assertEquals(0, sweep.maxOnDays(START.plusNanos(1), START.plusNanos(1)));
+    }
+
+    @Test
+    @DisplayName("일자별 점유 수량 중 마지막 날이 아니라 가장 큰 값을 반환해야 한다")
+    void 최대값_반환() {
+        OccupancySweep sweep = new OccupancySweep();
+        sweep.add(START, START.plusDays(2), 10);
+        sweep.add(START.plusDays(5), START.plusDays(6), 2);
+
+        assertEquals(10, sweep.maxOnDays(START, START.plusDays(10)));
+    }
+
+    @Test
+    @DisplayName("조회 기간의 마지막 날(종료 일시 당일)은 보지 않아야 한다")
+    void 조회_종료일_제외() {
+        OccupancySweep sweep = new OccupancySweep();
+        sweep.add(START.plusDays(3), START.plusDays(4), 6);
+
+        assertEquals(0, sweep.maxOnDays(START, START.plusDays(3)));
+        assertEquals(6, sweep.maxOnDays(START, START.plusDays(4)));
+    }
+
+    @Test
+    @DisplayName("무작위 예약에 대해 일자마다 모든 예약을 비교한 결과와 같아야 한다")
+    void 일자별_비교_결과와_같음() {
+        Random random = new Random(20261018L);
+        for (int round = 0; round < 200; round++) {
+            List<LocalDateTime[]> periods = new ArrayList<>();
+            List<Integer> quantities = new ArrayList<>();
+            OccupancySweep sweep = new OccupancySweep();
+            int count = random.nextInt(50);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = START.plusMinutes(random.nextInt(60 * 24 * 60) - 60 * 24 * 10);
+                LocalDateTime end = start.plusMinutes(random.nextInt(60 * 24 * 15));
+                int quantity = random.nextInt(10) + 1;
+                periods.add(new LocalDateTime[]{start, end});
+                quantities.add(quantity);
+                sweep.add(start, end, quantity);
+            }
+            LocalDateTime from = START.plusMinutes(random.nextInt(60 * 24 * 30));
+            LocalDateTime to = from.plusMinutes(random.nextInt(60 * 24 * 40));
+
+            assertEquals(bruteForce(periods, quantities, from, to), sweep.maxOnDays(from, to));
+        }
+    }
+
+    private static int bruteForce(List<LocalDateTime[]> periods, List<Integer> quantities, LocalDateTime from, LocalDateTime to) {
+        long days = Math.max(1, ChronoUnit.DAYS.between(from, to));
+        int max = 0;
+        for (long day = 0; day < days; day++) {
+            LocalDateTime point = from.plusDays(day);
+            int occupied = 0;
+            for (int i = 0; i < periods.size(); i++) {
+                if (!point.isBefore(periods.get(i)[0]) && !point.isAfter(periods.get(i)[1])) {
+                    occupied += quantities.get(i);
+                }
+            }
+            max = Math.max(max, occupied);
+        }
+        return max;
+    }
+
+}
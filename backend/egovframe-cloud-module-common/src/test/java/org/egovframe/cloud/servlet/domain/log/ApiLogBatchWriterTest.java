@@ -0,0 +1,123 @@
+package org.egovframe.cloud.servlet.domain.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * org.egovframe.cloud.servlet.domain.log.ApiLogBatchWriterTest
+ * <p>
+ * ApiLogBatchWriter 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class ApiLogBatchWriterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("batch-size 단위로 저장하고 종료 시 남은 로그를 모두 저장해야 한다")
+    void batch_저장_종료시_모두_저장() throws InterruptedException {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(false);
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 64, 2, Duration.ofMillis(20), Duration.ofSeconds(5));
+        writer.afterPropertiesSet();
+
+        for (int i = 0; i < 5; i++) {
+            writer.write(ApiLogRecord.builder().siteId(1L).userId("user").httpMethod("GET").requestUrl("/api/" + i).build());
+        }
+        writer.destroy();
+
+        assertTrue(jdbcTemplate.batchSizes().stream().allMatch(size -> size <= 2));
+        assertEquals(5, jdbcTemplate.batchSizes().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(5, meterRegistry.get(ApiLogBatchWriter.WRITTEN_METRIC).counter().count());
+        assertEquals(0, meterRegistry.get(ApiLogBatchWriter.QUEUE_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 오래된 로그를 버리고 버린 건수를 기록해야 한다")
+    void 버퍼_가득_차면_버리기() throws InterruptedException {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(false);
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 4, 10, Duration.ofMillis(20), Duration.ofSeconds(5));
+
+        for (int i = 0; i < 6; i++) {
+            writer.write(ApiLogRecord.builder().httpMethod("GET").requestUrl("/api/" + i).build());
+        }
+        writer.afterPropertiesSet();
+        writer.destroy();
+
+        assertEquals(2, meterRegistry.get(ApiLogBatchWriter.DROPPED_METRIC).tag("reason", "buffer-full").functionCounter().count());
+        assertEquals(4, meterRegistry.get(ApiLogBatchWriter.WRITTEN_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 버린 건수를 기록하고 다음 로그는 계속 저장해야 한다")
+    void 저장_실패() throws InterruptedException {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(true);
+        ApiLogBatchWriter writer = new ApiLogBatchWriter(jdbcTemplate, meterRegistry, 64, 10, Duration.ofMillis(20), Duration.ofSeconds(5));
+        writer.afterPropertiesSet();
+
+        writer.write(ApiLogRecord.builder().httpMethod("GET").requestUrl("/api/0").build());
+        writer.destroy();
+
+        assertEquals(1, meterRegistry.get(ApiLogBatchWriter.DROPPED_METRIC).tag("reason", "write-failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 url 은 잘라서 저장해야 한다")
+    void 긴_url_자르기() {
+        ApiLogRecord record = ApiLogRecord.builder().httpMethod("GET").requestUrl("/" + "a".repeat(600)).build();
+
+        assertEquals(ApiLogRecord.REQUEST_URL_LENGTH, record.getRequestUrl().length());
+    }
+
+    /**
+     * batchUpdate 호출 건수만 기록하는 JdbcTemplate
+     */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final boolean fail;
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        private RecordingJdbcTemplate(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+            if (fail) {
+                throw new IllegalStateException("insert failed");
+            }
+            synchronized (batchSizes) {
+                batchSizes.add(pss.getBatchSize());
+            }
+            return new int[pss.getBatchSize()];
+        }
+
+        private List<Integer> batchSizes() {
+            synchronized (batchSizes) {
+                return new ArrayList<>(batchSizes);
+            }
+        }
+    }
+
+}
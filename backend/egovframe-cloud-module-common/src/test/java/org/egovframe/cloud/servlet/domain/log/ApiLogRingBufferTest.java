@@ -0,0 +1,112 @@
+package org.egovframe.cloud.servlet.domain.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * org.egovframe.cloud.servlet.domain.log.ApiLogRingBufferTest
+ * <p>
+ * ApiLogRingBuffer 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * ===== 개정이력(Modification Information) =====
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class ApiLogRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 max 건씩 꺼내야 한다")
+    void 순서대로_꺼내기() {
+        ApiLogRingBuffer buffer = new ApiLogRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(record("/api/" + i));
+        }
+
+        List<ApiLogRecord> drained = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertEquals(2, buffer.size());
+        assertEquals(2, buffer.drainTo(drained, 10));
+
+        assertEquals(List.of("/api/0", "/api/1", "/api/2", "/api/3", "/api/4"), urls(drained));
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.getOverwritten());
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래된 항목을 덮어쓰고 덮어쓴 건수를 세야 한다")
+    void 가득_차면_오래된_항목_버리기() {
+        ApiLogRingBuffer buffer = new ApiLogRingBuffer(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(record("/api/" + i));
+        }
+
+        List<ApiLogRecord> drained = new ArrayList<>();
+        buffer.drainTo(drained, 100);
+
+        assertEquals(List.of("/api/6", "/api/7", "/api/8", "/api/9"), urls(drained));
+        assertEquals(6, buffer.getOverwritten());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣어도 버린 건수와 꺼낸 건수의 합이 넣은 건수와 같아야 한다")
+    void 동시에_넣기() throws InterruptedException {
+        ApiLogRingBuffer buffer = new ApiLogRingBuffer(256);
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    buffer.offer(record(thread + "/" + i));
+                }
+                done.countDown();
+            });
+        }
+
+        List<ApiLogRecord> drained = new ArrayList<>();
+        while (done.getCount() > 0 || !buffer.isEmpty()) {
+            buffer.drainTo(drained, 64);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Set<String> unique = new HashSet<>(urls(drained));
+        assertEquals(drained.size(), unique.size());
+        assertEquals((long) threads * perThread, drained.size() + buffer.getOverwritten());
+    }
+
+    private ApiLogRecord record(String url) {
+        return ApiLogRecord.builder().httpMethod("GET").requestUrl(url).build();
+    }
+
+    private List<String> urls(List<ApiLogRecord> records) {
+        List<String> urls = new ArrayList<>();
+        records.forEach(record -> urls.add(record.getRequestUrl()));
+        return urls;
+    }
+
+}
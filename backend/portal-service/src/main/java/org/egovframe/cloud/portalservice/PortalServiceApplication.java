@@ -1,8 +1,10 @@
 package org.egovframe.cloud.portalservice;
 
+import org.egovframe.cloud.portalservice.event.PortalContentChangedEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
@@ -27,6 +29,7 @@ import org.springframework.context.annotation.ComponentScan;
  */
 @ComponentScan({"org.egovframe.cloud.common", "org.egovframe.cloud.portalservice"})
 @EntityScan({"org.egovframe.cloud.servlet.domain", "org.egovframe.cloud.portalservice.domain"})
+@RemoteApplicationEventScan(basePackageClasses = PortalContentChangedEvent.class)
 @EnableFeignClients
 @EnableDiscoveryClient
 @SpringBootApplication
@@ -0,0 +1,56 @@
+package org.egovframe.cloud.portalservice.config;
+
+import org.egovframe.cloud.portalservice.event.PortalContentEventPublisher;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.portalservice.config.PortalContentChangeInterceptor
+ * <p>
+ * 포털 데이터를 변경하는 요청이 성공하면 PortalContentChangedEvent 를 발행하는 인터셉터
+ * 서비스의 트랜잭션이 커밋된 뒤인 afterCompletion 에서 발행하므로 apigateway 가 변경 전 데이터를 다시 캐시하지 않는다.
+ * 대상 경로는 PortalWebMvcConfig 에서 등록한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+public class PortalContentChangeInterceptor implements HandlerInterceptor {
+
+    /**
+     * 메시지 파일을 다시 만드는 조회 요청, 메시지 변경으로 본다.
+     */
+    public static final String MESSAGE_REFRESH_URI = "/api/v1/messages/refresh";
+
+    private final PortalContentEventPublisher portalContentEventPublisher;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (ex != null || response.getStatus() >= 400) {
+            return;
+        }
+        if (isWrite(request.getMethod()) || MESSAGE_REFRESH_URI.equals(request.getRequestURI())) {
+            portalContentEventPublisher.publishContentChanged();
+        }
+    }
+
+    private boolean isWrite(String method) {
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method);
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.egovframe.cloud.portalservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.portalservice.config.PortalWebMvcConfig
+ * <p>
+ * portal-service WebMvc 인터셉터 설정 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Configuration
+public class PortalWebMvcConfig implements WebMvcConfigurer {
+
+    private final PortalContentChangeInterceptor portalContentChangeInterceptor;
+
+    /**
+     * apigateway 응답 캐시(apigateway.response-cache.patterns) 대상 데이터를 변경하는 경로
+     * 통계(/api/v1/statistics/**)는 화면 조회마다 저장되므로 제외한다.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry
+                .addInterceptor(portalContentChangeInterceptor)
+                .addPathPatterns(
+                        "/api/v1/sites/**",
+                        "/api/v1/menus/**",
+                        "/api/v1/menu-roles/**",
+                        "/api/v1/messages/**",
+                        "/api/v1/banners/**",
+                        "/api/v1/codes/**",
+                        "/api/v1/code-details/**",
+                        "/api/v1/contents/**",
+                        "/api/v1/policies/**",
+                        "/api/v1/privacies/**"
+                );
+    }
+
+}
@@ -2,7 +2,8 @@ package org.egovframe.cloud.portalservice.config;
 
 import static org.egovframe.cloud.common.config.GlobalConstant.SECURITY_PERMITALL_ANTPATTERNS;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.common.util.JwtVerifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -43,11 +44,12 @@ import lombok.RequiredArgsConstructor;
 @EnableMethodSecurity // 컨트롤러 @PreAuthorize를 활성화하여 중앙 위임 인가와 별개의 방어심층을 제공한다
 public class SecurityConfig {
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
-
     private final ApplicationContext applicationContext;
 
+    private final JwtVerifier jwtVerifier;
+
+    private final InternalIdentityHeader internalIdentityHeader;
+
     /**
      * 스프링 시큐리티 설정
      *
@@ -98,7 +100,7 @@ public class SecurityConfig {
      * @return AuthenticationFilter
      */
     private AuthenticationFilter getAuthenticationFilter(AuthenticationManager authenticationManager) {
-        return new AuthenticationFilter(authenticationManager, TOKEN_SECRET);
+        return new AuthenticationFilter(authenticationManager, jwtVerifier, internalIdentityHeader);
     }
 
 }
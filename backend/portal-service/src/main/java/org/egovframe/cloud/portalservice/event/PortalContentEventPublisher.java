@@ -0,0 +1,52 @@
+package org.egovframe.cloud.portalservice.event;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.portalservice.event.PortalContentEventPublisher
+ * <p>
+ * 포털 데이터 변경 이벤트를 spring cloud bus 로 발행하는 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PortalContentEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * bus 가 비활성화된 환경(테스트 등)에서는 빈이 없다.
+     */
+    private final ObjectProvider<BusProperties> busProperties;
+
+    /**
+     * 포털 데이터 변경 이벤트 발행
+     */
+    public void publishContentChanged() {
+        BusProperties properties = busProperties.getIfAvailable();
+        if (properties == null) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(new PortalContentChangedEvent(this, properties.getId()));
+        log.debug("PortalContentChangedEvent published. origin={}", properties.getId());
+    }
+
+}
@@ -25,6 +25,7 @@ import lombok.ToString;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj      최초 생성
+ *  2026/10/18    eGovFrame   재고 확인을 신청 가능 수량(availableQty) 기준으로 변경
  * </pre>
  */
 @Getter
@@ -39,6 +40,7 @@ public class ReserveItemResponseDto {
     private String categoryId;  //예약유형 - 공통코드 reserve-category
     private Integer totalQty;   //총 재고/수용인원 수
     private Integer inventoryQty;   // 재고/수용인원 수
+    private Integer availableQty;   // 신청 가능한 재고/수용인원 수 - 선착순 물품은 인스턴스가 가져간(lease) 재고 포함
     private LocalDateTime operationStartDate;   //운영 시작 일
     private LocalDateTime operationEndDate;     //운영 종료 일
     private String reserveMethodId; // 예약 방법 - 공통코드 reserve-method
@@ -98,11 +100,21 @@ public class ReserveItemResponseDto {
         return (totalQty - max) >= reserveQty;
     }
 
+    /**
+     * 신청 가능한 재고/수용인원 수
+     * 선착순 물품은 inventoryQty 에서 인스턴스가 가져간 재고가 빠져 있으므로 reserve-item-service 가 더해 준 값을 쓴다.
+     *
+     * @return Integer
+     */
+    public Integer getAvailableQty() {
+        return availableQty == null ? inventoryQty : availableQty;
+    }
+
     public boolean isPositiveInventory() {
-        return inventoryQty > MIN_QTY;
+        return getAvailableQty() > MIN_QTY;
     }
 
     public boolean isPossibleInventoryQty(Integer reserveQty) {
-        return inventoryQty >= reserveQty;
+        return getAvailableQty() >= reserveQty;
     }
 }
@@ -1,5 +1,7 @@
 package org.egovframe.cloud.reservechecksevice.config;
 
+import org.egovframe.cloud.common.config.GlobalConstant;
+import org.egovframe.cloud.common.domain.Role;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
@@ -14,7 +16,7 @@ import reactor.core.publisher.Mono;
 
 /**
  * WebFlux Spring Security 설정
- * Swagger/OpenAPI 등 허용 경로는 인증 없이 허용, 그 외는 토큰 인증 적용.
+ * Swagger/OpenAPI, actuator health/info 등 허용 경로는 인증 없이 허용, 그 외 actuator 는 관리자만, 나머지는 토큰 인증 적용.
  */
 @RequiredArgsConstructor
 @Configuration
@@ -31,7 +33,10 @@ public class WebFluxSecurityConfig {
             "/swagger-ui/**",
             "/swagger-resources/**",
             "/webjars/**",
-            "/actuator/**"
+            "/actuator/health",
+            "/actuator/health/**",
+            "/actuator/info",
+            "/actuator/health-info"
     };
 
     @Bean
@@ -44,6 +49,7 @@ public class WebFluxSecurityConfig {
                 .logout(ServerHttpSecurity.LogoutSpec::disable)
                 .authorizeExchange(exchanges -> exchanges
                         .pathMatchers(PERMIT_ALL_PATTERNS).permitAll()
+                        .pathMatchers(GlobalConstant.ACTUATOR_URI).hasAuthority(Role.ADMIN.getKey()) // metrics 는 관리자만 조회
                         .anyExchange().authenticated())
                 .addFilterAt(authenticationWebFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
                 .build();
@@ -0,0 +1,385 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.ReserveIntervalIndex
+ * <p>
+ * 예약 물품(reserve_item_id)별 취소되지 않은 예약을 담는 메모리 interval tree
+ * 예약 기간이 겹치는 예약 조회(재고, 중복 예약 확인)를 DB 범위 조회 대신 메모리에서 처리한다.
+ * <ul>
+ *     <li>기동 후 종료일이 history 이전이 아닌 취소되지 않은 예약을 모두 읽는다. rebuild-interval 마다 다시 모두 읽는다.</li>
+ *     <li>이 서비스에서 저장(신청, 수정, 승인, 취소)한 예약은 ReserveService 가 커밋된 뒤에 put 으로 반영한다.
+ *     롤백된 저장은 반영하지 않는다.</li>
+ *     <li>reserve-request-service 나 다른 인스턴스가 저장한 예약은 refresh-interval 마다 modified_date 로 읽어 반영한다.
+ *     삭제된 예약은 다시 모두 읽을 때 빠진다.</li>
+ *     <li>아직 읽지 못했거나 마지막 동기화가 max-staleness 보다 오래되었거나, 조회 시작일이 history 이전이면 DB 를 조회한다.
+ *     재기동하면 DB 에서 다시 읽는다.</li>
+ * </ul>
+ * 다른 곳에서 저장한 예약은 반영되기 전까지 겹치는 예약 확인에 보이지 않으므로, 그 사이 같은 기간의 신청은 초과 예약될 수 있다.
+ * 지표 : reserve.index.size(예약 건수), reserve.index.items(물품 수), reserve.index.staleness(마지막 동기화 후 경과 초),
+ * reserve.index.lookups(result=hit|fallback), reserve.index.refresh.failures
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   다시 모두 읽는 동안 put 으로 반영한 예약이 새 Map 으로 바꿀 때 빠지지 않도록 수정
+ *  2026/10/18    eGovFrame   저장한 예약은 커밋된 뒤에 반영
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReserveIntervalIndex implements DisposableBean {
+
+    public static final String SIZE_METRIC = "reserve.index.size";
+    public static final String ITEMS_METRIC = "reserve.index.items";
+    public static final String STALENESS_METRIC = "reserve.index.staleness";
+    public static final String LOOKUPS_METRIC = "reserve.index.lookups";
+    public static final String REFRESH_FAILURES_METRIC = "reserve.index.refresh.failures";
+
+    /**
+     * 변경분을 읽을 때 마지막 동기화 시각보다 이만큼 앞에서부터 읽는다.
+     * modified_date 는 저장하는 서비스의 시각이고 커밋은 그보다 늦으므로 겹쳐 읽는다. 같은 예약을 다시 반영해도 결과는 같다.
+     */
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(10);
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    private final Clock clock;
+
+    private final boolean enabled;
+
+    private final Duration refreshInterval;
+
+    private final Duration rebuildInterval;
+
+    private final Duration maxStaleness;
+
+    private final Duration history;
+
+    /**
+     * 물품별 트리, 다시 모두 읽으면 새 Map 으로 바꾼다. 예약이 없는 물품은 담지 않는다.
+     */
+    private volatile Map<Long, ReserveIntervalTree> trees = new ConcurrentHashMap<>();
+
+    /**
+     * 다시 모두 읽는 동안 put 으로 반영한 예약, 읽은 결과에 빠져 있을 수 있으므로 새 Map 으로 바꾸기 전에 다시 반영한다.
+     * 다시 읽고 있지 않으면 null
+     */
+    private volatile Queue<Reserve> pendingPuts;
+
+    /**
+     * put 은 read lock 으로 동시에 반영하고, 새 Map 으로 바꿀 때는 write lock 으로 진행 중인 put 을 기다린다.
+     */
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /**
+     * 종료일이 이 시각 이후인 예약을 담는다. 아직 읽지 못했으면 null
+     */
+    private volatile LocalDateTime horizon;
+
+    private volatile LocalDateTime rebuiltAt;
+
+    /**
+     * 마지막으로 동기화한(읽기 시작한) 시각
+     */
+    private volatile LocalDateTime syncedAt;
+
+    private final Counter hits;
+
+    private final Counter fallbacks;
+
+    private final Counter refreshFailures;
+
+    private Disposable refresher;
+
+    public ReserveIntervalIndex(R2dbcEntityTemplate entityTemplate, MeterRegistry meterRegistry,
+                                @Value("${reserve.interval-index.enabled:true}") boolean enabled,
+                                @Value("${reserve.interval-index.refresh-interval:PT1S}") Duration refreshInterval,
+                                @Value("${reserve.interval-index.rebuild-interval:PT10M}") Duration rebuildInterval,
+                                @Value("${reserve.interval-index.max-staleness:PT10S}") Duration maxStaleness,
+                                @Value("${reserve.interval-index.history:P30D}") Duration history) {
+        this(entityTemplate, meterRegistry, Clock.systemDefaultZone(), enabled, refreshInterval, rebuildInterval, maxStaleness, history);
+    }
+
+    ReserveIntervalIndex(R2dbcEntityTemplate entityTemplate, MeterRegistry meterRegistry, Clock clock, boolean enabled,
+                         Duration refreshInterval, Duration rebuildInterval, Duration maxStaleness, Duration history) {
+        this.entityTemplate = entityTemplate;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+        this.rebuildInterval = rebuildInterval;
+        this.maxStaleness = maxStaleness;
+        this.history = history;
+
+        Gauge.builder(SIZE_METRIC, this, ReserveIntervalIndex::size)
+            .description("reservations held in the interval index")
+            .register(meterRegistry);
+        Gauge.builder(ITEMS_METRIC, this, index -> index.trees.size())
+            .description("reserve items held in the interval index")
+            .register(meterRegistry);
+        Gauge.builder(STALENESS_METRIC, this, ReserveIntervalIndex::getStalenessSeconds)
+            .description("seconds since the interval index was last synchronized with the database")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.hits = Counter.builder(LOOKUPS_METRIC)
+            .description("reserve interval index lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.fallbacks = Counter.builder(LOOKUPS_METRIC)
+            .description("reserve interval index lookups")
+            .tag("result", "fallback")
+            .register(meterRegistry);
+        this.refreshFailures = Counter.builder(REFRESH_FAILURES_METRIC)
+            .description("failed interval index synchronizations")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 기동 후 예약을 모두 읽고 refresh-interval 마다 동기화한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || refresher != null) {
+            return;
+        }
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> refresh()
+                .onErrorResume(throwable -> {
+                    refreshFailures.increment();
+                    log.warn("reserve interval index refresh failed", throwable);
+                    return Mono.empty();
+                }), 1)
+            .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * 동기화, 처음이거나 rebuild-interval 이 지났으면 모두 다시 읽고 아니면 변경분만 읽는다.
+     *
+     * @return Mono<Void>
+     */
+    Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (rebuiltAt == null || !rebuiltAt.plus(rebuildInterval).isAfter(now)) {
+                return rebuild(now);
+            }
+            return poll(now);
+        });
+    }
+
+    /**
+     * 조회 기간(양 끝 포함)과 겹치는 취소되지 않은 예약 조회
+     * 인덱스로 답할 수 없으면 fallback(DB 조회)을 실행한다.
+     *
+     * @param reserveItemId    예약 물품 id
+     * @param excludeReserveId 제외할 예약 id, 없으면 null
+     * @param startDate        조회 시작일
+     * @param endDate          조회 종료일
+     * @param fallback         DB 조회
+     * @return Flux<Reserve> 겹치는 예약, 조회에 필요한 값(기간, 수량, 상태)만 담는다
+     */
+    public Flux<Reserve> findOverlapping(Long reserveItemId, String excludeReserveId, LocalDateTime startDate,
+                                         LocalDateTime endDate, Supplier<Flux<Reserve>> fallback) {
+        return Flux.defer(() -> {
+            if (!covers(reserveItemId, startDate, endDate)) {
+                fallbacks.increment();
+                return fallback.get();
+            }
+            hits.increment();
+            return Flux.fromIterable(tree(reserveItemId).findOverlapping(startDate, endDate, excludeReserveId));
+        });
+    }
+
+    /**
+     * 조회 기간(양 끝 포함)과 겹치는 취소되지 않은 예약 건수
+     *
+     * @param reserveItemId    예약 물품 id
+     * @param excludeReserveId 제외할 예약 id, 없으면 null
+     * @param startDate        조회 시작일
+     * @param endDate          조회 종료일
+     * @param fallback         DB 조회
+     * @return Mono<Long> 겹치는 예약 건수
+     */
+    public Mono<Long> countOverlapping(Long reserveItemId, String excludeReserveId, LocalDateTime startDate,
+                                       LocalDateTime endDate, Supplier<Mono<Long>> fallback) {
+        return Mono.defer(() -> {
+            if (!covers(reserveItemId, startDate, endDate)) {
+                fallbacks.increment();
+                return fallback.get();
+            }
+            hits.increment();
+            return Mono.just((long) tree(reserveItemId).findOverlapping(startDate, endDate, excludeReserveId).size());
+        });
+    }
+
+    /**
+     * 저장한 예약 반영, 취소된 예약은 뺀다.
+     *
+     * @param reserve 저장한 예약
+     */
+    public void put(Reserve reserve) {
+        if (!enabled) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            Queue<Reserve> pending = pendingPuts;
+            if (pending != null) {
+                pending.add(reserve);
+            }
+            if (horizon != null) {
+                apply(trees, reserve);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 담은 예약 건수
+     *
+     * @return int 예약 건수
+     */
+    public int size() {
+        int size = 0;
+        for (ReserveIntervalTree tree : trees.values()) {
+            size += tree.size();
+        }
+        return size;
+    }
+
+    /**
+     * 마지막 동기화 후 경과 시간
+     *
+     * @return double 경과 초, 아직 읽지 못했으면 NaN
+     */
+    public double getStalenessSeconds() {
+        LocalDateTime synced = syncedAt;
+        return synced == null ? Double.NaN : Duration.between(synced, LocalDateTime.now(clock)).toMillis() / 1000d;
+    }
+
+    /**
+     * 예약을 모두 읽어 새 Map 으로 바꾼다.
+     * 읽는 동안 이 서비스가 put 으로 반영한 예약은 바꾸기 전에 새 Map 에 다시 반영하고,
+     * 다른 서비스가 저장한 예약은 다음 변경분 조회(읽기 시작한 시각 - POLL_OVERLAP 부터)로 반영된다.
+     */
+    private Mono<Void> rebuild(LocalDateTime now) {
+        LocalDateTime since = now.minus(history);
+        Queue<Reserve> pending = new ConcurrentLinkedQueue<>();
+        pendingPuts = pending;
+        return entityTemplate.select(Reserve.class)
+            .matching(Query.query(where("reserve_status_id").not(ReserveStatus.CANCEL.getKey())
+                .and("reserve_end_date").greaterThanOrEquals(since)))
+            .all()
+            .collectMultimap(Reserve::getReserveItemId)
+            .doOnNext(reserves -> {
+                Map<Long, ReserveIntervalTree> rebuilt = new ConcurrentHashMap<>();
+                for (Map.Entry<Long, Collection<Reserve>> entry : reserves.entrySet()) {
+                    ReserveIntervalTree tree = ReserveIntervalTree.of(entry.getValue());
+                    if (entry.getKey() != null && tree.size() > 0) {
+                        rebuilt.put(entry.getKey(), tree);
+                    }
+                }
+                swapLock.writeLock().lock();
+                try {
+                    pending.forEach(reserve -> apply(rebuilt, reserve));
+                    trees = rebuilt;
+                    horizon = since;
+                    pendingPuts = null;
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+                rebuiltAt = now;
+                syncedAt = now;
+                log.debug("reserve interval index rebuilt. items={}, reserves={}, replayed={}", rebuilt.size(), size(), pending.size());
+            })
+            .doFinally(signal -> {
+                // 실패하거나 취소되면 기록을 그만둔다. 다음에 다시 읽을 때 새로 기록한다.
+                if (pendingPuts == pending) {
+                    pendingPuts = null;
+                }
+            })
+            .then();
+    }
+
+    /**
+     * 마지막 동기화 후 저장(신청, 수정, 승인, 취소)된 예약을 읽어 반영한다.
+     */
+    private Mono<Void> poll(LocalDateTime now) {
+        Map<Long, ReserveIntervalTree> target = trees;
+        return entityTemplate.select(Reserve.class)
+            .matching(Query.query(where("modified_date").greaterThanOrEquals(syncedAt.minus(POLL_OVERLAP))))
+            .all()
+            .doOnNext(reserve -> apply(target, reserve))
+            .then(Mono.fromRunnable(() -> syncedAt = now));
+    }
+
+    private static void apply(Map<Long, ReserveIntervalTree> target, Reserve reserve) {
+        if (reserve == null || reserve.getReserveItemId() == null || reserve.getReserveId() == null) {
+            return;
+        }
+        target.compute(reserve.getReserveItemId(), (reserveItemId, tree) -> {
+            ReserveIntervalTree updated = (tree == null ? ReserveIntervalTree.EMPTY : tree).with(reserve);
+            return updated.size() == 0 ? null : updated;
+        });
+    }
+
+    /**
+     * 인덱스로 답할 수 있는 조회인지 확인
+     */
+    private boolean covers(Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDateTime synced = syncedAt;
+        return enabled && reserveItemId != null && startDate != null && endDate != null
+            && horizon != null && !startDate.isBefore(horizon)
+            && synced != null && !synced.plus(maxStaleness).isBefore(LocalDateTime.now(clock));
+    }
+
+    private ReserveIntervalTree tree(Long reserveItemId) {
+        return trees.getOrDefault(reserveItemId, ReserveIntervalTree.EMPTY);
+    }
+
+}
@@ -0,0 +1,177 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.ReserveIntervalTree
+ * <p>
+ * 예약 물품 하나의 취소되지 않은 예약을 담는 interval tree
+ * 예약을 시작일 순으로 정렬한 배열을 균형 이진 트리로 보고(구간의 가운데가 노드) 노드마다 하위 트리의 최대 종료일을 둔다.
+ * 조회 기간과 겹치는 예약 조회는 O(log n + 겹치는 건수)이다.
+ * 변경하지 않는 객체이며 예약이 바뀌면 새 트리를 만든다. 조회는 잠금 없이 여러 스레드가 함께 할 수 있다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+final class ReserveIntervalTree {
+
+    static final ReserveIntervalTree EMPTY = new ReserveIntervalTree(new Reserve[0]);
+
+    private static final Comparator<Reserve> START_DATE_ORDER = Comparator.comparing(Reserve::getReserveStartDate);
+
+    /**
+     * 시작일 순으로 정렬한 예약
+     */
+    private final Reserve[] reserves;
+
+    /**
+     * reserves[i] 를 가운데 노드로 하는 하위 트리의 최대 종료일
+     */
+    private final LocalDateTime[] maxEndDates;
+
+    private ReserveIntervalTree(Reserve[] reserves) {
+        this.reserves = reserves;
+        this.maxEndDates = new LocalDateTime[reserves.length];
+        build(0, reserves.length);
+    }
+
+    /**
+     * 예약 목록으로 트리 생성, 취소되었거나 기간이 없는 예약은 담지 않는다.
+     *
+     * @param reserves 예약 목록
+     * @return ReserveIntervalTree
+     */
+    static ReserveIntervalTree of(Collection<Reserve> reserves) {
+        Reserve[] active = reserves.stream()
+            .filter(ReserveIntervalTree::isActive)
+            .map(ReserveIntervalTree::snapshot)
+            .toArray(Reserve[]::new);
+        return sorted(active);
+    }
+
+    /**
+     * 예약 반영, 같은 예약 id 가 있으면 바꾸고 취소된 예약이면 뺀다.
+     *
+     * @param reserve 저장된 예약
+     * @return ReserveIntervalTree 새 트리
+     */
+    ReserveIntervalTree with(Reserve reserve) {
+        List<Reserve> list = new ArrayList<>(reserves.length + 1);
+        for (Reserve it : reserves) {
+            if (!it.getReserveId().equals(reserve.getReserveId())) {
+                list.add(it);
+            }
+        }
+        if (isActive(reserve)) {
+            list.add(snapshot(reserve));
+        }
+        return sorted(list.toArray(new Reserve[0]));
+    }
+
+    /**
+     * 조회 기간(양 끝 포함)과 겹치는 예약 목록
+     *
+     * @param startDate        조회 시작일
+     * @param endDate          조회 종료일
+     * @param excludeReserveId 제외할 예약 id, 없으면 null
+     * @return List<Reserve> 겹치는 예약, 시작일 순
+     */
+    List<Reserve> findOverlapping(LocalDateTime startDate, LocalDateTime endDate, String excludeReserveId) {
+        List<Reserve> result = new ArrayList<>();
+        collect(0, reserves.length, startDate, endDate, excludeReserveId, result);
+        return result;
+    }
+
+    int size() {
+        return reserves.length;
+    }
+
+    private static ReserveIntervalTree sorted(Reserve[] reserves) {
+        if (reserves.length == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(reserves, START_DATE_ORDER);
+        return new ReserveIntervalTree(reserves);
+    }
+
+    private LocalDateTime build(int low, int high) {
+        if (low >= high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        LocalDateTime max = reserves[mid].getReserveEndDate();
+        LocalDateTime left = build(low, mid);
+        LocalDateTime right = build(mid + 1, high);
+        if (left != null && left.isAfter(max)) {
+            max = left;
+        }
+        if (right != null && right.isAfter(max)) {
+            max = right;
+        }
+        maxEndDates[mid] = max;
+        return max;
+    }
+
+    private void collect(int low, int high, LocalDateTime startDate, LocalDateTime endDate, String excludeReserveId, List<Reserve> result) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        // 하위 트리의 모든 예약이 조회 시작일 전에 끝난다.
+        if (maxEndDates[mid].isBefore(startDate)) {
+            return;
+        }
+        collect(low, mid, startDate, endDate, excludeReserveId, result);
+        Reserve reserve = reserves[mid];
+        // 이 노드와 오른쪽 하위 트리의 예약은 모두 조회 종료일 이후에 시작한다.
+        if (reserve.getReserveStartDate().isAfter(endDate)) {
+            return;
+        }
+        if (!reserve.getReserveEndDate().isBefore(startDate) && !reserve.getReserveId().equals(excludeReserveId)) {
+            result.add(reserve);
+        }
+        collect(mid + 1, high, startDate, endDate, excludeReserveId, result);
+    }
+
+    /**
+     * 조회 쿼리(reserve_status_id != 'cancel')와 같게 상태가 없거나 취소된 예약은 담지 않는다.
+     */
+    private static boolean isActive(Reserve reserve) {
+        return reserve.getReserveId() != null
+            && reserve.getReserveStartDate() != null
+            && reserve.getReserveEndDate() != null
+            && reserve.getReserveStatusId() != null
+            && !ReserveStatus.CANCEL.isEquals(reserve.getReserveStatusId());
+    }
+
+    /**
+     * 저장한 뒤 서비스에서 값이 바뀔 수 있으므로 기간 확인에 필요한 값만 복사해 둔다.
+     */
+    private static Reserve snapshot(Reserve reserve) {
+        return Reserve.builder()
+            .reserveId(reserve.getReserveId())
+            .reserveItemId(reserve.getReserveItemId())
+            .categoryId(reserve.getCategoryId())
+            .reserveQty(reserve.getReserveQty())
+            .reserveStartDate(reserve.getReserveStartDate())
+            .reserveEndDate(reserve.getReserveEndDate())
+            .reserveStatusId(reserve.getReserveStatusId())
+            .userId(reserve.getUserId())
+            .build();
+    }
+
+}
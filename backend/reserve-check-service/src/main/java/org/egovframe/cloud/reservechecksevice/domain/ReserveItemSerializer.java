@@ -0,0 +1,222 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.ContextView;
+
+/**
+ * org.egovframe.cloud.reservechecksevice.domain.ReserveItemSerializer
+ * <p>
+ * 예약 물품(reserve_item_id)별로 작업을 하나씩 차례로 실행한다.
+ * 예약 가능 여부 확인(겹치는 예약 수 조회)과 저장 사이에 같은 물품의 다른 신청이 끼어들지 못하게 한다.
+ * <ul>
+ *     <li>물품 id 를 stripes 개의 줄(stripe)로 나누고 줄마다 작업을 쌓아 두었다가 앞 작업이 끝나면 다음 작업을 구독한다.</li>
+ *     <li>스레드를 잡고 기다리지 않는다. 앞 작업이 끝난 스레드에서 다음 작업을 시작한다.</li>
+ *     <li>다른 줄의 물품은 서로 기다리지 않는다. 같은 줄에 있는 다른 물품끼리는 차례로 실행된다.</li>
+ *     <li>작업은 요청한 쪽의 context(transaction, 인증 정보)로 구독한다.
+ *     기다리는 중에 요청이 취소되면 실행하지 않고, 실행 중에 취소되면 작업 구독을 취소한다.</li>
+ *     <li>작업이 task-timeout 안에 끝나지 않으면 구독을 취소하고 요청한 쪽에 TimeoutException 을 넘긴 뒤 다음 작업을 실행한다.</li>
+ *     <li>줄에서 기다리거나 실행 중인 작업이 max-depth 개면 새 작업은 쌓지 않고 RejectedExecutionException 으로 끝낸다.
+ *     종료(destroy) 뒤에 들어오거나 종료할 때 남아 있던 작업도 RejectedExecutionException 으로 끝낸다.</li>
+ * </ul>
+ * 인스턴스 안에서만 차례를 지키므로 여러 인스턴스가 같은 물품을 동시에 저장하는 것까지 막지는 않는다.
+ * 지표 : reserve.item-serializer.queue(stripe=번호, 기다리거나 실행 중인 작업 수)
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   작업 제한 시간, 줄 길이 제한, 종료 후 요청 거절 추가
+ * </pre>
+ */
+@Component
+public class ReserveItemSerializer implements DisposableBean {
+
+    public static final String QUEUE_METRIC = "reserve.item-serializer.queue";
+
+    private final List<Stripe> stripes;
+
+    public ReserveItemSerializer(MeterRegistry meterRegistry,
+                                 @Value("${reserve.item-serializer.stripes:64}") int stripes,
+                                 @Value("${reserve.item-serializer.task-timeout:PT10S}") Duration taskTimeout,
+                                 @Value("${reserve.item-serializer.max-depth:256}") int maxDepth) {
+        int size = Math.max(1, stripes);
+        this.stripes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Stripe stripe = new Stripe(taskTimeout, Math.max(1, maxDepth));
+            Gauge.builder(QUEUE_METRIC, stripe, s -> s.depth.get())
+                .description("tasks waiting or running in the reserve item serializer stripe")
+                .tag("stripe", String.valueOf(i))
+                .register(meterRegistry);
+            this.stripes.add(stripe);
+        }
+    }
+
+    /**
+     * 같은 물품의 앞 작업이 모두 끝난 뒤에 작업을 구독한다.
+     * 줄이 가득 찼거나 종료된 뒤면 RejectedExecutionException, 제한 시간 안에 끝나지 않으면 TimeoutException 으로 끝난다.
+     *
+     * @param reserveItemId 예약 물품 id
+     * @param task          차례가 되면 구독할 작업
+     * @return 작업 결과
+     */
+    public <T> Mono<T> serialize(Long reserveItemId, Supplier<Mono<T>> task) {
+        return Mono.create(sink -> stripe(reserveItemId).offer(new Task<>(task, sink)));
+    }
+
+    /**
+     * 물품이 속한 stripe 에서 기다리거나 실행 중인 작업 수
+     *
+     * @param reserveItemId 예약 물품 id
+     * @return int
+     */
+    public int depth(Long reserveItemId) {
+        return stripe(reserveItemId).depth.get();
+    }
+
+    @Override
+    public void destroy() {
+        stripes.forEach(Stripe::dispose);
+    }
+
+    private Stripe stripe(Long reserveItemId) {
+        return stripes.get(Math.floorMod(Objects.hashCode(reserveItemId), stripes.size()));
+    }
+
+    private static final class Stripe {
+
+        private final AtomicInteger depth = new AtomicInteger();
+
+        private final Duration taskTimeout;
+
+        private final int maxDepth;
+
+        private final Disposable worker;
+
+        private FluxSink<Task<?>> queue;
+
+        private volatile boolean disposed;
+
+        private Stripe(Duration taskTimeout, int maxDepth) {
+            this.taskTimeout = taskTimeout;
+            this.maxDepth = maxDepth;
+            // FluxSink 는 여러 스레드에서 넣어도 순서대로 넘기고, concatMap 은 앞 작업이 끝나야 다음 작업을 구독한다.
+            // 종료로 버려지는 작업(쌓여 있던 작업, 종료 중에 넣은 작업)은 요청한 쪽에 오류로 끝낸다.
+            this.worker = Flux.<Task<?>>create(sink -> this.queue = sink)
+                .concatMap(this::run, 0)
+                .doOnDiscard(Task.class, this::discard)
+                .subscribe();
+        }
+
+        private void offer(Task<?> task) {
+            if (disposed) {
+                task.reject(new RejectedExecutionException("reserve item serializer is destroyed"));
+                return;
+            }
+            if (depth.incrementAndGet() > maxDepth) {
+                depth.decrementAndGet();
+                task.reject(new RejectedExecutionException("reserve item serializer stripe is full: " + maxDepth));
+                return;
+            }
+            queue.next(task);
+        }
+
+        private Mono<Void> run(Task<?> task) {
+            return task.run(taskTimeout)
+                .doOnCancel(() -> task.reject(new RejectedExecutionException("reserve item serializer is destroyed")))
+                .doFinally(signal -> depth.decrementAndGet());
+        }
+
+        private void discard(Task<?> task) {
+            depth.decrementAndGet();
+            task.reject(new RejectedExecutionException("reserve item serializer is destroyed"));
+        }
+
+        private void dispose() {
+            disposed = true;
+            worker.dispose();
+        }
+    }
+
+    private static final class Task<T> {
+
+        private final Supplier<Mono<T>> task;
+
+        private final MonoSink<T> sink;
+
+        private final ContextView context;
+
+        private final Sinks.Empty<Void> cancelSignal = Sinks.empty();
+
+        private final AtomicBoolean terminated = new AtomicBoolean();
+
+        private volatile boolean cancelled;
+
+        private Task(Supplier<Mono<T>> task, MonoSink<T> sink) {
+            this.task = task;
+            this.sink = sink;
+            this.context = sink.contextView();
+            sink.onCancel(() -> {
+                cancelled = true;
+                cancelSignal.tryEmitEmpty();
+            });
+        }
+
+        /**
+         * 작업 결과를 요청한 쪽에 넘기고 오류 없이 끝난다. 한 작업의 오류나 제한 시간 초과가 stripe 를 멈추지 않는다.
+         */
+        private Mono<Void> run(Duration timeout) {
+            if (cancelled) {
+                return Mono.empty();
+            }
+            return Mono.defer(task)
+                .contextWrite(context)
+                .takeUntilOther(cancelSignal.asMono().then(Mono.just(true)))
+                .timeout(timeout)
+                .doOnSuccess(this::success)
+                .doOnError(this::reject)
+                .onErrorResume(throwable -> Mono.empty())
+                .then();
+        }
+
+        private void success(T value) {
+            if (terminated.compareAndSet(false, true)) {
+                sink.success(value);
+            }
+        }
+
+        /**
+         * 요청한 쪽에 오류를 넘긴다. 이미 끝났거나 요청한 쪽이 취소한 작업이면 무시한다.
+         */
+        private void reject(Throwable throwable) {
+            if (!cancelled && terminated.compareAndSet(false, true)) {
+                sink.error(throwable);
+            }
+        }
+    }
+}
@@ -41,6 +41,7 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/18    eGovFrame   기간 조회를 ReserveIntervalIndex 로 처리
  * </pre>
  */
 @RequiredArgsConstructor
@@ -52,6 +53,7 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
     private final ReserveItemServiceClient reserveItemServiceClient;
     private final UserServiceClient userServiceClient;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ReserveIntervalIndex reserveIntervalIndex;
 
     /**
      * 조회조건 목록 조회
@@ -164,6 +166,7 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
 
     /**
      * 조회 기간에 예약된 건 조회
+     * ReserveIntervalIndex 로 답할 수 없으면 DB 를 조회한다.
      *
      * @param reserveItemId
      * @param startDate
@@ -172,13 +175,14 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     @Override
     public Flux<Reserve> findAllByReserveDate(Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
-        return entityTemplate.select(Reserve.class)
+        return reserveIntervalIndex.findOverlapping(reserveItemId, null, startDate, endDate, () ->
+            entityTemplate.select(Reserve.class)
                 .matching(Query.query(where("reserve_item_id").is(reserveItemId)
                         .and ("reserve_start_date").lessThanOrEquals(endDate)
                         .and("reserve_end_date").greaterThanOrEquals(startDate)
                         .and("reserve_status_id").not(ReserveStatus.CANCEL.getKey())
                 ))
-                .all();
+                .all());
     }
 
     /**
@@ -192,14 +196,15 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     @Override
     public Flux<Reserve> findAllByReserveDateWithoutSelf(String reserveId, Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
-        return entityTemplate.select(Reserve.class)
-            .matching(Query.query(where("reserve_item_id").is(reserveItemId)
-                .and ("reserve_start_date").lessThanOrEquals(endDate)
-                .and("reserve_end_date").greaterThanOrEquals(startDate)
-                .and("reserve_id").not(reserveId)
-                .and("reserve_status_id").not(ReserveStatus.CANCEL.getKey())
-            ))
-            .all();
+        return reserveIntervalIndex.findOverlapping(reserveItemId, reserveId, startDate, endDate, () ->
+            entityTemplate.select(Reserve.class)
+                .matching(Query.query(where("reserve_item_id").is(reserveItemId)
+                    .and ("reserve_start_date").lessThanOrEquals(endDate)
+                    .and("reserve_end_date").greaterThanOrEquals(startDate)
+                    .and("reserve_id").not(reserveId)
+                    .and("reserve_status_id").not(ReserveStatus.CANCEL.getKey())
+                ))
+                .all());
     }
 
     /**
@@ -213,14 +218,15 @@ public class ReserveRepositoryImpl implements ReserveRepositoryCustom{
      */
     @Override
     public Mono<Long> findAllByReserveDateWithoutSelfCount(String reserveId, Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
-        return entityTemplate.select(Reserve.class)
-            .matching(Query.query(where("reserve_item_id").is(reserveItemId)
-                .and ("reserve_start_date").lessThanOrEquals(endDate)
-                .and("reserve_end_date").greaterThanOrEquals(startDate)
-                .and("reserve_id").not(reserveId)
-                .and("reserve_status_id").not(ReserveStatus.CANCEL.getKey())
-            ))
-            .count();
+        return reserveIntervalIndex.countOverlapping(reserveItemId, reserveId, startDate, endDate, () ->
+            entityTemplate.select(Reserve.class)
+                .matching(Query.query(where("reserve_item_id").is(reserveItemId)
+                    .and ("reserve_start_date").lessThanOrEquals(endDate)
+                    .and("reserve_end_date").greaterThanOrEquals(startDate)
+                    .and("reserve_id").not(reserveId)
+                    .and("reserve_status_id").not(ReserveStatus.CANCEL.getKey())
+                ))
+                .count());
     }
 
     /**
@@ -2,10 +2,10 @@ package org.egovframe.cloud.reservechecksevice.domain;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.stream.IntStream;
 
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.util.MessageUtil;
+import org.egovframe.cloud.common.util.OccupancySweep;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
 import org.egovframe.cloud.reservechecksevice.client.dto.ReserveItemResponseDto;
 import org.springframework.stereotype.Component;
@@ -109,7 +109,7 @@ public class ReserveValidator {
 
                 if (!reserveItemResponseDto.isPossibleInventoryQty(reserve.getReserveQty())) {
                     //예약가능한 인원이 부족합니다. (남은 인원 : {0})
-                    return Mono.error(new BusinessMessageException(getMessage("valid.reserve_number_of_people", new Object[]{reserveItemResponseDto.getInventoryQty()})));
+                    return Mono.error(new BusinessMessageException(getMessage("valid.reserve_number_of_people", new Object[]{reserveItemResponseDto.getAvailableQty()})));
                 }
                 return Mono.just(reserve);
             });
@@ -208,50 +208,19 @@ public class ReserveValidator {
     }
 
     /**
-     * get max
+     * 조회 기간의 일자별 예약 수량 중 최대값
+     * 겹치는 예약을 한 번만 읽어서 시작/종료 이벤트를 시간순으로 훑어 계산한다.
      *
-     * @param reserveFlux
+     * @param reserveFlux 조회 기간에 겹치는 예약
      * @param startDate
      * @param endDate
      * @return
      */
     private Mono<Integer> countMax(Flux<Reserve> reserveFlux, LocalDateTime startDate, LocalDateTime endDate) {
-        long between = ChronoUnit.DAYS.between(startDate, endDate);
-
-        if (between == 0) {
-            return reserveFlux.map(reserve -> {
-                if (isOverlapped(startDate, reserve)) {
-                    return reserve.getReserveQty();
-                }
-                return 0;
-            }).reduce(0, (x1, x2) -> x1 + x2);
-        }
-
-        return Flux.fromStream(IntStream.iterate(0, i -> i + 1)
-            .limit(between)
-            .mapToObj(i -> startDate.plusDays(i)))
-            .flatMap(localDateTime ->
-                reserveFlux.map(findReserve -> {
-                    if (isOverlapped(localDateTime, findReserve)) {
-                        return findReserve.getReserveQty();
-                    }
-                    return 0;
-                }).reduce(0, (x1, x2) -> x1 + x2))
-            .groupBy(integer -> integer)
-            .flatMap(group -> group.reduce((x1,x2) -> x1 > x2?x1:x2))
-            .last(0);
-    }
-
-    /**
-     * 조회 날짜가 예약 기간(시작일~종료일, 양 끝 포함)에 겹치는지 판단한다.
-     *
-     * @param date 조회 날짜
-     * @param reserve 비교 대상 예약
-     * @return 겹치면 true
-     */
-    private boolean isOverlapped(LocalDateTime date, Reserve reserve) {
-        return !date.isBefore(reserve.getReserveStartDate())
-            && !date.isAfter(reserve.getReserveEndDate());
+        return reserveFlux
+            .collect(OccupancySweep::new, (sweep, reserve) ->
+                sweep.add(reserve.getReserveStartDate(), reserve.getReserveEndDate(), reserve.getReserveQty()))
+            .map(sweep -> sweep.maxOnDays(startDate, endDate));
     }
 
     private String getMessage(String code) {
@@ -17,6 +17,8 @@ import org.egovframe.cloud.reservechecksevice.api.dto.ReserveSaveRequestDto;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveUpdateRequestDto;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
 import org.egovframe.cloud.reservechecksevice.domain.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.ReserveIntervalIndex;
+import org.egovframe.cloud.reservechecksevice.domain.ReserveItemSerializer;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveRepository;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveStatus;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveValidator;
@@ -29,7 +31,13 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
@@ -53,6 +61,9 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/15    shinmj       최초 생성
+ *  2026/10/18    eGovFrame   저장한 예약을 ReserveIntervalIndex 에 반영
+ *  2026/10/18    eGovFrame   신청 시 예약 물품별로 확인과 저장을 차례로 실행(ReserveItemSerializer)
+ *  2026/10/18    eGovFrame   ReserveIntervalIndex 반영을 커밋 후로 변경
  * </pre>
  */
 @Slf4j
@@ -75,6 +86,9 @@ public class ReserveService extends ReactiveAbstractService {
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final StreamBridge streamBridge;
     private final ReserveValidator validator;
+    private final ReserveIntervalIndex reserveIntervalIndex;
+    private final ReserveItemSerializer reserveItemSerializer;
+    private final ReactiveTransactionManager transactionManager;
 
     /**
      * 목록 조회
@@ -187,6 +201,7 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(throwable -> Mono.error(throwable))
             .flatMap(reserve -> Mono.just(reserve.conversionReserveQty()))
             .flatMap(reserveRepository::save)
+            .flatMap(this::putIndexAfterCommit)
             .then();
     }
 
@@ -208,7 +223,9 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(Mono::error)
             .flatMap(this::checkApprove)
             .onErrorResume(Mono::error)
-            .flatMap(reserveRepository::save).then();
+            .flatMap(reserveRepository::save)
+            .flatMap(this::putIndexAfterCommit)
+            .then();
     }
 
     /**
@@ -228,10 +245,18 @@ public class ReserveService extends ReactiveAbstractService {
 
     /**
      * 관리자 예약 신청 관리자의 경우 실시간이어도 이벤트 스트림 거치지 않고 바로 예약 처리
+     * <p>
+     * 예약 가능 여부 확인부터 저장까지는 같은 예약 물품의 다른 신청과 차례로 실행하고 차례 안에서 커밋한다 -
+     * 같은 기간의 공간 예약 두 건이 동시에 들어와도 뒤의 신청은 앞 신청이 저장된 뒤에 확인하므로 둘 다 통과하지 않는다.
+     * transaction 은 차례가 된 뒤에 시작한다 - 기다리는 신청이 connection 을 잡고 있지 않도록 메소드 transaction 은 쓰지 않는다.
+     * 확인은 ReserveIntervalIndex 로 한다 - 이 인스턴스가 저장한 예약은 커밋 후 바로 반영되지만
+     * 다른 인스턴스나 reserve-request-service 가 저장한 예약은 refresh-interval(최대 max-staleness) 뒤에 반영되므로
+     * 그 사이에 같은 기간을 다른 곳에서 신청하면 둘 다 통과할 수 있다. DB 범위 조회로 확인하던 때보다 이 구간이 넓다.
      *
      * @param saveRequestDto
      * @return
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Mono<ReserveResponseDto> create(ReserveSaveRequestDto saveRequestDto) {
         return Mono.zip(Mono.just(saveRequestDto), getUserId(), getIsAdmin())
             .flatMap(tuple -> {
@@ -242,11 +267,15 @@ public class ReserveService extends ReactiveAbstractService {
                 return Mono.just(dto.createNewReserve()
                     .setCreatedInfo(LocalDateTime.now(), tuple.getT2()));
             })
-            .flatMap(validator::checkReserveItems)
-            .onErrorResume(Mono::error)
-            .flatMap(this::updateInventory)
-            .onErrorResume(Mono::error)
-            .flatMap(reserveRepository::insert)
+            .flatMap(reserve -> reserveItemSerializer.serialize(reserve.getReserveItemId(), () -> Mono.just(reserve)
+                .flatMap(validator::checkReserveItems)
+                .onErrorResume(Mono::error)
+                .flatMap(this::updateInventory)
+                .onErrorResume(Mono::error)
+                .flatMap(reserveRepository::insert)
+                .as(TransactionalOperator.create(transactionManager)::transactional)
+                // 커밋된 뒤, 같은 물품의 다음 신청이 확인하기 전에 반영한다.
+                .doOnNext(reserveIntervalIndex::put)))
             .flatMap(reserveRepository::loadRelations)
             .doOnNext(reserve -> sendAttachmentEntityInfo(streamBridge,
                 AttachmentEntityMessage.builder()
@@ -331,7 +360,8 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(Mono::error)
             .flatMap(this::updateInventory)
             .onErrorResume(Mono::error)
-            .flatMap(reserveRepository::save);
+            .flatMap(reserveRepository::save)
+            .flatMap(this::putIndexAfterCommit);
     }
 
     /**
@@ -356,7 +386,29 @@ public class ReserveService extends ReactiveAbstractService {
             .onErrorResume(Mono::error)
             .flatMap(this::updateInventory)
             .onErrorResume(Mono::error)
-            .flatMap(reserveRepository::save);
+            .flatMap(reserveRepository::save)
+            .flatMap(this::putIndexAfterCommit);
+    }
+
+    /**
+     * 커밋된 뒤에 예약을 ReserveIntervalIndex 에 반영한다. 롤백되면 반영하지 않는다.
+     * transaction 밖에서 호출하면 바로 반영한다.
+     *
+     * @param reserve 저장한 예약
+     * @return Mono<Reserve>
+     */
+    private Mono<Reserve> putIndexAfterCommit(Reserve reserve) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .filter(TransactionSynchronizationManager::isSynchronizationActive)
+            .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(() -> reserveIntervalIndex.put(reserve));
+                }
+            }))
+            .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+            .switchIfEmpty(Mono.fromRunnable(() -> reserveIntervalIndex.put(reserve)))
+            .thenReturn(reserve);
     }
 
     /**
@@ -19,7 +19,9 @@ CREATE TABLE IF NOT EXISTS  reserve
     `created_by`               VARCHAR(255)     NULL        COMMENT '생성자',
     `modified_date`            DATETIME         NULL        COMMENT '수정일',
     `last_modified_by`         VARCHAR(255)     NULL        COMMENT '수정자',
-    PRIMARY KEY (reserve_id)
+    PRIMARY KEY (reserve_id),
+    KEY `reserve_IDX01` (`reserve_item_id`,`reserve_start_date`,`reserve_end_date`),
+    KEY `reserve_IDX02` (`modified_date`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 ALTER TABLE reserve COMMENT '예약 신청&확인';
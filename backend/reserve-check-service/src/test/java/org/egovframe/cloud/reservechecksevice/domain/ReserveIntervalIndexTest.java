@@ -0,0 +1,288 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * {@link ReserveIntervalIndex}가 실제 DB(H2, in-memory)에서 예약을 읽고, 다른 서비스가 저장한 예약을
+ * modified_date 로 따라잡고, 답할 수 없는 조회는 DB 조회(fallback)로 넘기는지 검증한다.
+ */
+class ReserveIntervalIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 9, 0);
+    private static final long ITEM_ID = 1L;
+
+    private static H2ConnectionFactory connectionFactory;
+    private static DatabaseClient databaseClient;
+    private static R2dbcEntityTemplate entityTemplate;
+
+    private TestClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private ReserveIntervalIndex index;
+    private AtomicInteger fallbackCalls;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("reserve_interval_index_testdb")
+                .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+                .username("sa")
+                .build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("CREATE TABLE reserve ("
+                        + "reserve_id VARCHAR(255) NOT NULL PRIMARY KEY,"
+                        + "reserve_item_id BIGINT,"
+                        + "category_id VARCHAR(255),"
+                        + "reserve_qty BIGINT,"
+                        + "reserve_start_date DATETIME,"
+                        + "reserve_end_date DATETIME,"
+                        + "reserve_status_id VARCHAR(20),"
+                        + "user_id VARCHAR(255),"
+                        + "create_date DATETIME,"
+                        + "modified_date DATETIME"
+                        + ")")
+                .then()
+                .block();
+        entityTemplate = new R2dbcEntityTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        databaseClient.sql("DROP TABLE reserve").then().block();
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM reserve").then().block();
+        clock = new TestClock(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new ReserveIntervalIndex(entityTemplate, meterRegistry, clock, true,
+                Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofSeconds(10), Duration.ofDays(30));
+        fallbackCalls = new AtomicInteger();
+    }
+
+    private void insert(String reserveId, LocalDateTime start, LocalDateTime end, String status, LocalDateTime modifiedDate) {
+        databaseClient.sql("INSERT INTO reserve (reserve_id, reserve_item_id, category_id, reserve_qty, reserve_start_date,"
+                        + " reserve_end_date, reserve_status_id, modified_date) VALUES (:id, :item, 'equipment', 2, :start, :end, :status, :modified)")
+                .bind("id", reserveId)
+                .bind("item", ITEM_ID)
+                .bind("start", start)
+                .bind("end", end)
+                .bind("status", status)
+                .bind("modified", modifiedDate)
+                .then()
+                .block();
+    }
+
+    private void updateStatus(String reserveId, String status, LocalDateTime modifiedDate) {
+        databaseClient.sql("UPDATE reserve SET reserve_status_id = :status, modified_date = :modified WHERE reserve_id = :id")
+                .bind("status", status)
+                .bind("modified", modifiedDate)
+                .bind("id", reserveId)
+                .then()
+                .block();
+    }
+
+    private List<String> find(LocalDateTime startDate, LocalDateTime endDate) {
+        return index.findOverlapping(ITEM_ID, null, startDate, endDate, () -> {
+                    fallbackCalls.incrementAndGet();
+                    return Flux.empty();
+                })
+                .map(Reserve::getReserveId)
+                .sort()
+                .collect(Collectors.toList())
+                .block();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(ReserveIntervalIndex.LOOKUPS_METRIC).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 DB 를 조회하고, 동기화 후에는 취소되지 않은 예약을 메모리에서 돌려준다")
+    void answersFromMemoryAfterRebuild() {
+        insert("r1", NOW.plusDays(1), NOW.plusDays(2), ReserveStatus.REQUEST.getKey(), NOW.minusHours(1));
+        insert("r2", NOW.plusDays(1), NOW.plusDays(3), ReserveStatus.CANCEL.getKey(), NOW.minusHours(1));
+
+        assertThat(find(NOW, NOW.plusDays(5))).isEmpty();
+        assertThat(fallbackCalls.get()).isEqualTo(1);
+
+        index.refresh().block();
+
+        assertThat(find(NOW, NOW.plusDays(5))).containsExactly("r1");
+        assertThat(index.countOverlapping(ITEM_ID, "r1", NOW, NOW.plusDays(5), () -> Mono.just(-1L)).block()).isZero();
+        assertThat(fallbackCalls.get()).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(2);
+        assertThat(meterRegistry.get(ReserveIntervalIndex.SIZE_METRIC).gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(ReserveIntervalIndex.ITEMS_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 서비스가 저장하거나 취소한 예약은 다음 동기화에서 modified_date 로 반영된다")
+    void pollPicksUpExternalChanges() {
+        insert("r1", NOW.plusDays(1), NOW.plusDays(2), ReserveStatus.REQUEST.getKey(), NOW.minusHours(1));
+        index.refresh().block();
+
+        clock.advance(Duration.ofSeconds(1));
+        insert("r2", NOW.plusDays(2), NOW.plusDays(4), ReserveStatus.REQUEST.getKey(), clock.now());
+        updateStatus("r1", ReserveStatus.CANCEL.getKey(), clock.now());
+        assertThat(find(NOW, NOW.plusDays(5))).containsExactly("r1");
+
+        clock.advance(Duration.ofSeconds(1));
+        index.refresh().block();
+
+        assertThat(find(NOW, NOW.plusDays(5))).containsExactly("r2");
+        assertThat(fallbackCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("이 서비스에서 저장한 예약은 put 으로 바로 반영된다")
+    void putAppliesLocalWrites() {
+        index.refresh().block();
+
+        index.put(Reserve.builder()
+                .reserveId("local")
+                .reserveItemId(ITEM_ID)
+                .reserveQty(3)
+                .reserveStartDate(NOW.plusDays(1))
+                .reserveEndDate(NOW.plusDays(1))
+                .reserveStatusId(ReserveStatus.APPROVE.getKey())
+                .build());
+
+        assertThat(find(NOW, NOW.plusDays(1))).containsExactly("local");
+    }
+
+    @Test
+    @DisplayName("마지막 동기화가 max-staleness 보다 오래되었거나 조회 시작일이 history 이전이면 DB 를 조회한다")
+    void fallsBackWhenStaleOrTooOld() {
+        index.refresh().block();
+
+        find(NOW.minusDays(31), NOW);
+        assertThat(fallbackCalls.get()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(11));
+        find(NOW, NOW.plusDays(1));
+        assertThat(fallbackCalls.get()).isEqualTo(2);
+        assertThat(lookups("fallback")).isEqualTo(2);
+        assertThat(meterRegistry.get(ReserveIntervalIndex.STALENESS_METRIC).gauge().value()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("rebuild-interval 이 지나면 모두 다시 읽어 삭제된 예약을 뺀다")
+    void rebuildDropsDeletedReserves() {
+        insert("r1", NOW.plusDays(1), NOW.plusDays(2), ReserveStatus.REQUEST.getKey(), NOW.minusHours(1));
+        index.refresh().block();
+
+        databaseClient.sql("DELETE FROM reserve WHERE reserve_id = 'r1'").then().block();
+        clock.advance(Duration.ofSeconds(1));
+        index.refresh().block();
+        assertThat(find(NOW, NOW.plusDays(5))).containsExactly("r1");
+
+        clock.advance(Duration.ofMinutes(10));
+        index.refresh().block();
+        assertThat(find(NOW, NOW.plusDays(5))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 모두 읽는 동안 put 으로 반영한 예약은 새로 읽은 결과로 바꾼 뒤에도 남는다")
+    void putDuringRebuildSurvivesSwap() throws Exception {
+        AtomicReference<Sinks.Empty<Void>> gate = new AtomicReference<>(Sinks.empty());
+        gate.get().tryEmitEmpty();
+        ConnectionFactory gated = new ConnectionFactory() {
+            @Override
+            public Publisher<? extends Connection> create() {
+                return Mono.from(connectionFactory.create()).delaySubscription(gate.get().asMono());
+            }
+
+            @Override
+            public ConnectionFactoryMetadata getMetadata() {
+                return connectionFactory.getMetadata();
+            }
+        };
+        index = new ReserveIntervalIndex(new R2dbcEntityTemplate(gated), meterRegistry, clock, true,
+                Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofSeconds(10), Duration.ofDays(30));
+        insert("r1", NOW.plusDays(1), NOW.plusDays(2), ReserveStatus.REQUEST.getKey(), NOW.minusHours(1));
+        index.refresh().block();
+
+        clock.advance(Duration.ofMinutes(10));
+        gate.set(Sinks.empty());
+        CompletableFuture<Void> rebuilding = index.refresh().toFuture();
+        index.put(Reserve.builder()
+                .reserveId("local")
+                .reserveItemId(ITEM_ID)
+                .reserveQty(3)
+                .reserveStartDate(NOW.plusDays(1))
+                .reserveEndDate(NOW.plusDays(1))
+                .reserveStatusId(ReserveStatus.APPROVE.getKey())
+                .build());
+        gate.get().tryEmitEmpty();
+        rebuilding.get(10, TimeUnit.SECONDS);
+
+        assertThat(find(NOW, NOW.plusDays(5))).containsExactly("local", "r1");
+        assertThat(fallbackCalls.get()).isZero();
+    }
+
+    private static final class TestClock extends Clock {
+
+        private Instant instant;
+
+        private TestClock(LocalDateTime now) {
+            this.instant = now.toInstant(ZoneOffset.UTC);
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        private LocalDateTime now() {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
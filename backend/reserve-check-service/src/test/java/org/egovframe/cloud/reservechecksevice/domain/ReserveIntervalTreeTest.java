@@ -0,0 +1,93 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ReserveIntervalTree}가 DB 기간 조회(reserve_start_date <= 종료일 and reserve_end_date >= 시작일,
+ * 취소 제외)와 같은 예약을 돌려주는지 검증한다.
+ */
+class ReserveIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 6, 1, 0, 0);
+
+    private Reserve reserve(String reserveId, LocalDateTime start, LocalDateTime end, String status) {
+        return Reserve.builder()
+            .reserveId(reserveId)
+            .reserveItemId(1L)
+            .reserveQty(1)
+            .reserveStartDate(start)
+            .reserveEndDate(end)
+            .reserveStatusId(status)
+            .build();
+    }
+
+    private List<String> ids(List<Reserve> reserves) {
+        return reserves.stream().map(Reserve::getReserveId).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("조회 기간의 양 끝에 닿는 예약은 포함하고 취소된 예약은 제외한다")
+    void findOverlappingIncludesBoundariesAndSkipsCancelled() {
+        ReserveIntervalTree tree = ReserveIntervalTree.of(List.of(
+            reserve("ends-at-start", BASE.minusDays(2), BASE, ReserveStatus.REQUEST.getKey()),
+            reserve("starts-at-end", BASE.plusDays(3), BASE.plusDays(5), ReserveStatus.APPROVE.getKey()),
+            reserve("before", BASE.minusDays(5), BASE.minusSeconds(1), ReserveStatus.REQUEST.getKey()),
+            reserve("after", BASE.plusDays(3).plusSeconds(1), BASE.plusDays(4), ReserveStatus.REQUEST.getKey()),
+            reserve("cancelled", BASE, BASE.plusDays(1), ReserveStatus.CANCEL.getKey())));
+
+        assertThat(ids(tree.findOverlapping(BASE, BASE.plusDays(3), null)))
+            .containsExactly("ends-at-start", "starts-at-end");
+        assertThat(ids(tree.findOverlapping(BASE, BASE.plusDays(3), "ends-at-start")))
+            .containsExactly("starts-at-end");
+        assertThat(tree.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("with 는 같은 예약을 바꾸고 취소된 예약은 뺀다")
+    void withReplacesAndRemovesCancelled() {
+        ReserveIntervalTree tree = ReserveIntervalTree.of(List.of(
+            reserve("r1", BASE, BASE.plusDays(1), ReserveStatus.REQUEST.getKey())));
+
+        ReserveIntervalTree moved = tree.with(reserve("r1", BASE.plusDays(10), BASE.plusDays(11), ReserveStatus.APPROVE.getKey()));
+        ReserveIntervalTree cancelled = moved.with(reserve("r1", BASE.plusDays(10), BASE.plusDays(11), ReserveStatus.CANCEL.getKey()));
+
+        assertThat(moved.findOverlapping(BASE, BASE.plusDays(1), null)).isEmpty();
+        assertThat(ids(moved.findOverlapping(BASE.plusDays(10), BASE.plusDays(10), null))).containsExactly("r1");
+        assertThat(cancelled.size()).isZero();
+        assertThat(tree.size()).as("기존 트리는 바뀌지 않는다").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 예약과 조회 기간에 대해 모든 예약을 비교한 결과와 같다")
+    void findOverlappingMatchesLinearScan() {
+        Random random = new Random(20261018L);
+        for (int round = 0; round < 200; round++) {
+            List<Reserve> reserves = new ArrayList<>();
+            int count = random.nextInt(200);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = BASE.plusHours(random.nextInt(24 * 60));
+                reserves.add(reserve("r" + i, start, start.plusHours(random.nextInt(24 * 10)),
+                    random.nextInt(10) == 0 ? ReserveStatus.CANCEL.getKey() : ReserveStatus.REQUEST.getKey()));
+            }
+            ReserveIntervalTree tree = ReserveIntervalTree.of(reserves);
+
+            LocalDateTime startDate = BASE.plusHours(random.nextInt(24 * 60));
+            LocalDateTime endDate = startDate.plusHours(random.nextInt(24 * 7));
+            List<Reserve> expected = reserves.stream()
+                .filter(it -> !ReserveStatus.CANCEL.isEquals(it.getReserveStatusId()))
+                .filter(it -> !it.getReserveStartDate().isAfter(endDate) && !it.getReserveEndDate().isBefore(startDate))
+                .collect(Collectors.toList());
+
+            assertThat(ids(tree.findOverlapping(startDate, endDate, null))).isEqualTo(ids(expected));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.egovframe.cloud.reservechecksevice.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * {@link ReserveItemSerializer}가 같은 예약 물품의 작업은 하나씩 차례로, 다른 줄(stripe)의 물품 작업은 동시에 실행하고,
+ * 오류나 취소, 제한 시간 초과가 다음 작업을 막지 않고 가득 찬 줄과 종료 뒤의 작업은 거절하는지 검증한다.
+ */
+class ReserveItemSerializerTest {
+
+    private static final int STRIPES = 4;
+    private static final Duration TASK_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_DEPTH = 128;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReserveItemSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        serializer = new ReserveItemSerializer(meterRegistry, STRIPES, TASK_TIMEOUT, MAX_DEPTH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serializer.destroy();
+    }
+
+    private double queue(int stripe) {
+        return meterRegistry.get(ReserveItemSerializer.QUEUE_METRIC).tag("stripe", String.valueOf(stripe)).gauge().value();
+    }
+
+    @Test
+    @DisplayName("같은 물품의 작업은 여러 스레드에서 동시에 요청해도 하나씩 요청한 순서대로 실행된다")
+    void runsOneTaskAtATimePerItem() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> reserved = new CopyOnWriteArrayList<>();
+
+        Long count = Flux.range(0, 100)
+            .flatMap(i -> serializer.serialize(1L, () -> Mono.fromCallable(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        return reserved.size();
+                    })
+                    // 확인한 뒤 저장하기 전에 다른 스레드로 넘어간다
+                    .delayElement(Duration.ofMillis(1))
+                    .doOnNext(seen -> {
+                        reserved.add(seen);
+                        running.decrementAndGet();
+                    }))
+                .subscribeOn(Schedulers.boundedElastic()), 100)
+            .count()
+            .block(Duration.ofSeconds(30));
+
+        assertThat(count).isEqualTo(100);
+        assertThat(maxRunning.get()).isEqualTo(1);
+        // 앞 작업이 저장한 결과를 모두 본 뒤에 확인한다
+        for (int i = 0; i < reserved.size(); i++) {
+            assertThat(reserved.get(i)).isEqualTo(i);
+        }
+        assertThat(queue(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 줄의 물품은 앞 물품의 작업이 끝나기를 기다리지 않는다")
+    void otherStripesRunInParallel() {
+        Sinks.One<String> released = Sinks.one();
+
+        Mono<String> blocked = serializer.serialize(1L, released::asMono);
+        StepVerifier.create(blocked)
+            .then(() -> {
+                assertThat(serializer.depth(1L)).isEqualTo(1);
+                assertThat(queue(1)).isEqualTo(1);
+                // 같은 줄(1 + STRIPES)의 작업은 기다리고, 다른 줄(2)의 작업은 바로 실행된다
+                StepVerifier.create(serializer.serialize(2L, () -> Mono.just("other"))).expectNext("other").verifyComplete();
+                assertThat(serializer.depth(1L + STRIPES)).isEqualTo(1);
+                released.tryEmitValue("first");
+            })
+            .expectNext("first")
+            .verifyComplete();
+        assertThat(serializer.depth(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("작업의 오류는 요청한 쪽에만 전달되고 다음 작업은 계속 실행된다")
+    void errorDoesNotStopStripe() {
+        StepVerifier.create(serializer.serialize(1L, () -> Mono.error(new IllegalStateException("reserved"))))
+            .expectErrorMessage("reserved")
+            .verify();
+        StepVerifier.create(serializer.serialize(1L, Mono::empty))
+            .verifyComplete();
+        StepVerifier.create(serializer.serialize(1L, () -> Mono.just("next")))
+            .expectNext("next")
+            .verifyComplete();
+        assertThat(serializer.depth(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("작업은 요청한 쪽의 context 로 구독하고, 기다리다 취소된 작업은 실행하지 않는다")
+    void propagatesContextAndSkipsCancelled() {
+        Sinks.One<String> released = Sinks.one();
+        AtomicInteger executed = new AtomicInteger();
+        serializer.serialize(1L, released::asMono).subscribe();
+
+        serializer.serialize(1L, () -> Mono.fromRunnable(executed::incrementAndGet))
+            .subscribe()
+            .dispose();
+        Mono<String> withContext = serializer.serialize(1L,
+                () -> Mono.deferContextual(context -> Mono.just(context.<String>get("userId"))))
+            .contextWrite(context -> context.put("userId", "user"));
+
+        StepVerifier.create(withContext)
+            .then(() -> released.tryEmitValue("first"))
+            .expectNext("user")
+            .verifyComplete();
+        assertThat(executed.get()).isZero();
+        assertThat(serializer.depth(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않은 작업은 취소하고 TimeoutException 을 넘긴 뒤 다음 작업을 실행한다")
+    void timedOutTaskDoesNotStopStripe() {
+        ReserveItemSerializer timed = new ReserveItemSerializer(new SimpleMeterRegistry(), STRIPES, Duration.ofMillis(100), MAX_DEPTH);
+        AtomicInteger cancelled = new AtomicInteger();
+        try {
+            StepVerifier.create(timed.serialize(1L, () -> Mono.never().doOnCancel(cancelled::incrementAndGet)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+            StepVerifier.create(timed.serialize(1L, () -> Mono.just("next")))
+                .expectNext("next")
+                .verifyComplete();
+            assertThat(cancelled.get()).isEqualTo(1);
+            assertThat(timed.depth(1L)).isZero();
+        } finally {
+            timed.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("줄에서 기다리거나 실행 중인 작업이 한도만큼 있으면 새 작업은 거절한다")
+    void rejectsWhenStripeIsFull() {
+        Sinks.One<String> released = Sinks.one();
+        serializer.serialize(1L, released::asMono).subscribe();
+        for (int i = 1; i < MAX_DEPTH; i++) {
+            serializer.serialize(1L + STRIPES, () -> Mono.just("queued")).subscribe();
+        }
+        assertThat(serializer.depth(1L)).isEqualTo(MAX_DEPTH);
+
+        StepVerifier.create(serializer.serialize(1L, () -> Mono.just("rejected")))
+            .expectError(RejectedExecutionException.class)
+            .verify(Duration.ofSeconds(5));
+        assertThat(serializer.depth(1L)).isEqualTo(MAX_DEPTH);
+        StepVerifier.create(serializer.serialize(2L, () -> Mono.just("other"))).expectNext("other").verifyComplete();
+
+        released.tryEmitValue("first");
+        StepVerifier.create(serializer.serialize(1L, () -> Mono.just("accepted")))
+            .expectNext("accepted")
+            .verifyComplete();
+        assertThat(serializer.depth(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("종료하면 남아 있던 작업과 종료 뒤에 요청한 작업은 RejectedExecutionException 으로 끝난다")
+    void rejectsAfterDestroy() {
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        serializer.serialize(1L, Mono::never).subscribe(value -> { }, errors::add);
+        serializer.serialize(1L, () -> Mono.just("waiting")).subscribe(value -> { }, errors::add);
+        assertThat(serializer.depth(1L)).isEqualTo(2);
+
+        serializer.destroy();
+
+        assertThat(errors).hasSize(2).allMatch(RejectedExecutionException.class::isInstance);
+        StepVerifier.create(serializer.serialize(1L, () -> Mono.just("after")))
+            .expectError(RejectedExecutionException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+}
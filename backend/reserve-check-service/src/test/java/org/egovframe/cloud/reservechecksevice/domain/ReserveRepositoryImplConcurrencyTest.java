@@ -80,7 +80,8 @@ class ReserveRepositoryImplConcurrencyTest {
                 entityTemplate,
                 mock(ReserveItemServiceClient.class),
                 mock(UserServiceClient.class),
-                CircuitBreakerRegistry.ofDefaults());
+                CircuitBreakerRegistry.ofDefaults(),
+                mock(ReserveIntervalIndex.class));
     }
 
     @AfterAll
@@ -19,6 +19,8 @@ import org.egovframe.cloud.common.util.MessageUtil;
 import org.egovframe.cloud.reservechecksevice.api.dto.ReserveCancelRequestDto;
 import org.egovframe.cloud.reservechecksevice.client.ReserveItemServiceClient;
 import org.egovframe.cloud.reservechecksevice.domain.Reserve;
+import org.egovframe.cloud.reservechecksevice.domain.ReserveIntervalIndex;
+import org.egovframe.cloud.reservechecksevice.domain.ReserveItemSerializer;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveRepository;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveStatus;
 import org.egovframe.cloud.reservechecksevice.domain.ReserveValidator;
@@ -27,6 +29,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import reactor.core.publisher.Mono;
@@ -49,6 +57,7 @@ class ReserveServiceStatusGuardTest {
     private ReserveRepository reserveRepository;
     private ReserveItemServiceClient reserveItemServiceClient;
     private ReserveValidator validator;
+    private ReserveIntervalIndex reserveIntervalIndex;
     private ReserveService service;
 
     @BeforeEach
@@ -58,8 +67,10 @@ class ReserveServiceStatusGuardTest {
         validator = mock(ReserveValidator.class);
         CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
         StreamBridge streamBridge = mock(StreamBridge.class);
+        reserveIntervalIndex = mock(ReserveIntervalIndex.class);
 
-        service = new ReserveService(reserveRepository, reserveItemServiceClient, circuitBreakerRegistry, streamBridge, validator);
+        service = new ReserveService(reserveRepository, reserveItemServiceClient, circuitBreakerRegistry, streamBridge, validator,
+            reserveIntervalIndex, mock(ReserveItemSerializer.class), mock(ReactiveTransactionManager.class));
 
         MessageUtil messageUtil = mock(MessageUtil.class);
         when(messageUtil.getMessage(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
@@ -171,4 +182,59 @@ class ReserveServiceStatusGuardTest {
 
         verify(reserveItemServiceClient, never()).updateInventory(anyLong(), anyInt());
     }
+
+    @Test
+    @DisplayName("취소 - 예약 인덱스는 커밋된 뒤에만 반영하고 롤백되면 반영하지 않는다")
+    void reserveCancel_putsIndexOnlyAfterCommit() {
+        when(reserveRepository.findById("r1")).thenAnswer(invocation -> Mono.just(educationReserve(ReserveStatus.APPROVE.getKey())));
+        when(reserveRepository.updateStatusIfCurrentStatusIn("r1", CANCELLABLE_STATUSES, ReserveStatus.CANCEL.getKey()))
+            .thenReturn(Mono.just(1L));
+        when(reserveItemServiceClient.updateInventory(anyLong(), anyInt())).thenReturn(Mono.just(true));
+        when(reserveRepository.save(any(Reserve.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+        ReserveCancelRequestDto cancelRequestDto = ReserveCancelRequestDto.builder().reasonCancelContent("x").build();
+
+        // 저장한 뒤 같은 transaction 에서 오류가 나면 롤백된다.
+        StepVerifier.create(invokeReserveCancel("r1", cancelRequestDto)
+                .then(Mono.error(new IllegalStateException("rollback")))
+                .as(transactionalOperator::transactional))
+            .expectErrorMessage("rollback")
+            .verify();
+        verify(reserveIntervalIndex, never()).put(any(Reserve.class));
+
+        StepVerifier.create(invokeReserveCancel("r1", cancelRequestDto)
+                .then(Mono.fromRunnable(() -> verify(reserveIntervalIndex, never()).put(any(Reserve.class))))
+                .as(transactionalOperator::transactional))
+            .verifyComplete();
+        verify(reserveIntervalIndex, times(1)).put(any(Reserve.class));
+    }
+
+    /**
+     * 커밋과 롤백만 흉내내는 transaction manager
+     */
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package org.egovframe.cloud.reserveitemservice.domain.reserveItem;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * org.egovframe.cloud.reserveitemservice.domain.reserveItem.InventoryDecrementBenchmark
+ * <p>
+ * 물품 하나에 수백 건의 재고 차감이 동시에 들어올 때의 처리 시간과 초과 차감 비교
+ * <ul>
+ *     <li>readModifyWrite : 기존 방식. 재고를 조회해서 Java 에서 뺀 값을 저장한다.</li>
+ *     <li>conditionalUpdate : ReserveItemRepositoryImpl.decreaseInventory. 재고가 충분할 때만 한 번의 update 로 차감한다.</li>
+ * </ul>
+ * 한 번의 측정(op)은 재고를 신청 건수의 절반으로 맞추고 모든 신청을 동시에 보내 끝날 때까지 기다린다.
+ * 보조 지표 oversold 는 재고보다 많이 성공한 건수, lostUpdates 는 성공했지만 재고에 반영되지 않은 건수이다.
+ * 실행 : gradlew :reserve-item-service:jmh
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryDecrementBenchmark {
+
+    private static final long ITEM_ID = 1L;
+
+    /**
+     * 동시에 들어오는 차감 신청 건수
+     */
+    @Param({"200", "500"})
+    private int requests;
+
+    private int inventory;
+    private DatabaseClient databaseClient;
+    private ReserveItemRepositoryImpl repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+            .inMemory("inventory_decrement_benchmark")
+            .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+            .property("LOCK_TIMEOUT", "10000")
+            .username("sa")
+            .build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("CREATE TABLE IF NOT EXISTS reserve_item ("
+                + "reserve_item_id BIGINT NOT NULL PRIMARY KEY,"
+                + "inventory_qty BIGINT,"
+                + "modified_date DATETIME"
+                + ")")
+            .then()
+            .block();
+        repository = new ReserveItemRepositoryImpl(new R2dbcEntityTemplate(connectionFactory));
+        inventory = requests / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        databaseClient.sql("DROP TABLE reserve_item").then().block();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetInventory() {
+        databaseClient.sql("MERGE INTO reserve_item (reserve_item_id, inventory_qty) KEY (reserve_item_id) VALUES (:id, :qty)")
+            .bind("id", ITEM_ID)
+            .bind("qty", inventory)
+            .then()
+            .block();
+    }
+
+    @Benchmark
+    public long readModifyWrite(Outcome outcome) {
+        return run(Flux.range(0, requests)
+            .flatMap(i -> readModifyWriteOnce().subscribeOn(Schedulers.boundedElastic()), requests), outcome);
+    }
+
+    @Benchmark
+    public long conditionalUpdate(Outcome outcome) {
+        return run(Flux.range(0, requests)
+            .flatMap(i -> repository.decreaseInventory(ITEM_ID, 1).subscribeOn(Schedulers.boundedElastic()), requests), outcome);
+    }
+
+    /**
+     * 기존 updateInventory 와 같은 조회 후 저장
+     */
+    private Mono<Boolean> readModifyWriteOnce() {
+        return databaseClient.sql("SELECT inventory_qty FROM reserve_item WHERE reserve_item_id = :id")
+            .bind("id", ITEM_ID)
+            .map(row -> row.get("inventory_qty", Long.class))
+            .one()
+            .flatMap(inventoryQty -> {
+                if (inventoryQty - 1 < 0) {
+                    return Mono.just(false);
+                }
+                return databaseClient.sql("UPDATE reserve_item SET inventory_qty = :qty WHERE reserve_item_id = :id")
+                    .bind("qty", inventoryQty - 1)
+                    .bind("id", ITEM_ID)
+                    .then()
+                    .thenReturn(true);
+            });
+    }
+
+    private long run(Flux<Boolean> decrements, Outcome outcome) {
+        long succeeded = decrements.filter(Boolean::booleanValue).count().block();
+        long remaining = databaseClient.sql("SELECT inventory_qty FROM reserve_item WHERE reserve_item_id = :id")
+            .bind("id", ITEM_ID)
+            .map(row -> row.get("inventory_qty", Long.class))
+            .one()
+            .block();
+        outcome.oversold += Math.max(0, succeeded - inventory);
+        outcome.lostUpdates += succeeded - (inventory - remaining);
+        return succeeded;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+
+        public long oversold;
+        public long lostUpdates;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            oversold = 0;
+            lostUpdates = 0;
+        }
+    }
+
+}
@@ -25,6 +25,7 @@ import lombok.ToString;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj      최초 생성
+ *  2026/10/18    eGovFrame   선착순 물품의 lease 재고를 포함한 신청 가능 수량(availableQty) 추가
  * </pre>
  */
 @Getter
@@ -38,6 +39,7 @@ public class ReserveItemResponseDto {
     private Integer prevTotalQty;   //총 재고/수용인원 수
     private Integer totalQty;   //총 재고/수용인원 수
     private Integer inventoryQty;   // 재고/수용인원 수
+    private Integer availableQty;   // 신청 가능한 재고/수용인원 수 - 선착순 물품은 인스턴스가 가져간(lease) 재고 포함
     private LocalDateTime operationStartDate;   //운영 시작 일
     private LocalDateTime operationEndDate;     //운영 종료 일
     private String reserveMethodId; // 예약 방법 - 공통코드 reserve-method
@@ -70,6 +72,7 @@ public class ReserveItemResponseDto {
         this.prevTotalQty = reserveItem.getTotalQty();
         this.totalQty = reserveItem.getTotalQty();
         this.inventoryQty = reserveItem.getInventoryQty();
+        this.availableQty = reserveItem.getInventoryQty();
         this.operationStartDate = reserveItem.getOperationStartDate();
         this.operationEndDate = reserveItem.getOperationEndDate();
         this.reserveMethodId = reserveItem.getReserveMethodId();
@@ -93,4 +96,16 @@ public class ReserveItemResponseDto {
         this.managerName = reserveItem.getManagerName();
         this.managerContact = reserveItem.getManagerContact();
     }
+
+    /**
+     * 인스턴스가 가져갔지만 아직 나눠 주지 않은 재고를 신청 가능 수량에 더한다.
+     * inventoryQty 는 수정 화면에서 그대로 저장하므로 바꾸지 않는다.
+     *
+     * @param leasedQty 사용하지 않은 lease 재고 수
+     * @return this
+     */
+    public ReserveItemResponseDto addLeasedQty(int leasedQty) {
+        this.availableQty = (inventoryQty == null ? 0 : inventoryQty) + leasedQty;
+        return this;
+    }
 }
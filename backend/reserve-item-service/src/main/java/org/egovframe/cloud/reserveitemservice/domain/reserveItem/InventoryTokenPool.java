@@ -0,0 +1,551 @@
+package org.egovframe.cloud.reserveitemservice.domain.reserveItem;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * org.egovframe.cloud.reserveitemservice.domain.reserveItem.InventoryTokenPool
+ * <p>
+ * 선착순(hot) 예약 물품 재고 token pool
+ * 신청이 한꺼번에 몰리는 물품(reserve.hot-item.item-ids)은 인스턴스마다 재고를 lease-size 만큼 미리 가져와(lease)
+ * 메모리 token 으로 나눠 주므로 신청마다 reserve_item 한 행을 잠그지 않는다.
+ * <ul>
+ *     <li>lease : reserve_item.inventory_qty 에서 조건부로 차감하고 reserve_item_lease 의 (물품, 인스턴스) 행에 가져간 수를 더한다.
+ *     inventory_qty 는 어느 인스턴스도 가져가지 않은 재고이고 실제 남은 재고는 inventory_qty + (leased_qty - consumed_qty) 합계이다.</li>
+ *     <li>claim : token 을 CAS 로 가져간다. 모자라면 한 요청만 lease 를 더 가져오고 나머지는 기다렸다 다시 가져간다.</li>
+ *     <li>flush : flush-interval 마다 사용한 token 수(consumed_qty)를 모아서 기록하고 lease 만료 일시를 늘린다.</li>
+ *     <li>종료 : 남은 token 을 inventory_qty 로 돌려놓고 lease 행을 지운다.
+ *     장애로 갱신이 멈춘 lease 는 lease-ttl 이 지나면 다른 인스턴스가 leased_qty - consumed_qty 를 돌려놓는다.
+ *     이 인스턴스는 lease-ttl 의 2/3 가 지나도록 갱신하지 못하면 token 을 더 나눠 주지 않는다.</li>
+ * </ul>
+ * 비정상 종료 시 마지막 flush 이후 사용한 token 은 다른 인스턴스가 남은 재고로 돌려놓으므로 flush-interval 을 짧게 둔다.
+ * lease 로 가져간 재고는 inventory_qty 에서 빠져 있으므로 한건 조회는 사용하지 않은 lease 재고(leasedQty)를 더해 신청 가능 수량으로 보여 준다.
+ * 목록의 예약 가능 여부는 inventory_qty 만 보므로 잠시 실제보다 일찍 마감으로 보일 수 있다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   lease 행 버전(lease_version) 추가, 교체된 lease 정리가 새 lease 행을 지우지 않도록 수정
+ *  2026/10/18    eGovFrame   사용하지 않은 lease 재고 합계 조회(leasedQty) 추가
+ * </pre>
+ */
+@Slf4j
+@Component
+public class InventoryTokenPool implements DisposableBean {
+
+    private static final String INSERT_LEASE_QUERY = "INSERT INTO reserve_item_lease"
+        + " (reserve_item_id, instance_id, lease_version, leased_qty, consumed_qty, expire_date)"
+        + " VALUES (:reserveItemId, :instanceId, :leaseVersion, :leasedQty, 0, :expireDate)";
+    private static final String EXTEND_LEASE_QUERY = "UPDATE reserve_item_lease"
+        + " SET leased_qty = leased_qty + :leasedQty, expire_date = :expireDate"
+        + " WHERE reserve_item_id = :reserveItemId AND instance_id = :instanceId AND lease_version = :leaseVersion";
+    private static final String FLUSH_LEASE_QUERY = "UPDATE reserve_item_lease"
+        + " SET consumed_qty = :consumedQty, expire_date = :expireDate"
+        + " WHERE reserve_item_id = :reserveItemId AND instance_id = :instanceId AND lease_version = :leaseVersion";
+    private static final String DELETE_LEASE_QUERY = "DELETE FROM reserve_item_lease"
+        + " WHERE reserve_item_id = :reserveItemId AND instance_id = :instanceId AND lease_version = :leaseVersion";
+    private static final String SELECT_EXPIRED_LEASE_QUERY = "SELECT reserve_item_id, instance_id, lease_version, leased_qty, consumed_qty"
+        + " FROM reserve_item_lease WHERE expire_date < :now AND instance_id <> :instanceId";
+    private static final String SELECT_LEASED_QTY_QUERY = "SELECT COALESCE(SUM(leased_qty - consumed_qty), 0) AS leased_qty"
+        + " FROM reserve_item_lease WHERE reserve_item_id = :reserveItemId";
+    private static final String DELETE_EXPIRED_LEASE_QUERY = DELETE_LEASE_QUERY + " AND expire_date < :now";
+
+    private static final Duration RELEASE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ReserveItemRepository reserveItemRepository;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * lease 는 요청 transaction 과 따로 커밋한다. 요청이 롤백되어도 가져온 재고와 token 이 어긋나지 않는다.
+     */
+    private final TransactionalOperator leaseTransaction;
+
+    private final Clock clock;
+
+    private final Set<Long> itemIds;
+
+    private final int leaseSize;
+
+    private final Duration flushInterval;
+
+    private final Duration leaseTtl;
+
+    /**
+     * 이 인스턴스의 lease 가 유효한 기간, 다른 인스턴스가 만료로 보기(lease-ttl) 전에 token 을 그만 나눠 준다.
+     */
+    private final Duration leaseValidity;
+
+    /**
+     * 재기동하면 새 id 를 쓴다. 이전 실행의 lease 는 만료 후 다른 인스턴스(또는 재기동한 이 인스턴스)가 정리한다.
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * lease 행을 새로 만들 때마다 늘린다. 정리된 lease 의 갱신/삭제가 같은 키로 새로 만든 lease 행을 건드리지 않는다.
+     */
+    private final AtomicLong leaseVersions = new AtomicLong();
+
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+
+    /**
+     * 물품별로 진행 중인 lease 요청, 동시에 모자라도 한 번만 가져온다.
+     */
+    private final Map<Long, Mono<Integer>> refills = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    private Disposable flusher;
+
+    public InventoryTokenPool(ReserveItemRepository reserveItemRepository, R2dbcEntityTemplate entityTemplate,
+                              ReactiveTransactionManager transactionManager,
+                              @Value("${reserve.hot-item.item-ids:}") Set<Long> itemIds,
+                              @Value("${reserve.hot-item.lease-size:20}") int leaseSize,
+                              @Value("${reserve.hot-item.flush-interval:PT0.5S}") Duration flushInterval,
+                              @Value("${reserve.hot-item.lease-ttl:PT15S}") Duration leaseTtl) {
+        this(reserveItemRepository, entityTemplate, transactionManager, Clock.systemDefaultZone(), itemIds, leaseSize, flushInterval, leaseTtl);
+    }
+
+    InventoryTokenPool(ReserveItemRepository reserveItemRepository, R2dbcEntityTemplate entityTemplate,
+                       ReactiveTransactionManager transactionManager, Clock clock, Set<Long> itemIds, int leaseSize,
+                       Duration flushInterval, Duration leaseTtl) {
+        this.reserveItemRepository = reserveItemRepository;
+        this.databaseClient = entityTemplate.getDatabaseClient();
+        this.leaseTransaction = TransactionalOperator.create(transactionManager,
+            new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        this.clock = clock;
+        this.itemIds = itemIds == null ? Set.of() : Set.copyOf(itemIds);
+        this.leaseSize = Math.max(1, leaseSize);
+        this.flushInterval = flushInterval;
+        this.leaseTtl = leaseTtl;
+        this.leaseValidity = leaseTtl.multipliedBy(2).dividedBy(3);
+    }
+
+    /**
+     * 기동 후 선착순 물품의 재고를 미리 가져오고 flush-interval 마다 flush 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (itemIds.isEmpty() || flusher != null) {
+            return;
+        }
+        Flux.fromIterable(itemIds)
+            .concatMap(reserveItemId -> refill(reserveItemId, 1)
+                .onErrorResume(throwable -> {
+                    log.warn("inventory token preload failed. reserveItemId={}", reserveItemId, throwable);
+                    return Mono.empty();
+                }))
+            .subscribe();
+        flusher = Flux.interval(flushInterval, flushInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> flush()
+                .onErrorResume(throwable -> {
+                    log.warn("inventory token flush failed", throwable);
+                    return Mono.empty();
+                }), 1)
+            .subscribe();
+    }
+
+    /**
+     * 종료 시 남은 token 을 재고로 돌려놓는다.
+     */
+    @Override
+    public void destroy() {
+        closed = true;
+        if (flusher != null) {
+            flusher.dispose();
+        }
+        try {
+            Flux.fromIterable(leases.entrySet())
+                .concatMap(entry -> release(entry.getKey(), entry.getValue()))
+                .then()
+                .block(RELEASE_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("inventory token release failed. expired leases are returned by other instances", e);
+        }
+    }
+
+    /**
+     * token pool 로 재고를 차감하는 물품인지 확인
+     *
+     * @param reserveItemId 예약 물품 id
+     * @return boolean
+     */
+    public boolean isHot(Long reserveItemId) {
+        return !closed && itemIds.contains(reserveItemId);
+    }
+
+    /**
+     * 재고 token 가져가기(차감)
+     * 선착순 물품이 아니거나 종료 중이면 DB 에서 바로 차감한다.
+     * 취소로 재고를 되돌리는 경우(수량이 0 이하)도 token 이 아닌 inventory_qty 로 바로 돌려놓는다.
+     *
+     * @param reserveItemId 예약 물품 id
+     * @param reserveQty    차감할 수량, 취소 시 음수
+     * @return 차감 여부, 재고가 부족하면 false
+     */
+    public Mono<Boolean> claim(Long reserveItemId, Integer reserveQty) {
+        return Mono.defer(() -> {
+            if (!isHot(reserveItemId) || reserveQty <= 0) {
+                return reserveItemRepository.decreaseInventory(reserveItemId, reserveQty);
+            }
+            Lease lease = leases.get(reserveItemId);
+            if (lease != null && isValid(lease) && lease.tryTake(reserveQty)) {
+                return Mono.just(true);
+            }
+            // 재고를 더 가져왔으면 다시 가져가 본다. DB 재고가 바닥나면 0 이므로 끝난다.
+            return refill(reserveItemId, reserveQty)
+                .flatMap(leased -> leased > 0 ? claim(reserveItemId, reserveQty) : Mono.just(false));
+        });
+    }
+
+    /**
+     * 이 인스턴스가 나눠 줄 수 있는 token 수
+     *
+     * @param reserveItemId 예약 물품 id
+     * @return int
+     */
+    public int available(Long reserveItemId) {
+        Lease lease = leases.get(reserveItemId);
+        return lease == null || !isValid(lease) ? 0 : lease.remaining.get();
+    }
+
+    /**
+     * 모든 인스턴스가 가져갔지만 아직 사용하지 않은 재고 수, inventory_qty 에 더하면 실제 남은 재고이다.
+     * consumed_qty 는 flush 때 기록하므로 마지막 flush 이후 사용한 token 만큼 많게 나올 수 있다.
+     *
+     * @param reserveItemId 예약 물품 id
+     * @return Mono<Integer>
+     */
+    public Mono<Integer> leasedQty(Long reserveItemId) {
+        return databaseClient.sql(SELECT_LEASED_QTY_QUERY)
+            .bind("reserveItemId", reserveItemId)
+            // SUM 결과 타입은 DB 마다 다르다(MySQL DECIMAL, H2 BIGINT).
+            .map(row -> row.get("leased_qty", Number.class))
+            .one()
+            .map(qty -> Math.max(0, qty.intValue()))
+            .defaultIfEmpty(0);
+    }
+
+    /**
+     * 사용한 token 수를 기록해 lease 를 갱신하고 다른 인스턴스의 만료된 lease 를 정리한다.
+     *
+     * @return Mono<Void>
+     */
+    Mono<Void> flush() {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            return Flux.fromIterable(leases.entrySet())
+                .concatMap(entry -> heartbeat(entry.getKey(), entry.getValue(), now))
+                .then(reconcileExpired(now));
+        });
+    }
+
+    private Mono<Integer> refill(Long reserveItemId, int reserveQty) {
+        return refills.computeIfAbsent(reserveItemId, id -> {
+            AtomicReference<Mono<Integer>> self = new AtomicReference<>();
+            // 기다리던 요청에 결과를 넘기기 전에 지운다. 다시 모자라면 끝난 결과가 아니라 새 lease 를 기다린다.
+            Mono<Integer> refill = lease(id, reserveQty)
+                .doOnEach(signal -> refills.remove(id, self.get()))
+                .cache();
+            self.set(refill);
+            return refill;
+        });
+    }
+
+    /**
+     * 재고를 가져와 lease 에 더한다. 커밋된 뒤에 token 을 늘린다.
+     *
+     * @return Mono<Integer> 가져온 재고 수, DB 재고가 없으면 0
+     */
+    private Mono<Integer> lease(Long reserveItemId, int reserveQty) {
+        Lease existing = leases.get(reserveItemId);
+        Lease current = existing != null && isValid(existing) && !existing.isReleased() ? existing : null;
+        Mono<Void> expired = existing != null && current == null ? release(reserveItemId, existing) : Mono.empty();
+        return expired.then(Mono.defer(() -> {
+            LocalDateTime expireDate = LocalDateTime.now(clock).plus(leaseTtl);
+            long version = current == null ? leaseVersions.incrementAndGet() : current.version;
+            return take(reserveItemId, Math.max(leaseSize, reserveQty))
+                .flatMap(leased -> leased == 0 ? Mono.just(0) : record(reserveItemId, current, version, leased, expireDate).thenReturn(leased))
+                .as(leaseTransaction::transactional)
+                .flatMap(leased -> {
+                    if (leased == 0) {
+                        return Mono.just(0);
+                    }
+                    LocalDateTime validUntil = expireDate.minus(leaseTtl).plus(leaseValidity);
+                    if (current == null) {
+                        leases.put(reserveItemId, new Lease(version, leased, validUntil));
+                    } else if (!current.add(leased, validUntil)) {
+                        // 늘린 lease 가 커밋된 뒤 token 에 더하기 전에 정리되었다. 정리하며 돌려놓은 수에 빠져 있으므로 따로 돌려놓는다.
+                        return returnExtended(reserveItemId, current, leased).thenReturn(leased);
+                    }
+                    log.debug("inventory leased. reserveItemId={}, qty={}", reserveItemId, leased);
+                    return Mono.just(leased);
+                });
+        }));
+    }
+
+    /**
+     * 재고가 wanted 이상이면 wanted 만큼, 모자라면 남은 재고를 모두 가져온다.
+     */
+    private Mono<Integer> take(Long reserveItemId, int wanted) {
+        return reserveItemRepository.decreaseInventory(reserveItemId, wanted)
+            .flatMap(decreased -> {
+                if (decreased) {
+                    return Mono.just(wanted);
+                }
+                return reserveItemRepository.findById(reserveItemId)
+                    .map(reserveItem -> reserveItem.getInventoryQty() == null ? 0 : reserveItem.getInventoryQty())
+                    .filter(rest -> rest > 0)
+                    .map(rest -> Math.min(rest, wanted))
+                    .flatMap(rest -> reserveItemRepository.decreaseInventory(reserveItemId, rest)
+                        .map(decreasedRest -> decreasedRest ? rest : 0))
+                    .defaultIfEmpty(0);
+            });
+    }
+
+    private Mono<Void> record(Long reserveItemId, Lease current, long version, int leased, LocalDateTime expireDate) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(current == null ? INSERT_LEASE_QUERY : EXTEND_LEASE_QUERY)
+            .bind("reserveItemId", reserveItemId)
+            .bind("instanceId", instanceId)
+            .bind("leaseVersion", version)
+            .bind("leasedQty", leased)
+            .bind("expireDate", expireDate);
+        return spec.fetch()
+            .rowsUpdated()
+            .flatMap(updated -> {
+                if (updated == 1) {
+                    return Mono.<Void>empty();
+                }
+                // 만료되어 다른 인스턴스가 정리한 lease, 차감을 롤백하고 다음 요청에서 새로 가져온다.
+                return Mono.<Void>error(new IllegalStateException("inventory lease not found. reserveItemId=" + reserveItemId));
+            });
+    }
+
+    private Mono<Void> heartbeat(Long reserveItemId, Lease lease, LocalDateTime now) {
+        if (!isValid(lease)) {
+            return release(reserveItemId, lease);
+        }
+        int consumed = lease.consumed.get();
+        return databaseClient.sql(FLUSH_LEASE_QUERY)
+            .bind("consumedQty", consumed)
+            .bind("expireDate", now.plus(leaseTtl))
+            .bind("reserveItemId", reserveItemId)
+            .bind("instanceId", instanceId)
+            .bind("leaseVersion", lease.version)
+            .fetch()
+            .rowsUpdated()
+            .flatMap(updated -> {
+                if (updated == 1) {
+                    lease.flushedConsumed = consumed;
+                    lease.validUntil = now.plus(leaseValidity);
+                    return Mono.<Void>empty();
+                }
+                log.warn("inventory lease was reconciled by another instance. reserveItemId={}", reserveItemId);
+                return release(reserveItemId, lease, rest -> Mono.just(false));
+            });
+    }
+
+    /**
+     * lease 를 지우고 남은 token 을 재고로 돌려놓는다.
+     * flush 와 lease 교체가 같은 lease 를 함께 정리하려 해도 한 번만 지우고 돌려놓는다.
+     */
+    private Mono<Void> release(Long reserveItemId, Lease lease) {
+        return release(reserveItemId, lease, rest -> databaseClient.sql(DELETE_LEASE_QUERY)
+            .bind("reserveItemId", reserveItemId)
+            .bind("instanceId", instanceId)
+            .bind("leaseVersion", lease.version)
+            .fetch()
+            .rowsUpdated()
+            .flatMap(deleted -> {
+                if (deleted == 0) {
+                    log.warn("inventory lease was reconciled by another instance. reserveItemId={}, unflushed={}",
+                        reserveItemId, lease.consumed.get() - lease.flushedConsumed);
+                    return Mono.just(false);
+                }
+                return rest > 0 ? reserveItemRepository.increaseInventory(reserveItemId, rest).thenReturn(true) : Mono.just(true);
+            })
+            .as(leaseTransaction::transactional));
+    }
+
+    /**
+     * 정리가 끝날 때까지 lease 를 목록에 남겨 둔다. 새 lease 는 이전 lease 정리가 끝난 뒤에 만든다.
+     */
+    private Mono<Void> release(Long reserveItemId, Lease lease, Function<Integer, Mono<Boolean>> returnRest) {
+        return Mono.defer(() -> lease.release(rest -> returnRest.apply(rest)
+                .doFinally(signal -> leases.remove(reserveItemId, lease))))
+            .then();
+    }
+
+    /**
+     * 정리된 lease 에 더하지 못한 재고를 돌려놓는다.
+     * 이 인스턴스가 lease 행을 지웠을 때만 돌려놓는다. 다른 인스턴스가 정리했으면 leased_qty 에 포함해 이미 돌려놓았다.
+     */
+    private Mono<Void> returnExtended(Long reserveItemId, Lease lease, int leased) {
+        return lease.release(rest -> Mono.just(false))
+            .filter(Boolean::booleanValue)
+            .flatMap(deleted -> reserveItemRepository.increaseInventory(reserveItemId, leased)
+                .as(leaseTransaction::transactional))
+            .then();
+    }
+
+    /**
+     * 갱신이 멈춘 다른 인스턴스의 lease 를 지우고 쓰지 않은 재고를 돌려놓는다.
+     * 같은 lease 를 여러 인스턴스가 정리하려 해도 지운 인스턴스만 돌려놓는다.
+     */
+    private Mono<Void> reconcileExpired(LocalDateTime now) {
+        return databaseClient.sql(SELECT_EXPIRED_LEASE_QUERY)
+            .bind("now", now)
+            .bind("instanceId", instanceId)
+            .map(row -> new ExpiredLease(row.get("reserve_item_id", Long.class), row.get("instance_id", String.class),
+                row.get("lease_version", Long.class), row.get("leased_qty", Long.class), row.get("consumed_qty", Long.class)))
+            .all()
+            .concatMap(expired -> databaseClient.sql(DELETE_EXPIRED_LEASE_QUERY)
+                .bind("reserveItemId", expired.reserveItemId)
+                .bind("instanceId", expired.instanceId)
+                .bind("leaseVersion", expired.leaseVersion)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .filter(deleted -> deleted == 1 && expired.unused() > 0)
+                .flatMap(deleted -> reserveItemRepository.increaseInventory(expired.reserveItemId, expired.unused()))
+                .doOnNext(returned -> log.info("expired inventory lease reconciled. reserveItemId={}, instanceId={}, returned={}",
+                    expired.reserveItemId, expired.instanceId, expired.unused()))
+                .as(leaseTransaction::transactional))
+            .then();
+    }
+
+    private boolean isValid(Lease lease) {
+        return LocalDateTime.now(clock).isBefore(lease.validUntil);
+    }
+
+    private static final class Lease {
+
+        /**
+         * reserve_item_lease.lease_version
+         */
+        private final long version;
+
+        private final AtomicInteger remaining;
+
+        private final AtomicInteger consumed = new AtomicInteger();
+
+        /**
+         * 마지막으로 기록한 consumed_qty
+         */
+        private volatile int flushedConsumed;
+
+        private volatile LocalDateTime validUntil;
+
+        /**
+         * 정리 결과(이 인스턴스가 lease 행을 지웠는지), 처음 정리할 때 정해진다.
+         */
+        private Mono<Boolean> released;
+
+        private Lease(long version, int leased, LocalDateTime validUntil) {
+            this.version = version;
+            this.remaining = new AtomicInteger(leased);
+            this.validUntil = validUntil;
+        }
+
+        private synchronized boolean isReleased() {
+            return released != null;
+        }
+
+        /**
+         * 늘린 lease 를 token 에 더한다. 이미 정리된 lease 면 더하지 않는다.
+         */
+        private synchronized boolean add(int leased, LocalDateTime validUntil) {
+            if (released != null) {
+                return false;
+            }
+            remaining.addAndGet(leased);
+            this.validUntil = validUntil;
+            return true;
+        }
+
+        /**
+         * 남은 token 을 비우고 처음 한 번만 정리한다. 다시 부르면 처음 정리 결과를 기다린다.
+         *
+         * @param returnRest 비운 token 수로 lease 행을 정리하고 지웠는지 알려 준다
+         */
+        private synchronized Mono<Boolean> release(Function<Integer, Mono<Boolean>> returnRest) {
+            if (released == null) {
+                released = returnRest.apply(remaining.getAndSet(0)).cache();
+            }
+            return released;
+        }
+
+        private boolean tryTake(int qty) {
+            for (;;) {
+                int current = remaining.get();
+                if (current < qty) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - qty)) {
+                    consumed.addAndGet(qty);
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class ExpiredLease {
+
+        private final Long reserveItemId;
+
+        private final String instanceId;
+
+        private final long leaseVersion;
+
+        private final long leasedQty;
+
+        private final long consumedQty;
+
+        private ExpiredLease(Long reserveItemId, String instanceId, Long leaseVersion, Long leasedQty, Long consumedQty) {
+            this.reserveItemId = reserveItemId;
+            this.instanceId = instanceId;
+            this.leaseVersion = leaseVersion == null ? 0 : leaseVersion;
+            this.leasedQty = leasedQty == null ? 0 : leasedQty;
+            this.consumedQty = consumedQty == null ? 0 : consumedQty;
+        }
+
+        private int unused() {
+            return (int) Math.max(0, leasedQty - consumedQty);
+        }
+    }
+
+}
@@ -39,6 +39,8 @@ import lombok.ToString;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/09    shinmj       최초 생성
+ *  2026/10/18    eGovFrame   재고 차감을 repository 조건부 update 로 옮기며 updateInventoryQty 삭제
+ *  2026/10/18    eGovFrame   validate 에서 재고 확인 제외(선착순 물품은 재고를 lease 로 가져가므로)
  * </pre>
  */
 @Getter
@@ -324,17 +326,6 @@ public class ReserveItem extends BaseEntity {
         return this;
     }
 
-    /**
-     * 재고 변경
-     *
-     * @param reserveQty
-     * @return
-     */
-    public ReserveItem updateInventoryQty(Integer reserveQty) {
-        this.inventoryQty = calcInventoryQty(reserveQty);
-        return this;
-    }
-
     /**
      * 사용여부 변경
      *
@@ -387,7 +378,13 @@ public class ReserveItem extends BaseEntity {
         }
     }
 
-    public String validate(int reserveQty) {
+    /**
+     * 사용자 예약 신청 가능 여부 체크
+     * 재고는 차감할 때(ReserveItemRepository.decreaseInventory, InventoryTokenPool.claim) 확인한다.
+     *
+     * @return 메시지 코드, 신청할 수 있으면 valid
+     */
+    public String validate() {
         if (!Category.EDUCATION.isEquals(categoryId)) {
             //해당 예약은 수정할 수 없습니다.
             return "valid.reserve_not_update";
@@ -399,19 +396,9 @@ public class ReserveItem extends BaseEntity {
             return "valid.reserve_date";
         }
 
-        int qty = calcInventoryQty(reserveQty);
-        if (qty < 0) {
-            //해당 날짜에 예약할 수 있는 재고수량이 없습니다.
-            return "valid.reserve_count";
-        }
-
         return "valid";
     }
 
-    private int calcInventoryQty(int reserveQty) {
-        return inventoryQty - reserveQty;
-    }
-
     public void setCodeName(List<Code> codes) {
         codes.stream().filter(it -> it.getParentCodeId().equals("reserve-category"))
             .findFirst()
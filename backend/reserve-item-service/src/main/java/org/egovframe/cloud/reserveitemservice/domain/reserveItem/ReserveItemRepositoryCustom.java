@@ -23,6 +23,8 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj       최초 생성
+ *  2026/10/18    eGovFrame   재고 차감(decreaseInventory) 추가
+ *  2026/10/18    eGovFrame   재고 반환(increaseInventory) 추가
  * </pre>
  */
 public interface ReserveItemRepositoryCustom {
@@ -34,4 +36,7 @@ public interface ReserveItemRepositoryCustom {
 
     Flux<ReserveItem> findLatestByCategory(Integer count, String categoryId);
     Flux<Code> findCodeDetail(String codeId);
+
+    Mono<Boolean> decreaseInventory(Long reserveItemId, Integer reserveQty);
+    Mono<Boolean> increaseInventory(Long reserveItemId, Integer qty);
 }
@@ -2,6 +2,7 @@ package org.egovframe.cloud.reserveitemservice.domain.reserveItem;
 
 import static org.springframework.data.relational.core.query.Criteria.where;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -36,12 +37,20 @@ import reactor.core.publisher.Mono;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj       최초 생성
+ *  2026/10/18    eGovFrame   재고 차감을 조건부 update 한 번으로 처리
+ *  2026/10/18    eGovFrame   선착순 물품 재고 반환(increaseInventory) 추가
  * </pre>
  */
 @Slf4j
 @RequiredArgsConstructor
 public class ReserveItemRepositoryImpl implements ReserveItemRepositoryCustom{
     private static final String SORT_COLUMN = "create_date";
+    private static final String DECREASE_INVENTORY_QUERY = "UPDATE reserve_item"
+        + " SET inventory_qty = inventory_qty - :reserveQty, modified_date = :modifiedDate"
+        + " WHERE reserve_item_id = :reserveItemId AND inventory_qty >= :reserveQty";
+    private static final String INCREASE_INVENTORY_QUERY = "UPDATE reserve_item"
+        + " SET inventory_qty = inventory_qty + :qty, modified_date = :modifiedDate"
+        + " WHERE reserve_item_id = :reserveItemId";
     private final R2dbcEntityTemplate entityTemplate;
 
     /**
@@ -129,6 +138,47 @@ public class ReserveItemRepositoryImpl implements ReserveItemRepositoryCustom{
             .all();
     }
 
+    /**
+     * 재고 차감
+     * 남은 재고가 차감할 수량 이상일 때만 한 번의 update 로 차감한다.
+     * 조회 후 저장하지 않으므로 동시에 신청해도 차감이 유실되거나 재고가 음수가 되지 않는다.
+     *
+     * @param reserveItemId
+     * @param reserveQty    차감할 수량
+     * @return 차감 여부, 재고가 부족하거나 물품이 없으면 false
+     */
+    @Override
+    public Mono<Boolean> decreaseInventory(Long reserveItemId, Integer reserveQty) {
+        return entityTemplate.getDatabaseClient()
+            .sql(DECREASE_INVENTORY_QUERY)
+            .bind("reserveQty", reserveQty)
+            .bind("modifiedDate", LocalDateTime.now())
+            .bind("reserveItemId", reserveItemId)
+            .fetch()
+            .rowsUpdated()
+            .map(updated -> updated > 0);
+    }
+
+    /**
+     * 재고 반환
+     * 선착순 물품(InventoryTokenPool)에서 가져갔다가 쓰지 않은 재고를 돌려놓는다.
+     *
+     * @param reserveItemId
+     * @param qty           돌려놓을 수량
+     * @return 반환 여부, 물품이 없으면 false
+     */
+    @Override
+    public Mono<Boolean> increaseInventory(Long reserveItemId, Integer qty) {
+        return entityTemplate.getDatabaseClient()
+            .sql(INCREASE_INVENTORY_QUERY)
+            .bind("qty", qty)
+            .bind("modifiedDate", LocalDateTime.now())
+            .bind("reserveItemId", reserveItemId)
+            .fetch()
+            .rowsUpdated()
+            .map(updated -> updated > 0);
+    }
+
     /**
      * 유형만 공통코드 조회
      *
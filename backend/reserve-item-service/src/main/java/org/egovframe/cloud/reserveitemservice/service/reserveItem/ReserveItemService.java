@@ -14,6 +14,7 @@ import org.egovframe.cloud.reserveitemservice.api.reserveItem.dto.ReserveItemRes
 import org.egovframe.cloud.reserveitemservice.api.reserveItem.dto.ReserveItemSaveRequestDto;
 import org.egovframe.cloud.reserveitemservice.api.reserveItem.dto.ReserveItemUpdateRequestDto;
 import org.egovframe.cloud.reserveitemservice.config.RequestMessage;
+import org.egovframe.cloud.reserveitemservice.domain.reserveItem.InventoryTokenPool;
 import org.egovframe.cloud.reserveitemservice.domain.reserveItem.ReserveItem;
 import org.egovframe.cloud.reserveitemservice.domain.reserveItem.ReserveItemRepository;
 import org.springframework.cloud.stream.function.StreamBridge;
@@ -44,6 +45,9 @@ import reactor.core.scheduler.Schedulers;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/13    shinmj       최초 생성
+ *  2026/10/18    eGovFrame   재고 변경을 조회 후 저장 대신 조건부 차감으로 변경
+ *  2026/10/18    eGovFrame   선착순 물품은 InventoryTokenPool 로 재고 차감
+ *  2026/10/18    eGovFrame   선착순 물품 한건 조회 시 lease 재고를 신청 가능 수량에 포함
  * </pre>
  */
 @Slf4j
@@ -59,6 +63,7 @@ public class ReserveItemService extends ReactiveAbstractService {
 
     private final ReserveItemRepository reserveItemRepository;
     private final StreamBridge streamBridge;
+    private final InventoryTokenPool inventoryTokenPool;
 
 
     /**
@@ -99,6 +104,7 @@ public class ReserveItemService extends ReactiveAbstractService {
 
     /**
      * 한건 조회
+     * 선착순 물품은 인스턴스가 가져간(lease) 재고를 신청 가능 수량(availableQty)에 더한다.
      *
      * @param reserveItemId
      * @return
@@ -107,7 +113,10 @@ public class ReserveItemService extends ReactiveAbstractService {
     public Mono<ReserveItemResponseDto> findById(Long reserveItemId) {
         return reserveItemRepository.findById(reserveItemId)
                 .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveItemId))
-                .flatMap(this::convertReserveItemResponseDto);
+                .flatMap(this::convertReserveItemResponseDto)
+                .flatMap(responseDto -> inventoryTokenPool.isHot(reserveItemId)
+                        ? inventoryTokenPool.leasedQty(reserveItemId).map(responseDto::addLeasedQty)
+                        : Mono.just(responseDto));
     }
 
     /**
@@ -159,15 +168,13 @@ public class ReserveItemService extends ReactiveAbstractService {
      * @return
      */
     public Mono<Boolean> updateInventory(Long reserveItemId, Integer reserveQty) {
-        return reserveItemRepository.findById(reserveItemId)
-                .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveItemId))
-                .flatMap(reserveItem -> {
-                    int qty = reserveItem.getInventoryQty() - reserveQty;
-                    if (qty < 0) {
-                        return Mono.just(false);
-                    }
-                    return reserveItemRepository.save(reserveItem.updateInventoryQty(reserveQty)).thenReturn(true);
-                });
+        return decreaseInventory(reserveItemId, reserveQty)
+                .filter(Boolean::booleanValue)
+                // 차감하지 못한 경우 재고 부족(false)과 없는 물품(404)을 구분한다.
+                .switchIfEmpty(Mono.defer(() -> reserveItemRepository.existsById(reserveItemId)
+                        .filter(Boolean::booleanValue)
+                        .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveItemId))
+                        .thenReturn(false)));
     }
 
     /**
@@ -181,16 +188,22 @@ public class ReserveItemService extends ReactiveAbstractService {
         return reserveItemRepository.findById(reserveItemId)
                 .switchIfEmpty(monoResponseStatusEntityNotFoundException(reserveItemId))
                 .flatMap(reserveItem -> {
-                    String validate = reserveItem.validate(reserveQty);
+                    String validate = reserveItem.validate();
                     if (!"valid".equals(validate)) {
                         return Mono.error(new BusinessMessageException(getMessage(validate)));
                     }
-                    return Mono.just(reserveItem.updateInventoryQty(reserveQty));
+                    return decreaseInventory(reserveItemId, reserveQty);
+                })
+                .flatMap(isDecreased -> {
+                    if (!isDecreased) {
+                        //해당 날짜에 예약할 수 있는 재고수량이 없습니다.
+                        return Mono.error(new BusinessMessageException(getMessage("valid.reserve_count")));
+                    }
+                    return Mono.just(isDecreased);
                 })
-                .flatMap(reserveItemRepository::save)
                 .delayElement(Duration.ofSeconds(5))
                 .publishOn(Schedulers.boundedElastic())
-                .doOnNext(reserveItem -> {
+                .doOnNext(isDecreased -> {
                     log.info("reserve item inventory updated success");
                     sendMessage(reserveId, true);
                 })
@@ -230,6 +243,21 @@ public class ReserveItemService extends ReactiveAbstractService {
     }
 
 
+    /**
+     * 재고 차감
+     * 선착순 물품은 인스턴스에 미리 가져온 재고(token)에서, 그 외 물품은 DB 에서 바로 차감한다.
+     *
+     * @param reserveItemId
+     * @param reserveQty
+     * @return 차감 여부
+     */
+    private Mono<Boolean> decreaseInventory(Long reserveItemId, Integer reserveQty) {
+        if (inventoryTokenPool.isHot(reserveItemId)) {
+            return inventoryTokenPool.claim(reserveItemId, reserveQty);
+        }
+        return reserveItemRepository.decreaseInventory(reserveItemId, reserveQty);
+    }
+
     /**
      * entity -> dto 변환
      *
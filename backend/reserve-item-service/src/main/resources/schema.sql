@@ -58,3 +58,19 @@ CREATE TABLE IF NOT EXISTS reserve_item
 ALTER TABLE reserve_item COMMENT '예약 물품';
 
 
+-- reserve_item_lease Table Create SQL
+CREATE TABLE IF NOT EXISTS reserve_item_lease
+(
+    reserve_item_id       BIGINT            NOT NULL    COMMENT '예약 물품 id',
+    instance_id           VARCHAR(64)       NOT NULL    COMMENT '재고를 가져간 서비스 인스턴스 id',
+    lease_version         BIGINT            NOT NULL    COMMENT 'lease 버전 - 같은 인스턴스가 lease 를 새로 만들 때마다 바뀐다',
+    leased_qty            BIGINT(18)        NOT NULL    DEFAULT 0 COMMENT '가져간 재고 수',
+    consumed_qty          BIGINT(18)        NOT NULL    DEFAULT 0 COMMENT '신청에 사용한 재고 수',
+    expire_date           DATETIME          NOT NULL    COMMENT '만료 일시 - 지나면 다른 인스턴스가 쓰지 않은 재고를 돌려놓는다',
+    PRIMARY KEY (reserve_item_id, instance_id),
+    KEY reserve_item_lease_IDX01 (expire_date)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE reserve_item_lease COMMENT '선착순 예약 물품 재고 lease';
+
+
@@ -0,0 +1,293 @@
+package org.egovframe.cloud.reserveitemservice.domain.reserveItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * org.egovframe.cloud.reserveitemservice.domain.reserveItem.InventoryTokenPoolTest
+ * <p>
+ * 선착순 물품 재고 token pool 테스트
+ * 실제 DB(H2, in-memory)를 함께 쓰는 두 인스턴스(pool)에서 동시에 신청해도 재고만큼만 성공하고,
+ * 종료하거나 장애로 멈춘 인스턴스가 가져간 재고가 돌아오는지 검증한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class InventoryTokenPoolTest {
+
+    private static final long HOT_ITEM_ID = 1L;
+    private static final long ITEM_ID = 2L;
+    private static final int LEASE_SIZE = 20;
+    private static final Duration LEASE_TTL = Duration.ofSeconds(15);
+
+    private static H2ConnectionFactory connectionFactory;
+    private static DatabaseClient databaseClient;
+    private static R2dbcEntityTemplate entityTemplate;
+    private static ReserveItemRepository reserveItemRepository;
+
+    private TestClock clock;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+            .inMemory("inventory_token_pool_testdb")
+            .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+            .property(H2ConnectionOption.MODE, "MySQL")
+            .property("LOCK_TIMEOUT", "10000")
+            .username("sa")
+            .build());
+        new ResourceDatabasePopulator(new ClassPathResource("schema-h2.sql")).populate(connectionFactory).block();
+        databaseClient = DatabaseClient.create(connectionFactory);
+        entityTemplate = new R2dbcEntityTemplate(connectionFactory);
+        reserveItemRepository = new R2dbcRepositoryFactory(entityTemplate)
+            .getRepository(ReserveItemRepository.class, RepositoryFragments.just(new ReserveItemRepositoryImpl(entityTemplate)));
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        databaseClient.sql("DROP ALL OBJECTS").then().block();
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM reserve_item_lease").then().block();
+        databaseClient.sql("DELETE FROM reserve_item").then().block();
+        clock = new TestClock(LocalDateTime.of(2026, 10, 18, 9, 0));
+    }
+
+    private InventoryTokenPool pool() {
+        return new InventoryTokenPool(reserveItemRepository, entityTemplate, new R2dbcTransactionManager(connectionFactory),
+            clock, Set.of(HOT_ITEM_ID), LEASE_SIZE, Duration.ofMillis(500), LEASE_TTL);
+    }
+
+    private void insert(long reserveItemId, int inventoryQty) {
+        databaseClient.sql("INSERT INTO reserve_item (reserve_item_id, reserve_item_name, category_id, total_qty, inventory_qty)"
+                + " VALUES (:id, 'education', 'education', :qty, :qty)")
+            .bind("id", reserveItemId)
+            .bind("qty", inventoryQty)
+            .then()
+            .block();
+    }
+
+    private Long inventoryQty(long reserveItemId) {
+        return databaseClient.sql("SELECT inventory_qty FROM reserve_item WHERE reserve_item_id = :id")
+            .bind("id", reserveItemId)
+            .map(row -> row.get("inventory_qty", Long.class))
+            .one()
+            .block();
+    }
+
+    private Long leaseCount() {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM reserve_item_lease")
+            .map(row -> row.get("cnt", Long.class))
+            .one()
+            .block();
+    }
+
+    private long claimConcurrently(InventoryTokenPool first, InventoryTokenPool second, int requests) {
+        return Flux.range(0, requests)
+            .flatMap(i -> (i % 2 == 0 ? first : second).claim(HOT_ITEM_ID, 1).subscribeOn(Schedulers.boundedElastic()), requests)
+            .filter(Boolean::booleanValue)
+            .count()
+            .block();
+    }
+
+    @DisplayName("두 인스턴스에 재고보다 많은 신청이 동시에 들어와도 재고만큼만 성공한다")
+    @Test
+    void concurrent_claims_never_oversell() {
+        insert(HOT_ITEM_ID, 300);
+        InventoryTokenPool first = pool();
+        InventoryTokenPool second = pool();
+
+        assertThat(claimConcurrently(first, second, 500)).isEqualTo(300);
+
+        first.destroy();
+        second.destroy();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isZero();
+        assertThat(leaseCount()).isZero();
+    }
+
+    @DisplayName("종료하면 쓰지 않은 token 을 재고로 돌려놓고 lease 를 지운다")
+    @Test
+    void destroy_returns_unused_tokens() {
+        insert(HOT_ITEM_ID, 300);
+        InventoryTokenPool first = pool();
+        InventoryTokenPool second = pool();
+
+        assertThat(claimConcurrently(first, second, 101)).isEqualTo(101);
+        assertThat(inventoryQty(HOT_ITEM_ID)).as("lease 로 가져간 재고는 inventory_qty 에서 빠진다").isLessThanOrEqualTo(300 - 101);
+
+        first.destroy();
+        second.destroy();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isEqualTo(199);
+        assertThat(leaseCount()).isZero();
+        assertThat(first.claim(HOT_ITEM_ID, 1).block()).as("종료 후에는 DB 에서 바로 차감한다").isTrue();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isEqualTo(198);
+    }
+
+    @DisplayName("flush 한 뒤 inventory_qty 에 사용하지 않은 lease 재고를 더하면 실제 남은 재고이다")
+    @Test
+    void leased_qty_adds_up_to_remaining_inventory() {
+        insert(HOT_ITEM_ID, 100);
+        InventoryTokenPool first = pool();
+        InventoryTokenPool second = pool();
+        assertThat(first.leasedQty(HOT_ITEM_ID).block()).isZero();
+
+        assertThat(claimConcurrently(first, second, 13)).isEqualTo(13);
+        first.flush().block();
+        second.flush().block();
+
+        assertThat(inventoryQty(HOT_ITEM_ID)).as("lease 로 가져간 재고는 inventory_qty 에서 빠진다").isLessThan(100 - 13);
+        assertThat(inventoryQty(HOT_ITEM_ID) + first.leasedQty(HOT_ITEM_ID).block()).isEqualTo(100 - 13);
+
+        first.destroy();
+        second.destroy();
+        assertThat(second.leasedQty(HOT_ITEM_ID).block()).isZero();
+    }
+
+    @DisplayName("갱신이 멈춘 인스턴스의 lease 는 만료 후 다른 인스턴스가 쓰지 않은 재고를 돌려놓는다")
+    @Test
+    void expired_lease_is_reconciled_by_other_instance() {
+        insert(HOT_ITEM_ID, 100);
+        InventoryTokenPool crashed = pool();
+        InventoryTokenPool survivor = pool();
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(crashed.claim(HOT_ITEM_ID, 1).block()).isTrue();
+        }
+        crashed.flush().block();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isEqualTo(100 - LEASE_SIZE);
+
+        clock.advance(Duration.ofSeconds(10));
+        survivor.flush().block();
+        assertThat(inventoryQty(HOT_ITEM_ID)).as("아직 만료되지 않았다").isEqualTo(100 - LEASE_SIZE);
+        assertThat(crashed.available(HOT_ITEM_ID)).as("lease-ttl 의 2/3 가 지나면 token 을 나눠 주지 않는다").isZero();
+
+        clock.advance(Duration.ofSeconds(6));
+        survivor.flush().block();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isEqualTo(100 - 7);
+        assertThat(leaseCount()).isZero();
+    }
+
+    @DisplayName("갱신하지 못한 lease 를 새로 가져오는 중에 flush 가 이전 lease 를 정리해도 새 lease 행과 token 은 남는다")
+    @Test
+    void replaced_lease_is_not_removed_by_stale_release() {
+        insert(HOT_ITEM_ID, 100);
+        InventoryTokenPool pool = pool();
+        assertThat(pool.claim(HOT_ITEM_ID, 1).block()).isTrue();
+
+        for (int i = 0; i < 20; i++) {
+            clock.advance(Duration.ofSeconds(11));
+            Flux.merge(pool.claim(HOT_ITEM_ID, 1).subscribeOn(Schedulers.boundedElastic()).then(),
+                    pool.flush().subscribeOn(Schedulers.boundedElastic()))
+                .then()
+                .block();
+            assertThat(leaseCount()).as("새 lease 행은 지워지지 않는다").isEqualTo(1);
+
+            pool.flush().block();
+            assertThat(pool.available(HOT_ITEM_ID)).as("다음 flush 에서도 새 lease 의 token 이 남는다").isEqualTo(LEASE_SIZE - 1);
+            assertThat(inventoryQty(HOT_ITEM_ID)).isEqualTo(100 - (i + 2) - (LEASE_SIZE - 1));
+        }
+
+        pool.destroy();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isEqualTo(100 - 21);
+        assertThat(leaseCount()).isZero();
+    }
+
+    @DisplayName("마감된 선착순 물품의 취소(음수 수량)는 lease 없이 inventory_qty 로 바로 돌려놓는다")
+    @Test
+    void cancel_on_sold_out_hot_item_returns_to_database() {
+        insert(HOT_ITEM_ID, 5);
+        InventoryTokenPool first = pool();
+        InventoryTokenPool second = pool();
+
+        assertThat(claimConcurrently(first, second, 10)).isEqualTo(5);
+        assertThat(inventoryQty(HOT_ITEM_ID)).isZero();
+
+        assertThat(second.claim(HOT_ITEM_ID, -2).block()).isTrue();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isEqualTo(2);
+        assertThat(first.available(HOT_ITEM_ID) + second.available(HOT_ITEM_ID)).as("token 으로 가져가지 않는다").isZero();
+
+        assertThat(first.claim(HOT_ITEM_ID, 2).block()).as("돌려놓은 재고는 다시 신청할 수 있다").isTrue();
+        first.destroy();
+        second.destroy();
+        assertThat(inventoryQty(HOT_ITEM_ID)).isZero();
+        assertThat(leaseCount()).isZero();
+    }
+
+    @DisplayName("선착순 물품이 아니면 DB 에서 바로 차감한다")
+    @Test
+    void non_hot_item_decreases_database() {
+        insert(ITEM_ID, 1);
+        InventoryTokenPool pool = pool();
+
+        assertThat(pool.isHot(ITEM_ID)).isFalse();
+        assertThat(pool.claim(ITEM_ID, 1).block()).isTrue();
+        assertThat(pool.claim(ITEM_ID, 1).block()).isFalse();
+        assertThat(inventoryQty(ITEM_ID)).isZero();
+        assertThat(leaseCount()).isZero();
+    }
+
+    private static final class TestClock extends Clock {
+
+        private Instant instant;
+
+        private TestClock(LocalDateTime now) {
+            this.instant = now.toInstant(ZoneOffset.UTC);
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
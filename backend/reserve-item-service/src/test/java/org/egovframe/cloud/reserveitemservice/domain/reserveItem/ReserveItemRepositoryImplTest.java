@@ -0,0 +1,128 @@
+package org.egovframe.cloud.reserveitemservice.domain.reserveItem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.h2.H2ConnectionOption;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * org.egovframe.cloud.reserveitemservice.domain.reserveItem.ReserveItemRepositoryImplTest
+ * <p>
+ * 재고 차감(decreaseInventory) 테스트
+ * 실제 DB(H2, in-memory)에서 조건부 update 가 재고 범위 안에서만 차감하고, 동시에 차감해도 초과 차감하지 않는지 검증한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class ReserveItemRepositoryImplTest {
+
+    private static final long ITEM_ID = 1L;
+
+    private static DatabaseClient databaseClient;
+    private static ReserveItemRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+            .inMemory("reserve_item_inventory_testdb")
+            .property(H2ConnectionOption.DB_CLOSE_DELAY, "-1")
+            .property("LOCK_TIMEOUT", "10000")
+            .username("sa")
+            .build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("CREATE TABLE reserve_item ("
+                + "reserve_item_id BIGINT NOT NULL PRIMARY KEY,"
+                + "inventory_qty BIGINT,"
+                + "modified_date DATETIME"
+                + ")")
+            .then()
+            .block();
+        repository = new ReserveItemRepositoryImpl(new R2dbcEntityTemplate(connectionFactory));
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        databaseClient.sql("DROP TABLE reserve_item").then().block();
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM reserve_item").then().block();
+    }
+
+    private void insert(int inventoryQty) {
+        databaseClient.sql("INSERT INTO reserve_item (reserve_item_id, inventory_qty) VALUES (:id, :qty)")
+            .bind("id", ITEM_ID)
+            .bind("qty", inventoryQty)
+            .then()
+            .block();
+    }
+
+    private Long inventoryQty() {
+        return databaseClient.sql("SELECT inventory_qty FROM reserve_item WHERE reserve_item_id = :id")
+            .bind("id", ITEM_ID)
+            .map(row -> row.get("inventory_qty", Long.class))
+            .one()
+            .block();
+    }
+
+    @DisplayName("재고가 차감할 수량 이상이면 차감하고 true, 재고와 같으면 0 이 된다")
+    @Test
+    void decreaseInventory_within_inventory() {
+        insert(10);
+
+        StepVerifier.create(repository.decreaseInventory(ITEM_ID, 4)).expectNext(true).verifyComplete();
+        assertThat(inventoryQty()).isEqualTo(6);
+
+        StepVerifier.create(repository.decreaseInventory(ITEM_ID, 6)).expectNext(true).verifyComplete();
+        assertThat(inventoryQty()).isZero();
+    }
+
+    @DisplayName("재고가 부족하거나 물품이 없으면 차감하지 않고 false")
+    @Test
+    void decreaseInventory_rejects_when_insufficient_or_missing() {
+        insert(5);
+
+        StepVerifier.create(repository.decreaseInventory(ITEM_ID, 6)).expectNext(false).verifyComplete();
+        StepVerifier.create(repository.decreaseInventory(ITEM_ID + 1, 1)).expectNext(false).verifyComplete();
+        assertThat(inventoryQty()).isEqualTo(5);
+    }
+
+    @DisplayName("재고보다 많은 신청이 동시에 들어와도 재고만큼만 성공하고 초과 차감되지 않는다")
+    @Test
+    void decreaseInventory_concurrently_never_oversells() {
+        int inventory = 200;
+        int requests = 300;
+        insert(inventory);
+
+        Long succeeded = Flux.range(0, requests)
+            .flatMap(i -> repository.decreaseInventory(ITEM_ID, 1).subscribeOn(Schedulers.boundedElastic()), requests)
+            .filter(Boolean::booleanValue)
+            .count()
+            .block();
+
+        assertThat(succeeded).isEqualTo(inventory);
+        assertThat(inventoryQty()).isZero();
+    }
+}
@@ -1,17 +1,18 @@
 package org.egovframe.cloud.reserveitemservice.service.reserveItem;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.egovframe.cloud.common.exception.EntityNotFoundException;
+import org.egovframe.cloud.reserveitemservice.domain.reserveItem.InventoryTokenPool;
 import org.egovframe.cloud.reserveitemservice.domain.reserveItem.ReserveItem;
 import org.egovframe.cloud.reserveitemservice.domain.reserveItem.ReserveItemRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,6 +28,8 @@ import reactor.test.StepVerifier;
  *
  * <pre>
  * updateInventory 가 재고를 이중으로 차감하던 결함(같은 reserveQty 만큼만 차감되어야 함)에 대한 회귀 검증.
+ * 재고 차감은 조회 후 저장하지 않고 repository 의 조건부 차감(decreaseInventory) 한 번으로 처리해야 한다.
+ * 선착순 물품은 InventoryTokenPool 에서 차감한다.
  * </pre>
  */
 @ExtendWith(MockitoExtension.class)
@@ -38,61 +41,56 @@ class ReserveItemServiceTest {
     @Mock
     private StreamBridge streamBridge;
 
+    @Mock
+    private InventoryTokenPool inventoryTokenPool;
+
     @InjectMocks
     private ReserveItemService reserveItemService;
 
-    private ReserveItem reserveItemWithInventory(int inventoryQty) {
-        return ReserveItem.builder()
-            .reserveItemId(1L)
-            .reserveItemName("test")
-            .categoryId("education")
-            .totalQty(100)
-            .inventoryQty(inventoryQty)
-            .build();
-    }
-
     @Test
-    void updateInventory_재고는_reserveQty_만큼만_차감된다() {
-        ReserveItem reserveItem = reserveItemWithInventory(100);
-        when(reserveItemRepository.findById(anyLong())).thenReturn(Mono.just(reserveItem));
-        ArgumentCaptor<ReserveItem> captor = ArgumentCaptor.forClass(ReserveItem.class);
-        when(reserveItemRepository.save(captor.capture()))
-            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    void updateInventory_재고는_reserveQty_만큼_조건부로_차감된다() {
+        when(reserveItemRepository.decreaseInventory(1L, 10)).thenReturn(Mono.just(true));
 
         StepVerifier.create(reserveItemService.updateInventory(1L, 10))
             .expectNext(true)
             .verifyComplete();
 
-        // 100 - 10 = 90 이어야 한다. 결함 시에는 100 - (100-10) = 10 으로 덮어써진다.
-        assertThat(captor.getValue().getInventoryQty()).isEqualTo(90);
+        // 조회 후 저장(read-modify-write)하지 않아야 동시 신청 시 차감이 유실되지 않는다.
+        verify(reserveItemRepository, never()).findById(anyLong());
+        verify(reserveItemRepository, never()).save(any(ReserveItem.class));
     }
 
     @Test
     void updateInventory_재고가_부족하면_차감하지_않고_false() {
-        ReserveItem reserveItem = reserveItemWithInventory(5);
-        when(reserveItemRepository.findById(anyLong())).thenReturn(Mono.just(reserveItem));
+        when(reserveItemRepository.decreaseInventory(1L, 10)).thenReturn(Mono.just(false));
+        when(reserveItemRepository.existsById(1L)).thenReturn(Mono.just(true));
 
         StepVerifier.create(reserveItemService.updateInventory(1L, 10))
             .expectNext(false)
             .verifyComplete();
 
-        // oversell 방지: 재고 부족 시 저장이 일어나지 않아야 한다.
         verify(reserveItemRepository, never()).save(any(ReserveItem.class));
-        assertThat(reserveItem.getInventoryQty()).isEqualTo(5);
     }
 
     @Test
-    void updateInventory_재고와_요청수량이_같으면_0으로_차감된다() {
-        ReserveItem reserveItem = reserveItemWithInventory(10);
-        when(reserveItemRepository.findById(anyLong())).thenReturn(Mono.just(reserveItem));
-        ArgumentCaptor<ReserveItem> captor = ArgumentCaptor.forClass(ReserveItem.class);
-        when(reserveItemRepository.save(captor.capture()))
-            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    void updateInventory_물품이_없으면_EntityNotFoundException() {
+        when(reserveItemRepository.decreaseInventory(1L, 10)).thenReturn(Mono.just(false));
+        when(reserveItemRepository.existsById(1L)).thenReturn(Mono.just(false));
 
         StepVerifier.create(reserveItemService.updateInventory(1L, 10))
+            .expectError(EntityNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void updateInventory_선착순_물품은_token_pool_에서_차감한다() {
+        when(inventoryTokenPool.isHot(1L)).thenReturn(true);
+        when(inventoryTokenPool.claim(1L, 1)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(reserveItemService.updateInventory(1L, 1))
             .expectNext(true)
             .verifyComplete();
 
-        assertThat(captor.getValue().getInventoryQty()).isEqualTo(0);
+        verify(reserveItemRepository, never()).decreaseInventory(anyLong(), anyInt());
     }
 }
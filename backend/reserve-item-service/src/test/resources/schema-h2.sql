@@ -62,5 +62,17 @@ CREATE TABLE IF NOT EXISTS reserve_item
         REFERENCES location (location_id) ON DELETE RESTRICT ON UPDATE RESTRICT
 ) ;
 
+-- reserve_item_lease Table Create SQL
+CREATE TABLE IF NOT EXISTS reserve_item_lease
+(
+    reserve_item_id       BIGINT            NOT NULL    COMMENT '예약 물품 id',
+    instance_id           VARCHAR(64)       NOT NULL    COMMENT '재고를 가져간 서비스 인스턴스 id',
+    lease_version         BIGINT            NOT NULL    COMMENT 'lease 버전',
+    leased_qty            BIGINT(18)        NOT NULL    DEFAULT 0 COMMENT '가져간 재고 수',
+    consumed_qty          BIGINT(18)        NOT NULL    DEFAULT 0 COMMENT '신청에 사용한 재고 수',
+    expire_date           DATETIME          NOT NULL    COMMENT '만료 일시',
+    PRIMARY KEY (reserve_item_id, instance_id)
+) ;
+
 
 
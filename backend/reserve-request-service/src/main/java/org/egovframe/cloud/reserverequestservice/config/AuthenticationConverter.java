@@ -1,15 +1,11 @@
 package org.egovframe.cloud.reserverequestservice.config;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
-import org.springframework.beans.factory.annotation.Value;
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.common.util.JwtVerifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,39 +17,19 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
-/** SHA-256(UTF-8) 키 파생으로 오버라이드 */
+/** 공통 JwtVerifier(SHA-256(UTF-8) 키 파생, 검증 결과 캐시)로 토큰을 검증한다 */
+@RequiredArgsConstructor
 @Component
 public class AuthenticationConverter implements ServerAuthenticationConverter {
 
     private static final String TOKEN_CLAIM_NAME = "authorities";
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
-
-    private SecretKey verificationKey() {
-        try {
-            byte[] digest = MessageDigest.getInstance("SHA-256")
-                .digest(TOKEN_SECRET.getBytes(StandardCharsets.UTF_8));
-            return Keys.hmacShaKeyFor(digest);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
-    }
+    private final JwtVerifier jwtVerifier;
 
-    private String normalizeBearerToken(String token) {
-        if (token == null) {
-            return "";
-        }
-        String t = token.trim();
-        if (t.startsWith("Bearer ")) {
-            return t.substring(7).trim();
-        }
-        return t;
-    }
+    private final InternalIdentityHeader internalIdentityHeader;
 
     @Override
     public Mono<Authentication> convert(ServerWebExchange exchange) {
@@ -69,8 +45,19 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
                         return Mono.empty();
                     }
 
-                    Claims claims = getClaimsFromToken(token);
-                    String authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+                    // apigateway 가 검증한 내부 인증 헤더가 유효하면 JWT 를 다시 파싱하지 않는다.
+                    InternalIdentityHeader.Identity identity = internalIdentityHeader.decode(
+                            exchange.getRequest().getHeaders().getFirst(InternalIdentityHeader.HEADER_NAME));
+                    String username;
+                    String authoritiesStr;
+                    if (identity != null) {
+                        username = identity.getSubject();
+                        authoritiesStr = identity.getAuthorities();
+                    } else {
+                        Claims claims = getClaimsFromToken(token);
+                        username = claims.getSubject();
+                        authoritiesStr = claims.get(TOKEN_CLAIM_NAME, String.class);
+                    }
                     List<SimpleGrantedAuthority> roleList = authoritiesStr == null ? List.of() :
                         Arrays.stream(authoritiesStr.split(","))
                             .map(String::trim)
@@ -78,8 +65,6 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
                             .map(SimpleGrantedAuthority::new)
                             .collect(Collectors.toList());
 
-                    String username = claims.getSubject();
-
                     if (username == null) {
                         ReactiveSecurityContextHolder.withAuthentication(null);
                         return Mono.empty();
@@ -94,10 +79,6 @@ public class AuthenticationConverter implements ServerAuthenticationConverter {
     }
 
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(verificationKey())
-                .build()
-                .parseSignedClaims(normalizeBearerToken(token))
-                .getPayload();
+        return jwtVerifier.verify(token);
     }
 }
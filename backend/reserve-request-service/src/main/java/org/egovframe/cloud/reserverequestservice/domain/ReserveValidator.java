@@ -2,10 +2,10 @@ package org.egovframe.cloud.reserverequestservice.domain;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.stream.IntStream;
 
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.util.MessageUtil;
+import org.egovframe.cloud.common.util.OccupancySweep;
 import org.egovframe.cloud.reserverequestservice.api.dto.ReserveSaveRequestDto;
 import org.springframework.stereotype.Component;
 
@@ -132,42 +132,10 @@ public class ReserveValidator {
     private Mono<Integer> getMaxByReserveDate( Long reserveItemId, LocalDateTime startDate, LocalDateTime endDate) {
         Flux<Reserve> reserveFlux = reserveRepository.findAllByReserveDate(reserveItemId, startDate, endDate);
 
-        long between = ChronoUnit.DAYS.between(startDate, endDate);
-
-        if (between == 0) {
-            return reserveFlux.map(reserve -> {
-                if (isOverlapped(startDate, reserve)) {
-                    return reserve.getReserveQty();
-                }
-                return 0;
-            }).reduce(0, (x1, x2) -> x1 + x2);
-        }
-
-        return Flux.fromStream(IntStream.iterate(0, i -> i + 1)
-            .limit(between)
-            .mapToObj(i -> startDate.plusDays(i)))
-            .flatMap(localDateTime ->
-                reserveFlux.map(findReserve -> {
-                    if (isOverlapped(localDateTime, findReserve)) {
-                        return findReserve.getReserveQty();
-                    }
-                    return 0;
-                }).reduce(0, (x1, x2) -> x1 + x2))
-            .groupBy(integer -> integer)
-            .flatMap(group -> group.reduce((x1,x2) -> x1 > x2?x1:x2))
-            .last(0);
-    }
-
-    /**
-     * 조회 날짜가 예약 기간(시작일~종료일, 양 끝 포함)에 겹치는지 판단한다.
-     *
-     * @param date 조회 날짜
-     * @param reserve 비교 대상 예약
-     * @return 겹치면 true
-     */
-    private boolean isOverlapped(LocalDateTime date, Reserve reserve) {
-        return !date.isBefore(reserve.getReserveStartDate())
-            && !date.isAfter(reserve.getReserveEndDate());
+        return reserveFlux
+            .collect(OccupancySweep::new, (sweep, reserve) ->
+                sweep.add(reserve.getReserveStartDate(), reserve.getReserveEndDate(), reserve.getReserveQty()))
+            .map(sweep -> sweep.maxOnDays(startDate, endDate));
     }
 
     private String getMessage(String code) {
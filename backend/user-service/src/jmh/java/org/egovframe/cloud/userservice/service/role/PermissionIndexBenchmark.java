@@ -0,0 +1,136 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.PermissionIndexBenchmark
+ * <p>
+ * 인가 확인 한 건의 비용 비교 (인가 640건, 권한 4개)
+ * <ul>
+ *     <li>antPathMatcherList : 기존 방식. 권한의 인가 목록을 AntPathMatcher 로 하나씩 비교한다.</li>
+ *     <li>permissionIndex : 권한 하나의 PermissionIndex 조회</li>
+ *     <li>permissionIndexMultiRole : 권한 두 개의 합집합 PermissionIndex 조회</li>
+ * </ul>
+ * 요청 경로는 일치하는 경로, 와일드카드 패턴에만 일치하는 경로, 일치하지 않는 경로를 번갈아 사용한다.
+ * 실행 : gradlew :user-service:jmh
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionIndexBenchmark {
+
+    private static final List<String> ROLES = Arrays.asList("ROLE_ADMIN", "ROLE_EMPLOYEE", "ROLE_USER", "ROLE_ANONYMOUS");
+
+    private static final List<String> SERVICES = Arrays.asList(
+            "user-service", "portal-service", "board-service", "reserve-item-service", "reserve-check-service",
+            "reserve-request-service", "statistics-service", "file-service");
+
+    private static final List<String> METHODS = Arrays.asList("GET", "POST", "PUT", "DELETE");
+
+    private static final String[] PATHS = {
+            "/portal-service/api/v1/resource19/12/items",
+            "/reserve-item-service/api/v1/resource7",
+            "/board-service/api/v1/resource3/99/detail/1",
+            "/unknown-service/api/v1/resource1/1",
+    };
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private List<RoleAuthorizationListResponseDto> userRows;
+
+    private PermissionIndex permissionIndex;
+
+    private final List<String> singleRole = Collections.singletonList("ROLE_USER");
+
+    private final List<String> multiRole = Arrays.asList("ROLE_USER", "ROLE_EMPLOYEE");
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<RoleAuthorizationListResponseDto> rows = new ArrayList<>();
+        for (String service : SERVICES) {
+            for (int resource = 0; resource < 20; resource++) {
+                String base = "/" + service + "/api/v1/resource" + resource;
+                String[] patterns = {base, base + "/*", base + "/{id}/items", base + "/**"};
+                for (int i = 0; i < patterns.length; i++) {
+                    String role = ROLES.get((resource + i) % ROLES.size());
+                    rows.add(row(role, patterns[i], METHODS.get((resource + i) % METHODS.size())));
+                }
+            }
+        }
+        userRows = new ArrayList<>();
+        for (RoleAuthorizationListResponseDto row : rows) {
+            if ("ROLE_USER".equals(row.getRoleId())) {
+                userRows.add(row);
+            }
+        }
+        permissionIndex = PermissionIndex.build(rows);
+    }
+
+    @Benchmark
+    public boolean antPathMatcherList() {
+        String path = nextPath();
+        for (RoleAuthorizationListResponseDto row : userRows) {
+            if (antPathMatcher.match(row.getUrlPatternValue(), path) && row.getHttpMethodCode().equals("GET")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean permissionIndex() {
+        return permissionIndex.isAuthorized(singleRole, "GET", nextPath());
+    }
+
+    @Benchmark
+    public boolean permissionIndexMultiRole() {
+        return permissionIndex.isAuthorized(multiRole, "GET", nextPath());
+    }
+
+    private String nextPath() {
+        return PATHS[next++ & (PATHS.length - 1)];
+    }
+
+    private static RoleAuthorizationListResponseDto row(String roleId, String pattern, String method) {
+        return RoleAuthorizationListResponseDto.builder()
+                .roleId(roleId)
+                .urlPatternValue(pattern)
+                .httpMethodCode(method)
+                .build();
+    }
+
+}
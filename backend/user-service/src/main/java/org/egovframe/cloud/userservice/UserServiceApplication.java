@@ -1,8 +1,10 @@
 package org.egovframe.cloud.userservice;
 
+import org.egovframe.cloud.userservice.event.AuthorizationChangedEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -29,6 +31,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
  */
 @ComponentScan({"org.egovframe.cloud.common", "org.egovframe.cloud.userservice"})
 @EntityScan({"org.egovframe.cloud.servlet.domain", "org.egovframe.cloud.userservice.domain"})
+@RemoteApplicationEventScan(basePackageClasses = AuthorizationChangedEvent.class)
 @EnableDiscoveryClient
 @SpringBootApplication
 public class UserServiceApplication {
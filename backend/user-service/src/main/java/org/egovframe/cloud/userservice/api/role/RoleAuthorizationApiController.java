@@ -2,6 +2,7 @@ package org.egovframe.cloud.userservice.api.role;
 
 import java.util.List;
 
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationSnapshotResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationDeleteRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListResponseDto;
@@ -36,6 +37,7 @@ import lombok.RequiredArgsConstructor;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/12    jooho       최초 생성
+ *  2026/10/18    eGovFrame   인가 규칙 스냅샷 조회 추가
  * </pre>
  */
 @Tag(name = "Role-Authorization API", description = "권한인가 관리 API")
@@ -43,6 +45,13 @@ import lombok.RequiredArgsConstructor;
 @RestController
 public class RoleAuthorizationApiController {
 
+    /**
+     * 인가 규칙 스냅샷 조회 URI
+     * apigateway 가 사용자 토큰 없이 서명한 내부 호출 헤더(InternalIdentityHeader)로 호출하므로
+     * SecurityConfig 에서 {@link org.egovframe.cloud.common.util.InternalIdentityHeader#SERVICE_AUTHORITY} 권한이 있는 GET 요청만 허용한다.
+     */
+    public static final String SNAPSHOT_URI = "/api/v1/role-authorizations/snapshot";
+
     /**
      * 권한 인가 서비스
      */
@@ -61,6 +70,17 @@ public class RoleAuthorizationApiController {
         return roleAuthorizationService.findPageAuthorizationList(requestDto, pageable);
     }
 
+    /**
+     * 인가 규칙 스냅샷 조회
+     * apigateway 가 인가 규칙을 내려받아 자체적으로 인가 여부를 판단할 때 호출한다.
+     *
+     * @return AuthorizationSnapshotResponseDto 인가 규칙 스냅샷 응답 DTO
+     */
+    @GetMapping(SNAPSHOT_URI)
+    public AuthorizationSnapshotResponseDto findSnapshot() {
+        return roleAuthorizationService.findSnapshot();
+    }
+
     /**
      * 권한 인가 다건 등록
      *
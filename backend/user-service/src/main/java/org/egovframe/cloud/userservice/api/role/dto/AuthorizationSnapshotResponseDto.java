@@ -0,0 +1,54 @@
+package org.egovframe.cloud.userservice.api.role.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.api.role.dto.AuthorizationSnapshotResponseDto
+ * <p>
+ * 인가 규칙 스냅샷 응답 DTO 클래스
+ * apigateway 가 인가 규칙 전체를 받아 자체적으로 인가 여부를 판단할 때 사용한다.
+ * 버전은 규칙 내용으로 계산되므로 user-service 인스턴스가 달라도 내용이 같으면 같은 값이다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+public class AuthorizationSnapshotResponseDto {
+
+    /**
+     * 스냅샷 버전
+     */
+    private Long version;
+
+    /**
+     * 인가 규칙 목록
+     */
+    private List<AuthorizationRuleResponseDto> authorizations;
+
+    /**
+     * 인가 규칙 스냅샷 응답 DTO 생성자
+     *
+     * @param version        스냅샷 버전
+     * @param authorizations 인가 규칙 목록
+     */
+    @Builder
+    public AuthorizationSnapshotResponseDto(Long version, List<AuthorizationRuleResponseDto> authorizations) {
+        this.version = version;
+        this.authorizations = authorizations;
+    }
+
+}
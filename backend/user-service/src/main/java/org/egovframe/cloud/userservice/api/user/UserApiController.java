@@ -1,5 +1,7 @@
 package org.egovframe.cloud.userservice.api.user;
 
+import java.io.IOException;
+
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.common.exception.BusinessMessageException;
 import org.egovframe.cloud.common.util.MessageUtil;
@@ -18,6 +20,7 @@ import org.egovframe.cloud.userservice.api.user.dto.UserUpdateInfoRequestDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserUpdateRequestDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserVerifyRequestDto;
 import org.egovframe.cloud.userservice.config.TokenProvider;
+import org.egovframe.cloud.userservice.service.user.UserExportService;
 import org.egovframe.cloud.userservice.service.user.UserService;
 import org.springframework.core.env.Environment;
 import org.springframework.data.domain.Page;
@@ -55,6 +58,7 @@ import lombok.RequiredArgsConstructor;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   사용자 목록 내보내기(CSV, NDJSON) 추가
  * </pre>
  */
 @Tag(name = "User API", description = "사용자 관리 API")
@@ -62,6 +66,7 @@ import lombok.RequiredArgsConstructor;
 @RestController
 public class UserApiController {
     private final UserService userService;
+    private final UserExportService userExportService;
     private final Environment env;
     private final TokenProvider tokenProvider;
 
@@ -135,6 +140,25 @@ public class UserApiController {
         return userService.findByUserId(userId);
     }
 
+    /**
+     * 사용자 목록 내보내기
+     * 전체 사용자를 생성일 역순으로 응답 스트림에 바로 쓴다.
+     *
+     * @param format   내보내기 형식(csv, ndjson)
+     * @param response http 응답
+     * @throws IOException 응답 쓰기 오류
+     */
+    @GetMapping("/api/v1/users/export/{format}")
+    public void export(@PathVariable("format") String format, HttpServletResponse response) throws IOException {
+        UserExportService.Format exportFormat = UserExportService.Format.findByExtension(format);
+        if (exportFormat == null) {
+            throw new BusinessMessageException(messageUtil.getMessage("err.invalid.input.value"));
+        }
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=users." + exportFormat.getExtension());
+        userExportService.export(exportFormat, response.getOutputStream());
+    }
+
     /**
      * refresh token 과 일치하는 사용자가 있으면 access token 을 새로 발급하여 리턴한다.
      *
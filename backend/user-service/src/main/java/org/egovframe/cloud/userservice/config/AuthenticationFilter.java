@@ -9,9 +9,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.egovframe.cloud.common.exception.BusinessException;
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
 import org.egovframe.cloud.common.util.LogUtil;
 import org.egovframe.cloud.userservice.api.user.dto.UserLoginRequestDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserResponseDto;
+import org.egovframe.cloud.userservice.service.user.LoginContext;
 import org.egovframe.cloud.userservice.service.user.UserService;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -58,6 +60,8 @@ import lombok.extern.slf4j.Slf4j;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   로그인 후처리에 LoginContext 전달
+ *  2026/10/18    eGovFrame   토큰이 없어도 내부 인증 헤더 확인(apigateway 서비스 간 호출)
  * </pre>
  */
 @Slf4j
@@ -65,6 +69,7 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private final TokenProvider tokenProvider;
     private final UserService userService;
+    private final InternalIdentityHeader internalIdentityHeader;
 
     /** Spring Security 기본 폼 로그인 URL */
     public static final String LEGACY_LOGIN_PROCESSING_URL = "/login";
@@ -72,7 +77,8 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     /** API 스타일 로그인 URL */
     public static final String LOGIN_PROCESSING_URL = "/auth/login";
 
-    public AuthenticationFilter(AuthenticationManager authenticationManager, TokenProvider tokenProvider, UserService userService) {
+    public AuthenticationFilter(AuthenticationManager authenticationManager, TokenProvider tokenProvider, UserService userService,
+                                InternalIdentityHeader internalIdentityHeader) {
         super.setAuthenticationManager(authenticationManager);
         PathPatternRequestMatcher.Builder pathMatcher = PathPatternRequestMatcher.withDefaults();
         setRequiresAuthenticationRequestMatcher(RequestMatchers.anyOf(
@@ -81,6 +87,7 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         setPostOnly(true);
         this.tokenProvider = tokenProvider;
         this.userService = userService;
+        this.internalIdentityHeader = internalIdentityHeader;
     }
 
     private boolean isLoginProcessingRequest(HttpServletRequest request) {
@@ -152,8 +159,13 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException, ServletException {
         // 토큰 생성 및 response header add
         tokenProvider.createTokenAndAddHeader(request, response, chain, authResult);
-        // 로그인 성공 후처리
-        userService.loginCallback(LogUtil.getSiteId(request), authResult.getName(), true, "");
+        // 로그인 성공 후처리, 인증 시 조회한 사용자가 있으면 다시 조회하지 않는다.
+        LoginContext loginContext = LoginContext.get(request, authResult.getName());
+        if (loginContext != null) {
+            userService.loginCallback(LogUtil.getSiteId(request), loginContext, true, "");
+        } else {
+            userService.loginCallback(LogUtil.getSiteId(request), authResult.getName(), true, "");
+        }
     }
 
     @Transactional
@@ -169,7 +181,12 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
         // 로그인 실패 후처리
         String email = (String) request.getAttribute("email");
-        userService.loginCallback(LogUtil.getSiteId(request), email, false, failContent);
+        LoginContext loginContext = LoginContext.get(request, email);
+        if (loginContext != null) {
+            userService.loginCallback(LogUtil.getSiteId(request), loginContext, false, failContent);
+        } else {
+            userService.loginCallback(LogUtil.getSiteId(request), email, false, failContent);
+        }
         super.unsuccessfulAuthentication(request, response, failed);
     }
 
@@ -193,7 +210,10 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
                 return;
             }
             String token = httpRequest.getHeader(HttpHeaders.AUTHORIZATION);
-            if (!hasLength(token) || "undefined".equals(token)) {
+            // apigateway 가 직접 호출하는 경우(인가 규칙 스냅샷 등)에는 토큰 없이 내부 인증 헤더만 전달된다.
+            if (authenticateInternalIdentity(httpRequest)) {
+                chain.doFilter(request, response);
+            } else if (!hasLength(token) || "undefined".equals(token)) {
                 super.doFilter(request, response, chain);
             } else {
                 // 토큰 유효성 검사는 API Gateway ReactiveAuthorization 클래스에서 미리 처리된다.
@@ -229,4 +249,23 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
             log.error("AuthenticationFilter doFilter error: {}", e.getMessage());
         }
     }
+
+    /**
+     * apigateway 가 토큰 검증 후 전달한 내부 인증 헤더가 유효하면 JWT 를 다시 파싱하지 않고 인증정보를 세팅한다.
+     *
+     * @param request http 요청
+     * @return boolean 내부 인증 헤더로 인증정보를 세팅했으면 true
+     */
+    private boolean authenticateInternalIdentity(HttpServletRequest request) {
+        InternalIdentityHeader.Identity identity = internalIdentityHeader.decode(request.getHeader(InternalIdentityHeader.HEADER_NAME));
+        if (identity == null) {
+            return false;
+        }
+        List<SimpleGrantedAuthority> roleList = Arrays.stream(identity.getAuthorities().split(","))
+                .filter(role -> !role.isEmpty())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(identity.getSubject(), null, roleList));
+        return true;
+    }
 }
@@ -0,0 +1,68 @@
+package org.egovframe.cloud.userservice.config;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * org.egovframe.cloud.userservice.config.CacheEventCounter
+ * <p>
+ * 캐시 이벤트 건수를 cache.events 지표로 세는 리스너
+ * 이벤트마다 로그를 남기던 CacheEventLogger 를 대신한다. 키와 값은 기록하지 않는다.
+ * 리스너는 캐시 이름을 알아야 하므로 ehcache.xml 이 아니라 CacheMetricsBinder 가 캐시마다 등록한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public class CacheEventCounter implements CacheEventListener<Object, Object> {
+
+    public static final String EVENTS_METRIC = "cache.events";
+
+    /**
+     * 세는 이벤트, 저장(CREATED)과 만료(EXPIRED)에 더해 용량 부족으로 제외된 건(EVICTED)을 센다.
+     */
+    public static final Set<EventType> EVENT_TYPES = EnumSet.of(EventType.CREATED, EventType.EXPIRED, EventType.EVICTED);
+
+    private final Map<EventType, Counter> counters = new EnumMap<>(EventType.class);
+
+    public CacheEventCounter(String cacheName, MeterRegistry meterRegistry) {
+        for (EventType type : EVENT_TYPES) {
+            counters.put(type, Counter.builder(EVENTS_METRIC)
+                    .description("cache events")
+                    .tag("cache", cacheName)
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 캐시 이벤트 발생시 건수 증가
+     *
+     * @param cacheEvent 캐시 이벤트
+     */
+    @Override
+    public void onEvent(CacheEvent<?, ?> cacheEvent) {
+        Counter counter = counters.get(cacheEvent.getType());
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.egovframe.cloud.userservice.config;
+
+import java.util.Map;
+
+import org.ehcache.Cache;
+import org.ehcache.core.statistics.CacheStatistics;
+import org.ehcache.core.statistics.TierStatistics;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventFiring;
+import org.ehcache.event.EventOrdering;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.config.CacheMetricsBinder
+ * <p>
+ * ehcache.xml 의 모든 캐시에 대해 JCache 통계에 없는 Ehcache 지표를 등록하는 클래스
+ * 조회 적중/실패(cache.gets), 저장(cache.puts), 제거(cache.evictions, cache.removals)는
+ * ehcache.xml 에서 JCache 통계를 켜면 spring boot 가 JCacheMetrics 로 등록하므로 여기서는 등록하지 않는다.
+ * <ul>
+ *     <li>cache.expirations : 만료 건수</li>
+ *     <li>cache.tier.mappings : 계층별 건수</li>
+ *     <li>cache.tier.occupancy : 계층별 사용률(0 ~ 1), heap 의 entries, offheap 의 MB 설정을 정하는 기준이다</li>
+ *     <li>cache.tier.occupied : 계층별 사용 바이트(offheap, disk)</li>
+ *     <li>cache.tier.evictions : 계층별 제거 건수</li>
+ *     <li>cache.events : 캐시 이벤트 건수(CacheEventCounter)</li>
+ * </ul>
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+public class CacheMetricsBinder implements MeterBinder {
+
+    public static final String EXPIRATIONS_METRIC = "cache.expirations";
+    public static final String TIER_MAPPINGS_METRIC = "cache.tier.mappings";
+    public static final String TIER_OCCUPANCY_METRIC = "cache.tier.occupancy";
+    public static final String TIER_OCCUPIED_METRIC = "cache.tier.occupied";
+    public static final String TIER_EVICTIONS_METRIC = "cache.tier.evictions";
+
+    private final EhcacheStatistics ehcacheStatistics;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : ehcacheStatistics.getCacheNames()) {
+            CacheStatistics statistics = ehcacheStatistics.getStatistics(name);
+            FunctionCounter.builder(EXPIRATIONS_METRIC, statistics, CacheStatistics::getCacheExpirations)
+                    .description("cache expirations")
+                    .tag("cache", name)
+                    .register(registry);
+
+            for (Map.Entry<String, TierStatistics> tier : ehcacheStatistics.getTierStatistics(name).entrySet()) {
+                String tierName = tier.getKey();
+                TierStatistics tierStatistics = tier.getValue();
+                Gauge.builder(TIER_MAPPINGS_METRIC, tierStatistics, TierStatistics::getMappings)
+                        .description("cache entries in the tier")
+                        .tags("cache", name, "tier", tierName)
+                        .register(registry);
+                Gauge.builder(TIER_OCCUPANCY_METRIC, ehcacheStatistics, s -> s.getTierOccupancy(name, tierName))
+                        .description("used fraction of the configured tier size")
+                        .tags("cache", name, "tier", tierName)
+                        .register(registry);
+                if (tierStatistics.getOccupiedByteSize() >= 0) {
+                    Gauge.builder(TIER_OCCUPIED_METRIC, tierStatistics, TierStatistics::getOccupiedByteSize)
+                            .description("bytes used by the tier")
+                            .baseUnit("bytes")
+                            .tags("cache", name, "tier", tierName)
+                            .register(registry);
+                }
+                FunctionCounter.builder(TIER_EVICTIONS_METRIC, tierStatistics, TierStatistics::getEvictions)
+                        .description("entries evicted from the tier")
+                        .tags("cache", name, "tier", tierName)
+                        .register(registry);
+            }
+
+            register(ehcacheStatistics.getCache(name), new CacheEventCounter(name, registry));
+        }
+    }
+
+    private static <K, V> void register(Cache<K, V> cache, CacheEventListener<Object, Object> listener) {
+        cache.getRuntimeConfiguration().registerCacheEventListener(listener, EventOrdering.UNORDERED, EventFiring.ASYNCHRONOUS,
+                CacheEventCounter.EVENT_TYPES);
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.egovframe.cloud.userservice.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.core.statistics.CacheStatistics;
+import org.ehcache.core.statistics.TierStatistics;
+import org.egovframe.cloud.userservice.config.dto.CacheStatisticsResponseDto;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.config.CacheStatisticsEndpoint
+ * <p>
+ * 캐시별 건수, 적중률, 계층 사용률을 보여주는 actuator 엔드포인트
+ * GET /actuator/cachestats, GET /actuator/cachestats/{cacheName}
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatisticsEndpoint {
+
+    private final EhcacheStatistics ehcacheStatistics;
+
+    /**
+     * 모든 캐시 통계
+     *
+     * @return Map<String, CacheStatisticsResponseDto> 캐시 이름별 통계
+     */
+    @ReadOperation
+    public Map<String, CacheStatisticsResponseDto> caches() {
+        Map<String, CacheStatisticsResponseDto> caches = new LinkedHashMap<>();
+        for (String name : ehcacheStatistics.getCacheNames()) {
+            caches.put(name, cache(name));
+        }
+        return caches;
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param name 캐시 이름
+     * @return CacheStatisticsResponseDto 캐시 통계, 없으면 null(404)
+     */
+    @ReadOperation
+    public CacheStatisticsResponseDto cache(@Selector String name) {
+        CacheStatistics statistics = ehcacheStatistics.getStatistics(name);
+        if (statistics == null) {
+            return null;
+        }
+
+        long size = 0;
+        Map<String, CacheStatisticsResponseDto.Tier> tiers = new LinkedHashMap<>();
+        for (Map.Entry<String, TierStatistics> entry : ehcacheStatistics.getTierStatistics(name).entrySet()) {
+            TierStatistics tier = entry.getValue();
+            SizedResourcePool pool = ehcacheStatistics.getPool(name, entry.getKey());
+            double occupancy = ehcacheStatistics.getTierOccupancy(name, entry.getKey());
+            tiers.put(entry.getKey(), CacheStatisticsResponseDto.Tier.builder()
+                    .capacity(pool == null ? null : pool.getSize() + " " + pool.getUnit())
+                    .mappings(tier.getMappings())
+                    .occupancy(Double.isNaN(occupancy) ? null : occupancy)
+                    .occupiedBytes(tier.getOccupiedByteSize())
+                    .evictions(tier.getEvictions())
+                    .build());
+            // 아래 계층이 모든 항목을 가지고 위 계층은 자주 쓰는 항목만 가진다.
+            size = tier.getMappings();
+        }
+
+        long hits = statistics.getCacheHits();
+        long misses = statistics.getCacheMisses();
+        return CacheStatisticsResponseDto.builder()
+                .size(size)
+                .hits(hits)
+                .misses(misses)
+                .hitRatio(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .puts(statistics.getCachePuts())
+                .removals(statistics.getCacheRemovals())
+                .evictions(statistics.getCacheEvictions())
+                .expirations(statistics.getCacheExpirations())
+                .tiers(tiers)
+                .build();
+    }
+
+}
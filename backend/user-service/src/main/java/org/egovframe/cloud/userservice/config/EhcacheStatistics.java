@@ -0,0 +1,182 @@
+package org.egovframe.cloud.userservice.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ehcache.Cache;
+import org.ehcache.config.ResourcePool;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.statistics.CacheStatistics;
+import org.ehcache.core.statistics.TierStatistics;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+
+/**
+ * org.egovframe.cloud.userservice.config.EhcacheStatistics
+ * <p>
+ * ehcache.xml 에 설정된 모든 캐시의 Ehcache 통계를 제공하는 클래스
+ * JCache 통계(JMX)에는 계층(tier)별 정보가 없으므로 Ehcache 캐시 매니저의 StatisticsService(EhcacheStatisticsService 가 보관)에서
+ * 계층별 건수, 사용 바이트, 제거 건수를 읽는다.
+ * 통계 값은 Ehcache 가 캐시 연산마다 이미 집계하는 값이므로 읽는 비용만 있다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   Ehcache 내부 클래스(DefaultCacheStatistics) 대신 StatisticsService 에서 통계를 읽도록 수정
+ * </pre>
+ */
+@Component
+public class EhcacheStatistics {
+
+    /**
+     * 캐시 이름별 Ehcache 캐시와 통계
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public EhcacheStatistics(CacheManager cacheManager) {
+        StatisticsService statisticsService = EhcacheStatisticsService.of(cacheManager.unwrap(org.ehcache.CacheManager.class));
+        if (statisticsService == null) {
+            throw new IllegalStateException("Ehcache statistics service is not registered. cacheManager=" + cacheManager.getURI());
+        }
+        for (String name : cacheManager.getCacheNames()) {
+            Cache<?, ?> cache = cacheManager.getCache(name).unwrap(Cache.class);
+            entries.put(name, new Entry(cache, statisticsService.getCacheStatistics(name)));
+        }
+    }
+
+    /**
+     * 캐시 이름 목록
+     *
+     * @return Iterable<String> 캐시 이름 목록
+     */
+    public Iterable<String> getCacheNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Ehcache 캐시
+     *
+     * @param name 캐시 이름
+     * @return Cache<?, ?> Ehcache 캐시, 없으면 null
+     */
+    public Cache<?, ?> getCache(String name) {
+        Entry entry = entries.get(name);
+        return entry == null ? null : entry.cache;
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param name 캐시 이름
+     * @return CacheStatistics 캐시 통계, 없으면 null
+     */
+    public CacheStatistics getStatistics(String name) {
+        Entry entry = entries.get(name);
+        return entry == null ? null : entry.statistics;
+    }
+
+    /**
+     * 계층별 통계, OnHeap, OffHeap, Disk 순서
+     *
+     * @param name 캐시 이름
+     * @return Map<String, TierStatistics> 계층 이름별 통계
+     */
+    public Map<String, TierStatistics> getTierStatistics(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, TierStatistics> tiers = new LinkedHashMap<>();
+        for (ResourceType.Core type : ResourceType.Core.values()) {
+            TierStatistics tier = entry.statistics.getTierStatistics().get(tierName(type));
+            if (tier != null) {
+                tiers.put(tierName(type), tier);
+            }
+        }
+        return tiers;
+    }
+
+    /**
+     * 계층 사용률
+     * 건수로 설정한 계층은 건수, 크기로 설정한 계층은 사용 바이트로 계산한다.
+     *
+     * @param name     캐시 이름
+     * @param tierName 계층 이름
+     * @return double 0 ~ 1 사이의 사용률, 계산할 수 없으면 NaN
+     */
+    public double getTierOccupancy(String name, String tierName) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return Double.NaN;
+        }
+        TierStatistics tier = entry.statistics.getTierStatistics().get(tierName);
+        SizedResourcePool pool = getPool(name, tierName);
+        if (tier == null || pool == null || pool.getSize() <= 0) {
+            return Double.NaN;
+        }
+        if (pool.getUnit() == EntryUnit.ENTRIES) {
+            return (double) tier.getMappings() / pool.getSize();
+        }
+        if (pool.getUnit() instanceof MemoryUnit && tier.getOccupiedByteSize() >= 0) {
+            return (double) tier.getOccupiedByteSize() / ((MemoryUnit) pool.getUnit()).toBytes(pool.getSize());
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * 계층에 설정된 크기
+     *
+     * @param name     캐시 이름
+     * @param tierName 계층 이름
+     * @return SizedResourcePool 계층 설정, 없으면 null
+     */
+    public SizedResourcePool getPool(String name, String tierName) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        for (ResourceType<?> type : entry.cache.getRuntimeConfiguration().getResourcePools().getResourceTypeSet()) {
+            if (type instanceof ResourceType.Core && tierName.equals(tierName((ResourceType.Core) type))) {
+                ResourcePool pool = entry.cache.getRuntimeConfiguration().getResourcePools().getPoolForResource(type);
+                return pool instanceof SizedResourcePool ? (SizedResourcePool) pool : null;
+            }
+        }
+        return null;
+    }
+
+    private static String tierName(ResourceType.Core type) {
+        switch (type) {
+            case HEAP:
+                return "OnHeap";
+            case OFFHEAP:
+                return "OffHeap";
+            default:
+                return "Disk";
+        }
+    }
+
+    private static final class Entry {
+
+        private final Cache<?, ?> cache;
+        private final CacheStatistics statistics;
+
+        private Entry(Cache<?, ?> cache, CacheStatistics statistics) {
+            this.cache = cache;
+            this.statistics = statistics;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package org.egovframe.cloud.userservice.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ehcache.core.spi.service.CacheManagerProviderService;
+import org.ehcache.core.spi.service.ServiceFactory;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.spi.service.Service;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+import org.ehcache.spi.service.ServiceDependencies;
+import org.ehcache.spi.service.ServiceProvider;
+
+/**
+ * org.egovframe.cloud.userservice.config.EhcacheStatisticsService
+ * <p>
+ * Ehcache 캐시 매니저가 만든 StatisticsService 를 캐시 매니저별로 찾을 수 있게 보관하는 Ehcache 서비스
+ * JCache 로 만든 캐시 매니저는 StatisticsService 를 꺼낼 공개 API 가 없으므로,
+ * META-INF/services 로 등록한 이 서비스가 의존성으로 StatisticsService 를 받아 보관하고 캐시 매니저가 닫히면 지운다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@ServiceDependencies({StatisticsService.class, CacheManagerProviderService.class})
+public class EhcacheStatisticsService implements Service {
+
+    /**
+     * 캐시 매니저별 StatisticsService
+     */
+    private static final Map<Object, StatisticsService> STATISTICS_SERVICES = new ConcurrentHashMap<>();
+
+    private Object cacheManager;
+
+    /**
+     * 캐시 매니저의 StatisticsService
+     *
+     * @param cacheManager Ehcache 캐시 매니저(org.ehcache.CacheManager)
+     * @return StatisticsService 시작되지 않았거나 닫힌 캐시 매니저면 null
+     */
+    public static StatisticsService of(org.ehcache.CacheManager cacheManager) {
+        return STATISTICS_SERVICES.get(cacheManager);
+    }
+
+    @Override
+    public void start(ServiceProvider<Service> serviceProvider) {
+        cacheManager = serviceProvider.getService(CacheManagerProviderService.class).getCacheManager();
+        STATISTICS_SERVICES.put(cacheManager, serviceProvider.getService(StatisticsService.class));
+    }
+
+    @Override
+    public void stop() {
+        if (cacheManager != null) {
+            STATISTICS_SERVICES.remove(cacheManager);
+            cacheManager = null;
+        }
+    }
+
+    /**
+     * 설정 없이 모든 Ehcache 캐시 매니저에 서비스를 만든다.
+     */
+    public static class Factory implements ServiceFactory<EhcacheStatisticsService> {
+
+        @Override
+        public boolean isMandatory() {
+            return true;
+        }
+
+        @Override
+        public EhcacheStatisticsService create(ServiceCreationConfiguration<EhcacheStatisticsService, ?> configuration) {
+            return new EhcacheStatisticsService();
+        }
+
+        @Override
+        public Class<? extends EhcacheStatisticsService> getServiceType() {
+            return EhcacheStatisticsService.class;
+        }
+    }
+
+}
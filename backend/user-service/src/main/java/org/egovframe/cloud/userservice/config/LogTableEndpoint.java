@@ -0,0 +1,68 @@
+package org.egovframe.cloud.userservice.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.egovframe.cloud.userservice.config.dto.LogTableResponseDto;
+import org.egovframe.cloud.userservice.domain.log.LogTable;
+import org.egovframe.cloud.userservice.domain.log.LogTableRepository;
+import org.egovframe.cloud.userservice.domain.log.LogTableStatus;
+import org.egovframe.cloud.userservice.service.log.LogTableRetentionService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.config.LogTableEndpoint
+ * <p>
+ * api_log, login_log, statistics 테이블의 크기, 보관 기간, 파티션을 보여주는 actuator 엔드포인트
+ * GET /actuator/logtables
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "logtables")
+public class LogTableEndpoint {
+
+    private final LogTableRepository logTableRepository;
+
+    private final LogTableRetentionService logTableRetentionService;
+
+    /**
+     * 테이블별 크기
+     *
+     * @return Map<String, LogTableResponseDto> 테이블 이름별 크기, 없는 테이블은 제외
+     */
+    @ReadOperation
+    public Map<String, LogTableResponseDto> tables() {
+        Map<String, LogTableResponseDto> tables = new LinkedHashMap<>();
+        for (LogTable table : LogTable.values()) {
+            LogTableStatus status = logTableRepository.findStatus(table);
+            if (status == null) {
+                continue;
+            }
+            tables.put(table.getTableName(), LogTableResponseDto.builder()
+                    .rows(status.getRows())
+                    .dataBytes(status.getDataBytes())
+                    .indexBytes(status.getIndexBytes())
+                    .retentionMonths(logTableRetentionService.getRetentionMonths(table))
+                    .partitions(status.getPartitions())
+                    .build());
+        }
+        return tables;
+    }
+
+}
@@ -1,9 +1,6 @@
 package org.egovframe.cloud.userservice.config;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
+import org.egovframe.cloud.common.util.HashUtil;
 
 public final class RefreshTokenHashUtil {
 
@@ -11,12 +8,6 @@ public final class RefreshTokenHashUtil {
     }
 
     public static String hash(String refreshToken) {
-        try {
-            byte[] digest = MessageDigest.getInstance("SHA-256")
-                .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(digest);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
+        return HashUtil.sha256(refreshToken);
     }
 }
@@ -1,11 +1,16 @@
 package org.egovframe.cloud.userservice.config;
 
+import static org.egovframe.cloud.common.config.GlobalConstant.ACTUATOR_URI;
 import static org.egovframe.cloud.common.config.GlobalConstant.SECURITY_PERMITALL_ANTPATTERNS;
 
+import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.userservice.api.role.RoleAuthorizationApiController;
 import org.egovframe.cloud.userservice.service.user.UserService;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -36,6 +41,8 @@ import lombok.RequiredArgsConstructor;
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
  *  2026/06/26    이백행         [2026년 컨트리뷰션] @Bean 메서드의 불필요한 public 접근제어자 제거
+ *  2026/10/18    eGovFrame   인가 규칙 스냅샷은 apigateway 서비스 권한으로만 조회
+ *  2026/10/18    eGovFrame   health, info 외 actuator 엔드포인트(metrics, cachestats, logtables)는 관리자만 조회
  * </pre>
  */
 @RequiredArgsConstructor
@@ -46,6 +53,7 @@ public class SecurityConfig {
     private final TokenProvider tokenProvider;
     private final UserService userService;
     private final ApplicationContext applicationContext;
+    private final InternalIdentityHeader internalIdentityHeader;
 
     /**
      * 스프링 시큐리티 설정
@@ -69,6 +77,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(SECURITY_PERMITALL_ANTPATTERNS).permitAll()
                         .requestMatchers(AuthenticationFilter.LEGACY_LOGIN_PROCESSING_URL, AuthenticationFilter.LOGIN_PROCESSING_URL).permitAll()
+                        .requestMatchers(HttpMethod.GET, RoleAuthorizationApiController.SNAPSHOT_URI)
+                            .hasAuthority(InternalIdentityHeader.SERVICE_AUTHORITY) // apigateway 인가 규칙 스냅샷, 서비스 간 호출만 허용
+                        .requestMatchers(ACTUATOR_URI).hasAuthority(Role.ADMIN.getKey()) // metrics, cachestats, logtables 는 관리자만 조회
                         .anyRequest().access(webExpressionAuthorizationManager)) // 호출 시 권한 인가 데이터 확인 (SpEL @authorizationService)
                 .addFilter(getAuthenticationFilter(authenticationManager))
                 .logout(logout -> logout.logoutSuccessUrl("/"));
@@ -98,7 +109,7 @@ public class SecurityConfig {
      * @throws Exception
      */
     private AuthenticationFilter getAuthenticationFilter(AuthenticationManager authenticationManager) {
-        return new AuthenticationFilter(authenticationManager, tokenProvider, userService);
+        return new AuthenticationFilter(authenticationManager, tokenProvider, userService, internalIdentityHeader);
     }
 
 }
@@ -1,23 +1,26 @@
 package org.egovframe.cloud.userservice.config;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
+import org.egovframe.cloud.common.util.JwtHs512Keys;
+import org.egovframe.cloud.common.util.JwtVerifier;
 import org.egovframe.cloud.userservice.api.user.dto.UserResponseDto;
+import org.egovframe.cloud.userservice.domain.user.RefreshToken;
+import org.egovframe.cloud.userservice.service.user.LoginContext;
+import org.egovframe.cloud.userservice.service.user.RefreshTokenService;
 import org.egovframe.cloud.userservice.service.user.UserService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -37,6 +40,10 @@ import jakarta.servlet.http.HttpServletResponse;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/01    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   LoginContext 가 있으면 사용자를 다시 조회하지 않음
+ *  2026/10/18    eGovFrame   refresh token 을 RefreshTokenService(refresh_token 테이블)에 저장하고 재발급 시 교체
+ *  2026/10/18    eGovFrame   이미 사용된 refresh token 으로 재발급하면 family 전체 폐기
+ *  2026/10/18    eGovFrame   Bearer 접두 제거를 JwtHs512Keys.normalizeBearerToken 으로 통일
  * </pre>
  */
 @Component
@@ -44,13 +51,22 @@ public class TokenProvider {
 
     private final UserService userService;
 
-    public TokenProvider(UserService userService) {
+    /**
+     * 서명 키와 검증된 클레임 캐시를 가진 공통 JWT 검증 클래스
+     */
+    private final JwtVerifier jwtVerifier;
+
+    /**
+     * refresh token 저장소 서비스
+     */
+    private final RefreshTokenService refreshTokenService;
+
+    public TokenProvider(UserService userService, JwtVerifier jwtVerifier, RefreshTokenService refreshTokenService) {
         this.userService = userService;
+        this.jwtVerifier = jwtVerifier;
+        this.refreshTokenService = refreshTokenService;
     }
 
-    @Value("${token.secret}")
-    private String TOKEN_SECRET;
-
     @Value("${token.expiration_time}")
     private String TOKEN_EXPIRATION_TIME;
 
@@ -62,30 +78,6 @@ public class TokenProvider {
     final String TOKEN_REFRESH_KEY = "refresh-token";
     final String TOKEN_USER_ID = "token-id";
 
-    /**
-     * token.secret UTF-8 문자열의 SHA-256 다이제스트로 HMAC 키를 만든다.
-     */
-    private SecretKey signingKey() {
-        try {
-            byte[] digest = MessageDigest.getInstance("SHA-256")
-                .digest(TOKEN_SECRET.getBytes(StandardCharsets.UTF_8));
-            return Keys.hmacShaKeyFor(digest);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
-    private String normalizeBearerToken(String token) {
-        if (token == null) {
-            return "";
-        }
-        String t = token.trim();
-        if (t.startsWith("Bearer ")) {
-            return t.substring(7).trim();
-        }
-        return t;
-    }
-
     /**
      * 로그인 후 토큰을 생성하고 헤더에 정보를 담는다.
      *
@@ -101,16 +93,17 @@ public class TokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        // userid 가져오기
-        UserResponseDto userResponseDto = userService.findByEmail(email);
-        String userId = userResponseDto.getUserId();
+        // userid 가져오기, 인증 시 조회한 사용자가 있으면 다시 조회하지 않는다.
+        LoginContext loginContext = LoginContext.get(request, email);
+        String userId = loginContext != null
+                ? loginContext.getUser().getUserId()
+                : userService.findByEmail(email).getUserId();
 
         // JWT Access 토큰 생성
         String accessToken = createAccessToken(authorities, userId);
 
         // JWT Refresh 토큰 생성 후 해시값을 DB에 저장한다.
-        String refreshToken = createRefreshToken(userId);
-        userService.updateRefreshToken(userId, refreshToken);
+        String refreshToken = issueRefreshToken(userId, null);
 
         // Header에 토큰 세팅
         response.addHeader(TOKEN_ACCESS_KEY, accessToken);
@@ -130,7 +123,7 @@ public class TokenProvider {
                 .subject(userId)
                 .claim(TOKEN_CLAIM_NAME, authorities)
                 .expiration(new Date(System.currentTimeMillis() + Long.parseLong(TOKEN_EXPIRATION_TIME)))
-                .signWith(signingKey())
+                .signWith(jwtVerifier.getKey())
                 .compact();
     }
 
@@ -138,39 +131,72 @@ public class TokenProvider {
      * JWT Refresh Token 생성 (subject/JTI 바인딩)
      *
      * @param userId
+     * @param jti
+     * @param expiration
      * @return
      */
-    private String createRefreshToken(String userId) {
+    private String createRefreshToken(String userId, String jti, Date expiration) {
         return Jwts.builder()
                 .subject(userId)
-                .id(java.util.UUID.randomUUID().toString())
-                .expiration(new Date(System.currentTimeMillis() + Long.parseLong(TOKEN_REFRESH_TIME)))
-                .signWith(signingKey())
+                .id(jti)
+                .expiration(expiration)
+                .signWith(jwtVerifier.getKey())
                 .compact();
     }
 
+    /**
+     * JWT Refresh Token 생성 후 저장
+     * current 가 없으면 새 family 로 저장하고, 있으면 이전 토큰을 교체한다.
+     *
+     * @param userId  사용자 id
+     * @param current 재발급 전 refresh token 엔티티
+     * @return String refresh token
+     */
+    private String issueRefreshToken(String userId, RefreshToken current) {
+        String jti = UUID.randomUUID().toString();
+        Date expiration = new Date(System.currentTimeMillis() + Long.parseLong(TOKEN_REFRESH_TIME));
+        String refreshToken = createRefreshToken(userId, jti, expiration);
+        LocalDateTime expiresDate = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+
+        if (current == null) {
+            refreshTokenService.issue(userId, refreshToken, jti, expiresDate);
+        } else if (!refreshTokenService.rotate(current, refreshToken, jti, expiresDate)) {
+            throw new UsernameNotFoundException("Refresh token already used");
+        }
+        return refreshToken;
+    }
+
     /**
      * 사용자가 있으면 access token 을 새로 발급하여 리턴한다.
+     * 이미 재발급에 사용된 refresh token 이면 탈취된 것으로 보고 같은 family 의 토큰을 모두 폐기한 뒤 거부한다.
      *
      * @param refreshToken
      * @param response
      * @return
      */
     public String refreshToken(String refreshToken, HttpServletResponse response) {
-        String normalizedRefreshToken = normalizeBearerToken(refreshToken);
+        String normalizedRefreshToken = JwtHs512Keys.normalizeBearerToken(refreshToken);
         Claims claims = getClaimsFromToken(normalizedRefreshToken);
         String userId = claims.getSubject();
 
-        org.egovframe.cloud.userservice.domain.user.User user =
-            userService.findByRefreshToken(normalizedRefreshToken);
-
-        if (userId == null || !userId.equals(user.getUserId())) {
-            throw new org.springframework.security.core.userdetails.UsernameNotFoundException("Invalid refresh token subject");
+        // 토큰 해시로 저장된 refresh token 조회 (캐시 또는 PK 조회)
+        RefreshToken current = refreshTokenService.find(normalizedRefreshToken);
+        if (current == null) {
+            throw new UsernameNotFoundException("Invalid refresh token");
         }
+        if (userId == null || !userId.equals(current.getUserId())) {
+            throw new UsernameNotFoundException("Invalid refresh token subject");
+        }
+        if (current.isUsed()) {
+            refreshTokenService.revokeFamily(current);
+            throw new UsernameNotFoundException("Refresh token already used");
+        }
+
+        // 권한은 변경되었을 수 있으므로 사용자 정보에서 가져온다.
+        UserResponseDto user = userService.findByUserId(userId);
 
-        String accessToken = createAccessToken(user.getRoleKey(), user.getUserId());
-        String newRefreshToken = createRefreshToken(user.getUserId());
-        userService.updateRefreshToken(user.getUserId(), newRefreshToken);
+        String accessToken = createAccessToken(user.getRoleId(), user.getUserId());
+        String newRefreshToken = issueRefreshToken(user.getUserId(), current);
 
         String filteredRefreshToken = newRefreshToken.replaceAll("\r", "").replaceAll("\n", "");
 
@@ -187,11 +213,7 @@ public class TokenProvider {
      * @return
      */
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey())
-                .build()
-                .parseSignedClaims(normalizeBearerToken(token))
-                .getPayload();
+        return jwtVerifier.verify(token);
     }
 
 }
@@ -0,0 +1,83 @@
+package org.egovframe.cloud.userservice.config.dto;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.userservice.config.dto.CacheStatisticsResponseDto
+ * <p>
+ * 캐시 통계 응답 DTO
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@Builder
+public class CacheStatisticsResponseDto {
+
+    /**
+     * 캐시 건수, 모든 항목을 가진 가장 아래 계층의 건수
+     */
+    private final long size;
+
+    private final long hits;
+
+    private final long misses;
+
+    /**
+     * 조회 적중률(0 ~ 1), 조회가 없으면 0
+     */
+    private final double hitRatio;
+
+    private final long puts;
+
+    private final long removals;
+
+    private final long evictions;
+
+    private final long expirations;
+
+    /**
+     * 계층 이름(OnHeap, OffHeap, Disk)별 통계
+     */
+    private final Map<String, Tier> tiers;
+
+    /**
+     * 계층 통계
+     */
+    @Getter
+    @Builder
+    public static class Tier {
+
+        /**
+         * 설정 크기, 예) 2000 entries, 1 MB
+         */
+        private final String capacity;
+
+        private final long mappings;
+
+        /**
+         * 설정 크기 대비 사용률(0 ~ 1), 계산할 수 없으면 null
+         */
+        private final Double occupancy;
+
+        /**
+         * 사용 바이트, heap 처럼 바이트를 세지 않는 계층은 -1
+         */
+        private final long occupiedBytes;
+
+        private final long evictions;
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.egovframe.cloud.userservice.config.dto;
+
+import java.util.List;
+
+import org.egovframe.cloud.userservice.domain.log.LogTablePartition;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.userservice.config.dto.LogTableResponseDto
+ * <p>
+ * 로그/통계 테이블 크기 응답 DTO
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@Builder
+public class LogTableResponseDto {
+
+    /**
+     * 건수(추정치)
+     */
+    private final long rows;
+
+    private final long dataBytes;
+
+    private final long indexBytes;
+
+    /**
+     * 보관 개월 수, 0 이하이면 삭제하지 않는다
+     */
+    private final int retentionMonths;
+
+    /**
+     * 파티션 목록, 파티션이 없는 테이블은 빈 목록
+     */
+    private final List<LogTablePartition> partitions;
+
+}
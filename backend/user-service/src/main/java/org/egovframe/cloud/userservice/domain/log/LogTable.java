@@ -0,0 +1,35 @@
+package org.egovframe.cloud.userservice.domain.log;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.domain.log.LogTable
+ * <p>
+ * 보관 기간을 관리하는 로그/통계 테이블
+ * 모두 msaportal 스키마에 있으며 created_date 기준 월 단위 파티션으로 나눈다.
+ * api_log 는 공통 모듈, statistics 는 portal-service 에서 저장한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LogTable {
+
+    API_LOG("api_log"),
+    LOGIN_LOG("login_log"),
+    STATISTICS("statistics");
+
+    private final String tableName;
+
+}
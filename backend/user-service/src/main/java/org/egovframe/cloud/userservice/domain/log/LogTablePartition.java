@@ -0,0 +1,44 @@
+package org.egovframe.cloud.userservice.domain.log;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.domain.log.LogTablePartition
+ * <p>
+ * 로그/통계 테이블 파티션 정보
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor
+public class LogTablePartition {
+
+    /**
+     * 파티션 이름, 월 파티션은 pYYYYMM, 마지막 파티션은 p_max
+     */
+    private final String name;
+
+    /**
+     * 파티션 상한(미포함), MAXVALUE 이거나 알 수 없으면 null
+     */
+    private final LocalDateTime lessThan;
+
+    /**
+     * 건수(추정치)
+     */
+    private final long rows;
+
+}
@@ -0,0 +1,194 @@
+package org.egovframe.cloud.userservice.domain.log;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.domain.log.LogTableRepository
+ * <p>
+ * 로그/통계 테이블의 파티션 추가/삭제, 기간이 지난 로그 삭제, 크기 조회 클래스
+ * 테이블은 RANGE COLUMNS(created_date) 로 나누고, 월 파티션 pYYYYMM 은 다음 달 1일 미만, p_max 는 그 이후 로그를 가진다.
+ * 테이블 이름은 LogTable 에 정해진 값만 사용하므로 SQL 에 그대로 넣는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Repository
+public class LogTableRepository {
+
+    public static final String MAX_PARTITION = "p_max";
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션 목록
+     *
+     * @param table 테이블
+     * @return List<LogTablePartition> 파티션 순서대로, 파티션이 없으면 빈 목록
+     */
+    public List<LogTablePartition> findPartitions(LogTable table) {
+        return jdbcTemplate.query("select partition_name, partition_description, table_rows from information_schema.partitions "
+                        + "where table_schema = database() and table_name = ? and partition_name is not null "
+                        + "order by partition_ordinal_position",
+                (rs, rowNum) -> new LogTablePartition(rs.getString(1), parseBound(rs.getString(2)), rs.getLong(3)),
+                table.getTableName());
+    }
+
+    /**
+     * 테이블 크기와 파티션 목록
+     *
+     * @param table 테이블
+     * @return LogTableStatus 테이블 크기, 테이블이 없으면 null
+     */
+    public LogTableStatus findStatus(LogTable table) {
+        List<long[]> sizes = jdbcTemplate.query("select table_rows, data_length, index_length from information_schema.tables "
+                        + "where table_schema = database() and table_name = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+                table.getTableName());
+        if (sizes.isEmpty()) {
+            return null;
+        }
+        long[] size = sizes.get(0);
+        return new LogTableStatus(size[0], size[1], size[2], findPartitions(table));
+    }
+
+    /**
+     * 월 파티션 추가
+     * p_max 가 있으면 p_max 를 나누고, 없으면 마지막에 추가한다.
+     *
+     * @param table        테이블
+     * @param months       추가할 월, 오름차순
+     * @param reorganizeMax p_max 를 나눌지 여부
+     */
+    public void addMonthlyPartitions(LogTable table, List<YearMonth> months, boolean reorganizeMax) {
+        String partitions = months.stream()
+                .map(month -> "partition " + partitionName(month) + " values less than ('" + BOUND_FORMAT.format(upperBound(month)) + "')")
+                .collect(Collectors.joining(", "));
+        if (reorganizeMax) {
+            jdbcTemplate.execute("alter table " + table.getTableName() + " reorganize partition " + MAX_PARTITION
+                    + " into (" + partitions + ", partition " + MAX_PARTITION + " values less than (maxvalue))");
+        } else {
+            jdbcTemplate.execute("alter table " + table.getTableName() + " add partition (" + partitions + ")");
+        }
+    }
+
+    /**
+     * 파티션 삭제, 파티션의 로그가 모두 삭제된다.
+     *
+     * @param table 테이블
+     * @param names 파티션 이름
+     */
+    public void dropPartitions(LogTable table, List<String> names) {
+        jdbcTemplate.execute("alter table " + table.getTableName() + " drop partition " + String.join(", ", names));
+    }
+
+    /**
+     * 파티션이 없는 테이블에서 기준 일시 이전 로그를 limit 건까지 삭제한다.
+     *
+     * @param table  테이블
+     * @param cutoff 기준 일시(미포함)
+     * @param limit  최대 삭제 건수
+     * @return int 삭제 건수
+     */
+    public int deleteBefore(LogTable table, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("delete from " + table.getTableName() + " where created_date < ? limit " + limit,
+                Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * 이름 있는 잠금(GET_LOCK)을 잡은 동안 작업을 실행한다. 다른 인스턴스가 잡고 있으면 실행하지 않는다.
+     * 잠금은 잡은 연결이 닫히거나 해제할 때까지 유지되므로 작업이 끝날 때까지 같은 연결을 가지고 있는다.
+     *
+     * @param name 잠금 이름
+     * @param task 작업
+     * @return boolean 실행 여부
+     */
+    public boolean runWithLock(String name, Runnable task) {
+        Boolean executed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("select get_lock(?, 0)")) {
+                ps.setString(1, name);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement ps = connection.prepareStatement("select release_lock(?)")) {
+                    ps.setString(1, name);
+                    ps.executeQuery().close();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(executed);
+    }
+
+    /**
+     * 월 파티션 이름
+     *
+     * @param month 월
+     * @return String pYYYYMM
+     */
+    public static String partitionName(YearMonth month) {
+        return PARTITION_NAME_FORMAT.format(month);
+    }
+
+    /**
+     * 월 파티션 상한, 다음 달 1일 0시
+     *
+     * @param month 월
+     * @return LocalDateTime 상한(미포함)
+     */
+    public static LocalDateTime upperBound(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * RANGE COLUMNS 파티션 상한 값('2026-11-01 00:00:00')을 읽는다.
+     */
+    private static LocalDateTime parseBound(String description) {
+        if (description == null) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        try {
+            if (value.length() == 10) {
+                return LocalDateTime.parse(value + " 00:00:00", BOUND_FORMAT);
+            }
+            return LocalDateTime.parse(value.length() > 19 ? value.substring(0, 19) : value, BOUND_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.egovframe.cloud.userservice.domain.log;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.domain.log.LogTableStatus
+ * <p>
+ * 로그/통계 테이블 크기 정보
+ * information_schema 의 값이므로 건수는 추정치이다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor
+public class LogTableStatus {
+
+    private final long rows;
+
+    private final long dataBytes;
+
+    private final long indexBytes;
+
+    /**
+     * 파티션 목록, 파티션이 없는 테이블은 빈 목록
+     */
+    private final List<LogTablePartition> partitions;
+
+}
@@ -0,0 +1,253 @@
+package org.egovframe.cloud.userservice.domain.log;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.domain.log.LoginLogBatchWriter
+ * <p>
+ * 로그인 로그를 메모리 큐에 모아 별도 스레드에서 JDBC batch insert 로 저장하는 클래스
+ * 로그인 요청은 큐에 넣고 바로 돌아가며, 쓰기 스레드는 batch-size 건이 모이거나 첫 건 이후 flush-interval 이 지나면 저장한다.
+ * 큐가 가득 차면 overflow-policy 에 따라 요청 스레드에서 바로 저장하거나(CALLER_RUNS) 버린다(DROP).
+ * 종료 시 shutdown-timeout 동안 큐에 남은 로그를 모두 저장한다.
+ * 큐 크기, 저장 건수, 버린 건수는 user.login-log.* 지표로 노출된다.
+ * log_id 가 IDENTITY 라 JPA 로는 batch insert 가 되지 않으므로 JdbcTemplate 을 사용한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class LoginLogBatchWriter implements InitializingBean, DisposableBean {
+
+    public static final String QUEUE_METRIC = "user.login-log.queue";
+    public static final String WRITTEN_METRIC = "user.login-log.written";
+    public static final String DROPPED_METRIC = "user.login-log.dropped";
+
+    private static final String INSERT_SQL = "insert into login_log "
+            + "(site_id, email_addr, ip_addr, success_at, fail_content, created_date, modified_date) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 큐가 가득 찼을 때 처리 방식
+     */
+    public enum OverflowPolicy {
+        /**
+         * 요청 스레드에서 바로 저장한다.
+         */
+        CALLER_RUNS,
+        /**
+         * 저장하지 않고 버린다.
+         */
+        DROP
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BlockingQueue<Entry> queue;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Duration shutdownTimeout;
+
+    private final Counter written;
+
+    private final Counter droppedQueueFull;
+
+    private final Counter droppedWriteFailed;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    public LoginLogBatchWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                               @Value("${login-log.writer.queue-capacity:10000}") int queueCapacity,
+                               @Value("${login-log.writer.batch-size:500}") int batchSize,
+                               @Value("${login-log.writer.flush-interval:PT1S}") Duration flushInterval,
+                               @Value("${login-log.writer.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy,
+                               @Value("${login-log.writer.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder(QUEUE_METRIC, queue, BlockingQueue::size)
+                .description("login logs waiting to be written")
+                .register(meterRegistry);
+        this.written = Counter.builder(WRITTEN_METRIC)
+                .description("login logs written")
+                .register(meterRegistry);
+        this.droppedQueueFull = Counter.builder(DROPPED_METRIC)
+                .description("login logs dropped")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.droppedWriteFailed = Counter.builder(DROPPED_METRIC)
+                .description("login logs dropped")
+                .tag("reason", "write-failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        worker = new Thread(this::run, "login-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 로그인 로그 저장 요청
+     * 큐에 넣고 바로 리턴한다. 생성 일시는 호출 시점이다.
+     *
+     * @param loginLog 로그인 로그
+     */
+    public void write(LoginLog loginLog) {
+        Entry entry = new Entry(loginLog, LocalDateTime.now());
+        if (running && queue.offer(entry)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            flush(List.of(entry));
+            return;
+        }
+        droppedQueueFull.increment();
+        log.warn("login log dropped, queue is full. email={}", loginLog.getEmail());
+    }
+
+    /**
+     * 쓰기 스레드를 멈추고 큐에 남은 로그를 저장한다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        worker.join(shutdownTimeout.toMillis());
+        if (worker.isAlive()) {
+            log.warn("login log writer did not finish in {}. remaining={}", shutdownTimeout, queue.size());
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("login log writer error", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * batch-size 가 되거나 flush-interval 이 지날 때까지 큐에서 더 가져온다. 종료 중이면 기다리지 않는다.
+     */
+    private void fill(List<Entry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Entry entry = batch.get(i);
+                    LoginLog loginLog = entry.loginLog;
+                    if (loginLog.getSiteId() == null) {
+                        ps.setNull(1, Types.BIGINT);
+                    } else {
+                        ps.setLong(1, loginLog.getSiteId());
+                    }
+                    ps.setString(2, loginLog.getEmail());
+                    ps.setString(3, loginLog.getRemoteIp());
+                    ps.setBoolean(4, Boolean.TRUE.equals(loginLog.getSuccessAt()));
+                    ps.setString(5, loginLog.getFailContent());
+                    Timestamp createdDate = Timestamp.valueOf(entry.createdDate);
+                    ps.setTimestamp(6, createdDate);
+                    ps.setTimestamp(7, createdDate);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            droppedWriteFailed.increment(batch.size());
+            log.error("login log batch insert failed. size={}", batch.size(), e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final LoginLog loginLog;
+        private final LocalDateTime createdDate;
+
+        private Entry(LoginLog loginLog, LocalDateTime createdDate) {
+            this.loginLog = loginLog;
+            this.createdDate = createdDate;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.egovframe.cloud.userservice.domain.mail;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+import java.time.LocalDateTime;
+
+import org.egovframe.cloud.servlet.domain.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.domain.mail.MailOutbox
+ * <p>
+ * 메일 발송 대기 엔티티
+ * 메일을 보내는 요청의 트랜잭션 안에서 저장하고, MailOutboxDispatcher 가 커밋된 메일을 발송한다.
+ * 발송 대상은 READY 상태이고 다음 시도 일시가 지난 메일이다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status", columnList = "status, next_attempt_date"),
+        @Index(name = "idx_mail_outbox_claim_id", columnList = "claim_id")})
+public class MailOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "mail_id")
+    private Long mailId;
+
+    /**
+     * 받는 사람 이메일 주소
+     */
+    @Column(name = "to_addr", nullable = false, length = 100)
+    private String toAddr;
+
+    /**
+     * 제목
+     */
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    /**
+     * html 본문
+     */
+    @Column(nullable = false, columnDefinition = "mediumtext")
+    private String content;
+
+    /**
+     * 발송 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatus status;
+
+    /**
+     * 발송 시도 수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    /**
+     * 다음 시도 일시, 발송 중에는 점유 만료 일시
+     */
+    @Column(name = "next_attempt_date", nullable = false)
+    private LocalDateTime nextAttemptDate;
+
+    /**
+     * 발송 중인 디스패처의 점유 id
+     */
+    @Column(name = "claim_id", length = 36)
+    private String claimId;
+
+    /**
+     * 마지막 발송 오류
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 발송 일시
+     */
+    @Column(name = "sent_date")
+    private LocalDateTime sentDate;
+
+    /**
+     * 빌드 패턴 클래스 생성자
+     *
+     * @param toAddr  받는 사람 이메일 주소
+     * @param subject 제목
+     * @param content html 본문
+     */
+    @Builder
+    public MailOutbox(String toAddr, String subject, String content) {
+        this.toAddr = toAddr;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailOutboxStatus.READY;
+        this.attemptCount = 0;
+        this.nextAttemptDate = LocalDateTime.now();
+    }
+
+}
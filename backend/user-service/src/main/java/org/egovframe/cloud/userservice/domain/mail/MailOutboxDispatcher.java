@@ -0,0 +1,341 @@
+package org.egovframe.cloud.userservice.domain.mail;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.domain.mail.MailOutboxDispatcher
+ * <p>
+ * mail_outbox 에 커밋된 메일을 별도 스레드에서 발송하는 클래스
+ * poll-interval 마다, 또는 메일이 저장된 트랜잭션이 커밋되면 바로 batch-size 건씩 점유하여 발송한다.
+ * 점유한 메일은 concurrency 개로 나누어 발송 스레드마다 SMTP 연결 하나로 보내므로 SMTP 동시 연결 수는 concurrency 를 넘지 않는다.
+ * 발송에 실패하면 retry-backoff 부터 두 배씩 늘린 간격으로 max-attempts 까지 재시도하고, 이후에는 FAILED 로 남긴다.
+ * 발송 후 결과를 저장하기 전에 종료되면 lease 가 지난 뒤 다시 발송하므로 같은 메일이 두 번 발송될 수 있다.
+ * 발송 건수와 실패 건수는 user.mail-outbox.* 지표로 노출된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   발송 스레드 오류와 메시지 생성 오류를 발송 실패로 기록
+ * </pre>
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher implements InitializingBean, DisposableBean {
+
+    public static final String SENT_METRIC = "user.mail-outbox.sent";
+    public static final String FAILED_METRIC = "user.mail-outbox.failed";
+
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final int batchSize;
+
+    private final int concurrency;
+
+    private final Duration pollInterval;
+
+    private final Duration lease;
+
+    private final int maxAttempts;
+
+    private final Duration retryBackoff;
+
+    private final Duration retention;
+
+    private final Duration shutdownTimeout;
+
+    private final Counter sent;
+
+    private final Counter failedRetry;
+
+    private final Counter failedGaveUp;
+
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+
+    private ScheduledExecutorService scheduler;
+
+    private ExecutorService senders;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository, JavaMailSender javaMailSender, MeterRegistry meterRegistry,
+                                @Value("${mail-outbox.batch-size:50}") int batchSize,
+                                @Value("${mail-outbox.concurrency:2}") int concurrency,
+                                @Value("${mail-outbox.poll-interval:PT5S}") Duration pollInterval,
+                                @Value("${mail-outbox.lease:PT5M}") Duration lease,
+                                @Value("${mail-outbox.max-attempts:5}") int maxAttempts,
+                                @Value("${mail-outbox.retry-backoff:PT1M}") Duration retryBackoff,
+                                @Value("${mail-outbox.retention:P7D}") Duration retention,
+                                @Value("${mail-outbox.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.retention = retention;
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.sent = Counter.builder(SENT_METRIC)
+                .description("outbox mails sent")
+                .register(meterRegistry);
+        this.failedRetry = Counter.builder(FAILED_METRIC)
+                .description("outbox mails failed")
+                .tag("result", "retry")
+                .register(meterRegistry);
+        this.failedGaveUp = Counter.builder(FAILED_METRIC)
+                .description("outbox mails failed")
+                .tag("result", "gave-up")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderCount = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long pollMillis = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::dispatch, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        long purgeMillis = PURGE_INTERVAL.toMillis();
+        scheduler.scheduleWithFixedDelay(this::purgeSent, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 진행 중인 발송을 shutdown-timeout 동안 기다린 뒤 멈춘다.
+     * 발송하지 못한 메일은 lease 가 지난 뒤 다른 인스턴스나 재시작한 인스턴스가 발송한다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("mail outbox dispatcher did not finish in {}", shutdownTimeout);
+            scheduler.shutdownNow();
+        }
+        senders.shutdownNow();
+    }
+
+    /**
+     * 다음 poll 을 기다리지 않고 발송한다.
+     * 이미 발송 요청이 있으면 한 번으로 합친다.
+     */
+    public void wakeUp() {
+        if (scheduler == null || !wakeUpRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            wakeUpRequested.set(false);
+        }
+    }
+
+    /**
+     * 발송할 메일이 없을 때까지 batch-size 건씩 발송한다.
+     */
+    void dispatch() {
+        wakeUpRequested.set(false);
+        try {
+            // 조회 건수가 batch-size 이면 남은 메일이 있을 수 있으므로 poll 을 기다리지 않고 이어서 발송한다.
+            int count;
+            do {
+                count = dispatchBatch();
+            } while (count >= batchSize);
+        } catch (RuntimeException e) {
+            log.error("mail outbox dispatch failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일 삭제
+     */
+    void purgeSent() {
+        try {
+            int count = mailOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention));
+            log.debug("sent outbox mails purged. count={}", count);
+        } catch (RuntimeException e) {
+            log.error("mail outbox purge failed", e);
+        }
+    }
+
+    /**
+     * 메일을 점유하여 발송하고 결과를 저장한다.
+     *
+     * @return int 조회한 발송 대상 건수
+     */
+    private int dispatchBatch() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> mailIds = mailOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+        if (mailIds.isEmpty()) {
+            return 0;
+        }
+        String claimId = UUID.randomUUID().toString();
+        if (mailOutboxRepository.claim(mailIds, claimId, now, now.plus(lease)) == 0) {
+            return mailIds.size();
+        }
+        List<MailOutbox> mails = mailOutboxRepository.findByClaimIdAndStatus(claimId, MailOutboxStatus.READY);
+
+        int chunkSize = (mails.size() + concurrency - 1) / concurrency;
+        Map<Future<Map<Long, Exception>>, List<MailOutbox>> chunks = new LinkedHashMap<>();
+        for (int from = 0; from < mails.size(); from += chunkSize) {
+            List<MailOutbox> chunk = mails.subList(from, Math.min(from + chunkSize, mails.size()));
+            chunks.put(senders.submit(() -> send(chunk)), chunk);
+        }
+        Map<Long, Exception> failures = new HashMap<>();
+        for (Map.Entry<Future<Map<Long, Exception>>, List<MailOutbox>> entry : chunks.entrySet()) {
+            try {
+                failures.putAll(entry.getKey().get());
+            } catch (ExecutionException e) {
+                // 발송 결과를 알 수 없으므로 묶음의 메일을 모두 실패로 기록하여 재시도한다.
+                log.error("mail outbox sender failed", e.getCause());
+                Exception failure = e.getCause() instanceof Exception cause ? cause : e;
+                entry.getValue().forEach(mail -> failures.put(mail.getMailId(), failure));
+            }
+        }
+
+        saveResults(mails, failures);
+        return mailIds.size();
+    }
+
+    /**
+     * SMTP 연결 하나로 메일을 발송한다.
+     *
+     * @return Map<Long, Exception> 실패한 메일 id 와 오류
+     */
+    private Map<Long, Exception> send(List<MailOutbox> mails) {
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, MailOutbox> messages = new LinkedHashMap<>();
+        for (MailOutbox mail : mails) {
+            try {
+                messages.put(toMimeMessage(mail), mail);
+            } catch (MessagingException | RuntimeException e) {
+                // 주소 형식 오류 등은 이 메일만 실패로 기록하고 나머지는 발송한다.
+                failures.put(mail.getMailId(), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(mail -> failures.put(mail.getMailId(), e));
+            }
+            e.getFailedMessages().forEach((message, exception) -> {
+                MailOutbox mail = messages.get(message);
+                if (mail != null) {
+                    failures.put(mail.getMailId(), exception);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(mail -> failures.put(mail.getMailId(), e));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setTo(mail.getToAddr());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getContent(), true);
+        return message;
+    }
+
+    private void saveResults(List<MailOutbox> mails, Map<Long, Exception> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        for (MailOutbox mail : mails) {
+            Exception failure = failures.get(mail.getMailId());
+            if (failure == null) {
+                sentIds.add(mail.getMailId());
+                continue;
+            }
+
+            int attemptCount = mail.getAttemptCount() + 1;
+            String error = truncate(failure.getMessage());
+            if (attemptCount >= maxAttempts) {
+                mailOutboxRepository.markFailed(mail.getMailId(), MailOutboxStatus.FAILED, attemptCount, now, error, now);
+                failedGaveUp.increment();
+                log.error("outbox mail failed. mailId={}, attempt={}, error={}", mail.getMailId(), attemptCount, error);
+            } else {
+                LocalDateTime nextAttemptDate = now.plus(retryBackoff.multipliedBy(1L << Math.min(attemptCount - 1, 10)));
+                mailOutboxRepository.markFailed(mail.getMailId(), MailOutboxStatus.READY, attemptCount, nextAttemptDate, error, now);
+                failedRetry.increment();
+                log.warn("outbox mail will be retried. mailId={}, attempt={}, next={}, error={}",
+                        mail.getMailId(), attemptCount, nextAttemptDate, error);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds, now);
+            sent.increment(sentIds.size());
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
@@ -0,0 +1,120 @@
+package org.egovframe.cloud.userservice.domain.mail;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * org.egovframe.cloud.userservice.domain.mail.MailOutboxRepository
+ * <p>
+ * 메일 발송 대기 레파지토리 인터페이스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 발송할 메일 id 조회
+     *
+     * @param now      현재 일시
+     * @param pageable 조회 건수
+     * @return List<Long> 메일 id 목록
+     */
+    @Query("select m.mailId from MailOutbox m"
+            + " where m.status = org.egovframe.cloud.userservice.domain.mail.MailOutboxStatus.READY and m.nextAttemptDate <= :now"
+            + " order by m.mailId")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송할 메일 점유
+     * 다음 시도 일시를 점유 만료 일시로 바꾸므로 다른 디스패처(다른 인스턴스 포함)가 조회한 같은 메일은 점유되지 않는다.
+     * 점유한 디스패처가 만료 일시까지 결과를 저장하지 못하면 다시 발송 대상이 된다.
+     *
+     * @param mailIds    메일 id 목록
+     * @param claimId    점유 id
+     * @param now        현재 일시
+     * @param leaseUntil 점유 만료 일시
+     * @return int 점유 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.claimId = :claimId, m.nextAttemptDate = :leaseUntil"
+            + " where m.mailId in :mailIds"
+            + " and m.status = org.egovframe.cloud.userservice.domain.mail.MailOutboxStatus.READY and m.nextAttemptDate <= :now")
+    int claim(@Param("mailIds") Collection<Long> mailIds, @Param("claimId") String claimId,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 점유한 메일 조회
+     *
+     * @param claimId 점유 id
+     * @param status  발송 상태
+     * @return List<MailOutbox> 메일 목록
+     */
+    List<MailOutbox> findByClaimIdAndStatus(String claimId, MailOutboxStatus status);
+
+    /**
+     * 발송 완료 저장
+     *
+     * @param mailIds 메일 id 목록
+     * @param now     발송 일시
+     * @return int 수정 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = org.egovframe.cloud.userservice.domain.mail.MailOutboxStatus.SENT,"
+            + " m.attemptCount = m.attemptCount + 1, m.sentDate = :now, m.claimId = null, m.modifiedDate = :now"
+            + " where m.mailId in :mailIds")
+    int markSent(@Param("mailIds") Collection<Long> mailIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 실패 저장
+     *
+     * @param mailId          메일 id
+     * @param status          READY(재시도) 또는 FAILED
+     * @param attemptCount    발송 시도 수
+     * @param nextAttemptDate 다음 시도 일시
+     * @param lastError       발송 오류
+     * @param now             현재 일시
+     * @return int 수정 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :status, m.attemptCount = :attemptCount, m.nextAttemptDate = :nextAttemptDate,"
+            + " m.lastError = :lastError, m.claimId = null, m.modifiedDate = :now"
+            + " where m.mailId = :mailId")
+    int markFailed(@Param("mailId") Long mailId, @Param("status") MailOutboxStatus status,
+                   @Param("attemptCount") Integer attemptCount, @Param("nextAttemptDate") LocalDateTime nextAttemptDate,
+                   @Param("lastError") String lastError, @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일 삭제
+     * 본문에 비밀번호 초기화 URL 등이 있으므로 오래 보관하지 않는다.
+     *
+     * @param before 기준 일시
+     * @return int 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from MailOutbox m"
+            + " where m.status = org.egovframe.cloud.userservice.domain.mail.MailOutboxStatus.SENT and m.sentDate < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+
+}
@@ -0,0 +1,37 @@
+package org.egovframe.cloud.userservice.domain.mail;
+
+/**
+ * org.egovframe.cloud.userservice.domain.mail.MailOutboxStatus
+ * <p>
+ * 메일 발송 상태
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public enum MailOutboxStatus {
+
+    /**
+     * 발송 대기 또는 재시도 대기
+     */
+    READY,
+
+    /**
+     * 발송 완료
+     */
+    SENT,
+
+    /**
+     * 최대 시도 수를 넘겨 발송 실패
+     */
+    FAILED
+
+}
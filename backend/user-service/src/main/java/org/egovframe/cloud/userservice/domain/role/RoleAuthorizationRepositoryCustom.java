@@ -1,5 +1,7 @@
 package org.egovframe.cloud.userservice.domain.role;
 
+import java.util.List;
+
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListResponseDto;
 import org.springframework.data.domain.Page;
@@ -35,4 +37,12 @@ public interface RoleAuthorizationRepositoryCustom {
      */
     Page<RoleAuthorizationListResponseDto> findPageAuthorizationList(RoleAuthorizationListRequestDto requestDto, Pageable pageable);
 
+    /**
+     * 권한 인가 전체 목록 조회
+     * 인가와 권한 인가를 이너 조인하여 인가 번호, 권한 id 순으로 정렬한다.
+     *
+     * @return List<RoleAuthorizationListResponseDto> 권한 인가 목록 응답 DTO
+     */
+    List<RoleAuthorizationListResponseDto> findAllAuthorizationList();
+
 }
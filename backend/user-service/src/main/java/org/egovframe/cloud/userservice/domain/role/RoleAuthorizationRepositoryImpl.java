@@ -1,5 +1,7 @@
 package org.egovframe.cloud.userservice.domain.role;
 
+import java.util.List;
+
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.QRoleAuthorizationListResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListRequestDto;
@@ -82,6 +84,29 @@ public class RoleAuthorizationRepositoryImpl implements RoleAuthorizationReposit
         return new PageImpl<>(result.getResults(), pageable, result.getTotal());
     }
 
+    /**
+     * 권한 인가 전체 목록 조회
+     * 인가와 권한 인가를 이너 조인하여 인가 번호, 권한 id 순으로 정렬한다.
+     *
+     * @return List<RoleAuthorizationListResponseDto> 권한 인가 목록 응답 DTO
+     */
+    public List<RoleAuthorizationListResponseDto> findAllAuthorizationList() {
+        return jpaQueryFactory
+                .select(new QRoleAuthorizationListResponseDto(
+                        QRoleAuthorization.roleAuthorization.roleAuthorizationId.roleId,
+                        QAuthorization.authorization.authorizationNo,
+                        QAuthorization.authorization.authorizationName,
+                        QAuthorization.authorization.urlPatternValue,
+                        QAuthorization.authorization.httpMethodCode,
+                        QAuthorization.authorization.sortSeq,
+                        Expressions.as(Expressions.constant(true), "createdAt") // 생성 여부
+                ))
+                .from(QAuthorization.authorization)
+                .innerJoin(QRoleAuthorization.roleAuthorization).on(QAuthorization.authorization.authorizationNo.eq(QRoleAuthorization.roleAuthorization.roleAuthorizationId.authorizationNo))
+                .orderBy(QAuthorization.authorization.authorizationNo.asc(), QRoleAuthorization.roleAuthorization.roleAuthorizationId.roleId.asc())
+                .fetch();
+    }
+
     /**
      * 권한 id 검색 표현식 리턴
      *
@@ -0,0 +1,150 @@
+package org.egovframe.cloud.userservice.domain.user;
+
+import java.time.LocalDateTime;
+
+import org.egovframe.cloud.servlet.domain.BaseTimeEntity;
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.domain.user.RefreshToken
+ * <p>
+ * refresh token 엔티티 클래스
+ * 토큰 원문 대신 해시를 키로 저장하고, 토큰을 재발급하면 이전 행에 사용 일시를 남기고 같은 family id 로 새 행을 입력한다.
+ * 사용된 행은 만료될 때까지 남겨 두어 같은 토큰이 다시 들어오면 재사용(탈취)으로 판단할 수 있게 한다.
+ * family id 는 로그인 한 번에서 시작된 재발급 이력을 묶는다.
+ * 키를 직접 지정하므로 Persistable 을 구현해 저장 시 조회(merge) 없이 바로 입력되도록 한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   재발급한 토큰을 지우지 않고 사용 일시(used_date)를 남김
+ * </pre>
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires_date", columnList = "expires_date")
+})
+public class RefreshToken extends BaseTimeEntity implements Persistable<String> {
+
+    /**
+     * 토큰 해시 (RefreshTokenHashUtil)
+     */
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    /**
+     * 사용자 id
+     */
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    /**
+     * 토큰 id (jti)
+     */
+    @Column(nullable = false, length = 36)
+    private String jti;
+
+    /**
+     * 재발급 family id
+     */
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * 만료 일시
+     */
+    @Column(name = "expires_date", nullable = false)
+    private LocalDateTime expiresDate;
+
+    /**
+     * 재발급에 사용된 일시, 사용 전이면 null
+     */
+    @Column(name = "used_date")
+    private LocalDateTime usedDate;
+
+    /**
+     * 신규 여부, 조회되거나 저장된 후에는 false
+     */
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private boolean newEntity = true;
+
+    /**
+     * 빌드 패턴 클래스 생성자
+     *
+     * @param tokenHash   토큰 해시
+     * @param userId      사용자 id
+     * @param jti         토큰 id
+     * @param familyId    재발급 family id
+     * @param expiresDate 만료 일시
+     */
+    @Builder
+    public RefreshToken(String tokenHash, String userId, String jti, String familyId, LocalDateTime expiresDate) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.jti = jti;
+        this.familyId = familyId;
+        this.expiresDate = expiresDate;
+    }
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    /**
+     * 만료 여부
+     *
+     * @param now 현재 일시
+     * @return boolean 만료 여부
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresDate.isAfter(now);
+    }
+
+    /**
+     * 재발급에 사용된 토큰 여부
+     *
+     * @return boolean 사용 여부
+     */
+    public boolean isUsed() {
+        return usedDate != null;
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.egovframe.cloud.userservice.domain.user;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * org.egovframe.cloud.userservice.domain.user.RefreshTokenRepository
+ * <p>
+ * refresh token 레파지토리 인터페이스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   재발급 family 삭제 추가
+ *  2026/10/18    eGovFrame   토큰 해시 삭제 대신 사용 일시 기록
+ * </pre>
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * 사용되지 않은 토큰에 사용 일시를 남긴다.
+     * 조회 없이 바로 수정하며, 수정 건수로 다른 요청이 먼저 사용했는지 판단한다.
+     *
+     * @param tokenHash 토큰 해시
+     * @param usedDate  사용 일시
+     * @return int 수정 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.usedDate = :usedDate where t.tokenHash = :tokenHash and t.usedDate is null")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("usedDate") LocalDateTime usedDate);
+
+    /**
+     * 사용자의 refresh token 전체 삭제
+     *
+     * @param userId 사용자 id
+     * @return int 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int deleteByUserId(@Param("userId") String userId);
+
+    /**
+     * 재발급 family 의 refresh token 전체 삭제
+     *
+     * @param familyId 재발급 family id
+     * @return int 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    /**
+     * 만료된 refresh token 삭제
+     *
+     * @param now 현재 일시
+     * @return int 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresDate <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
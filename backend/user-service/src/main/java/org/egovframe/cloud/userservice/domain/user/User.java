@@ -35,6 +35,7 @@ import lombok.NoArgsConstructor;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/06/30    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   refresh token 을 RefreshToken 엔티티로 분리
  * </pre>
  */
 @Getter
@@ -65,8 +66,6 @@ public class User extends BaseEntity {
     @Column(name = "role_id", nullable = false)
     private Role role;
 
-    private String refreshToken;
-
     @Column(nullable = false, length = 20, columnDefinition = "varchar(20) default '00'")
     private String userStateCode;
 
@@ -119,17 +118,6 @@ public class User extends BaseEntity {
         return this;
     }
 
-    /**
-     * 사용자 refresh token 정보를 필드에 입력한다.
-     *
-     * @param refreshToken
-     * @return
-     */
-    public User updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-        return this;
-    }
-
     /**
      * 사용자 비밀번호 정보를 필드에 입력한다.
      *
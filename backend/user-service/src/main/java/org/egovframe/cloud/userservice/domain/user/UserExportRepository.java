@@ -0,0 +1,74 @@
+package org.egovframe.cloud.userservice.domain.user;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.userservice.api.user.dto.UserListResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * org.egovframe.cloud.userservice.domain.user.UserExportRepository
+ * <p>
+ * 사용자 목록 내보내기 조회 클래스
+ * 전체 사용자를 목록으로 만들지 않고 forward-only 커서에서 fetch-size 건씩 읽어 한 건씩 넘긴다.
+ * MySQL 은 접속 URL 에 useCursorFetch=true 가 있어야 fetch size 만큼 나누어 읽는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Repository
+public class UserExportRepository {
+
+    private static final String SELECT_SQL = "select user_id, user_name, email_addr, role_id, user_state_code, last_login_date, login_fail_count "
+            + "from user order by created_date desc";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int fetchSize;
+
+    public UserExportRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${user.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 모든 사용자를 생성일 역순으로 한 건씩 넘긴다.
+     *
+     * @param consumer 사용자 목록 응답 DTO 를 받는 함수
+     */
+    public void forEach(Consumer<UserListResponseDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new UserListResponseDto(
+                rs.getString("user_id"),
+                rs.getString("user_name"),
+                rs.getString("email_addr"),
+                Role.valueOf(rs.getString("role_id")),
+                rs.getString("user_state_code"),
+                rs.getObject("last_login_date", LocalDateTime.class),
+                rs.getObject("login_fail_count", Integer.class))));
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+}
@@ -21,13 +21,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/01    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   refresh token 조회 제거 (RefreshTokenRepository)
  * </pre>
  */
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     // email을 통해 이미 생성된 사용자인지 판단하기 위한 메소드
     Optional<User> findByEmail(String email);
     Optional<User> findByUserId(String userId);
-    Optional<User> findByRefreshToken(String refreshToken);
     List<User> findByEmailContains(String email);
     Optional<User> findByEmailAndUserName(String email, String userName);
     Optional<User> findByEmailAndUserIdNot(String email, String userId);
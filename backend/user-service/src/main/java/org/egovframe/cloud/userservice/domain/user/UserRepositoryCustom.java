@@ -1,5 +1,7 @@
 package org.egovframe.cloud.userservice.domain.user;
 
+import java.time.LocalDateTime;
+
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserListResponseDto;
 import org.springframework.data.domain.Page;
@@ -20,6 +22,7 @@ import org.springframework.data.domain.Pageable;
  *    수정일       수정자              수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/23    jooho       최초 생성
+ *  2026/10/18    eGovFrame   로그인 성공/실패 정보 수정 추가
  * </pre>
  */
 public interface UserRepositoryCustom {
@@ -33,4 +36,24 @@ public interface UserRepositoryCustom {
      */
     Page<UserListResponseDto> findPage(RequestDto requestDto, Pageable pageable);
 
+    /**
+     * 로그인 성공 정보 수정
+     * 로그인실패수를 0으로, 마지막로그인일시를 loginDate 로 수정한다.
+     *
+     * @param userId    사용자 id
+     * @param loginDate 로그인 일시
+     * @return long 수정 건수
+     */
+    long updateLoginSuccess(String userId, LocalDateTime loginDate);
+
+    /**
+     * 로그인 실패 정보 수정
+     * 로그인실패수를 1 증가시키고 5회 이상이면 사용자 상태를 정지로 수정한다.
+     *
+     * @param userId    사용자 id
+     * @param loginDate 로그인 일시
+     * @return long 수정 건수
+     */
+    long updateLoginFail(String userId, LocalDateTime loginDate);
+
 }
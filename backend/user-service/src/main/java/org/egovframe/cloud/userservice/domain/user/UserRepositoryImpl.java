@@ -1,5 +1,7 @@
 package org.egovframe.cloud.userservice.domain.user;
 
+import java.time.LocalDateTime;
+
 import org.egovframe.cloud.common.dto.RequestDto;
 import org.egovframe.cloud.userservice.api.user.dto.UserListResponseDto;
 import org.springframework.data.domain.Page;
@@ -9,6 +11,8 @@ import org.springframework.data.domain.Pageable;
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +32,8 @@ import lombok.RequiredArgsConstructor;
  *    수정일       수정자              수정내용
  *  ----------    --------    ---------------------------
  *  2021/09/23    jooho       최초 생성
+ *  2026/10/18    eGovFrame   로그인 성공/실패 정보 수정 추가
+ *  2026/10/18    eGovFrame   로그인 실패 시 상태를 증가 전 실패수로 판단(MySQL SET 순서)
  * </pre>
  */
 @RequiredArgsConstructor
@@ -66,6 +72,47 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
         return new PageImpl<>(result.getResults(), pageable, result.getTotal());
     }
 
+    /**
+     * 로그인 성공 정보 수정
+     * 벌크 수정이라 Auditing 이 적용되지 않으므로 수정일시를 직접 입력한다.
+     *
+     * @param userId    사용자 id
+     * @param loginDate 로그인 일시
+     * @return long 수정 건수
+     */
+    @Override
+    public long updateLoginSuccess(String userId, LocalDateTime loginDate) {
+        return jpaQueryFactory.update(QUser.user)
+                .set(QUser.user.loginFailCount, 0)
+                .set(QUser.user.lastLoginDate, loginDate)
+                .set(QUser.user.modifiedDate, loginDate)
+                .where(QUser.user.userId.eq(userId))
+                .execute();
+    }
+
+    /**
+     * 로그인 실패 정보 수정
+     * 조회한 값이 아닌 DB 값에 1을 더하므로 동시에 실패해도 실패수가 누락되지 않는다.
+     * MySQL 은 SET 을 왼쪽부터 차례로 반영해 뒤의 식이 앞에서 바꾼 값을 읽으므로, 상태를 먼저 바꾸고 증가 전 실패수(4 이상)로 비교한다.
+     * 5번째 실패에서 정지되어 User.failLogin 과 같다.
+     *
+     * @param userId    사용자 id
+     * @param loginDate 로그인 일시
+     * @return long 수정 건수
+     */
+    @Override
+    public long updateLoginFail(String userId, LocalDateTime loginDate) {
+        NumberExpression<Integer> loginFailCount = QUser.user.loginFailCount.coalesce(0);
+        return jpaQueryFactory.update(QUser.user)
+                .set(QUser.user.userStateCode, new CaseBuilder()
+                        .when(loginFailCount.goe(4)).then(UserStateCode.HALT.getKey())
+                        .otherwise(QUser.user.userStateCode))
+                .set(QUser.user.loginFailCount, loginFailCount.add(1))
+                .set(QUser.user.modifiedDate, loginDate)
+                .where(QUser.user.userId.eq(userId))
+                .execute();
+    }
+
     /**
      * 요청 DTO로 동적 검색 표현식 리턴
      *
@@ -0,0 +1,41 @@
+package org.egovframe.cloud.userservice.event;
+
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * org.egovframe.cloud.userservice.event.AuthorizationChangedEvent
+ * <p>
+ * 인가 또는 권한 인가 정보가 변경되었음을 spring cloud bus 로 알리는 이벤트
+ * apigateway 는 이 이벤트를 받아 인가 결과 캐시를 비운다.
+ * 클래스 이름으로 직렬화되므로 apigateway 의 AuthorizationChangedEvent 와 이름을 같게 유지해야 한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   deprecated 생성자 대신 Destination 을 받는 생성자 사용
+ * </pre>
+ */
+public class AuthorizationChangedEvent extends RemoteApplicationEvent {
+
+    /**
+     * 역직렬화를 위한 기본 생성자
+     */
+    public AuthorizationChangedEvent() {
+        super();
+    }
+
+    /**
+     * 모든 서비스(destination 없음)로 보내는 이벤트
+     */
+    public AuthorizationChangedEvent(Object source, String originService) {
+        super(source, originService, DEFAULT_DESTINATION_FACTORY.getDestination(null));
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.egovframe.cloud.userservice.event;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.event.AuthorizationEventPublisher
+ * <p>
+ * 인가 정보 변경 이벤트를 spring cloud bus 로 발행하는 클래스
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여 다른 서비스가 변경 전 데이터를 다시 읽지 않도록 한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuthorizationEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * bus 가 비활성화된 환경(테스트 등)에서는 빈이 없다.
+     */
+    private final ObjectProvider<BusProperties> busProperties;
+
+    /**
+     * 인가 정보 변경 이벤트 발행
+     */
+    public void publishAuthorizationChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish();
+                }
+            });
+        } else {
+            publish();
+        }
+    }
+
+    private void publish() {
+        BusProperties properties = busProperties.getIfAvailable();
+        if (properties == null) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(new AuthorizationChangedEvent(this, properties.getId()));
+        log.debug("AuthorizationChangedEvent published. origin={}", properties.getId());
+    }
+
+}
@@ -0,0 +1,258 @@
+package org.egovframe.cloud.userservice.service.log;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.egovframe.cloud.userservice.domain.log.LogTable;
+import org.egovframe.cloud.userservice.domain.log.LogTablePartition;
+import org.egovframe.cloud.userservice.domain.log.LogTableRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.service.log.LogTableRetentionService
+ * <p>
+ * api_log, login_log, statistics 테이블의 보관 기간 관리 서비스
+ * run-interval 마다 이번 달부터 months-ahead 개월 뒤까지의 월 파티션을 미리 만들고, 보관 기간이 지난 월 파티션을 삭제한다.
+ * 파티션 삭제는 행 단위 DELETE 와 달리 로그 건수와 상관없이 바로 끝나며, 통계 조회는 조회 기간의 파티션만 읽는다.
+ * 파티션으로 나누지 않은 기존 테이블은 보관 기간이 지난 로그를 delete-batch-size 건씩 삭제한다.
+ * 여러 인스턴스 중 GET_LOCK 을 잡은 하나만 실행한다.
+ * 삭제한 파티션 수와 로그 건수는 user.log-table.* 지표로 노출된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@Service
+public class LogTableRetentionService implements InitializingBean, DisposableBean {
+
+    public static final String PARTITIONS_DROPPED_METRIC = "user.log-table.partitions-dropped";
+    public static final String ROWS_DELETED_METRIC = "user.log-table.rows-deleted";
+
+    static final String LOCK_NAME = "user-service.log-table-retention";
+
+    /**
+     * 기동 후 첫 실행까지 기다리는 시간
+     */
+    private static final Duration INITIAL_DELAY = Duration.ofMinutes(1);
+
+    /**
+     * 삭제 대상 파티션 이름, 직접 만든 다른 파티션은 삭제하지 않는다.
+     */
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+
+    private final LogTableRepository logTableRepository;
+
+    private final boolean enabled;
+
+    private final Duration runInterval;
+
+    private final int monthsAhead;
+
+    private final int deleteBatchSize;
+
+    private final Map<LogTable, Integer> retentionMonths = new EnumMap<>(LogTable.class);
+
+    private final Map<LogTable, Counter> partitionsDropped = new EnumMap<>(LogTable.class);
+
+    private final Map<LogTable, Counter> rowsDeleted = new EnumMap<>(LogTable.class);
+
+    private ScheduledExecutorService scheduler;
+
+    public LogTableRetentionService(LogTableRepository logTableRepository, MeterRegistry meterRegistry,
+                                    @Value("${log-table.retention.enabled:true}") boolean enabled,
+                                    @Value("${log-table.retention.run-interval:PT6H}") Duration runInterval,
+                                    @Value("${log-table.retention.months-ahead:2}") int monthsAhead,
+                                    @Value("${log-table.retention.delete-batch-size:10000}") int deleteBatchSize,
+                                    @Value("${log-table.retention.api-log-months:3}") int apiLogMonths,
+                                    @Value("${log-table.retention.login-log-months:12}") int loginLogMonths,
+                                    @Value("${log-table.retention.statistics-months:24}") int statisticsMonths) {
+        this.logTableRepository = logTableRepository;
+        this.enabled = enabled;
+        this.runInterval = runInterval;
+        this.monthsAhead = monthsAhead;
+        this.deleteBatchSize = deleteBatchSize;
+        this.retentionMonths.put(LogTable.API_LOG, apiLogMonths);
+        this.retentionMonths.put(LogTable.LOGIN_LOG, loginLogMonths);
+        this.retentionMonths.put(LogTable.STATISTICS, statisticsMonths);
+
+        for (LogTable table : LogTable.values()) {
+            partitionsDropped.put(table, Counter.builder(PARTITIONS_DROPPED_METRIC)
+                    .description("expired log table partitions dropped")
+                    .tag("table", table.getTableName())
+                    .register(meterRegistry));
+            rowsDeleted.put(table, Counter.builder(ROWS_DELETED_METRIC)
+                    .description("expired log rows deleted from tables without partitions")
+                    .tag("table", table.getTableName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-table-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::run, INITIAL_DELAY.toMillis(), runInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 테이블 보관 기간(월)
+     *
+     * @param table 테이블
+     * @return int 보관 개월 수, 0 이하이면 삭제하지 않는다
+     */
+    public int getRetentionMonths(LogTable table) {
+        return retentionMonths.get(table);
+    }
+
+    /**
+     * 모든 테이블의 파티션 추가/삭제를 실행한다.
+     */
+    void run() {
+        try {
+            boolean executed = logTableRepository.runWithLock(LOCK_NAME, () -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (LogTable table : LogTable.values()) {
+                    maintain(table, now);
+                }
+            });
+            if (!executed) {
+                log.debug("log table retention is running on another instance");
+            }
+        } catch (RuntimeException e) {
+            log.error("log table retention failed", e);
+        }
+    }
+
+    /**
+     * 테이블 하나의 파티션을 추가하고 보관 기간이 지난 로그를 삭제한다. 실패해도 다른 테이블은 계속 처리한다.
+     *
+     * @param table 테이블
+     * @param now   기준 일시
+     */
+    void maintain(LogTable table, LocalDateTime now) {
+        try {
+            List<LogTablePartition> partitions = logTableRepository.findPartitions(table);
+            if (partitions.isEmpty()) {
+                deleteExpired(table, now);
+                return;
+            }
+            addPartitions(table, partitions, now);
+            dropExpiredPartitions(table, partitions, now);
+        } catch (RuntimeException e) {
+            log.error("log table retention failed. table={}", table.getTableName(), e);
+        }
+    }
+
+    private void addPartitions(LogTable table, List<LogTablePartition> partitions, LocalDateTime now) {
+        LocalDateTime lastBound = null;
+        boolean hasMax = false;
+        for (LogTablePartition partition : partitions) {
+            hasMax |= LogTableRepository.MAX_PARTITION.equals(partition.getName());
+            if (partition.getLessThan() != null && (lastBound == null || partition.getLessThan().isAfter(lastBound))) {
+                lastBound = partition.getLessThan();
+            }
+        }
+
+        List<YearMonth> months = new ArrayList<>();
+        YearMonth current = YearMonth.from(now);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (lastBound == null || LogTableRepository.upperBound(month).isAfter(lastBound)) {
+                months.add(month);
+            }
+        }
+        if (months.isEmpty()) {
+            return;
+        }
+        logTableRepository.addMonthlyPartitions(table, months, hasMax);
+        log.info("log table partitions added. table={}, months={}", table.getTableName(), months);
+    }
+
+    private void dropExpiredPartitions(LogTable table, List<LogTablePartition> partitions, LocalDateTime now) {
+        LocalDateTime cutoff = cutoff(table, now);
+        if (cutoff == null) {
+            return;
+        }
+        List<String> expired = new ArrayList<>();
+        for (LogTablePartition partition : partitions) {
+            if (MONTHLY_PARTITION.matcher(partition.getName()).matches()
+                    && partition.getLessThan() != null && !partition.getLessThan().isAfter(cutoff)) {
+                expired.add(partition.getName());
+            }
+        }
+        // 마지막 파티션은 삭제할 수 없다.
+        if (expired.isEmpty() || expired.size() == partitions.size()) {
+            return;
+        }
+        logTableRepository.dropPartitions(table, expired);
+        partitionsDropped.get(table).increment(expired.size());
+        log.info("expired log table partitions dropped. table={}, partitions={}", table.getTableName(), expired);
+    }
+
+    private void deleteExpired(LogTable table, LocalDateTime now) {
+        LocalDateTime cutoff = cutoff(table, now);
+        if (cutoff == null) {
+            return;
+        }
+        long total = 0;
+        int count;
+        do {
+            count = logTableRepository.deleteBefore(table, cutoff, deleteBatchSize);
+            total += count;
+            rowsDeleted.get(table).increment(count);
+        } while (count >= deleteBatchSize && !Thread.currentThread().isInterrupted());
+        if (total > 0) {
+            log.info("expired log rows deleted. table={}, count={}", table.getTableName(), total);
+        }
+    }
+
+    /**
+     * 보관 기준 일시, 보관 개월 수만큼 지난 달의 1일 0시 이전 로그를 삭제한다.
+     */
+    private LocalDateTime cutoff(LogTable table, LocalDateTime now) {
+        int months = retentionMonths.get(table);
+        if (months <= 0) {
+            return null;
+        }
+        return YearMonth.from(now).minusMonths(months).atDay(1).atStartOfDay();
+    }
+
+}
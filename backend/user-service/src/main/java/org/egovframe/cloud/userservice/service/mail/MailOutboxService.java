@@ -0,0 +1,69 @@
+package org.egovframe.cloud.userservice.service.mail;
+
+import org.egovframe.cloud.userservice.domain.mail.MailOutbox;
+import org.egovframe.cloud.userservice.domain.mail.MailOutboxDispatcher;
+import org.egovframe.cloud.userservice.domain.mail.MailOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.service.mail.MailOutboxService
+ * <p>
+ * 메일 발송 요청 서비스
+ * 메일을 바로 보내지 않고 호출한 트랜잭션 안에서 mail_outbox 에 저장한다.
+ * 커밋되면 MailOutboxDispatcher 가 발송하므로 요청 스레드는 SMTP 응답을 기다리지 않고, 롤백되면 메일도 발송되지 않는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Service
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+
+    /**
+     * 메일 발송 요청
+     *
+     * @param toAddr  받는 사람 이메일 주소
+     * @param subject 제목
+     * @param content html 본문
+     * @return MailOutbox 메일 발송 대기 엔티티
+     */
+    @Transactional
+    public MailOutbox enqueue(String toAddr, String subject, String content) {
+        MailOutbox mailOutbox = mailOutboxRepository.save(MailOutbox.builder()
+                .toAddr(toAddr)
+                .subject(subject)
+                .content(content)
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailOutboxDispatcher.wakeUp();
+                }
+            });
+        } else {
+            mailOutboxDispatcher.wakeUp();
+        }
+        return mailOutbox;
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.egovframe.cloud.userservice.event.AuthorizationChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.AuthorizationCacheVersion
+ * <p>
+ * 인가 조회 캐시와 인가 인덱스의 버전을 관리하는 클래스
+ * 인가 캐시 키와 PermissionIndex 는 조회 시작 시점의 버전을 가지며, 버전이 바뀌면 이전 버전 값은 더 이상 사용되지 않는다.
+ * 이 인스턴스의 인가 정보 변경은 트랜잭션 커밋 후 버전을 올리고,
+ * 다른 인스턴스의 변경은 spring cloud bus 로 전달되는 AuthorizationChangedEvent 를 받아 버전을 올리고 캐시를 비운다.
+ * 캐시를 비우는 중에 변경 전 데이터를 조회한 요청이 있어도 이전 버전 키로 저장되므로 변경 전 인가 정보가 남지 않는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuthorizationCacheVersion {
+
+    /**
+     * 캐시 관리자
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * bus 가 비활성화된 환경(테스트 등)에서는 빈이 없다.
+     */
+    private final ObjectProvider<BusProperties> busProperties;
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 현재 버전. 인가 캐시 키에 포함된다.
+     *
+     * @return long 버전
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 버전 증가
+     * 트랜잭션 안에서 호출되면 커밋된 후에 올려 커밋 전 데이터가 새 버전으로 캐시되지 않도록 한다.
+     */
+    public void increment() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+            return;
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * 다른 인스턴스의 인가 정보 변경 이벤트 수신
+     * 이 인스턴스에서 발행한 이벤트는 변경한 서비스에서 이미 처리했으므로 무시한다.
+     *
+     * @param event 인가 정보 변경 이벤트
+     */
+    @EventListener
+    public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+        BusProperties properties = busProperties.getIfAvailable();
+        if (properties != null && properties.getId().equals(event.getOriginService())) {
+            return;
+        }
+        long current = version.incrementAndGet();
+        clear("cache-user-authorization-by-userid");
+        clear("cache-user-authorization-by-roles");
+        log.info("authorization changed by {}, authorization cache version={}", event.getOriginService(), current);
+    }
+
+    private void clear(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ import org.egovframe.cloud.userservice.api.role.dto.AuthorizationSaveRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationUpdateRequestDto;
 import org.egovframe.cloud.userservice.domain.role.Authorization;
 import org.egovframe.cloud.userservice.domain.role.AuthorizationRepository;
+import org.egovframe.cloud.userservice.event.AuthorizationEventPublisher;
 import org.springframework.aop.framework.AopContext;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
@@ -45,6 +46,8 @@ import lombok.extern.slf4j.Slf4j;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/08    jooho       최초 생성
+ *  2026/10/18    eGovFrame   권한 목록의 인가 여부 확인에 PermissionIndex 사용
+ *  2026/10/18    eGovFrame   인가 캐시 키에 인가 캐시 버전 추가
  * </pre>
  */
 @Transactional(readOnly = true)
@@ -63,6 +66,21 @@ public class AuthorizationService extends AbstractService {
      */
     private final CacheManager cacheManager;
 
+    /**
+     * 인가 정보 변경 이벤트 발행 클래스
+     */
+    private final AuthorizationEventPublisher authorizationEventPublisher;
+
+    /**
+     * 인가 인덱스 보관 클래스
+     */
+    private final PermissionIndexHolder permissionIndexHolder;
+
+    /**
+     * 인가 캐시 버전
+     */
+    private final AuthorizationCacheVersion authorizationCacheVersion;
+
     /**
      * 조회 조건에 일치하는 인가 페이지 목록 조회
      *
@@ -85,9 +103,7 @@ public class AuthorizationService extends AbstractService {
     public Boolean isAuthorization(HttpServletRequest request, Authentication authentication) {
         List<String> roles = authentication.getAuthorities().stream().map(GrantedAuthority::toString).collect(Collectors.toList());
 
-        List<AuthorizationListResponseDto> authorizationList = ((AuthorizationService) AopContext.currentProxy()).findByRoles(roles);
-
-        return isContainMatch(authorizationList, request.getMethod(), GlobalConstant.USER_SERVICE_URI + request.getRequestURI());
+        return isAuthorization(roles, request.getMethod(), GlobalConstant.USER_SERVICE_URI + request.getRequestURI());
     }
 
     /**
@@ -96,7 +112,7 @@ public class AuthorizationService extends AbstractService {
      * @param roles 권한 목록
      * @return List<AuthorizationListResponseDto> 인가 목록
      */
-    @Cacheable(value = "cache-user-authorization-by-roles", key = "#p0")
+    @Cacheable(value = "cache-user-authorization-by-roles", key = "{@authorizationCacheVersion.current(), #p0}")
     public List<AuthorizationListResponseDto> findByRoles(List<String> roles) {
         return authorizationRepository.findByRoles(roles);
     }
@@ -105,10 +121,8 @@ public class AuthorizationService extends AbstractService {
      * 권한의 인가 여부 확인
      * gateway 에서 호출
      * <p>
-     * Spring Cache는 Spring AOP를 이용해서 proxy로 동작하기 때문에 외부 method 호출만 인터셉트해서 작동하고 self-invocation의 경우 동작하지 않음
-     * 스프링에서는 AspectJ를 권장하지만 Load-time Weaving 방식은 퍼포먼스 문제가 있고
-     * Compile-time Weaving 방식은 컴파일 시 수행되는 라이브러리(lombok)와 충돌 문제가 있음
-     * AopContext.currentProxy()를 이용해서 proxy로 호출하도록 함 - CacheConfig @EnableAspectJAutoProxy(exposeProxy=true)
+     * 권한별로 컴파일된 PermissionIndex 로 판단한다.
+     * 와일드카드가 없는 경로는 HashSet 조회, 와일드카드 패턴은 경로 조각 트리 탐색으로 인가 목록 전체를 비교하지 않는다.
      *
      * @param roles       권한 목록
      * @param httpMethod  Http Method
@@ -116,9 +130,7 @@ public class AuthorizationService extends AbstractService {
      * @return Boolean 인가 여부
      */
     public Boolean isAuthorization(List<String> roles, String httpMethod, String requestPath) {
-        List<AuthorizationListResponseDto> authorizationList = ((AuthorizationService) AopContext.currentProxy()).findByRoles(roles);
-
-        return isContainMatch(authorizationList, httpMethod, requestPath);
+        return permissionIndexHolder.get().isAuthorized(roles, httpMethod, requestPath);
     }
 
     /**
@@ -127,7 +139,7 @@ public class AuthorizationService extends AbstractService {
      * @param userId 사용자 id
      * @return List<AuthorizationListResponseDto> 인가 목록
      */
-    @Cacheable(value = "cache-user-authorization-by-userid", key = "#p0")
+    @Cacheable(value = "cache-user-authorization-by-userid", key = "{@authorizationCacheVersion.current(), #p0}")
     public List<AuthorizationListResponseDto> findByUserId(String userId) {
         return authorizationRepository.findByUserId(userId);
     }
@@ -135,6 +147,11 @@ public class AuthorizationService extends AbstractService {
     /**
      * 사용자의 인가 여부 확인
      * gateway 에서 호출
+     * <p>
+     * Spring Cache는 Spring AOP를 이용해서 proxy로 동작하기 때문에 외부 method 호출만 인터셉트해서 작동하고 self-invocation의 경우 동작하지 않음
+     * 스프링에서는 AspectJ를 권장하지만 Load-time Weaving 방식은 퍼포먼스 문제가 있고
+     * Compile-time Weaving 방식은 컴파일 시 수행되는 라이브러리(lombok)와 충돌 문제가 있음
+     * AopContext.currentProxy()를 이용해서 proxy로 호출하도록 함 - CacheConfig @EnableAspectJAutoProxy(exposeProxy=true)
      *
      * @param userId      사용자 id
      * @param httpMethod  Http Method
@@ -296,12 +313,17 @@ public class AuthorizationService extends AbstractService {
 
     /**
      * 인가 조회 캐시 클리어
+     * 커밋 후 인가 캐시 버전을 올려 인가 인덱스도 다음 인가 확인에서 다시 만들어진다.
+     * 다른 user-service 인스턴스와 apigateway 의 캐시도 비우도록 변경 이벤트를 발행한다.
      */
     private void clearAuthorizationCache() {
         Cache useridCache = cacheManager.getCache("cache-user-authorization-by-userid");
         if (useridCache != null) useridCache.clear();
         Cache rolesCache = cacheManager.getCache("cache-user-authorization-by-roles");
         if (rolesCache != null) rolesCache.clear();
+        authorizationCacheVersion.increment();
+
+        authorizationEventPublisher.publishAuthorizationChanged();
     }
 
 }
@@ -0,0 +1,360 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListResponseDto;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.PermissionIndex
+ * <p>
+ * 권한별 인가 URL 패턴을 미리 컴파일한 불변 클래스
+ * 권한마다 Http Method 별로 와일드카드가 없는 경로는 HashSet 으로, 와일드카드 패턴은 경로 조각 단위 트리로 가진다.
+ * 여러 권한을 가진 사용자는 권한 목록별 합집합을 한 번 만들어 재사용한다.
+ * 판단 결과는 인가 목록을 AntPathMatcher 로 하나씩 비교한 결과와 같다.
+ * <ul>
+ *     <li>빈 경로 조각은 무시하고, 패턴과 요청 경로의 시작 슬래시 여부가 같아야 한다.</li>
+ *     <li>** 로 끝나는 패턴은 끝 슬래시 여부를 비교하지 않고, 그 밖의 패턴은 끝 슬래시 여부까지 같아야 한다.</li>
+ *     <li>** 가 없고 마지막 조각이 * 인 패턴은 슬래시로 끝나는 상위 경로와도 일치한다. (/a/* 는 /a/ 와 일치)</li>
+ * </ul>
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+public final class PermissionIndex {
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String DOUBLE_STAR = "**";
+    private static final String SINGLE_STAR = "*";
+
+    /**
+     * 권한 목록 합집합 최대 보관 개수, 넘으면 권한별로 판단한다.
+     */
+    private static final int MAX_UNIONS = 256;
+
+    /**
+     * 와일드카드 경로 조각 비교용. 경로 조각 패턴은 내부에서 캐시된다.
+     */
+    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+
+    /**
+     * 권한 id -> 인가 목록
+     */
+    private final Map<String, RolePermissions> roles;
+
+    /**
+     * 정렬된 권한 목록 -> 합집합
+     */
+    private final Map<String, RolePermissions> unions = new ConcurrentHashMap<>();
+
+    private final int size;
+
+    private PermissionIndex(Map<String, RolePermissions> roles, int size) {
+        this.roles = roles;
+        this.size = size;
+    }
+
+    /**
+     * 권한 인가 목록으로 인덱스 생성
+     *
+     * @param roleAuthorizations 권한 인가 목록 (권한 id, URL 패턴, Http Method)
+     * @return PermissionIndex 인가 인덱스
+     */
+    public static PermissionIndex build(List<RoleAuthorizationListResponseDto> roleAuthorizations) {
+        Map<String, List<RoleAuthorizationListResponseDto>> byRole = new LinkedHashMap<>();
+        int size = 0;
+        for (RoleAuthorizationListResponseDto row : roleAuthorizations) {
+            if (row.getRoleId() == null || row.getUrlPatternValue() == null || row.getHttpMethodCode() == null) {
+                continue;
+            }
+            byRole.computeIfAbsent(row.getRoleId(), roleId -> new ArrayList<>()).add(row);
+            size++;
+        }
+
+        Map<String, RolePermissions> roles = new HashMap<>();
+        byRole.forEach((roleId, rows) -> roles.put(roleId, RolePermissions.compile(rows)));
+        return new PermissionIndex(Collections.unmodifiableMap(roles), size);
+    }
+
+    /**
+     * 권한 인가 건수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 인가 여부 판단
+     *
+     * @param roleIds     권한 목록
+     * @param httpMethod  Http Method
+     * @param requestPath 요청 경로
+     * @return boolean 권한 중 하나라도 일치하는 인가가 있으면 true
+     */
+    public boolean isAuthorized(Collection<String> roleIds, String httpMethod, String requestPath) {
+        if (roleIds.isEmpty() || httpMethod == null || requestPath == null) {
+            return false;
+        }
+        if (roleIds.size() == 1) {
+            RolePermissions permissions = roles.get(roleIds.iterator().next());
+            return permissions != null && permissions.matches(httpMethod, requestPath);
+        }
+
+        String[] sorted = roleIds.toArray(new String[0]);
+        Arrays.sort(sorted);
+        String key = String.join(",", sorted);
+        RolePermissions union = unions.get(key);
+        if (union == null) {
+            if (unions.size() >= MAX_UNIONS) {
+                return matchesAny(sorted, httpMethod, requestPath);
+            }
+            union = unions.computeIfAbsent(key, k -> union(sorted));
+        }
+        return union.matches(httpMethod, requestPath);
+    }
+
+    private boolean matchesAny(String[] roleIds, String httpMethod, String requestPath) {
+        for (String roleId : roleIds) {
+            RolePermissions permissions = roles.get(roleId);
+            if (permissions != null && permissions.matches(httpMethod, requestPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RolePermissions union(String[] roleIds) {
+        List<RoleAuthorizationListResponseDto> rows = new ArrayList<>();
+        for (String roleId : roleIds) {
+            RolePermissions permissions = roles.get(roleId);
+            if (permissions != null) {
+                rows.addAll(permissions.rows);
+            }
+        }
+        return RolePermissions.compile(rows);
+    }
+
+    private static String[] tokenize(String path) {
+        return StringUtils.tokenizeToStringArray(path, PATH_SEPARATOR, false, true);
+    }
+
+    /**
+     * 빈 경로 조각을 제거한 경로. 와일드카드가 없는 패턴과 요청 경로를 같은 방식으로 비교하기 위해 사용한다.
+     */
+    private static String normalize(String path, String[] segments) {
+        if (!path.contains("//")) {
+            return path;
+        }
+        StringBuilder builder = new StringBuilder(path.length());
+        if (path.startsWith(PATH_SEPARATOR)) {
+            builder.append(PATH_SEPARATOR);
+        }
+        builder.append(String.join(PATH_SEPARATOR, segments));
+        if (segments.length > 0 && path.endsWith(PATH_SEPARATOR)) {
+            builder.append(PATH_SEPARATOR);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isLiteral(String segment) {
+        return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+    }
+
+    /**
+     * 한 권한(또는 권한 목록 합집합)의 인가 목록
+     */
+    private static final class RolePermissions {
+
+        /**
+         * 합집합 생성용 원본 목록
+         */
+        private final List<RoleAuthorizationListResponseDto> rows;
+
+        /**
+         * Http Method -> 와일드카드가 없는 경로
+         */
+        private final Map<String, Set<String>> literals = new HashMap<>();
+
+        /**
+         * Http Method -> [슬래시로 시작하지 않는 패턴 트리, 슬래시로 시작하는 패턴 트리]
+         */
+        private final Map<String, Node[]> roots = new HashMap<>();
+
+        private RolePermissions(List<RoleAuthorizationListResponseDto> rows) {
+            this.rows = rows;
+        }
+
+        private static RolePermissions compile(List<RoleAuthorizationListResponseDto> rows) {
+            RolePermissions permissions = new RolePermissions(Collections.unmodifiableList(rows));
+            for (RoleAuthorizationListResponseDto row : rows) {
+                permissions.add(row.getHttpMethodCode(), row.getUrlPatternValue());
+            }
+            return permissions;
+        }
+
+        private void add(String httpMethod, String pattern) {
+            String[] segments = tokenize(pattern);
+            if (isLiteral(pattern)) {
+                literals.computeIfAbsent(httpMethod, method -> new HashSet<>()).add(normalize(pattern, segments));
+                return;
+            }
+
+            Node[] methodRoots = roots.computeIfAbsent(httpMethod, method -> new Node[]{new Node(false), new Node(false)});
+            Node node = methodRoots[pattern.startsWith(PATH_SEPARATOR) ? 1 : 0];
+            boolean hasDoubleStar = false;
+            String lastSegment = null;
+            for (String segment : segments) {
+                lastSegment = segment;
+                if (DOUBLE_STAR.equals(segment)) {
+                    hasDoubleStar = true;
+                    if (node.doubleStarChild == null) {
+                        node.doubleStarChild = new Node(true);
+                    }
+                    node = node.doubleStarChild;
+                } else if (isLiteral(segment)) {
+                    node = node.literalChildren.computeIfAbsent(segment, s -> new Node(false));
+                } else {
+                    node = node.wildcardChildren.computeIfAbsent(segment, s -> new Node(false));
+                }
+            }
+
+            if (DOUBLE_STAR.equals(lastSegment)) {
+                node.anyTrailing = true;
+            } else if (pattern.endsWith(PATH_SEPARATOR)) {
+                node.exactSlash = true;
+            } else {
+                node.exactNoSlash = true;
+            }
+            if (!hasDoubleStar && SINGLE_STAR.equals(lastSegment)) {
+                node.parentSlash = true;
+            }
+        }
+
+        private boolean matches(String httpMethod, String requestPath) {
+            String[] segments = tokenize(requestPath);
+            Set<String> methodLiterals = literals.get(httpMethod);
+            if (methodLiterals != null && methodLiterals.contains(normalize(requestPath, segments))) {
+                return true;
+            }
+            Node[] methodRoots = roots.get(httpMethod);
+            if (methodRoots == null) {
+                return false;
+            }
+            return new Match(segments, requestPath.endsWith(PATH_SEPARATOR))
+                    .visit(methodRoots[requestPath.startsWith(PATH_SEPARATOR) ? 1 : 0], 0);
+        }
+    }
+
+    /**
+     * 와일드카드 패턴 경로 조각 트리 노드
+     */
+    private static final class Node {
+
+        /**
+         * ** 조각 노드 여부. 0개 이상의 경로 조각을 소비한다.
+         */
+        private final boolean doubleStar;
+
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private final Map<String, Node> wildcardChildren = new HashMap<>();
+        private Node doubleStarChild;
+
+        /**
+         * 이 노드에서 끝나는 슬래시로 끝나는 패턴이 있는지 (** 로 끝나는 패턴 제외)
+         */
+        private boolean exactSlash;
+
+        /**
+         * 이 노드에서 끝나는 슬래시로 끝나지 않는 패턴이 있는지 (** 로 끝나는 패턴 제외)
+         */
+        private boolean exactNoSlash;
+
+        /**
+         * 이 노드에서 끝나는 ** 로 끝나는 패턴이 있는지
+         */
+        private boolean anyTrailing;
+
+        /**
+         * ** 가 없고 * 로 끝나는 패턴이 있는지. 슬래시로 끝나는 상위 경로와도 일치한다.
+         */
+        private boolean parentSlash;
+
+        private Node(boolean doubleStar) {
+            this.doubleStar = doubleStar;
+        }
+    }
+
+    /**
+     * 요청 경로 하나에 대한 트리 탐색
+     */
+    private static final class Match {
+
+        private final String[] segments;
+        private final boolean endsWithSlash;
+
+        private Match(String[] segments, boolean endsWithSlash) {
+            this.segments = segments;
+            this.endsWithSlash = endsWithSlash;
+        }
+
+        private boolean visit(Node node, int index) {
+            if (node.doubleStar) {
+                for (int i = index; i <= segments.length; i++) {
+                    if (visitChildren(node, i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return visitChildren(node, index);
+        }
+
+        private boolean visitChildren(Node node, int index) {
+            if (index == segments.length) {
+                if (node.anyTrailing || (endsWithSlash ? node.exactSlash : node.exactNoSlash)) {
+                    return true;
+                }
+                if (endsWithSlash) {
+                    Node star = node.wildcardChildren.get(SINGLE_STAR);
+                    if (star != null && star.parentSlash) {
+                        return true;
+                    }
+                }
+                return node.doubleStarChild != null && visit(node.doubleStarChild, index);
+            }
+
+            String segment = segments[index];
+            Node literal = node.literalChildren.get(segment);
+            if (literal != null && visit(literal, index + 1)) {
+                return true;
+            }
+            for (Map.Entry<String, Node> entry : node.wildcardChildren.entrySet()) {
+                if (ANT_PATH_MATCHER.match(entry.getKey(), segment) && visit(entry.getValue(), index + 1)) {
+                    return true;
+                }
+            }
+            return node.doubleStarChild != null && visit(node.doubleStarChild, index);
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import java.time.Duration;
+
+import org.egovframe.cloud.userservice.domain.role.RoleAuthorizationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.PermissionIndexHolder
+ * <p>
+ * 인가 확인에 사용하는 PermissionIndex 를 보관하는 클래스
+ * 처음 사용할 때 권한 인가 테이블 전체로 인덱스를 만들고, 인가 캐시 버전(AuthorizationCacheVersion)이 바뀌면
+ * 다음 인가 확인에서 한 스레드만 인덱스를 다시 만들어 한 번에 교체한다.
+ * ttl 은 변경 이벤트를 받지 못한 경우를 위한 것이다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   인가 캐시 버전으로 재생성 여부 판단
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PermissionIndexHolder {
+
+    /**
+     * 권한 인가 레파지토리 인터페이스
+     */
+    private final RoleAuthorizationRepository roleAuthorizationRepository;
+
+    /**
+     * 인가 캐시 버전
+     */
+    private final AuthorizationCacheVersion authorizationCacheVersion;
+
+    private final long ttlNanos;
+
+    private volatile Entry entry;
+
+    public PermissionIndexHolder(RoleAuthorizationRepository roleAuthorizationRepository,
+                                 AuthorizationCacheVersion authorizationCacheVersion,
+                                 @Value("${authorization.permission-index.ttl:PT6H}") Duration ttl) {
+        this.roleAuthorizationRepository = roleAuthorizationRepository;
+        this.authorizationCacheVersion = authorizationCacheVersion;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 현재 인가 인덱스, 없거나 버전이 바뀌었거나 만료되었으면 다시 만든다.
+     *
+     * @return PermissionIndex 인가 인덱스
+     */
+    public PermissionIndex get() {
+        Entry current = entry;
+        if (current != null && current.isValid(authorizationCacheVersion.current(), ttlNanos)) {
+            return current.index;
+        }
+        synchronized (this) {
+            // 조회 전에 버전을 읽어 조회 중 변경되면 다음 호출에서 다시 만든다.
+            long version = authorizationCacheVersion.current();
+            current = entry;
+            if (current == null || !current.isValid(version, ttlNanos)) {
+                PermissionIndex index = PermissionIndex.build(roleAuthorizationRepository.findAllAuthorizationList());
+                log.debug("permission index built. version={}, size={}", version, index.size());
+                current = new Entry(index, version, System.nanoTime());
+                entry = current;
+            }
+            return current.index;
+        }
+    }
+
+    private static final class Entry {
+
+        private final PermissionIndex index;
+        private final long version;
+        private final long builtAt;
+
+        private Entry(PermissionIndex index, long version, long builtAt) {
+            this.index = index;
+            this.version = version;
+            this.builtAt = builtAt;
+        }
+
+        private boolean isValid(long currentVersion, long ttlNanos) {
+            return version == currentVersion && System.nanoTime() - builtAt <= ttlNanos;
+        }
+    }
+
+}
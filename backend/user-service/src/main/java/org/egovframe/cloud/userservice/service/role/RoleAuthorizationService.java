@@ -1,16 +1,26 @@
 package org.egovframe.cloud.userservice.service.role;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.egovframe.cloud.common.service.AbstractService;
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationRuleResponseDto;
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationSnapshotResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationDeleteRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationSaveRequestDto;
 import org.egovframe.cloud.userservice.domain.role.RoleAuthorization;
 import org.egovframe.cloud.userservice.domain.role.RoleAuthorizationRepository;
+import org.egovframe.cloud.userservice.event.AuthorizationEventPublisher;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
@@ -36,6 +46,7 @@ import lombok.RequiredArgsConstructor;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/12    jooho       최초 생성
+ *  2026/10/18    eGovFrame   권한 인가 변경 시 인가 캐시 버전 증가
  * </pre>
  */
 @Transactional(readOnly = true)
@@ -53,6 +64,16 @@ public class RoleAuthorizationService extends AbstractService {
      */
     private final CacheManager cacheManager;
 
+    /**
+     * 인가 정보 변경 이벤트 발행 클래스
+     */
+    private final AuthorizationEventPublisher authorizationEventPublisher;
+
+    /**
+     * 인가 캐시 버전
+     */
+    private final AuthorizationCacheVersion authorizationCacheVersion;
+
     /**
      * 조회 조건에 일치하는 권한 인가 페이지 목록 조회
      *
@@ -68,6 +89,32 @@ public class RoleAuthorizationService extends AbstractService {
         return roleAuthorizationRepository.findPageAuthorizationList(requestDto, pageable);
     }
 
+    /**
+     * 인가 규칙 스냅샷 조회
+     * 권한이 하나 이상 지정된 인가를 권한 목록과 함께 조회한다. apigateway 가 자체적으로 인가 여부를 판단할 때 사용한다.
+     * 버전은 인가 번호, URL 패턴, Http Method, 권한 목록의 SHA-256 해시 앞 8바이트이며 내용이 같으면 같은 값이다.
+     *
+     * @return AuthorizationSnapshotResponseDto 인가 규칙 스냅샷 응답 DTO
+     */
+    public AuthorizationSnapshotResponseDto findSnapshot() {
+        Map<Integer, AuthorizationRuleResponseDto> rules = new LinkedHashMap<>();
+        for (RoleAuthorizationListResponseDto row : roleAuthorizationRepository.findAllAuthorizationList()) {
+            rules.computeIfAbsent(row.getAuthorizationNo(), no -> AuthorizationRuleResponseDto.builder()
+                            .authorizationNo(no)
+                            .urlPatternValue(row.getUrlPatternValue())
+                            .httpMethodCode(row.getHttpMethodCode())
+                            .roleIds(new ArrayList<>())
+                            .build())
+                    .getRoleIds().add(row.getRoleId());
+        }
+        List<AuthorizationRuleResponseDto> authorizations = new ArrayList<>(rules.values());
+
+        return AuthorizationSnapshotResponseDto.builder()
+                .version(snapshotVersion(authorizations))
+                .authorizations(authorizations)
+                .build();
+    }
+
     /**
      * 권한 인가 다건 등록
      *
@@ -108,14 +155,40 @@ public class RoleAuthorizationService extends AbstractService {
         clearAuthorizationCache();
     }
 
+    /**
+     * 인가 규칙 목록의 버전 계산
+     * 목록은 인가 번호, 권한 id 순으로 정렬되어 있으므로 같은 내용이면 같은 값을 리턴한다.
+     *
+     * @param authorizations 인가 규칙 목록
+     * @return Long 스냅샷 버전
+     */
+    private Long snapshotVersion(List<AuthorizationRuleResponseDto> authorizations) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (AuthorizationRuleResponseDto rule : authorizations) {
+                String line = rule.getAuthorizationNo() + "\t" + rule.getUrlPatternValue() + "\t" + rule.getHttpMethodCode()
+                        + "\t" + String.join(",", rule.getRoleIds()) + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * 인가 조회 캐시 클리어
+     * 커밋 후 인가 캐시 버전을 올려 인가 인덱스도 다음 인가 확인에서 다시 만들어진다.
+     * 다른 user-service 인스턴스와 apigateway 의 캐시도 비우도록 변경 이벤트를 발행한다.
      */
     private void clearAuthorizationCache() {
         Cache useridCache = cacheManager.getCache("cache-user-authorization-by-userid");
         if (useridCache != null) useridCache.clear();
         Cache rolesCache = cacheManager.getCache("cache-user-authorization-by-roles");
         if (rolesCache != null) rolesCache.clear();
+        authorizationCacheVersion.increment();
+
+        authorizationEventPublisher.publishAuthorizationChanged();
     }
 
 }
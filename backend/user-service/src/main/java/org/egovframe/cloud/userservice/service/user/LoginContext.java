@@ -0,0 +1,75 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import org.egovframe.cloud.userservice.domain.user.User;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.LoginContext
+ * <p>
+ * 로그인 요청 한 건 동안 조회한 사용자 엔티티를 전달하는 클래스
+ * UserService.loadUserByUsername(소셜 로그인은 loadUserBySocial)에서 조회한 사용자를 요청 속성에 담고,
+ * 토큰 생성(TokenProvider)과 로그인 후처리(UserService.loginCallback)에서 사용자를 다시 조회하지 않고 사용한다.
+ * 사용자는 조회 트랜잭션이 끝난 준영속 상태이므로 변경 감지로 저장되지 않는다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@Getter
+public class LoginContext {
+
+    private static final String ATTRIBUTE_NAME = LoginContext.class.getName();
+
+    /**
+     * 로그인 사용자 엔티티
+     */
+    private final User user;
+
+    private LoginContext(User user) {
+        this.user = user;
+    }
+
+    /**
+     * 요청에 로그인 사용자를 담는다.
+     *
+     * @param request http 요청
+     * @param user    로그인 사용자 엔티티
+     * @return LoginContext 로그인 컨텍스트
+     */
+    public static LoginContext bind(HttpServletRequest request, User user) {
+        LoginContext loginContext = new LoginContext(user);
+        request.setAttribute(ATTRIBUTE_NAME, loginContext);
+        return loginContext;
+    }
+
+    /**
+     * 요청에 담긴 로그인 컨텍스트를 반환한다.
+     * 이메일이 다르면 다른 사용자의 정보이므로 사용하지 않는다.
+     *
+     * @param request http 요청
+     * @param email   인증된 사용자 이메일
+     * @return LoginContext 로그인 컨텍스트, 없으면 null
+     */
+    public static LoginContext get(HttpServletRequest request, String email) {
+        Object attribute = request.getAttribute(ATTRIBUTE_NAME);
+        if (!(attribute instanceof LoginContext)) {
+            return null;
+        }
+        LoginContext loginContext = (LoginContext) attribute;
+        if (email == null || !email.equals(loginContext.user.getEmail())) {
+            return null;
+        }
+        return loginContext;
+    }
+
+}
@@ -0,0 +1,219 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.egovframe.cloud.userservice.config.RefreshTokenHashUtil;
+import org.egovframe.cloud.userservice.domain.user.RefreshToken;
+import org.egovframe.cloud.userservice.domain.user.RefreshTokenRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.RefreshTokenService
+ * <p>
+ * refresh token 저장소 서비스
+ * refresh token 은 사용자 테이블이 아닌 refresh_token 테이블에 토큰 해시를 키로 저장한다.
+ * 조회한 토큰은 cache-refresh-token 캐시에 보관해 재발급 시 다시 조회하지 않는다.
+ * 재발급은 이전 토큰에 사용 일시를 남기고 새 토큰을 입력한다. 사용된 토큰은 만료될 때까지 지우지 않는다.
+ * 사용된 토큰이 다시 들어오거나 사용 일시를 남긴 건수가 0 이면(다른 요청, 다른 인스턴스가 먼저 사용) 탈취된 것으로 보고
+ * 같은 family 의 토큰을 모두 삭제해 이후 발급된 토큰도 쓸 수 없게 한다.
+ * 캐시에 남은 토큰도 수정 건수로 판단하므로 인스턴스 간 캐시가 달라도 같은 토큰으로 두 번 재발급되지 않는다.
+ * 만료된 토큰(사용된 토큰 포함)은 purge-interval 마다 삭제한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ *  2026/10/18    eGovFrame   재사용된 토큰의 family 전체 삭제
+ *  2026/10/18    eGovFrame   사용된 토큰을 만료 시까지 남겨 재사용을 감지
+ * </pre>
+ */
+@Slf4j
+@Transactional(readOnly = true)
+@Service
+public class RefreshTokenService implements InitializingBean, DisposableBean {
+
+    public static final String CACHE_NAME = "cache-refresh-token";
+
+    /**
+     * refresh token 레파지토리 인터페이스
+     */
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * refresh token 캐시, 캐시 설정이 없으면 null
+     */
+    private final Cache cache;
+
+    private final Duration purgeInterval;
+
+    private ScheduledExecutorService purger;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, CacheManager cacheManager,
+                               @Value("${refresh-token.purge-interval:PT10M}") Duration purgeInterval) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.purgeInterval = purgeInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = purgeInterval.toMillis();
+        purger.scheduleWithFixedDelay(this::purgeExpired, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+
+    /**
+     * 로그인 시 refresh token 저장, 새 family 를 시작한다.
+     *
+     * @param userId       사용자 id
+     * @param refreshToken refresh token
+     * @param jti          토큰 id
+     * @param expiresDate  만료 일시
+     * @return RefreshToken refresh token 엔티티
+     */
+    @Transactional
+    public RefreshToken issue(String userId, String refreshToken, String jti, LocalDateTime expiresDate) {
+        return save(userId, refreshToken, jti, expiresDate, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 만료되지 않은 refresh token 조회, 재발급에 이미 사용된 토큰(isUsed)도 리턴한다.
+     * 캐시에 없으면 토큰 해시(PK)로 조회한다.
+     *
+     * @param refreshToken refresh token
+     * @return RefreshToken refresh token 엔티티, 없거나 만료되었으면 null
+     */
+    public RefreshToken find(String refreshToken) {
+        String tokenHash = RefreshTokenHashUtil.hash(refreshToken);
+        RefreshToken token = cache == null ? null : cache.get(tokenHash, RefreshToken.class);
+        if (token == null) {
+            token = refreshTokenRepository.findById(tokenHash).orElse(null);
+            if (token != null) {
+                put(token);
+            }
+        }
+        if (token == null || token.isExpired(LocalDateTime.now())) {
+            return null;
+        }
+        return token;
+    }
+
+    /**
+     * refresh token 재발급
+     * 이전 토큰에 사용 일시를 남기고 같은 family 로 새 토큰을 저장한다.
+     * 이전 토큰이 이미 사용되었으면 같은 family 의 토큰을 모두 삭제한다.
+     *
+     * @param current      이전 refresh token 엔티티
+     * @param refreshToken 새 refresh token
+     * @param jti          새 토큰 id
+     * @param expiresDate  새 토큰 만료 일시
+     * @return boolean 재발급 여부, 이전 토큰이 이미 사용되었으면 false
+     */
+    @Transactional
+    public boolean rotate(RefreshToken current, String refreshToken, String jti, LocalDateTime expiresDate) {
+        evict(current.getTokenHash());
+        if (current.isUsed() || refreshTokenRepository.markUsed(current.getTokenHash(), LocalDateTime.now()) == 0) {
+            revokeFamily(current);
+            return false;
+        }
+        save(current.getUserId(), refreshToken, jti, expiresDate, current.getFamilyId());
+        return true;
+    }
+
+    /**
+     * 재사용된 refresh token 의 family 전체 삭제
+     * 캐시는 family 별로 찾을 수 없으므로 비운다.
+     *
+     * @param reused 재사용된 refresh token 엔티티
+     */
+    @Transactional
+    public void revokeFamily(RefreshToken reused) {
+        int revoked = refreshTokenRepository.deleteByFamilyId(reused.getFamilyId());
+        if (cache != null) {
+            cache.clear();
+        }
+        log.warn("refresh token reused, family revoked. userId={}, familyId={}, revoked={}",
+                reused.getUserId(), reused.getFamilyId(), revoked);
+    }
+
+    /**
+     * 사용자의 refresh token 전체 삭제
+     * 캐시는 사용자별로 찾을 수 없으므로 비운다.
+     *
+     * @param userId 사용자 id
+     */
+    @Transactional
+    public void revokeAll(String userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 만료된 refresh token 삭제
+     */
+    void purgeExpired() {
+        try {
+            int count = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            log.debug("expired refresh tokens purged. count={}", count);
+        } catch (RuntimeException e) {
+            log.error("refresh token purge failed", e);
+        }
+    }
+
+    private RefreshToken save(String userId, String refreshToken, String jti, LocalDateTime expiresDate, String familyId) {
+        RefreshToken token = refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(RefreshTokenHashUtil.hash(refreshToken))
+                .userId(userId)
+                .jti(jti)
+                .familyId(familyId)
+                .expiresDate(expiresDate)
+                .build());
+        put(token);
+        return token;
+    }
+
+    private void put(RefreshToken token) {
+        if (cache != null) {
+            cache.put(token.getTokenHash(), token);
+        }
+    }
+
+    private void evict(String tokenHash) {
+        if (cache != null) {
+            cache.evict(tokenHash);
+        }
+    }
+
+}
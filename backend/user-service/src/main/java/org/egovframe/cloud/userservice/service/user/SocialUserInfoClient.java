@@ -0,0 +1,373 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.egovframe.cloud.common.util.HashUtil;
+import org.egovframe.cloud.userservice.api.user.dto.SocialUserResponseDto;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.SocialUserInfoClient
+ * <p>
+ * 소셜 로그인 공급자(구글, 네이버, 카카오) 사용자 정보 조회 클래스
+ * 공급자마다 크기가 제한된 전용 스레드 풀(bulkhead)에서 조회하고, 요청 스레드는 timeout 까지만 기다린다.
+ * 스레드와 대기 큐가 가득 차면 바로 실패하므로 공급자가 느려도 톰캣 스레드가 쌓이지 않고 다른 공급자와 비밀번호 로그인은 영향을 받지 않는다.
+ * 조회에 성공한 사용자 정보는 cache-social-user-info 캐시에 공급자와 토큰 해시를 키로 잠시 보관한다.
+ * 실패하면 null 을 반환하며, 실패 건수는 user.social.user-info.failed 지표로 노출된다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성 (UserService 에서 분리)
+ *  2026/10/18    eGovFrame   access token 캐시 키를 HashUtil.sha256 으로 생성
+ * </pre>
+ */
+@Slf4j
+@Component
+public class SocialUserInfoClient implements DisposableBean {
+
+    public static final String CACHE_NAME = "cache-social-user-info";
+    public static final String FAILED_METRIC = "user.social.user-info.failed";
+
+    /**
+     * 소셜 로그인 공급자
+     */
+    enum Provider {
+        GOOGLE, NAVER, KAKAO;
+
+        static Provider of(String provider) {
+            if (provider == null) {
+                return null;
+            }
+            switch (provider) {
+                case "google":
+                    return GOOGLE;
+                case "naver":
+                    return NAVER;
+                case "kakao":
+                    return KAKAO;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * 구글 클라이언트 ID
+     */
+    private final String googleClientId;
+
+    /**
+     * 네이버 사용자 정보 URL
+     */
+    private final String naverUserInfoUri;
+
+    /**
+     * 카카오 사용자 정보 URL
+     */
+    private final String kakaoUserInfoUri;
+
+    /**
+     * 요청 스레드 대기 시간
+     */
+    private final Duration timeout;
+
+    /**
+     * 짧은 연결/읽기 타임아웃을 가진 전용 REST Template
+     */
+    private final RestTemplate restTemplate;
+
+    /**
+     * 사용자 정보 캐시, 캐시 설정이 없으면 null
+     */
+    private final Cache cache;
+
+    private final Map<Provider, ThreadPoolExecutor> executors = new EnumMap<>(Provider.class);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 구글 공개키를 보관하므로 한 번만 만든다.
+     */
+    private volatile GoogleIdTokenVerifier googleIdTokenVerifier;
+
+    public SocialUserInfoClient(CacheManager cacheManager, MeterRegistry meterRegistry,
+                                @Value("${spring.security.oauth2.client.registration.google.client-id}") String googleClientId,
+                                @Value("${spring.security.oauth2.client.provider.naver.user-info-uri}") String naverUserInfoUri,
+                                @Value("${spring.security.oauth2.client.provider.kakao.user-info-uri}") String kakaoUserInfoUri,
+                                @Value("${social-login.user-info.threads:8}") int threads,
+                                @Value("${social-login.user-info.queue-capacity:16}") int queueCapacity,
+                                @Value("${social-login.user-info.connect-timeout:PT1S}") Duration connectTimeout,
+                                @Value("${social-login.user-info.read-timeout:PT2S}") Duration readTimeout,
+                                @Value("${social-login.user-info.timeout:PT3S}") Duration timeout) {
+        this.googleClientId = googleClientId;
+        this.naverUserInfoUri = naverUserInfoUri;
+        this.kakaoUserInfoUri = kakaoUserInfoUri;
+        this.timeout = timeout;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.meterRegistry = meterRegistry;
+
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeout);
+        factory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(factory);
+
+        for (Provider provider : Provider.values()) {
+            executors.put(provider, newExecutor(provider, threads, queueCapacity));
+        }
+    }
+
+    /**
+     * 토큰으로 소셜 사용자 정보 조회
+     *
+     * @param provider 공급자
+     * @param token    토큰
+     * @return SocialUserResponseDto 소셜 사용자 정보, 조회하지 못하면 null
+     */
+    public SocialUserResponseDto getUserInfo(String provider, String token) {
+        Provider target = Provider.of(provider);
+        if (target == null || token == null || "".equals(token)) {
+            return null;
+        }
+
+        String key = provider + ":" + HashUtil.sha256(token);
+        SocialUserResponseDto cached = cache == null ? null : cache.get(key, SocialUserResponseDto.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        Future<SocialUserResponseDto> future;
+        try {
+            future = executors.get(target).submit(() -> fetch(target, token));
+        } catch (RejectedExecutionException e) {
+            fail(target, "rejected");
+            log.warn("{} user info lookup rejected, bulkhead is full", provider);
+            return null;
+        }
+
+        try {
+            SocialUserResponseDto social = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (social != null && cache != null) {
+                cache.put(key, social);
+            }
+            return social;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            fail(target, "timeout");
+            log.warn("{} user info lookup timed out after {}", provider, timeout);
+        } catch (ExecutionException e) {
+            fail(target, "error");
+            log.warn("{} user info lookup failed: {}", provider, e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        executors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    private SocialUserResponseDto fetch(Provider provider, String token) throws Exception {
+        switch (provider) {
+            case GOOGLE:
+                return getGoogleUserInfo(token);
+            case NAVER:
+                return getNaverUserInfo(token);
+            case KAKAO:
+                return getKakaoUserInfo(token);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 구글 사용자 정보 조회
+     *
+     * @param token 토큰
+     * @return SocialUserResponseDto 구글 사용자 정보
+     */
+    private SocialUserResponseDto getGoogleUserInfo(String token) throws Exception {
+        GoogleIdToken idToken = getGoogleIdTokenVerifier().verify(token);
+
+        if (idToken != null) {
+            GoogleIdToken.Payload payload = idToken.getPayload();
+            log.info("google oauth2: {}", payload.toString());
+
+            return SocialUserResponseDto.builder()
+                    .id(payload.getSubject())
+                    .email(payload.getEmail())
+                    .name((String) payload.get("name"))
+                    .build();
+        }
+
+        return null;
+    }
+
+    private GoogleIdTokenVerifier getGoogleIdTokenVerifier() {
+        GoogleIdTokenVerifier verifier = googleIdTokenVerifier;
+        if (verifier == null) {
+            synchronized (this) {
+                verifier = googleIdTokenVerifier;
+                if (verifier == null) {
+                    verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
+                            .setAudience(Collections.singletonList(googleClientId))
+                            .build();
+                    googleIdTokenVerifier = verifier;
+                }
+            }
+        }
+        return verifier;
+    }
+
+    /**
+     * 네이버 사용자 정보 조회
+     *
+     * @param token 토큰
+     * @return SocialUserResponseDto 네이버 사용자 정보
+     */
+    private SocialUserResponseDto getNaverUserInfo(String token) {
+        ResponseEntity<String> response = restTemplate.exchange(naverUserInfoUri, HttpMethod.GET, bearer(token), String.class);
+
+        if (response.getBody() != null && !"".equals(response.getBody())) {
+            JsonElement element = JsonParser.parseString(response.getBody());
+            JsonObject object = element.getAsJsonObject();
+            log.info("naver oauth2: {}", object);
+
+            if (object.get("resultcode") != null && "00".equals(object.get("resultcode").getAsString())) {
+                JsonElement responseElement = object.get("response");
+
+                if (responseElement != null) {
+                    SocialUserResponseDto.SocialUserResponseDtoBuilder builder = SocialUserResponseDto.builder();
+
+                    if (responseElement.getAsJsonObject().get("id") != null && !"".equals(responseElement.getAsJsonObject().get("id").getAsString())) {
+                        builder.id(responseElement.getAsJsonObject().get("id").getAsString());
+                    }
+                    if (responseElement.getAsJsonObject().get("email") != null && !"".equals(responseElement.getAsJsonObject().get("email").getAsString())) {
+                        builder.email(responseElement.getAsJsonObject().get("email").getAsString());
+                    }
+                    if (responseElement.getAsJsonObject().get("name") != null && !"".equals(responseElement.getAsJsonObject().get("name").getAsString())) {
+                        builder.name(responseElement.getAsJsonObject().get("name").getAsString());
+                    }
+
+                    return builder.build();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 카카오 사용자 정보 조회
+     *
+     * @param token 토큰
+     * @return SocialUserResponseDto 카카오 사용자 정보
+     */
+    private SocialUserResponseDto getKakaoUserInfo(String token) {
+        ResponseEntity<String> response = restTemplate.exchange(kakaoUserInfoUri, HttpMethod.GET, bearer(token), String.class);
+
+        if (response.getBody() != null && !"".equals(response.getBody())) {
+            JsonElement element = JsonParser.parseString(response.getBody());
+            JsonObject object = element.getAsJsonObject();
+            JsonElement kakaoAccount = object.get("kakao_account");
+            log.info("kakao oauth2: {}", object.toString());
+
+            String id = object.get("id") != null && !"".equals(object.get("id").getAsString()) ? object.get("id").getAsString() : null;
+
+            if (id != null) {
+                SocialUserResponseDto.SocialUserResponseDtoBuilder builder = SocialUserResponseDto.builder()
+                        .id(id);
+
+                if (kakaoAccount.getAsJsonObject().get("email") != null && !"".equals(kakaoAccount.getAsJsonObject().get("email").getAsString())) {
+                    builder.email(kakaoAccount.getAsJsonObject().get("email").getAsString());
+                }
+                JsonElement profile = kakaoAccount.getAsJsonObject().get("profile");
+                if (profile != null) {
+                    if (profile.getAsJsonObject().get("nickname") != null && !"".equals(profile.getAsJsonObject().get("nickname").getAsString())) {
+                        builder.name(profile.getAsJsonObject().get("nickname").getAsString());
+                    }
+                }
+
+                return builder.build();
+            }
+        }
+
+        return null;
+    }
+
+    private HttpEntity<MultiValueMap<String, String>> bearer(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + token);
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        return new HttpEntity<>(new LinkedMultiValueMap<>(), headers);
+    }
+
+    private void fail(Provider provider, String reason) {
+        Counter.builder(FAILED_METRIC)
+                .description("social login user info lookups that failed")
+                .tag("provider", provider.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static ThreadPoolExecutor newExecutor(Provider provider, int threads, int queueCapacity) {
+        String prefix = "social-" + provider.name().toLowerCase() + "-";
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.egovframe.cloud.userservice.api.user.dto.UserListResponseDto;
+import org.egovframe.cloud.userservice.domain.user.UserExportRepository;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.UserExportService
+ * <p>
+ * 사용자 목록 내보내기 서비스
+ * 커서에서 읽은 사용자를 바로 CSV 또는 NDJSON 한 줄로 써서 전체 목록을 메모리에 올리지 않는다.
+ * fetch-size 건마다 출력 스트림을 flush 하므로 응답이 chunk 단위로 나간다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Service
+public class UserExportService {
+
+    private static final String CSV_HEADER = "userId,userName,email,roleId,roleName,userStateCode,userStateCodeName,lastLoginDate,loginFailCount";
+
+    /**
+     * 내보내기 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        CSV("csv", "text/csv;charset=UTF-8"),
+        NDJSON("ndjson", "application/x-ndjson;charset=UTF-8");
+
+        private final String extension;
+        private final String contentType;
+
+        /**
+         * 확장자로 형식을 찾는다.
+         *
+         * @param extension 확장자
+         * @return Format 내보내기 형식, 없으면 null
+         */
+        public static Format findByExtension(String extension) {
+            return Arrays.stream(values())
+                    .filter(format -> format.extension.equalsIgnoreCase(extension))
+                    .findAny()
+                    .orElse(null);
+        }
+    }
+
+    private final UserExportRepository userExportRepository;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 모든 사용자를 생성일 역순으로 출력 스트림에 쓴다.
+     * 출력 스트림은 닫지 않는다.
+     *
+     * @param format       내보내기 형식
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 스트림 쓰기 오류(클라이언트 연결 종료 등)
+     */
+    public void export(Format format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        int flushSize = userExportRepository.getFetchSize();
+        if (format == Format.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 을 붙인다.
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        int[] count = {0};
+        try {
+            userExportRepository.forEach(user -> {
+                try {
+                    writer.write(format == Format.CSV ? toCsv(user) : objectMapper.writeValueAsString(user));
+                    writer.write('\n');
+                    if (++count[0] % flushSize == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private String toCsv(UserListResponseDto user) {
+        return String.join(",",
+                csv(user.getUserId()),
+                csv(user.getUserName()),
+                csv(user.getEmail()),
+                csv(user.getRoleId()),
+                csv(user.getRoleName()),
+                csv(user.getUserStateCode()),
+                csv(user.getUserStateCodeName()),
+                csv(user.getLastLoginDate() == null ? null : user.getLastLoginDate().toString()),
+                csv(user.getLoginFailCount() == null ? null : user.getLoginFailCount().toString()));
+    }
+
+    /**
+     * CSV 값 변환
+     * 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고, 스프레드시트에서 수식으로 실행되지 않도록 = + - @ 로 시작하는 값은 앞에 ' 를 붙인다.
+     */
+    private String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String escaped = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (escaped.indexOf(',') >= 0 || escaped.indexOf('"') >= 0 || escaped.indexOf('\n') >= 0 || escaped.indexOf('\r') >= 0) {
+            return "\"" + escaped.replace("\"", "\"\"") + "\"";
+        }
+        return escaped;
+    }
+
+}
@@ -1,14 +1,9 @@
 package org.egovframe.cloud.userservice.service.user;
 
-import java.io.IOException;
-import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.egovframe.cloud.common.domain.Role;
 import org.egovframe.cloud.common.dto.RequestDto;
@@ -32,24 +27,15 @@ import org.egovframe.cloud.userservice.api.user.dto.UserVerifyRequestDto;
 import org.egovframe.cloud.userservice.config.UserPasswordChangeEmailTemplate;
 import org.egovframe.cloud.userservice.config.dto.SocialUser;
 import org.egovframe.cloud.userservice.domain.log.LoginLog;
-import org.egovframe.cloud.userservice.domain.log.LoginLogRepository;
-import org.egovframe.cloud.userservice.config.RefreshTokenHashUtil;
+import org.egovframe.cloud.userservice.domain.log.LoginLogBatchWriter;
 import org.egovframe.cloud.userservice.domain.user.User;
 import org.egovframe.cloud.userservice.domain.user.UserFindPassword;
 import org.egovframe.cloud.userservice.domain.user.UserFindPasswordRepository;
 import org.egovframe.cloud.userservice.domain.user.UserRepository;
 import org.egovframe.cloud.userservice.domain.user.UserStateCode;
-import org.springframework.beans.factory.annotation.Value;
+import org.egovframe.cloud.userservice.service.mail.MailOutboxService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -58,23 +44,9 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.HttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -94,6 +66,12 @@ import lombok.extern.slf4j.Slf4j;
  *     수정일        수정자           수정내용
  *  ----------    --------    ---------------------------
  *  2021/07/08    jaeyeolkim  최초 생성
+ *  2026/10/18    eGovFrame   로그인 로그를 LoginLogBatchWriter 로 비동기 저장
+ *  2026/10/18    eGovFrame   로그인 시 조회한 사용자를 LoginContext 로 전달해 로그인당 1회 조회, 1회 수정
+ *  2026/10/18    eGovFrame   refresh token 을 RefreshTokenService 로 분리, 탈퇴/삭제 시 refresh token 삭제
+ *  2026/10/18    eGovFrame   소셜 사용자 정보 조회를 SocialUserInfoClient 로 분리
+ *  2026/10/18    eGovFrame   전체 사용자 목록 조회(findAllDesc) 삭제, 사용자 목록은 UserExportService 로 내보낸다
+ *  2026/10/18    eGovFrame   비밀번호 찾기 메일을 MailOutboxService 로 저장하고 커밋 후 발송
  * </pre>
  */
 @Slf4j
@@ -103,37 +81,28 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService extends AbstractService implements UserDetailsService {
 
     /**
-     * 구글 클라이언트 ID
+     * 소셜 사용자 정보 조회 클래스
      */
-    @Value("${spring.security.oauth2.client.registration.google.client-id}")
-    private String GOOGLE_CLIENT_ID;
+    private final SocialUserInfoClient socialUserInfoClient;
 
-    /**
-     * 카카오 사용자 정보 URL
-     */
-    @Value("${spring.security.oauth2.client.provider.kakao.user-info-uri}")
-    private String KAKAO_USER_INFO_URI;
+    private final UserRepository userRepository;
+    private final UserFindPasswordRepository userFindPasswordRepository;
+    private final BCryptPasswordEncoder passwordEncoder;
 
     /**
-     * 네이버 사용자 정보 URL
+     * 로그인 로그 비동기 저장 클래스
      */
-    @Value("${spring.security.oauth2.client.provider.naver.user-info-uri}")
-    private String NAVER_USER_INFO_URI;
+    private final LoginLogBatchWriter loginLogBatchWriter;
 
     /**
-     * REST Template
+     * refresh token 저장소 서비스
      */
-    private final RestTemplate restTemplate;
-
-    private final UserRepository userRepository;
-    private final UserFindPasswordRepository userFindPasswordRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
-    private final LoginLogRepository loginLogRepository;
+    private final RefreshTokenService refreshTokenService;
 
     /**
-     * 자바 메일 전송 인터페이스
+     * 메일 발송 요청 서비스
      */
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
 
     /**
      * 조회 조건에 일치하는 사용자 페이지 목록 조회
@@ -178,34 +147,6 @@ public class UserService extends AbstractService implements UserDetailsService {
         return userId;
     }
 
-    /**
-     * 사용자 refresh token 정보를 필드에 입력한다
-     *
-     * @param userId
-     * @param updateRefreshToken
-     * @return
-     */
-    @Transactional
-    public String updateRefreshToken(String userId, String updateRefreshToken) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new UsernameNotFoundException(getMessage("err.user.notexists")));
-
-        user.updateRefreshToken(RefreshTokenHashUtil.hash(updateRefreshToken));
-
-        return user.getRoleKey();
-    }
-
-    /**
-     * 토큰으로 사용자를 찾아 반환한다.
-     *
-     * @param refreshToken
-     * @return
-     */
-    public User findByRefreshToken(String refreshToken) {
-        return userRepository.findByRefreshToken(RefreshTokenHashUtil.hash(refreshToken))
-                .orElseThrow(() -> new UsernameNotFoundException(getMessage("err.user.notexists")));
-    }
-
     /**
      * 아이디로 사용자를 찾아 반환한다.
      *
@@ -232,17 +173,6 @@ public class UserService extends AbstractService implements UserDetailsService {
         return new UserResponseDto(user);
     }
 
-    /**
-     * 모든 사용자를 생성일 역순으로 정렬하여 조회하여 List<UserListResponseDto> 형태로 반환한다.
-     *
-     * @return
-     */
-    public List<UserListResponseDto> findAllDesc() {
-        return userRepository.findAll(Sort.by(Sort.Direction.DESC, "createdDate")).stream()
-                .map(UserListResponseDto::new) // User의 Stream을 map을 통해 UserListResponseDto로 변환한다. 실제로 .map(user -> new UserListResponseDto(user)) 과 같다.
-                .collect(Collectors.toList());
-    }
-
     /**
      * Spring Security(DaoAuthenticationProvider) 에서 호출된다.
      * 스프링 시큐리티에 의해 로그인 대상 사용자의 패스워드와 권한 정보를 DB에서 조회하여 UserDetails 를 리턴한다.
@@ -264,6 +194,9 @@ public class UserService extends AbstractService implements UserDetailsService {
                 .orElseThrow(() -> new IllegalArgumentException(getMessage("err.user.notexists")));
         log.info("{} 사용자 존재함", user);
 
+        // 토큰 생성과 로그인 후처리에서 사용자를 다시 조회하지 않도록 요청에 담는다.
+        LoginContext.bind(request, user);
+
         if (!UserStateCode.NORMAL.getKey().equals(user.getUserStateCode())) {
             throw new IllegalArgumentException(getMessage("err.user.state.cantlogin"));
         }
@@ -298,8 +231,42 @@ public class UserService extends AbstractService implements UserDetailsService {
             user.failLogin();
         }
 
-        // 로그인 로그 입력
-        loginLogRepository.save(
+        writeLoginLog(siteId, email, successAt, failContent);
+    }
+
+    /**
+     * 로그인 후처리
+     * LoginContext 에 담긴 사용자로 다시 조회하지 않고 로그인 정보를 수정한다.
+     *
+     * @param siteId       사이트 id
+     * @param loginContext 로그인 컨텍스트
+     * @param successAt    성공 여부
+     * @param failContent  실패 내용
+     */
+    @Transactional
+    public void loginCallback(Long siteId, LoginContext loginContext, Boolean successAt, String failContent) {
+        User user = loginContext.getUser();
+        LocalDateTime loginDate = LocalDateTime.now();
+
+        if (Boolean.TRUE.equals(successAt)) {
+            userRepository.updateLoginSuccess(user.getUserId(), loginDate);
+        } else {
+            userRepository.updateLoginFail(user.getUserId(), loginDate);
+        }
+
+        writeLoginLog(siteId, user.getEmail(), successAt, failContent);
+    }
+
+    /**
+     * 로그인 로그 입력, 요청 ip 는 요청 스레드에서 구한다.
+     *
+     * @param siteId      사이트 id
+     * @param email       이메일
+     * @param successAt   성공 여부
+     * @param failContent 실패 내용
+     */
+    private void writeLoginLog(Long siteId, String email, Boolean successAt, String failContent) {
+        loginLogBatchWriter.write(
                 LoginLog.builder()
                         .siteId(siteId)
                         .email(email)
@@ -359,7 +326,7 @@ public class UserService extends AbstractService implements UserDetailsService {
      * 사용자 비밀번호 찾기
      *
      * @param requestDto 사용자 비밀번호 찾기 등록 요청 DTO
-     * @return Boolean 메일 전송 여부
+     * @return Boolean 메일 발송 요청 여부
      */
     @Transactional
     public Boolean findPassword(UserFindPasswordSaveRequestDto requestDto) {
@@ -371,43 +338,26 @@ public class UserService extends AbstractService implements UserDetailsService {
         }
         User entity = user.get();
 
-        // 이메일 전송
-        try {
-            final String mainUrl = requestDto.getMainUrl();
-            final String tokenValue = UUID.randomUUID().toString().replaceAll("-", "");
-
-            final String subject = getMessage("email.user.password.title");
-            //final String text = getMessage("email.user.password.content"); // varchar(2000)
-            final String text = UserPasswordChangeEmailTemplate.html;
-            final String userName = entity.getUserName();
-            final String changePasswordUrl = requestDto.getChangePasswordUrl() + "?token=" + tokenValue;
-
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message);
-
-            helper.setTo(emailAddr);
-            helper.setSubject(subject);
-            helper.setText(String.format(text, mainUrl, userName, changePasswordUrl), true); // String.format에서 %를 쓰려면 %%로
-
-            log.info("start send change password email: " + emailAddr);
-            javaMailSender.send(message);
-
-            Integer requestNo = userFindPasswordRepository.findNextRequestNo(emailAddr);
-            UserFindPassword userFindPassword = requestDto.toEntity(requestNo, tokenValue);
-
-            userFindPasswordRepository.save(userFindPassword);
-
-            // 재설정 토큰(tokenValue)은 비밀번호 재설정을 인가하는 비밀값이므로 로그로 남기지 않는다 (CWE-532).
-            log.info("end send change password email: " + emailAddr);
-        } catch (MessagingException e) {
-            String errorMessage = getMessage("err.user.find.password");
-            log.error(errorMessage + ": " + e.getMessage());
-            throw new BusinessMessageException(errorMessage);
-        } catch (Exception e) {
-            String errorMessage = getMessage("err.user.find.password");
-            log.error(errorMessage + ": " + e.getMessage());
-            throw new BusinessMessageException(errorMessage);
-        }
+        final String mainUrl = requestDto.getMainUrl();
+        final String tokenValue = UUID.randomUUID().toString().replaceAll("-", "");
+
+        final String subject = getMessage("email.user.password.title");
+        //final String text = getMessage("email.user.password.content"); // varchar(2000)
+        final String text = UserPasswordChangeEmailTemplate.html;
+        final String userName = entity.getUserName();
+        final String changePasswordUrl = requestDto.getChangePasswordUrl() + "?token=" + tokenValue;
+
+        Integer requestNo = userFindPasswordRepository.findNextRequestNo(emailAddr);
+        UserFindPassword userFindPassword = requestDto.toEntity(requestNo, tokenValue);
+
+        userFindPasswordRepository.save(userFindPassword);
+
+        // 이메일은 커밋 후 MailOutboxDispatcher 가 발송한다.
+        log.info("enqueue change password email: " + emailAddr);
+        mailOutboxService.enqueue(emailAddr, subject, String.format(text, mainUrl, userName, changePasswordUrl)); // String.format에서 %를 쓰려면 %%로
+
+        // 재설정 토큰(tokenValue)은 비밀번호 재설정을 인가하는 비밀값이므로 로그로 남기지 않는다 (CWE-532).
+        log.info("change password email enqueued: " + emailAddr);
 
         return true;
     }
@@ -564,6 +514,7 @@ public class UserService extends AbstractService implements UserDetailsService {
         User entity = findUserVerify(userId, requestDto);
 
         entity.updateUserStateCode(UserStateCode.LEAVE.getKey());
+        refreshTokenService.revokeAll(userId);
 
         return true;
     }
@@ -609,6 +560,7 @@ public class UserService extends AbstractService implements UserDetailsService {
         User user = getUserByUserId(userId);
 
         user.updateUserStateCode(UserStateCode.DELETE.getKey());
+        refreshTokenService.revokeAll(userId);
 
         return true;
     }
@@ -631,6 +583,9 @@ public class UserService extends AbstractService implements UserDetailsService {
             throw new BusinessMessageException(getMessage("err.user.state.cantlogin"));
         }
 
+        // 토큰 생성과 로그인 후처리에서 사용자를 다시 조회하지 않도록 요청에 담는다.
+        LoginContext.bind(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest(), user);
+
         return new UserResponseDto(user);
     }
 
@@ -649,161 +604,20 @@ public class UserService extends AbstractService implements UserDetailsService {
 
     /**
      * 토큰으로 소셜 사용자 정보 조회
+     * 공급자 조회는 SocialUserInfoClient 의 공급자별 스레드 풀에서 timeout 안에 처리된다.
      *
      * @param provider 공급자
      * @param token    토큰
      * @return String[] 소셜 사용자 정보
      */
     public SocialUserResponseDto getSocialUserInfo(String provider, String token) {
-        SocialUserResponseDto social = null;
-
-        switch (provider) {
-            case "google":
-                social = getGoogleUserInfo(token);
-                break;
-            case "naver":
-                social = getNaverUserInfo(token);
-                break;
-            case "kakao":
-                social = getKakaoUserInfo(token);
-                break;
-            default:
-                break;
-        }
+        SocialUserResponseDto social = socialUserInfoClient.getUserInfo(provider, token);
 
         if (social == null) throw new BusinessMessageException(getMessage("err.user.social.get"));
 
         return social;
     }
 
-    /**
-     * 구글 사용자 정보 조회
-     *
-     * @param token 토큰
-     * @return String[] 구글 사용자 정보
-     */
-    private SocialUserResponseDto getGoogleUserInfo(String token) {
-        try {
-            HttpTransport transport = new NetHttpTransport();
-            GsonFactory gsonFactory = new GsonFactory();
-
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(transport, gsonFactory)
-                    .setAudience(Collections.singletonList(GOOGLE_CLIENT_ID))
-                    .build();
-
-            GoogleIdToken idToken = verifier.verify(token);
-
-            if (idToken != null) {
-                GoogleIdToken.Payload payload = idToken.getPayload();
-                log.info("google oauth2: {}", payload.toString());
-
-                return SocialUserResponseDto.builder()
-                        .id(payload.getSubject())
-                        .email(payload.getEmail())
-                        .name((String) payload.get("name"))
-                        .build();
-            }
-
-            return null;
-        } catch (GeneralSecurityException e) {
-            throw new BusinessMessageException(getMessage("err.user.social.get"));
-        } catch (IOException e) {
-            throw new BusinessMessageException(getMessage("err.user.social.get"));
-        } catch (Exception e) {
-            throw new BusinessMessageException(getMessage("err.user.social.get"));
-        }
-    }
-
-    /**
-     * 네이버 사용자 정보 조회
-     *
-     * @param token 토큰
-     * @return String[] 네이버 사용자 정보
-     */
-    private SocialUserResponseDto getNaverUserInfo(String token) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(NAVER_USER_INFO_URI, HttpMethod.GET, request, String.class);
-
-        if (response.getBody() != null && !"".equals(response.getBody())) {
-            JsonElement element = JsonParser.parseString(response.getBody());
-            JsonObject object = element.getAsJsonObject();
-            log.info("naver oauth2: {}", object);
-
-            if (object.get("resultcode") != null && "00".equals(object.get("resultcode").getAsString())) {
-                JsonElement responseElement = object.get("response");
-
-                if (responseElement != null) {
-                    SocialUserResponseDto.SocialUserResponseDtoBuilder builder = SocialUserResponseDto.builder();
-
-                    if (responseElement.getAsJsonObject().get("id") != null && !"".equals(responseElement.getAsJsonObject().get("id").getAsString())) {
-                        builder.id(responseElement.getAsJsonObject().get("id").getAsString());
-                    }
-                    if (responseElement.getAsJsonObject().get("email") != null && !"".equals(responseElement.getAsJsonObject().get("email").getAsString())) {
-                        builder.email(responseElement.getAsJsonObject().get("email").getAsString());
-                    }
-                    if (responseElement.getAsJsonObject().get("name") != null && !"".equals(responseElement.getAsJsonObject().get("name").getAsString())) {
-                        builder.name(responseElement.getAsJsonObject().get("name").getAsString());
-                    }
-
-                    return builder.build();
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * 카카오 사용자 정보 조회
-     *
-     * @param token 토큰
-     * @return String[] 카카오 사용자 정보
-     */
-    private SocialUserResponseDto getKakaoUserInfo(String token) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(KAKAO_USER_INFO_URI, HttpMethod.GET, request, String.class);
-
-        if (response.getBody() != null && !"".equals(response.getBody())) {
-            JsonElement element = JsonParser.parseString(response.getBody());
-            JsonObject object = element.getAsJsonObject();
-            JsonElement kakaoAccount = object.get("kakao_account");
-            log.info("kakao oauth2: {}", object.toString());
-
-            String id = object.get("id") != null && !"".equals(object.get("id").getAsString()) ? object.get("id").getAsString() : null;
-
-            if (id != null) {
-                SocialUserResponseDto.SocialUserResponseDtoBuilder builder = SocialUserResponseDto.builder()
-                        .id(id);
-
-                if (kakaoAccount.getAsJsonObject().get("email") != null && !"".equals(kakaoAccount.getAsJsonObject().get("email").getAsString())) {
-                    builder.email(kakaoAccount.getAsJsonObject().get("email").getAsString());
-                }
-                JsonElement profile = kakaoAccount.getAsJsonObject().get("profile");
-                if (profile != null) {
-                    if (profile.getAsJsonObject().get("nickname") != null && !"".equals(profile.getAsJsonObject().get("nickname").getAsString())) {
-                        builder.name(profile.getAsJsonObject().get("nickname").getAsString());
-                    }
-                }
-
-                return builder.build();
-            }
-        }
-
-        return null;
-    }
-
     /**
      * 소셜 사용자 엔티티 조회
      *
@@ -0,0 +1,79 @@
+package org.egovframe.cloud.userservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.egovframe.cloud.common.util.InternalIdentityHeader;
+import org.egovframe.cloud.userservice.api.role.RoleAuthorizationApiController;
+import org.egovframe.cloud.userservice.service.user.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * org.egovframe.cloud.userservice.config.AuthenticationFilterTest
+ * <p>
+ * apigateway 가 토큰 없이 내부 인증 헤더만 붙여 호출(인가 규칙 스냅샷 조회)해도 서비스 권한으로 인증되는지 확인하는 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+class AuthenticationFilterTest {
+
+    private static final String TOKEN_SECRET = "test-token-secret";
+
+    private final InternalIdentityHeader internalIdentityHeader = new InternalIdentityHeader(TOKEN_SECRET);
+
+    private final AuthenticationFilter filter = new AuthenticationFilter(mock(AuthenticationManager.class),
+            mock(TokenProvider.class), mock(UserService.class), internalIdentityHeader);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication doFilter(MockHttpServletRequest request) throws Exception {
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+        return authentication.get();
+    }
+
+    @DisplayName("토큰 없이 유효한 서비스 내부 인증 헤더가 있으면 서비스 권한으로 인증한다")
+    @Test
+    void should_authenticateService_when_internalIdentityWithoutToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", RoleAuthorizationApiController.SNAPSHOT_URI);
+        request.addHeader(InternalIdentityHeader.HEADER_NAME, internalIdentityHeader.encode("apigateway",
+                InternalIdentityHeader.SERVICE_AUTHORITY, System.currentTimeMillis() + 60_000));
+
+        Authentication authentication = doFilter(request);
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("apigateway");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(InternalIdentityHeader.SERVICE_AUTHORITY);
+    }
+
+    @DisplayName("다른 키로 서명한 내부 인증 헤더로는 인증하지 않는다")
+    @Test
+    void should_notAuthenticate_when_internalIdentitySignedWithOtherKey() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", RoleAuthorizationApiController.SNAPSHOT_URI);
+        request.addHeader(InternalIdentityHeader.HEADER_NAME, new InternalIdentityHeader("other-secret").encode("apigateway",
+                InternalIdentityHeader.SERVICE_AUTHORITY, System.currentTimeMillis() + 60_000));
+
+        Authentication authentication = doFilter(request);
+
+        assertThat(authentication == null || authentication.getAuthorities().stream()
+                .noneMatch(authority -> InternalIdentityHeader.SERVICE_AUTHORITY.equals(authority.getAuthority()))).isTrue();
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.egovframe.cloud.userservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.egovframe.cloud.userservice.config.dto.CacheStatisticsResponseDto;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * org.egovframe.cloud.userservice.config.CacheMetricsBinderTest
+ * <p>
+ * ehcache.xml 캐시의 지표와 cachestats 엔드포인트 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+class CacheMetricsBinderTest {
+
+    private static final String CACHE_NAME = "cache-user-authorization-by-userid";
+
+    private CacheManager cacheManager;
+    private EhcacheStatistics ehcacheStatistics;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(getClass().getResource("/ehcache.xml").toURI(), getClass().getClassLoader());
+        ehcacheStatistics = new EhcacheStatistics(cacheManager);
+        meterRegistry = new SimpleMeterRegistry();
+        new CacheMetricsBinder(ehcacheStatistics).bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    @DisplayName("ehcache.xml 의 모든 캐시에 계층 지표를 등록한다")
+    void should_registerTierMetrics_when_bound() {
+        for (String name : cacheManager.getCacheNames()) {
+            assertThat(meterRegistry.find(CacheMetricsBinder.EXPIRATIONS_METRIC).tag("cache", name).functionCounter()).isNotNull();
+            assertThat(meterRegistry.find(CacheMetricsBinder.TIER_MAPPINGS_METRIC).tags("cache", name, "tier", "OnHeap").gauge()).isNotNull();
+        }
+        assertThat(meterRegistry.find(CacheMetricsBinder.TIER_OCCUPIED_METRIC).tags("cache", CACHE_NAME, "tier", "OffHeap").gauge()).isNotNull();
+        assertThat(meterRegistry.find(CacheMetricsBinder.TIER_OCCUPIED_METRIC).tags("cache", CACHE_NAME, "tier", "OnHeap").gauge()).isNull();
+    }
+
+    @Test
+    @DisplayName("저장과 조회 후 계층 건수, 사용률, 적중률을 보여준다")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void should_reportOccupancyAndHitRatio_when_cacheUsed() {
+        Cache<List, List> cache = cacheManager.getCache(CACHE_NAME, List.class, List.class);
+        for (int i = 0; i < 3; i++) {
+            cache.put(Arrays.asList(1L, "user" + i), Collections.singletonList("ROLE_USER"));
+        }
+        cache.get(Arrays.asList(1L, "user0"));
+        cache.get(Arrays.asList(1L, "user1"));
+        cache.get(Arrays.asList(1L, "unknown"));
+
+        assertThat(meterRegistry.get(CacheMetricsBinder.TIER_MAPPINGS_METRIC).tags("cache", CACHE_NAME, "tier", "OffHeap").gauge().value())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get(CacheMetricsBinder.TIER_OCCUPANCY_METRIC).tags("cache", CACHE_NAME, "tier", "OnHeap").gauge().value())
+                .isCloseTo(2 / 2000d, within(1e-9));
+        assertThat(meterRegistry.get(CacheMetricsBinder.TIER_OCCUPANCY_METRIC).tags("cache", CACHE_NAME, "tier", "OffHeap").gauge().value())
+                .isGreaterThan(0).isLessThan(1);
+
+        CacheStatisticsResponseDto statistics = new CacheStatisticsEndpoint(ehcacheStatistics).cache(CACHE_NAME);
+        assertThat(statistics.getSize()).isEqualTo(3);
+        assertThat(statistics.getHits()).isEqualTo(2);
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getHitRatio()).isCloseTo(2 / 3d, within(1e-9));
+        assertThat(statistics.getPuts()).isEqualTo(3);
+
+        Map<String, CacheStatisticsResponseDto.Tier> tiers = statistics.getTiers();
+        assertThat(tiers).containsOnlyKeys("OnHeap", "OffHeap");
+        assertThat(tiers.get("OnHeap").getCapacity()).isEqualTo("2000 entries");
+        assertThat(tiers.get("OnHeap").getOccupiedBytes()).isEqualTo(-1);
+        assertThat(tiers.get("OffHeap").getCapacity()).isEqualTo("1 MB");
+        assertThat(tiers.get("OffHeap").getOccupiedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("캐시 이벤트를 로그 대신 건수로 센다")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void should_countEvents_when_entriesCreated() throws InterruptedException {
+        Cache<List, List> cache = cacheManager.getCache(CACHE_NAME, List.class, List.class);
+        cache.put(Arrays.asList(1L, "user0"), Collections.singletonList("ROLE_USER"));
+        cache.put(Arrays.asList(1L, "user1"), Collections.singletonList("ROLE_USER"));
+
+        Counter created = meterRegistry.get(CacheEventCounter.EVENTS_METRIC).tags("cache", CACHE_NAME, "type", "created").counter();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (created.count() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(created.count()).isEqualTo(2);
+        assertThat(meterRegistry.get(CacheEventCounter.EVENTS_METRIC).tags("cache", CACHE_NAME, "type", "evicted").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("없는 캐시는 null 을 반환한다")
+    void should_returnNull_when_unknownCache() {
+        CacheStatisticsEndpoint endpoint = new CacheStatisticsEndpoint(ehcacheStatistics);
+
+        assertThat(endpoint.cache("unknown")).isNull();
+        assertThat(endpoint.caches()).containsOnlyKeys(cacheManager.getCacheNames());
+    }
+
+}
@@ -0,0 +1,172 @@
+package org.egovframe.cloud.userservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.common.util.JwtVerifier;
+import org.egovframe.cloud.userservice.api.user.dto.UserResponseDto;
+import org.egovframe.cloud.userservice.domain.user.RefreshToken;
+import org.egovframe.cloud.userservice.domain.user.RefreshTokenRepository;
+import org.egovframe.cloud.userservice.domain.user.User;
+import org.egovframe.cloud.userservice.service.user.RefreshTokenService;
+import org.egovframe.cloud.userservice.service.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * org.egovframe.cloud.userservice.config.TokenProviderTest
+ * <p>
+ * TokenProvider refresh token 재발급 단위 테스트
+ * refresh_token 테이블은 토큰 해시를 키로 하는 Map 으로 대신한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenProviderTest {
+
+    private static final String TOKEN_SECRET = "egovframe_token_secret";
+    private static final String USER_ID = "user-1";
+    private static final String EMAIL = "user@egovframe.go.kr";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * 토큰 해시 -> refresh_token 행
+     */
+    private final Map<String, RefreshToken> rows = new ConcurrentHashMap<>();
+
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        UserResponseDto user = new UserResponseDto(User.builder()
+                .userId(USER_ID)
+                .email(EMAIL)
+                .userName("user")
+                .role(Role.USER)
+                .build());
+        when(userService.findByEmail(EMAIL)).thenReturn(user);
+        when(userService.findByUserId(USER_ID)).thenReturn(user);
+
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            rows.put(token.getTokenHash(), token);
+            return token;
+        });
+        when(refreshTokenRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.<String>getArgument(0))));
+        when(refreshTokenRepository.markUsed(anyString(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            RefreshToken token = rows.get(invocation.<String>getArgument(0));
+            if (token == null || token.isUsed()) {
+                return 0;
+            }
+            ReflectionTestUtils.setField(token, "usedDate", invocation.getArgument(1));
+            return 1;
+        });
+        when(refreshTokenRepository.deleteByFamilyId(anyString())).thenAnswer(invocation -> {
+            List<String> family = rows.values().stream()
+                    .filter(token -> token.getFamilyId().equals(invocation.getArgument(0)))
+                    .map(RefreshToken::getTokenHash)
+                    .toList();
+            family.forEach(rows::remove);
+            return family.size();
+        });
+
+        RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenRepository,
+                new ConcurrentMapCacheManager(RefreshTokenService.CACHE_NAME), Duration.ofMinutes(10));
+        tokenProvider = new TokenProvider(userService, new JwtVerifier(TOKEN_SECRET, 100), refreshTokenService);
+        ReflectionTestUtils.setField(tokenProvider, "TOKEN_EXPIRATION_TIME", "7200000");
+        ReflectionTestUtils.setField(tokenProvider, "TOKEN_REFRESH_TIME", "86400000");
+    }
+
+    private String login() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        tokenProvider.createTokenAndAddHeader(new MockHttpServletRequest(), response, null,
+                new UsernamePasswordAuthenticationToken(EMAIL, null, List.of(new SimpleGrantedAuthority(Role.USER.getKey()))));
+        return response.getHeader(tokenProvider.TOKEN_REFRESH_KEY);
+    }
+
+    private String refresh(String refreshToken) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        tokenProvider.refreshToken(refreshToken, response);
+        return response.getHeader(tokenProvider.TOKEN_REFRESH_KEY);
+    }
+
+    @DisplayName("재발급한 refresh token 으로 다시 재발급할 수 있다")
+    @Test
+    void should_rotate_when_refreshed() {
+        String first = login();
+
+        String second = refresh(first);
+        String third = refresh(second);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(third).isNotEqualTo(second);
+    }
+
+    @DisplayName("같은 refresh token 으로 두 번 재발급하면 거부하고, 같은 family 에서 새로 발급된 토큰도 쓸 수 없다")
+    @Test
+    void should_revokeFamily_when_sameTokenRefreshedTwice() {
+        String first = login();
+        String second = refresh(first);
+
+        assertThatThrownBy(() -> refresh(first))
+                .isInstanceOf(UsernameNotFoundException.class)
+                .hasMessage("Refresh token already used");
+        assertThatThrownBy(() -> refresh(second))
+                .isInstanceOf(UsernameNotFoundException.class)
+                .hasMessage("Invalid refresh token");
+        assertThat(rows).isEmpty();
+    }
+
+    @DisplayName("다른 로그인(family)의 refresh token 은 폐기되지 않는다")
+    @Test
+    void should_keepOtherFamily_when_reused() {
+        String stolen = login();
+        String other = login();
+        refresh(stolen);
+
+        assertThatThrownBy(() -> refresh(stolen)).isInstanceOf(UsernameNotFoundException.class);
+
+        assertThat(refresh(other)).isNotNull();
+    }
+}
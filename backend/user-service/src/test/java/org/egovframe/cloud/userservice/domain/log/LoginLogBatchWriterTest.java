@@ -0,0 +1,127 @@
+package org.egovframe.cloud.userservice.domain.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * org.egovframe.cloud.userservice.domain.log.LoginLogBatchWriterTest
+ * <p>
+ * 로그인 로그 비동기 저장 단위 테스트 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoginLogBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("로그인 로그를 batch-size 단위로 저장하고 종료 시 남은 로그를 모두 저장한다")
+    @Test
+    void should_writeInBatchesAndDrain_when_destroyed() throws Exception {
+        // given
+        List<Integer> batchSizes = new ArrayList<>();
+        given(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).willAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            synchronized (batchSizes) {
+                batchSizes.add(setter.getBatchSize());
+            }
+            return new int[setter.getBatchSize()];
+        });
+        LoginLogBatchWriter writer = writer(100, 2, LoginLogBatchWriter.OverflowPolicy.DROP);
+        writer.afterPropertiesSet();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            writer.write(loginLog("user" + i + "@example.com"));
+        }
+        writer.destroy();
+
+        // then
+        assertThat(batchSizes).allMatch(size -> size <= 2);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        assertThat(meterRegistry.get(LoginLogBatchWriter.WRITTEN_METRIC).counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get(LoginLogBatchWriter.QUEUE_METRIC).gauge().value()).isZero();
+    }
+
+    @DisplayName("DROP 정책에서 큐가 가득 차면 로그를 버리고 버린 건수를 기록한다")
+    @Test
+    void should_dropAndCount_when_queueFullWithDropPolicy() {
+        // given
+        LoginLogBatchWriter writer = writer(1, 10, LoginLogBatchWriter.OverflowPolicy.DROP);
+        writer.afterPropertiesSet();
+        stopWorker(writer);
+
+        // when
+        writer.write(loginLog("a@example.com"));
+        writer.write(loginLog("b@example.com"));
+
+        // then
+        assertThat(meterRegistry.get(LoginLogBatchWriter.DROPPED_METRIC).tag("reason", "queue-full").counter().count()).isEqualTo(2);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    @DisplayName("CALLER_RUNS 정책에서 큐에 넣을 수 없으면 요청 스레드에서 바로 저장한다")
+    @Test
+    void should_writeInCaller_when_queueFullWithCallerRunsPolicy() {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).willReturn(new int[]{1});
+        LoginLogBatchWriter writer = writer(1, 10, LoginLogBatchWriter.OverflowPolicy.CALLER_RUNS);
+
+        // when
+        writer.write(loginLog("a@example.com"));
+
+        // then
+        verify(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        assertThat(meterRegistry.get(LoginLogBatchWriter.WRITTEN_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    private LoginLogBatchWriter writer(int queueCapacity, int batchSize, LoginLogBatchWriter.OverflowPolicy overflowPolicy) {
+        return new LoginLogBatchWriter(jdbcTemplate, meterRegistry, queueCapacity, batchSize, Duration.ofMillis(20),
+                overflowPolicy, Duration.ofSeconds(5));
+    }
+
+    private void stopWorker(LoginLogBatchWriter writer) {
+        try {
+            writer.destroy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private LoginLog loginLog(String email) {
+        return LoginLog.builder()
+                .siteId(1L)
+                .email(email)
+                .remoteIp("127.0.0.1")
+                .successAt(true)
+                .failContent("")
+                .build();
+    }
+
+}
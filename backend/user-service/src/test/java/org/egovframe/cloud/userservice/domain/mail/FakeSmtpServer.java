@@ -0,0 +1,136 @@
+package org.egovframe.cloud.userservice.domain.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * org.egovframe.cloud.userservice.domain.mail.FakeSmtpServer
+ * <p>
+ * 받은 메일을 메모리에 보관하는 테스트용 로컬 SMTP 서버
+ * rejectedRecipients 의 주소로 보내는 메일은 RCPT 단계에서 거부하고, 연결 수와 동시 연결 수를 센다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final Set<String> rejectedRecipients;
+
+    private final List<String> recipients = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+
+    private final AtomicInteger maxActiveConnections = new AtomicInteger();
+
+    FakeSmtpServer(Set<String> rejectedRecipients) throws IOException {
+        this.rejectedRecipients = rejectedRecipients;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::accept);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 받은 메일의 받는 사람 주소 목록
+     */
+    List<String> getRecipients() {
+        return recipients;
+    }
+
+    int getConnections() {
+        return connections.get();
+    }
+
+    int getMaxActiveConnections() {
+        return maxActiveConnections.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        connections.incrementAndGet();
+        maxActiveConnections.accumulateAndGet(activeConnections.incrementAndGet(), Math::max);
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(s.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            reply(out, "220 fake smtp");
+            String recipient = null;
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase();
+                if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                    reply(out, "250 fake smtp");
+                } else if (command.startsWith("RCPT TO:")) {
+                    String address = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                    if (rejectedRecipients.contains(address)) {
+                        reply(out, "550 mailbox unavailable");
+                    } else {
+                        recipient = address;
+                        reply(out, "250 ok");
+                    }
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        // 본문은 보관하지 않는다.
+                    }
+                    recipients.add(recipient);
+                    recipient = null;
+                    reply(out, "250 ok");
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                } else {
+                    // MAIL FROM, RSET, NOOP
+                    recipient = command.startsWith("RSET") ? null : recipient;
+                    reply(out, "250 ok");
+                }
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        } finally {
+            activeConnections.decrementAndGet();
+        }
+    }
+
+    private void reply(PrintWriter out, String message) {
+        out.print(message + "\r\n");
+        out.flush();
+    }
+
+}
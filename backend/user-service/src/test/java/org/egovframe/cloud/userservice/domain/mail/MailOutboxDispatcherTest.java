@@ -0,0 +1,224 @@
+package org.egovframe.cloud.userservice.domain.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * org.egovframe.cloud.userservice.domain.mail.MailOutboxDispatcherTest
+ * <p>
+ * 메일 발송 대기 디스패처를 로컬 SMTP 서버로 확인하는 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MailOutboxDispatcherTest {
+
+    private static final String REJECTED = "rejected@egovframe.org";
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FakeSmtpServer smtpServer;
+
+    private MailOutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+        if (smtpServer != null) {
+            smtpServer.close();
+        }
+    }
+
+    @DisplayName("점유한 메일을 concurrency 개의 SMTP 연결로 나누어 발송하고 발송 완료로 저장한다")
+    @Test
+    void should_sendOverLimitedConnections_when_dispatched() throws Exception {
+        // given
+        List<MailOutbox> mails = new ArrayList<>();
+        for (long i = 1; i <= 6; i++) {
+            mails.add(mail(i, "user" + i + "@egovframe.org", 0));
+        }
+        givenClaimed(mails);
+        dispatcher = dispatcher(2, 5);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(smtpServer.getRecipients()).hasSize(6);
+        assertThat(smtpServer.getConnections()).isEqualTo(2);
+        assertThat(smtpServer.getMaxActiveConnections()).isLessThanOrEqualTo(2);
+        verify(mailOutboxRepository).markSent(argThat(ids -> ids.size() == 6), any(LocalDateTime.class));
+        assertThat(meterRegistry.get(MailOutboxDispatcher.SENT_METRIC).counter().count()).isEqualTo(6);
+    }
+
+    @DisplayName("발송에 실패한 메일만 다음 시도 일시를 늦추어 재시도 대기로 저장한다")
+    @Test
+    void should_scheduleRetry_when_recipientRejected() throws Exception {
+        // given
+        givenClaimed(List.of(mail(1L, "ok@egovframe.org", 0), mail(2L, REJECTED, 0)));
+        dispatcher = dispatcher(1, 5);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(smtpServer.getRecipients()).containsExactly("ok@egovframe.org");
+        verify(mailOutboxRepository).markSent(argThat(ids -> ids.size() == 1 && ids.contains(1L)), any(LocalDateTime.class));
+        verify(mailOutboxRepository).markFailed(eq(2L), eq(MailOutboxStatus.READY), eq(1),
+                argThat(next -> next.isAfter(before.plusSeconds(59))), anyString(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get(MailOutboxDispatcher.FAILED_METRIC).tag("result", "retry").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 시도 수에 도달하면 FAILED 로 저장한다")
+    @Test
+    void should_giveUp_when_maxAttemptsReached() throws Exception {
+        // given
+        givenClaimed(List.of(mail(1L, REJECTED, 4)));
+        dispatcher = dispatcher(1, 5);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(mailOutboxRepository).markFailed(eq(1L), eq(MailOutboxStatus.FAILED), eq(5),
+                any(LocalDateTime.class), anyString(), any(LocalDateTime.class));
+        verify(mailOutboxRepository, never()).markSent(anyCollection(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get(MailOutboxDispatcher.FAILED_METRIC).tag("result", "gave-up").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("메시지를 만들지 못한 메일만 실패로 저장하고 나머지는 발송한다")
+    @Test
+    void should_sendOthers_when_messageNotCreated() throws Exception {
+        // given
+        givenClaimed(List.of(mail(1L, null, 0), mail(2L, "ok@egovframe.org", 0)));
+        dispatcher = dispatcher(1, 5);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(smtpServer.getRecipients()).containsExactly("ok@egovframe.org");
+        verify(mailOutboxRepository).markSent(argThat(ids -> ids.size() == 1 && ids.contains(2L)), any(LocalDateTime.class));
+        verify(mailOutboxRepository).markFailed(eq(1L), eq(MailOutboxStatus.READY), eq(1),
+                any(LocalDateTime.class), any(), any(LocalDateTime.class));
+    }
+
+    @DisplayName("발송 스레드가 예외로 끝나면 그 묶음의 메일을 모두 재시도 대기로 저장한다")
+    @Test
+    void should_scheduleRetry_when_senderFailed() throws Exception {
+        // given
+        givenClaimed(List.of(mail(1L, "user1@egovframe.org", 0), mail(2L, "user2@egovframe.org", 0)));
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                throw new IllegalStateException("sender failed");
+            }
+        };
+        dispatcher = new MailOutboxDispatcher(mailOutboxRepository, javaMailSender, meterRegistry,
+                10, 1, Duration.ofHours(1), Duration.ofMinutes(5), 5, Duration.ofMinutes(1),
+                Duration.ofDays(7), Duration.ofSeconds(5));
+        dispatcher.afterPropertiesSet();
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(mailOutboxRepository, never()).markSent(anyCollection(), any(LocalDateTime.class));
+        verify(mailOutboxRepository).markFailed(eq(1L), eq(MailOutboxStatus.READY), eq(1),
+                any(LocalDateTime.class), eq("sender failed"), any(LocalDateTime.class));
+        verify(mailOutboxRepository).markFailed(eq(2L), eq(MailOutboxStatus.READY), eq(1),
+                any(LocalDateTime.class), eq("sender failed"), any(LocalDateTime.class));
+    }
+
+    @DisplayName("다른 디스패처가 먼저 점유한 메일은 발송하지 않는다")
+    @Test
+    void should_notSend_when_claimedByOther() throws Exception {
+        // given
+        given(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(1L)).willReturn(List.of());
+        given(mailOutboxRepository.claim(anyCollection(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(0);
+        dispatcher = dispatcher(1, 5);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(smtpServer.getConnections()).isZero();
+        verify(mailOutboxRepository, never()).findByClaimIdAndStatus(anyString(), any(MailOutboxStatus.class));
+    }
+
+    private void givenClaimed(List<MailOutbox> mails) {
+        List<Long> mailIds = mails.stream().map(MailOutbox::getMailId).collect(Collectors.toList());
+        given(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(mailIds).willReturn(List.of());
+        given(mailOutboxRepository.claim(anyCollection(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+        given(mailOutboxRepository.findByClaimIdAndStatus(anyString(), eq(MailOutboxStatus.READY))).willReturn(mails);
+    }
+
+    private MailOutboxDispatcher dispatcher(int concurrency, int maxAttempts) throws Exception {
+        smtpServer = new FakeSmtpServer(Set.of(REJECTED));
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("127.0.0.1");
+        javaMailSender.setPort(smtpServer.getPort());
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.from", "noreply@egovframe.org");
+        javaMailSender.setJavaMailProperties(properties);
+
+        MailOutboxDispatcher mailOutboxDispatcher = new MailOutboxDispatcher(mailOutboxRepository, javaMailSender, meterRegistry,
+                10, concurrency, Duration.ofHours(1), Duration.ofMinutes(5), maxAttempts, Duration.ofMinutes(1),
+                Duration.ofDays(7), Duration.ofSeconds(5));
+        mailOutboxDispatcher.afterPropertiesSet();
+        return mailOutboxDispatcher;
+    }
+
+    private MailOutbox mail(Long mailId, String toAddr, int attemptCount) {
+        MailOutbox mail = MailOutbox.builder()
+                .toAddr(toAddr)
+                .subject("비밀번호 초기화 안내")
+                .content("<p>본문</p>")
+                .build();
+        ReflectionTestUtils.setField(mail, "mailId", mailId);
+        ReflectionTestUtils.setField(mail, "attemptCount", attemptCount);
+        return mail;
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.egovframe.cloud.userservice.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.egovframe.cloud.common.domain.Role;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * org.egovframe.cloud.userservice.domain.user.UserRepositoryImplTest
+ * <p>
+ * 로그인 실패 정보 수정(updateLoginFail) 테스트
+ * 실제 DB(H2, in-memory)에서 실패수를 DB 값으로 증가시키고 5번째 실패에서 정지(HALT)되는지 검증한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ *
+ * <pre>
+ * << 개정이력(Modification Information) >>
+ *
+ *     수정일        수정자           수정내용
+ *  ----------    --------    ---------------------------
+ *  2026/10/18    eGovFrame   최초 생성
+ * </pre>
+ */
+class UserRepositoryImplTest {
+
+    private static final String USER_ID = "uid-login-fail";
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:user_login_fail_testdb;MODE=MYSQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER", "sa", "");
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.egovframe.cloud.userservice.domain.user");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        factoryBean.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        inTransaction(entityManager -> {
+            entityManager.createQuery("delete from User").executeUpdate();
+            entityManager.persist(User.builder()
+                    .userId(USER_ID)
+                    .userName("tester")
+                    .email("login-fail@egovframe.org")
+                    .encryptedPassword("$2a$10$encryptedpasswordsample")
+                    .role(Role.USER)
+                    .userStateCode(UserStateCode.NORMAL.getKey())
+                    .build());
+        });
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void failLogin(int times) {
+        for (int i = 0; i < times; i++) {
+            inTransaction(entityManager -> new UserRepositoryImpl(new JPAQueryFactory(entityManager))
+                    .updateLoginFail(USER_ID, LocalDateTime.now()));
+        }
+    }
+
+    private User find() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("select u from User u where u.userId = :userId", User.class)
+                    .setParameter("userId", USER_ID)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @DisplayName("4번 실패하면 실패수만 4가 되고 정지되지 않는다")
+    @Test
+    void updateLoginFail_four_times_keeps_state() {
+        failLogin(4);
+
+        User user = find();
+        assertThat(user.getLoginFailCount()).isEqualTo(4);
+        assertThat(user.getUserStateCode()).isEqualTo(UserStateCode.NORMAL.getKey());
+    }
+
+    @DisplayName("5번째 실패에서 실패수가 5가 되고 정지된다")
+    @Test
+    void updateLoginFail_fifth_time_halts() {
+        failLogin(5);
+
+        User user = find();
+        assertThat(user.getLoginFailCount()).isEqualTo(5);
+        assertThat(user.getUserStateCode()).isEqualTo(UserStateCode.HALT.getKey());
+    }
+}
@@ -0,0 +1,158 @@
+package org.egovframe.cloud.userservice.service.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import org.egovframe.cloud.userservice.domain.log.LogTable;
+import org.egovframe.cloud.userservice.domain.log.LogTablePartition;
+import org.egovframe.cloud.userservice.domain.log.LogTableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * org.egovframe.cloud.userservice.service.log.LogTableRetentionServiceTest
+ * <p>
+ * 로그/통계 테이블 보관 기간 관리 단위 테스트 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LogTableRetentionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 3, 0);
+
+    @Mock
+    private LogTableRepository logTableRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LogTableRetentionService logTableRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        logTableRetentionService = new LogTableRetentionService(logTableRepository, meterRegistry, false,
+                Duration.ofHours(6), 2, 100, 3, 12, 24);
+    }
+
+    @DisplayName("월 파티션을 미리 만들고 보관 기간이 지난 월 파티션을 삭제한다")
+    @Test
+    void should_addAheadAndDropExpired_when_tablePartitioned() {
+        // given
+        given(logTableRepository.findPartitions(LogTable.API_LOG)).willReturn(List.of(
+                partition(YearMonth.of(2026, 5)),
+                partition(YearMonth.of(2026, 6)),
+                partition(YearMonth.of(2026, 7)),
+                partition(YearMonth.of(2026, 10)),
+                new LogTablePartition(LogTableRepository.MAX_PARTITION, null, 0)));
+
+        // when
+        logTableRetentionService.maintain(LogTable.API_LOG, NOW);
+
+        // then
+        verify(logTableRepository).addMonthlyPartitions(LogTable.API_LOG,
+                List.of(YearMonth.of(2026, 11), YearMonth.of(2026, 12)), true);
+        verify(logTableRepository).dropPartitions(LogTable.API_LOG, List.of("p202605", "p202606"));
+        verify(logTableRepository, never()).deleteBefore(any(), any(), anyInt());
+        assertThat(meterRegistry.get(LogTableRetentionService.PARTITIONS_DROPPED_METRIC).tag("table", "api_log").counter().count())
+                .isEqualTo(2);
+    }
+
+    @DisplayName("p_max 만 있는 테이블은 이번 달부터 월 파티션을 만든다")
+    @Test
+    void should_addFromCurrentMonth_when_onlyMaxPartition() {
+        // given
+        given(logTableRepository.findPartitions(LogTable.STATISTICS)).willReturn(List.of(
+                new LogTablePartition(LogTableRepository.MAX_PARTITION, null, 10)));
+
+        // when
+        logTableRetentionService.maintain(LogTable.STATISTICS, NOW);
+
+        // then
+        verify(logTableRepository).addMonthlyPartitions(LogTable.STATISTICS,
+                List.of(YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12)), true);
+        verify(logTableRepository, never()).dropPartitions(any(), anyList());
+    }
+
+    @DisplayName("파티션이 없는 테이블은 보관 기간이 지난 로그를 batch 단위로 삭제한다")
+    @Test
+    void should_deleteInBatches_when_tableNotPartitioned() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2025, 10, 1, 0, 0);
+        given(logTableRepository.findPartitions(LogTable.LOGIN_LOG)).willReturn(Collections.emptyList());
+        given(logTableRepository.deleteBefore(LogTable.LOGIN_LOG, cutoff, 100)).willReturn(100, 100, 30);
+
+        // when
+        logTableRetentionService.maintain(LogTable.LOGIN_LOG, NOW);
+
+        // then
+        verify(logTableRepository, times(3)).deleteBefore(LogTable.LOGIN_LOG, cutoff, 100);
+        verify(logTableRepository, never()).addMonthlyPartitions(any(), anyList(), anyBoolean());
+        assertThat(meterRegistry.get(LogTableRetentionService.ROWS_DELETED_METRIC).tag("table", "login_log").counter().count())
+                .isEqualTo(230);
+    }
+
+    @DisplayName("다른 인스턴스가 잠금을 잡고 있으면 실행하지 않는다")
+    @Test
+    void should_skip_when_lockHeldByOtherInstance() {
+        // given
+        given(logTableRepository.runWithLock(anyString(), any(Runnable.class))).willReturn(false);
+
+        // when
+        logTableRetentionService.run();
+
+        // then
+        verify(logTableRepository).runWithLock(eq(LogTableRetentionService.LOCK_NAME), any(Runnable.class));
+        verify(logTableRepository, never()).findPartitions(any());
+    }
+
+    @DisplayName("한 테이블이 실패해도 다른 테이블은 계속 처리한다")
+    @Test
+    void should_continueOtherTables_when_oneTableFails() {
+        // given
+        given(logTableRepository.runWithLock(anyString(), any(Runnable.class))).willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        given(logTableRepository.findPartitions(LogTable.API_LOG)).willThrow(new IllegalStateException("lock wait timeout"));
+        given(logTableRepository.findPartitions(LogTable.LOGIN_LOG)).willReturn(Collections.emptyList());
+        given(logTableRepository.findPartitions(LogTable.STATISTICS)).willReturn(Collections.emptyList());
+
+        // when
+        logTableRetentionService.run();
+
+        // then
+        verify(logTableRepository).findPartitions(LogTable.STATISTICS);
+        verify(logTableRepository, times(2)).deleteBefore(any(), any(), anyInt());
+    }
+
+    private LogTablePartition partition(YearMonth month) {
+        return new LogTablePartition(LogTableRepository.partitionName(month), LogTableRepository.upperBound(month), 100);
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.egovframe.cloud.userservice.event.AuthorizationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.bus.BusProperties;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.AuthorizationCacheVersionTest
+ * <p>
+ * 인가 캐시 버전 단위 테스트 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AuthorizationCacheVersionTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache useridCache;
+
+    @Mock
+    private Cache rolesCache;
+
+    @Mock
+    private ObjectProvider<BusProperties> busPropertiesProvider;
+
+    private AuthorizationCacheVersion authorizationCacheVersion;
+
+    @BeforeEach
+    void setUp() {
+        BusProperties busProperties = new BusProperties();
+        busProperties.setId("user-service:8080:a");
+        given(busPropertiesProvider.getIfAvailable()).willReturn(busProperties);
+        given(cacheManager.getCache("cache-user-authorization-by-userid")).willReturn(useridCache);
+        given(cacheManager.getCache("cache-user-authorization-by-roles")).willReturn(rolesCache);
+
+        authorizationCacheVersion = new AuthorizationCacheVersion(cacheManager, busPropertiesProvider);
+    }
+
+    @DisplayName("트랜잭션 밖에서 버전을 올리면 바로 반영된다")
+    @Test
+    void should_incrementVersion_when_noTransaction() {
+        long before = authorizationCacheVersion.current();
+
+        authorizationCacheVersion.increment();
+
+        assertThat(authorizationCacheVersion.current()).isEqualTo(before + 1);
+    }
+
+    @DisplayName("다른 인스턴스의 인가 변경 이벤트를 받으면 버전을 올리고 캐시를 비운다")
+    @Test
+    void should_incrementVersionAndClearCache_when_eventFromOtherInstance() {
+        long before = authorizationCacheVersion.current();
+
+        authorizationCacheVersion.onAuthorizationChanged(new AuthorizationChangedEvent(this, "user-service:8080:b"));
+
+        assertThat(authorizationCacheVersion.current()).isEqualTo(before + 1);
+        verify(useridCache).clear();
+        verify(rolesCache).clear();
+    }
+
+    @DisplayName("이 인스턴스가 발행한 인가 변경 이벤트는 무시한다")
+    @Test
+    void should_ignoreEvent_when_eventFromSelf() {
+        long before = authorizationCacheVersion.current();
+
+        authorizationCacheVersion.onAuthorizationChanged(new AuthorizationChangedEvent(this, "user-service:8080:a"));
+
+        assertThat(authorizationCacheVersion.current()).isEqualTo(before);
+        verify(useridCache, never()).clear();
+        verify(rolesCache, never()).clear();
+    }
+
+}
@@ -21,6 +21,7 @@ import org.egovframe.cloud.userservice.api.role.dto.AuthorizationSaveRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.AuthorizationUpdateRequestDto;
 import org.egovframe.cloud.userservice.domain.role.Authorization;
 import org.egovframe.cloud.userservice.domain.role.AuthorizationRepository;
+import org.egovframe.cloud.userservice.event.AuthorizationEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,6 +64,15 @@ class AuthorizationServiceTest {
     @Mock
     private Cache rolesCache;
 
+    @Mock
+    private AuthorizationEventPublisher authorizationEventPublisher;
+
+    @Mock
+    private PermissionIndexHolder permissionIndexHolder;
+
+    @Mock
+    private AuthorizationCacheVersion authorizationCacheVersion;
+
     @Mock
     private MessageUtil messageUtil;
 
@@ -180,6 +190,8 @@ class AuthorizationServiceTest {
         verify(authorizationRepository).save(any(Authorization.class));
         verify(useridCache).clear();
         verify(rolesCache).clear();
+        verify(authorizationCacheVersion).increment();
+        verify(authorizationEventPublisher).publishAuthorizationChanged();
     }
 
     @DisplayName("동일한 정렬 순서가 존재할 때 정렬 순서를 1씩 미루고 인가를 등록한 뒤 캐시를 비운다")
@@ -217,6 +229,7 @@ class AuthorizationServiceTest {
         verify(authorizationRepository).save(any(Authorization.class));
         verify(useridCache).clear();
         verify(rolesCache).clear();
+        verify(authorizationEventPublisher).publishAuthorizationChanged();
     }
 
     @DisplayName("인가 수정 시 정렬 순서가 앞당겨지면 사이 구간 정렬 순서를 1씩 늘린다")
@@ -247,6 +260,7 @@ class AuthorizationServiceTest {
         verify(authorizationRepository).updateSortSeq(3, 4, 1);
         verify(useridCache).clear();
         verify(rolesCache).clear();
+        verify(authorizationEventPublisher).publishAuthorizationChanged();
     }
 
     @DisplayName("인가 수정 시 정렬 순서가 밀려나면 사이 구간 정렬 순서를 1씩 줄인다")
@@ -277,6 +291,7 @@ class AuthorizationServiceTest {
         verify(authorizationRepository).updateSortSeq(4, 5, -1);
         verify(useridCache).clear();
         verify(rolesCache).clear();
+        verify(authorizationEventPublisher).publishAuthorizationChanged();
     }
 
     @DisplayName("인가 삭제 시 삭제 데이터보다 큰 정렬 순서를 1씩 줄이고 캐시를 비운다")
@@ -301,5 +316,6 @@ class AuthorizationServiceTest {
         verify(authorizationRepository).updateSortSeq(4, null, -1);
         verify(useridCache).clear();
         verify(rolesCache).clear();
+        verify(authorizationEventPublisher).publishAuthorizationChanged();
     }
 }
@@ -0,0 +1,109 @@
+package org.egovframe.cloud.userservice.service.role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * org.egovframe.cloud.userservice.service.role.PermissionIndexTest
+ * <p>
+ * 인가 인덱스 단위 테스트 클래스
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+class PermissionIndexTest {
+
+    private static final List<String> PATTERNS = Arrays.asList(
+            "/", "/user-service/api/v1/users", "/user-service/api/v1/users/", "/user-service/api/v1/users/*",
+            "/user-service/api/v1/users/**", "/user-service/api/v1/users/{userId}/roles", "/user-service/api/v1/*/check",
+            "/user-service/api/v1/users/?", "/user-service/api/v1/users/*.json", "/**/users", "/**", "/**/api/**/roles/*",
+            "/*-service/api/v1/menus/{siteId:\\d+}/tree", "/user-service/**/roles/**", "user-service/api/v1/users",
+            "/portal-service/api/v1/**/files/*", "/board-service/api/v1/boards/*/", "/portal-service//api/v1/menus");
+
+    private static final List<String> PATHS = Arrays.asList(
+            "/", "//", "/user-service/api/v1/users", "/user-service/api/v1/users/", "/user-service/api/v1/users/abc",
+            "/user-service/api/v1/users/abc/", "/user-service/api/v1/users/a", "/user-service/api/v1/users/abc/roles",
+            "/user-service/api/v1/users/abc/roles/", "/user-service/api/v1/authorizations/check", "/user-service/api/v1/users/list.json",
+            "/users", "/x/users", "/x/y/users/", "/x/api/y/roles/z", "/x/api/roles/z", "/portal-service/api/v1/menus/12/tree",
+            "/portal-service/api/v1/menus/ab/tree", "/user-service/roles", "/user-service/a/roles/b", "user-service/api/v1/users",
+            "/portal-service/api/v1/files/a", "/portal-service/api/v1/a/b/files/c", "/portal-service/api/v1/a/files/",
+            "/board-service/api/v1/boards/1/", "/board-service/api/v1/boards/1", "/board-service/api/v1/boards/",
+            "/user-service//api/v1/users", "/portal-service/api/v1/menus", "/portal-service/api/v1/menus//", "");
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @DisplayName("패턴 하나씩 AntPathMatcher 와 같은 인가 결과를 반환한다")
+    @Test
+    void should_matchSameAsAntPathMatcher_when_singlePattern() {
+        for (String pattern : PATTERNS) {
+            PermissionIndex index = PermissionIndex.build(Collections.singletonList(row("ROLE_USER", pattern, "GET")));
+            for (String path : PATHS) {
+                assertThat(index.isAuthorized(Collections.singletonList("ROLE_USER"), "GET", path))
+                        .as("pattern=%s, path=%s", pattern, path)
+                        .isEqualTo(antPathMatcher.match(pattern, path));
+            }
+        }
+    }
+
+    @DisplayName("여러 권한과 Http Method 가 섞인 인가 목록에서 기존 인가 확인과 같은 결과를 반환한다")
+    @Test
+    void should_matchSameAsAuthorizationList_when_multipleRoles() {
+        List<RoleAuthorizationListResponseDto> rows = new ArrayList<>();
+        for (int i = 0; i < PATTERNS.size(); i++) {
+            rows.add(row(i % 3 == 0 ? "ROLE_ADMIN" : "ROLE_USER", PATTERNS.get(i), i % 2 == 0 ? "GET" : "POST"));
+        }
+        PermissionIndex index = PermissionIndex.build(rows);
+
+        for (List<String> roles : Arrays.asList(Collections.singletonList("ROLE_USER"), Collections.singletonList("ROLE_ADMIN"),
+                Arrays.asList("ROLE_USER", "ROLE_ADMIN"), Arrays.asList("ROLE_ADMIN", "ROLE_USER"), Collections.singletonList("ROLE_ANONYMOUS"))) {
+            for (String method : Arrays.asList("GET", "POST", "PUT")) {
+                for (String path : PATHS) {
+                    assertThat(index.isAuthorized(roles, method, path))
+                            .as("roles=%s, method=%s, path=%s", roles, method, path)
+                            .isEqualTo(expected(rows, roles, method, path));
+                }
+            }
+        }
+    }
+
+    @DisplayName("권한이 없으면 인가되지 않는다")
+    @Test
+    void should_notAuthorized_when_emptyRoles() {
+        PermissionIndex index = PermissionIndex.build(Collections.singletonList(row("ROLE_USER", "/**", "GET")));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.isAuthorized(Collections.emptyList(), "GET", "/user-service/api/v1/users")).isFalse();
+    }
+
+    /**
+     * 기존 AuthorizationService.isContainMatch 와 같은 방식의 판단
+     */
+    private boolean expected(List<RoleAuthorizationListResponseDto> rows, List<String> roles, String method, String path) {
+        for (RoleAuthorizationListResponseDto row : rows) {
+            if (roles.contains(row.getRoleId())
+                    && antPathMatcher.match(row.getUrlPatternValue(), path) && row.getHttpMethodCode().equals(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RoleAuthorizationListResponseDto row(String roleId, String pattern, String method) {
+        return RoleAuthorizationListResponseDto.builder()
+                .roleId(roleId)
+                .urlPatternValue(pattern)
+                .httpMethodCode(method)
+                .build();
+    }
+
+}
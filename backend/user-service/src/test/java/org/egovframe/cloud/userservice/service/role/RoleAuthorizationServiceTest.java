@@ -12,12 +12,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.egovframe.cloud.common.util.MessageUtil;
+import org.egovframe.cloud.userservice.api.role.dto.AuthorizationSnapshotResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationDeleteRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListRequestDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationListResponseDto;
 import org.egovframe.cloud.userservice.api.role.dto.RoleAuthorizationSaveRequestDto;
 import org.egovframe.cloud.userservice.domain.role.RoleAuthorization;
 import org.egovframe.cloud.userservice.domain.role.RoleAuthorizationRepository;
+import org.egovframe.cloud.userservice.event.AuthorizationEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -60,6 +62,12 @@ class RoleAuthorizationServiceTest {
     @Mock
     private Cache rolesCache;
 
+    @Mock
+    private AuthorizationEventPublisher authorizationEventPublisher;
+
+    @Mock
+    private AuthorizationCacheVersion authorizationCacheVersion;
+
     @Mock
     private MessageUtil messageUtil;
 
@@ -132,6 +140,43 @@ class RoleAuthorizationServiceTest {
         verify(roleAuthorizationRepository, never()).findPageAuthorizationList(any(), any());
     }
 
+    @DisplayName("권한 인가 전체 목록을 인가 별로 묶어 버전과 함께 스냅샷으로 반환한다")
+    @Test
+    void should_groupRolesByAuthorization_when_findSnapshot() {
+        // given
+        List<RoleAuthorizationListResponseDto> rows = Arrays.asList(
+                snapshotRow("ROLE_ADMIN", 1, "/user-service/api/v1/users/**", "GET"),
+                snapshotRow("ROLE_USER", 1, "/user-service/api/v1/users/**", "GET"),
+                snapshotRow("ROLE_ADMIN", 2, "/user-service/api/v1/roles", "POST"));
+        given(roleAuthorizationRepository.findAllAuthorizationList()).willReturn(rows);
+
+        // when
+        AuthorizationSnapshotResponseDto result = roleAuthorizationService.findSnapshot();
+        AuthorizationSnapshotResponseDto again = roleAuthorizationService.findSnapshot();
+
+        // then
+        assertThat(result.getAuthorizations()).hasSize(2);
+        assertThat(result.getAuthorizations().get(0).getUrlPatternValue()).isEqualTo("/user-service/api/v1/users/**");
+        assertThat(result.getAuthorizations().get(0).getRoleIds()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(result.getAuthorizations().get(1).getHttpMethodCode()).isEqualTo("POST");
+        assertThat(result.getAuthorizations().get(1).getRoleIds()).containsExactly("ROLE_ADMIN");
+        assertThat(result.getVersion()).isEqualTo(again.getVersion());
+
+        // 권한 인가가 바뀌면 버전도 바뀐다
+        given(roleAuthorizationRepository.findAllAuthorizationList()).willReturn(rows.subList(0, 2));
+        assertThat(roleAuthorizationService.findSnapshot().getVersion()).isNotEqualTo(result.getVersion());
+    }
+
+    private RoleAuthorizationListResponseDto snapshotRow(String roleId, Integer authorizationNo, String urlPatternValue, String httpMethodCode) {
+        return RoleAuthorizationListResponseDto.builder()
+                .roleId(roleId)
+                .authorizationNo(authorizationNo)
+                .urlPatternValue(urlPatternValue)
+                .httpMethodCode(httpMethodCode)
+                .createdAt(true)
+                .build();
+    }
+
     @DisplayName("권한 인가 목록을 다건 등록하고 관련 캐시를 클리어한다")
     @Test
     void should_saveRoleAuthorizations_and_clearCache() {
@@ -159,6 +204,7 @@ class RoleAuthorizationServiceTest {
         verify(roleAuthorizationRepository).saveAll(anyList());
         verify(useridCache).clear();
         verify(rolesCache).clear();
+        verify(authorizationEventPublisher).publishAuthorizationChanged();
     }
 
     @DisplayName("권한 인가 목록을 다건 삭제하고 관련 캐시를 클리어한다")
@@ -178,5 +224,6 @@ class RoleAuthorizationServiceTest {
         verify(roleAuthorizationRepository).deleteAll(anyList());
         verify(useridCache).clear();
         verify(rolesCache).clear();
+        verify(authorizationEventPublisher).publishAuthorizationChanged();
     }
 }
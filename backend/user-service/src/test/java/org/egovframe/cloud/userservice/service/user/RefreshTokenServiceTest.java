@@ -0,0 +1,127 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.egovframe.cloud.userservice.config.RefreshTokenHashUtil;
+import org.egovframe.cloud.userservice.domain.user.RefreshToken;
+import org.egovframe.cloud.userservice.domain.user.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.RefreshTokenServiceTest
+ * <p>
+ * refresh token 저장소 서비스 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository,
+                new ConcurrentMapCacheManager(RefreshTokenService.CACHE_NAME), Duration.ofMinutes(10));
+    }
+
+    @DisplayName("저장한 토큰은 해시로 저장되고 캐시에서 조회된다")
+    @Test
+    void should_findFromCache_when_issued() {
+        RefreshToken issued = refreshTokenService.issue("user-1", "token-1", "jti-1", LocalDateTime.now().plusDays(1));
+
+        RefreshToken found = refreshTokenService.find("token-1");
+
+        assertThat(issued.getTokenHash()).isEqualTo(RefreshTokenHashUtil.hash("token-1"));
+        assertThat(found).isSameAs(issued);
+        verify(refreshTokenRepository, never()).findById(any());
+    }
+
+    @DisplayName("캐시에 없으면 DB 에서 조회하고, 만료된 토큰은 반환하지 않는다")
+    @Test
+    void should_returnNull_when_expired() {
+        String hash = RefreshTokenHashUtil.hash("token-2");
+        when(refreshTokenRepository.findById(hash)).thenReturn(Optional.of(RefreshToken.builder()
+                .tokenHash(hash).userId("user-2").jti("jti-2").familyId("family-2")
+                .expiresDate(LocalDateTime.now().minusSeconds(1))
+                .build()));
+
+        assertThat(refreshTokenService.find("token-2")).isNull();
+        verify(refreshTokenRepository).findById(hash);
+    }
+
+    @DisplayName("재발급하면 이전 토큰에 사용 일시를 남기고 같은 family 로 새 토큰을 저장한다")
+    @Test
+    void should_keepFamily_when_rotated() {
+        RefreshToken current = refreshTokenService.issue("user-3", "token-3", "jti-3", LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.markUsed(eq(current.getTokenHash()), any(LocalDateTime.class))).thenReturn(1);
+
+        boolean rotated = refreshTokenService.rotate(current, "token-4", "jti-4", LocalDateTime.now().plusDays(1));
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+        verify(refreshTokenRepository, times(2)).save(captor.capture());
+        RefreshToken next = captor.getAllValues().get(1);
+        assertThat(rotated).isTrue();
+        assertThat(next.getFamilyId()).isEqualTo(current.getFamilyId());
+        assertThat(next.getUserId()).isEqualTo("user-3");
+        assertThat(next.getJti()).isEqualTo("jti-4");
+        assertThat(refreshTokenService.find("token-4")).isSameAs(next);
+    }
+
+    @DisplayName("이미 재발급에 사용된 토큰은 다시 재발급되지 않는다")
+    @Test
+    void should_reject_when_alreadyRotated() {
+        RefreshToken current = refreshTokenService.issue("user-5", "token-5", "jti-5", LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.markUsed(eq(current.getTokenHash()), any(LocalDateTime.class))).thenReturn(0);
+
+        boolean rotated = refreshTokenService.rotate(current, "token-6", "jti-6", LocalDateTime.now().plusDays(1));
+
+        assertThat(rotated).isFalse();
+        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        assertThat(refreshTokenService.find("token-5")).isNull();
+    }
+
+    @DisplayName("다른 요청이 먼저 사용한 토큰으로 재발급하면 같은 family 의 토큰을 모두 삭제한다")
+    @Test
+    void should_revokeFamily_when_reused() {
+        RefreshToken current = refreshTokenService.issue("user-7", "token-7", "jti-7", LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.markUsed(eq(current.getTokenHash()), any(LocalDateTime.class))).thenReturn(1, 0);
+        assertThat(refreshTokenService.rotate(current, "token-8", "jti-8", LocalDateTime.now().plusDays(1))).isTrue();
+        assertThat(refreshTokenService.find("token-8")).isNotNull();
+
+        boolean rotated = refreshTokenService.rotate(current, "token-9", "jti-9", LocalDateTime.now().plusDays(1));
+
+        assertThat(rotated).isFalse();
+        verify(refreshTokenRepository).deleteByFamilyId(current.getFamilyId());
+        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
+        assertThat(refreshTokenService.find("token-8")).as("family 로 발급된 토큰도 캐시에서 지운다").isNull();
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.SocialProviderStubServer
+ * <p>
+ * 네이버, 카카오 사용자 정보 API 를 흉내내는 테스트용 로컬 서버
+ * 응답 지연(delayMillis)을 주어 느린 공급자를 재현하고, 호출 수를 센다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+class SocialProviderStubServer implements AutoCloseable {
+
+    static final String NAVER_PATH = "/v1/nid/me";
+    static final String KAKAO_PATH = "/v2/user/me";
+
+    private final HttpServer server;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private volatile long delayMillis;
+
+    SocialProviderStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(NAVER_PATH, exchange -> respond(exchange,
+                "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"naver-1\",\"email\":\"naver@egovframe.org\",\"name\":\"네이버\"}}"));
+        server.createContext(KAKAO_PATH, exchange -> respond(exchange,
+                "{\"id\":2001,\"kakao_account\":{\"email\":\"kakao@egovframe.org\",\"profile\":{\"nickname\":\"카카오\"}}}"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    int getCalls() {
+        return calls.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        calls.incrementAndGet();
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.egovframe.cloud.userservice.api.user.dto.SocialUserResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.SocialUserInfoClientTest
+ * <p>
+ * 소셜 사용자 정보 조회 클래스 단위 테스트, 공급자 API 는 SocialProviderStubServer 로 대신한다.
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+class SocialUserInfoClientTest {
+
+    private SocialProviderStubServer stubServer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SocialUserInfoClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new SocialProviderStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.destroy();
+        }
+        stubServer.close();
+    }
+
+    private SocialUserInfoClient client(int threads, int queueCapacity, Duration timeout) {
+        return new SocialUserInfoClient(new ConcurrentMapCacheManager(SocialUserInfoClient.CACHE_NAME), meterRegistry,
+                "google_client_id",
+                stubServer.url(SocialProviderStubServer.NAVER_PATH),
+                stubServer.url(SocialProviderStubServer.KAKAO_PATH),
+                threads, queueCapacity, Duration.ofSeconds(1), Duration.ofSeconds(5), timeout);
+    }
+
+    private double failed(String provider, String reason) {
+        return meterRegistry.find(SocialUserInfoClient.FAILED_METRIC).tag("provider", provider).tag("reason", reason)
+                .counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    @DisplayName("공급자 응답을 사용자 정보로 변환하고 같은 토큰은 캐시에서 반환한다")
+    @Test
+    void should_parseAndCache_when_providerResponds() {
+        client = client(2, 2, Duration.ofSeconds(3));
+
+        SocialUserResponseDto naver = client.getUserInfo("naver", "naver-token");
+        SocialUserResponseDto cached = client.getUserInfo("naver", "naver-token");
+        SocialUserResponseDto kakao = client.getUserInfo("kakao", "kakao-token");
+
+        assertThat(naver.getId()).isEqualTo("naver-1");
+        assertThat(naver.getEmail()).isEqualTo("naver@egovframe.org");
+        assertThat(naver.getName()).isEqualTo("네이버");
+        assertThat(cached).isSameAs(naver);
+        assertThat(kakao.getId()).isEqualTo("2001");
+        assertThat(kakao.getName()).isEqualTo("카카오");
+        assertThat(stubServer.getCalls()).isEqualTo(2);
+    }
+
+    @DisplayName("공급자가 느리면 timeout 후 null 을 반환한다")
+    @Test
+    void should_returnNull_when_providerIsSlow() {
+        client = client(2, 2, Duration.ofMillis(200));
+        stubServer.setDelayMillis(1500);
+
+        long start = System.nanoTime();
+        SocialUserResponseDto social = client.getUserInfo("kakao", "slow-token");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(social).isNull();
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(failed("kakao", "timeout")).isEqualTo(1);
+    }
+
+    @DisplayName("공급자 스레드와 대기 큐가 가득 차면 기다리지 않고 거부하며 다른 공급자는 영향을 받지 않는다")
+    @Test
+    void should_reject_when_bulkheadIsFull() {
+        client = client(1, 1, Duration.ofMillis(100));
+        stubServer.setDelayMillis(1500);
+
+        // 첫 요청은 스레드를, 두 번째 요청은 대기 큐를 차지한다.
+        assertThat(client.getUserInfo("naver", "token-1")).isNull();
+        assertThat(client.getUserInfo("naver", "token-2")).isNull();
+
+        long start = System.nanoTime();
+        SocialUserResponseDto rejected = client.getUserInfo("naver", "token-3");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(rejected).isNull();
+        assertThat(elapsedMillis).isLessThan(100);
+        assertThat(failed("naver", "rejected")).isEqualTo(1);
+
+        stubServer.setDelayMillis(0);
+        assertThat(client.getUserInfo("kakao", "kakao-token")).isNotNull();
+    }
+
+    @DisplayName("지원하지 않는 공급자는 호출하지 않는다")
+    @Test
+    void should_returnNull_when_unknownProvider() {
+        client = client(1, 1, Duration.ofSeconds(1));
+
+        assertThat(client.getUserInfo("github", "token")).isNull();
+        assertThat(stubServer.getCalls()).isZero();
+    }
+
+}
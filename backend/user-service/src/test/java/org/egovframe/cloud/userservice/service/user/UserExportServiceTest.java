@@ -0,0 +1,141 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.userservice.api.user.dto.UserListResponseDto;
+import org.egovframe.cloud.userservice.domain.user.UserExportRepository;
+import org.egovframe.cloud.userservice.domain.user.UserStateCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.UserExportServiceTest
+ * <p>
+ * 사용자 목록 내보내기 형식과 chunk 단위 flush 를 확인하는 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserExportServiceTest {
+
+    @Mock
+    private UserExportRepository userExportRepository;
+
+    private UserExportService userExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        userExportService = new UserExportService(userExportRepository, objectMapper);
+        when(userExportRepository.getFetchSize()).thenReturn(2);
+    }
+
+    @DisplayName("CSV 는 헤더 다음에 사용자마다 한 줄을 쓰고 특수문자와 수식 시작 값을 이스케이프한다")
+    @Test
+    void should_writeEscapedCsv_when_exportCsv() throws IOException {
+        givenUsers(List.of(
+                user("uid-1", "홍길동", "hong@egovframe.org"),
+                user("uid-2", "kim, \"jr\"", "=cmd@egovframe.org")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.export(UserExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("\uFEFFuserId,userName,email");
+        assertThat(lines[1]).startsWith("uid-1,홍길동,hong@egovframe.org,ROLE_USER,");
+        assertThat(lines[2]).startsWith("uid-2,\"kim, \"\"jr\"\"\",'=cmd@egovframe.org,");
+    }
+
+    @DisplayName("NDJSON 은 사용자마다 JSON 한 줄을 쓴다")
+    @Test
+    void should_writeJsonPerLine_when_exportNdjson() throws IOException {
+        givenUsers(List.of(user("uid-1", "홍길동", "hong@egovframe.org"), user("uid-2", "tester", "test@egovframe.org")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userExportService.export(UserExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"userId\":\"uid-1\"").contains("\"userName\":\"홍길동\"");
+        assertThat(lines[1]).contains("\"email\":\"test@egovframe.org\"");
+    }
+
+    @DisplayName("fetch-size 건마다 출력 스트림으로 내보낸다")
+    @Test
+    void should_flushEachChunk_when_rowsExceedFetchSize() throws IOException {
+        int[] flushCount = {0};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushCount[0]++;
+            }
+        };
+        givenUsers(List.of(user("uid-1", "a", "a@egovframe.org"), user("uid-2", "b", "b@egovframe.org"),
+                user("uid-3", "c", "c@egovframe.org"), user("uid-4", "d", "d@egovframe.org"),
+                user("uid-5", "e", "e@egovframe.org")));
+
+        userExportService.export(UserExportService.Format.NDJSON, out);
+
+        // 2건, 4건에서 한 번씩, 마지막에 한 번
+        assertThat(flushCount[0]).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(5);
+    }
+
+    @DisplayName("출력 스트림 쓰기에 실패하면 IOException 을 던진다")
+    @Test
+    void should_throwIOException_when_clientDisconnected() {
+        givenUsers(List.of(user("uid-1", "a", "a@egovframe.org"), user("uid-2", "b", "b@egovframe.org")));
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> userExportService.export(UserExportService.Format.CSV, out))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenUsers(List<UserListResponseDto> users) {
+        doAnswer(invocation -> {
+            Consumer<UserListResponseDto> consumer = invocation.getArgument(0);
+            users.forEach(consumer);
+            return null;
+        }).when(userExportRepository).forEach(any(Consumer.class));
+    }
+
+    private UserListResponseDto user(String userId, String userName, String email) {
+        return new UserListResponseDto(userId, userName, email, Role.USER, UserStateCode.NORMAL.getKey(),
+                LocalDateTime.of(2026, 10, 18, 9, 0), 0);
+    }
+
+}
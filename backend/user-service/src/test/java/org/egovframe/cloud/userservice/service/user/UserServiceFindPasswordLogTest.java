@@ -14,6 +14,7 @@ import org.egovframe.cloud.userservice.domain.user.UserFindPassword;
 import org.egovframe.cloud.userservice.domain.user.UserFindPasswordRepository;
 import org.egovframe.cloud.userservice.domain.user.UserRepository;
 import org.egovframe.cloud.userservice.domain.user.UserStateCode;
+import org.egovframe.cloud.userservice.service.mail.MailOutboxService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,15 +25,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
-import jakarta.mail.internet.MimeMessage;
 
 /**
  * org.egovframe.cloud.userservice.service.user.UserServiceFindPasswordLogTest
@@ -58,7 +56,7 @@ class UserServiceFindPasswordLogTest {
     private UserFindPasswordRepository userFindPasswordRepository;
 
     @Mock
-    private JavaMailSender javaMailSender;
+    private MailOutboxService mailOutboxService;
 
     @Mock
     private MessageUtil messageUtil;
@@ -115,7 +113,6 @@ class UserServiceFindPasswordLogTest {
         String userName = "tester";
         when(userRepository.findByEmailAndUserName(email, userName)).thenReturn(Optional.of(user(email, userName)));
         when(messageUtil.getMessage("email.user.password.title")).thenReturn("Password reset");
-        when(javaMailSender.createMimeMessage()).thenReturn(realMimeMessage());
         when(userFindPasswordRepository.findNextRequestNo(email)).thenReturn(1);
 
         // when
@@ -148,7 +145,6 @@ class UserServiceFindPasswordLogTest {
         String userName = "tester";
         when(userRepository.findByEmailAndUserName(email, userName)).thenReturn(Optional.of(user(email, userName)));
         when(messageUtil.getMessage("email.user.password.title")).thenReturn("Password reset");
-        when(javaMailSender.createMimeMessage()).thenReturn(realMimeMessage());
         when(userFindPasswordRepository.findNextRequestNo(email)).thenReturn(1);
 
         // when
@@ -163,8 +159,4 @@ class UserServiceFindPasswordLogTest {
                 .as("completion marker log should be preserved")
                 .isTrue();
     }
-
-    private MimeMessage realMimeMessage() {
-        return new JavaMailSenderImpl().createMimeMessage();
-    }
 }
@@ -0,0 +1,117 @@
+package org.egovframe.cloud.userservice.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.egovframe.cloud.common.domain.Role;
+import org.egovframe.cloud.userservice.domain.log.LoginLog;
+import org.egovframe.cloud.userservice.domain.log.LoginLogBatchWriter;
+import org.egovframe.cloud.userservice.domain.user.User;
+import org.egovframe.cloud.userservice.domain.user.UserRepository;
+import org.egovframe.cloud.userservice.domain.user.UserStateCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * org.egovframe.cloud.userservice.service.user.UserServiceLoginTest
+ * <p>
+ * 로그인 시 LoginContext 로 사용자를 한 번만 조회하고 한 번만 수정하는지 확인하는 단위 테스트
+ *
+ * @author 표준프레임워크센터
+ * @version 1.0
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserServiceLoginTest {
+
+    private static final String EMAIL = "login@egovframe.org";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LoginLogBatchWriter loginLogBatchWriter;
+
+    @InjectMocks
+    private UserService userService;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder()
+                .userId("uid-login")
+                .userName("tester")
+                .email(EMAIL)
+                .encryptedPassword("$2a$10$encryptedpasswordsample")
+                .role(Role.USER)
+                .userStateCode(UserStateCode.NORMAL.getKey())
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("로그인 성공 시 사용자를 한 번 조회하고 로그인 정보를 한 번에 수정한다")
+    @Test
+    void should_readOnceAndWriteOnce_when_loginSucceeded() {
+        userService.loadUserByUsername(EMAIL);
+        LoginContext loginContext = LoginContext.get(request, EMAIL);
+
+        userService.loginCallback(1L, loginContext, true, "");
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userRepository, never()).findByUserId(anyString());
+        verify(userRepository).updateLoginSuccess(eq("uid-login"), any(LocalDateTime.class));
+        verify(loginLogBatchWriter).write(any(LoginLog.class));
+    }
+
+    @DisplayName("로그인 실패 시 조회한 사용자의 로그인실패수를 DB 에서 증가시킨다")
+    @Test
+    void should_updateLoginFail_when_loginFailed() {
+        userService.loadUserByUsername(EMAIL);
+        LoginContext loginContext = LoginContext.get(request, EMAIL);
+
+        userService.loginCallback(1L, loginContext, false, "패스워드 인증에 실패하였습니다.");
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userRepository).updateLoginFail(eq("uid-login"), any(LocalDateTime.class));
+        verify(userRepository, never()).updateLoginSuccess(anyString(), any(LocalDateTime.class));
+    }
+
+    @DisplayName("인증된 이메일과 다른 사용자의 LoginContext 는 사용하지 않는다")
+    @Test
+    void should_returnNull_when_emailNotMatched() {
+        userService.loadUserByUsername(EMAIL);
+
+        assertThat(LoginContext.get(request, EMAIL)).isNotNull();
+        assertThat(LoginContext.get(request, "other@egovframe.org")).isNull();
+        assertThat(LoginContext.get(new MockHttpServletRequest(), EMAIL)).isNull();
+    }
+
+}
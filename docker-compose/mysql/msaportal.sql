@@ -22,6 +22,7 @@
 DROP TABLE IF EXISTS `api_log`;
 /*!40101 SET @saved_cs_client     = @@character_set_client */;
 /*!50503 SET character_set_client = utf8mb4 */;
+-- 월 단위 파티션(pYYYYMM)은 user-service 의 LogTableRetentionService 가 미리 추가하고 보관 기간이 지나면 삭제한다
 CREATE TABLE `api_log` (
   `log_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '로그 id',
   `site_id` bigint(20) DEFAULT NULL COMMENT '사이트 id',
@@ -29,10 +30,12 @@ CREATE TABLE `api_log` (
   `http_method` varchar(10) DEFAULT NULL COMMENT 'api http method',
   `request_url` varchar(500) DEFAULT NULL COMMENT '요청 url',
   `ip_addr` varchar(100) DEFAULT NULL COMMENT 'ip 주소',
-  `created_date` datetime(6) DEFAULT NULL COMMENT '생성일시',
+  `created_date` datetime(6) NOT NULL COMMENT '생성일시',
   `modified_date` datetime(6) DEFAULT NULL COMMENT '수정일시',
-  PRIMARY KEY (`log_id`)
-) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8mb4 COMMENT='API access log';
+  PRIMARY KEY (`log_id`,`created_date`)
+) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8mb4 COMMENT='API access log'
+/*!50500 PARTITION BY RANGE  COLUMNS(created_date)
+(PARTITION p_max VALUES LESS THAN (MAXVALUE) ENGINE = InnoDB) */;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
 
@@ -83,7 +86,7 @@ CREATE TABLE `authorization` (
   `modified_date` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '수정 일시',
   PRIMARY KEY (`authorization_no`),
   UNIQUE KEY `authorization_UK01` (`url_pattern_value`,`http_method_code`)
-) ENGINE=InnoDB AUTO_INCREMENT=196 DEFAULT CHARSET=utf8mb4 COMMENT='인가';
+) ENGINE=InnoDB AUTO_INCREMENT=197 DEFAULT CHARSET=utf8mb4 COMMENT='인가';
 /*!40101 SET character_set_client = @saved_cs_client */;
 
 --
@@ -92,7 +95,7 @@ CREATE TABLE `authorization` (
 
 LOCK TABLES `authorization` WRITE;
 /*!40000 ALTER TABLE `authorization` DISABLE KEYS */;
-INSERT INTO `authorization` VALUES (1,'사용자 목록 조회','/user-service/api/v1/users','GET',1,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(2,'사용자 단건 조회','/user-service/api/v1/users/?*','GET',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(3,'사용자 등록','/user-service/api/v1/users','POST',3,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(4,'사용자 수정','/user-service/api/v1/users/?*','PUT',4,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(5,'사용자 토큰 갱신','/user-service/api/v1/users/token/refresh','GET',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(6,'권한 페이지 목록 조회','/user-service/api/v1/roles','GET',6,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(7,'권한 전체 목록 조회','/user-service/api/v1/roles/all','GET',7,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(8,'인가 페이지 목록 조회','/user-service/api/v1/authorizations','GET',8,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(9,'인가 단건 조회','/user-service/api/v1/authorizations/?*','GET',9,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(10,'인가 다음 정렬 순서 조회','/user-service/api/v1/authorizations/sort-seq/next','GET',10,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:22:19'),(11,'인가 등록','/user-service/api/v1/authorizations','POST',11,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(12,'인가 수정','/user-service/api/v1/authorizations/?*','PUT',12,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(13,'인가 삭제','/user-service/api/v1/authorizations/?*','DELETE',13,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(14,'인가 여부 확인','/user-service/api/v1/authorizations/check','GET',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(15,'권한 인가 페이지 목록 조회','/user-service/api/v1/role-authorizations','GET',15,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(16,'권한 인가 다건 등록','/user-service/api/v1/role-authorizations','POST',16,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:06:53'),(17,'코드 페이지 목록 조회','/portal-service/api/v1/codes','GET',18,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(18,'코드 단건 조회','/portal-service/api/v1/codes/?*','GET',19,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(19,'코드 등록','/portal-service/api/v1/codes','POST',20,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(20,'코드 수정','/portal-service/api/v1/codes/?*','PUT',20,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(21,'코드 사용여부 수정','/portal-service/api/v1/codes/?*/toggle-use','PUT',22,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(22,'코드 삭제','/portal-service/api/v1/codes/?*','DELETE',21,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(23,'코드 상세 페이지 목록 조회','/portal-service/api/v1/code-details','GET',22,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(24,'코드 상세 단건 조회','/portal-service/api/v1/code-details/?*','GET',23,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(25,'코드 상세 등록','/portal-service/api/v1/code-details','POST',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(26,'코드 상세 수정','/portal-service/api/v1/code-details/?*','PUT',26,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(27,'코드 상세 사용여부 수정','/portal-service/api/v1/code-details/?*/toggle-use','PUT',27,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(28,'코드 상세 삭제','/portal-service/api/v1/code-details/?*','DELETE',28,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(29,'첨부파일 단건 업로드','/portal-service/api/v1/upload','POST',29,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(30,'첨부파일 다건 업로드','/portal-service/api/v1/upload/multi','POST',30,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(31,'에디터 파일 업로드','/portal-service/api/v1/upload/editor','POST',31,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(32,'에디터 이미지 조회','/portal-service/api/v1/images/editor/**','GET',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(33,'이미지 조회','/portal-service/api/v1/images/?*','GET',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(34,'첨부파일 다운로드','/portal-service/api/v1/download/?*','GET',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(35,'첨부파일코드의 첨부파일 목록 조회','/portal-service/api/v1/attachments/?*','GET',35,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(36,'첨부파일 페이지 목록 조회','/portal-service/api/v1/attachments','GET',36,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:04'),(37,'첨부파일 삭제여부 수정','/portal-service/api/v1/attachments/?*/?*','PUT',37,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:23'),(38,'첨부파일 단건 삭제','/portal-service/api/v1/attachments/?*','DELETE',38,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:31'),(39,'첨부파일 신규 등록','/portal-service/api/v1/attachments/upload','POST',39,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(40,'첨부파일 추가 등록','/portal-service/api/v1/attachments/upload/?*','PUT',40,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(41,'첨부파일 수정','/portal-service/api/v1/attachments/?*','PUT',41,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(42,'이용약관/개인정보수집동의 상세 페이지 목록 조회','/portal-service/api/v1/policies','GET',42,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:38'),(43,'이용약관/개인정보수집동의 상세 단건 조회','/portal-service/api/v1/policies/?*','GET',43,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:45'),(44,'이용약관/개인정보수집동의 상세 등록','/portal-service/api/v1/policies','POST',44,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:53'),(45,'이용약관/개인정보수집동의 상세 수정','/portal-service/api/v1/policies/?*','PUT',45,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:58'),(46,'이용약관/개인정보수집동의 상세 사용여부 수정','/portal-service/api/v1/policies/?*/?*','PUT',46,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:18:04'),(47,'이용약관/개인정보수집동의 상세 삭제','/portal-service/api/v1/policies/?*','DELETE',47,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:06:12'),(48,'공통코드 상세 목록 조회','/portal-service/api/v1/code-details/?*/codes','GET',48,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:14:22','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:14:22'),(49,'회원가입 시 이용약관/개인정보수집동의 마지막 한건 조회','/portal-service/api/v1/policies/latest/?*','GET',52,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:38:03','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:38:03'),(50,'컨텐츠 페이지 목록 조회','/portal-service/api/v1/contents','GET',53,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(51,'컨텐츠 단건 조회','/portal-service/api/v1/contents/?*','GET',54,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(52,'컨텐츠 등록','/portal-service/api/v1/contents','POST',55,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(53,'컨텐츠 수정','/portal-service/api/v1/contents/?*','PUT',56,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(54,'컨텐츠 삭제','/portal-service/api/v1/contents/?*','DELETE',57,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(55,'개인정보처리방침 페이지 목록 조회','/portal-service/api/v1/privacies','GET',58,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(56,'개인정보처리방침 사용중 전체 목록 조회','/portal-service/api/v1/privacies/all/use','GET',59,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 16:16:39'),(57,'개인정보처리방침 단건 조회','/portal-service/api/v1/privacies/?*','GET',60,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(58,'개인정보처리방침 등록','/portal-service/api/v1/privacies','POST',61,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(59,'개인정보처리방침 수정','/portal-service/api/v1/privacies/?*','PUT',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(60,'개인정보처리방침 사용 여부 수정','/portal-service/api/v1/privacies/?*/?*','PUT',63,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(61,'개인정보처리방침 삭제','/portal-service/api/v1/privacies/?*','DELETE',64,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(62,'게시판 페이지 목록 조회','/board-service/api/v1/boards','GET',65,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(63,'게시판 단건 조회','/board-service/api/v1/boards/?*','GET',66,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(64,'게시판 등록','/board-service/api/v1/boards','POST',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(65,'게시판 수정','/board-service/api/v1/boards/?*','PUT',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(66,'게시판 삭제','/board-service/api/v1/boards/?*','DELETE',69,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(67,'로그인 후 메뉴  조회','/portal-service/api/v1/menu-roles/?*','GET',70,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:09:05','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-17 16:00:10'),(68,'사이트 목록 조회','/portal-service/api/v1/sites','GET',71,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:48:53','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:06:18'),(70,'공통코드 상세 목록 조회(code 포함)','/portal-service/api/v1/code-details/?*/codes/?*','GET',50,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:22:14','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:22:14'),(71,'상위공통코드 목록','/portal-service/api/v1/codes-parent','GET',21,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-07-29 15:03:41','a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-07-29 15:03:41'),(78,'권한 인가 다건 삭제','/user-service/api/v1/role-authorizations','PUT',17,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:06:40','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:13:54'),(79,'코드의 부모코드 단건 조회','/portal-service/api/v1/code-details/?*/parent','GET',25,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-08-02 09:38:19','a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-08-02 09:40:08'),(81,'메뉴관리 트리 목록 조회','/portal-service/api/v1/menus/?*/tree','GET',81,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:12','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:12'),(82,'메뉴관리 메뉴정보 한건 조회','/portal-service/api/v1/menus/?*','GET',82,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:44','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:44'),(83,'메뉴관리 메뉴 추가','/portal-service/api/v1/menus','POST',83,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:32:25','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:32:25'),(84,'메뉴 관리 순서 및 부모 메뉴 변경','/portal-service/api/v1/menus/tree','PUT',84,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:33:26','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:33:26'),(85,'메뉴관리 메뉴 이름변경','/portal-service/api/v1/menus/?*/?*','PUT',85,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:34:25','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:34:25'),(87,'메뉴관리 한건 메뉴정보 수정','/portal-service/api/v1/menus/?*','PUT',86,'','2021-08-03 10:37:03','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:38:40'),(88,'메뉴관리 한건 메뉴정보 삭제','/portal-service/api/v1/menus/?*','DELETE',87,'','2021-08-03 10:37:21','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:38:48'),(93,'권한별 메뉴관리 트리 목록 조회','/portal-service/api/v1/menu-roles/?*/?*','GET',92,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-13 15:17:29','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-13 15:17:29'),(94,'권한별 메뉴 관리 저장','/portal-service/api/v1/menu-roles','POST',93,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-16 14:46:34','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-16 14:46:34'),(99,'배너 페이지 목록 조회','/portal-service/api/v1/banners','GET',94,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(100,'배너 단건 조회','/portal-service/api/v1/banners/?*','GET',95,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(101,'배너 등록','/portal-service/api/v1/banners','POST',96,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(102,'배너 수정','/portal-service/api/v1/banners/?*','PUT',97,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(103,'배너 사용 여부 수정','/portal-service/api/v1/banners/?*/?*','PUT',98,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(104,'배너 삭제','/portal-service/api/v1/banners/?*','DELETE',99,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(107,'예약 지역 목록 조회','/reserve-item-service/api/v1/locations','GET',102,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:15','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:15'),(108,'예약 지역 저장','/reserve-item-service/api/v1/locations','POST',103,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:06:59','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:06:59'),(109,'배너 다음 정렬 순서 조회','/portal-service/api/v1/banners/?*/sort-seq/next','GET',104,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:23:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 17:01:50'),(110,'배너 유형별 목록 조회','/portal-service/api/v1/?*/banners/?*/?*','GET',105,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:45:51','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 17:31:16'),(111,'월별 접속 통계','/portal-service/api/v1/statistics/monthly/?*','GET',106,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:53:47','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:53:47'),(112,'일별 접속 통계','/portal-service/api/v1/statistics/daily/?*','GET',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:06'),(125,'접속통계로그 등록','/portal-service/api/v1/statistics/?*','POST',124,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:01','a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 16:18:15'),(126,'예약 지역 수정','/reserve-item-service/api/v1/locations/?*','PUT',125,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:28:42','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:28:42'),(128,'예약 지역 한건 조회','/reserve-item-service/api/v1/locations/?*','GET',126,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:19:17','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:19:17'),(141,'댓글 전체 목록 조회','/board-service/api/v1/comments/total/?*/?*','GET',127,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(142,'댓글 전체 목록 조회(미삭제)','/board-service/api/v1/comments/all/?*/?*','GET',128,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(143,'댓글 목록 조회','/board-service/api/v1/comments/?*/?*','GET',129,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(144,'댓글 목록 조회(미삭제)','/board-service/api/v1/comments/list/?*/?*','GET',130,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(145,'댓글 등록','/board-service/api/v1/comments','POST',131,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(146,'댓글 수정','/board-service/api/v1/comments','PUT',132,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(147,'댓글 삭제','/board-service/api/v1/comments/?*/?*/?*','DELETE',133,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(148,'댓글 수정(작성자 체크)','/board-service/api/v1/comments/update','PUT',134,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(149,'댓글 삭제(작성자 체크)','/board-service/api/v1/comments/delete/?*/?*/?*','DELETE',135,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(150,'예약 물품 목록 조회','/reserve-item-service/api/v1/reserve-items','GET',136,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:33','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:33'),(151,'예약 물품 한건 조회','/reserve-item-service/api/v1/reserve-items/?*','GET',137,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:56','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:56'),(152,'예약 물품 한건 저장','/reserve-item-service/api/v1/reserve-items','POST',138,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:17','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:17'),(153,'예약 물품 한건 수정','/reserve-item-service/api/v1/reserve-items/?*','PUT',139,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:39','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:39'),(154,'게시물 페이지 목록 조회(삭제 포함)','/board-service/api/v1/posts/?*','GET',108,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(155,'게시물 페이지 목록 조회(삭제 제외)','/board-service/api/v1/posts/list/?*','GET',109,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(156,'게시물 단건 조회(삭제 포함)','/board-service/api/v1/posts/?*/?*','GET',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(157,'게시물 단건 조회(삭제 제외)','/board-service/api/v1/posts/view/?*/?*','GET',111,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(158,'게시물 등록','/board-service/api/v1/posts/?*','POST',112,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(159,'게시물 수정','/board-service/api/v1/posts/?*/?*','PUT',113,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(160,'게시물 다건 삭제','/board-service/api/v1/posts/remove','PUT',114,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(161,'게시물 다건 복원','/board-service/api/v1/posts/restore','PUT',115,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(162,'게시물 다건 완전 삭제','/board-service/api/v1/posts/delete','PUT',116,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(163,'게시물 등록(작성자 체크)','/board-service/api/v1/posts/save/?*','POST',117,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(164,'게시물 수정(작성자 체크)','/board-service/api/v1/posts/update/?*/?*','PUT',118,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(165,'게시물 삭제(작성자 체크)','/board-service/api/v1/posts/remove/?*/?*','DELETE',119,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(166,'최근 게시물 목록 조회','/board-service/api/v1/posts/newest/?*/?*','GET',120,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(167,'사용자 이메일 중복 확인','/user-service/api/v1/users/exists','POST',140,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 14:05:07','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:56:17'),(168,'예약 지역 삭제','/reserve-item-service/api/v1/locations/?*','DELETE',141,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:37','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:37'),(169,'사용자 회원 가입','/user-service/api/v1/users/join','POST',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:04:34','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:04:34'),(170,'사용자 비밀번호 찾기','/user-service/api/v1/users/password/find','POST',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 13:22:44','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:45:19'),(171,'사용자 비밀번호 찾기 유효성 확인','/user-service/api/v1/users/password/valid/?*','GET',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 12:32:35','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:45:30'),(172,'사용자 비밀번호 찾기 변경','/user-service/api/v1/users/password/change','PUT',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:18','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:58:14'),(173,'예약 신청 목록 조회','/reserve-check-service/api/v1/reserves','GET',146,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-15 15:15:09','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:54:31'),(174,'사용자 예약 신청','/reserve-request-service/api/v1/requests','POST',147,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:46:55','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:46:55'),(175,'사용자 비밀번호 변경','/user-service/api/v1/users/password/update','PUT',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:57:59','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:57:59'),(176,'사용자 비밀번호 확인','/user-service/api/v1/users/password/match','POST',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 14:45:41','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 14:45:41'),(177,'예약지역 사용여부 토글','/reserve-item-service/api/v1/locations/?*/?*','PUT',150,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 15:11:24','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 15:11:24'),(178,'사용자 정보 수정','/user-service/api/v1/users/info/?*','PUT',151,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 17:09:28','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 17:09:28'),(179,'사용자 회원탈퇴','/user-service/api/v1/users/leave','POST',152,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 09:31:01','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 09:43:45'),(180,'사용자 삭제','/user-service/api/v1/users/delete/?*','DELETE',153,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 13:05:29','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 13:21:56'),(181,'사용자별 예약 목록 조회','/reserve-check-service/api/v1/?*/reserves','GET',154,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:00','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:00'),(182,'예약 정보 한건 조회','/reserve-check-service/api/v1/reserves/?*','GET',155,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:32','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:32'),(183,'관리자용 예약 신청 등록','/reserve-check-service/api/v1/reserves','POST',156,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:58','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:58'),(184,'예약 취소','/reserve-check-service/api/v1/reserves/cancel/?*','PUT',157,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:56:38','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:56:38'),(185,'예약 승인','/reserve-check-service/api/v1/reserves/approve/?*','PUT',158,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:56:53','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-06 15:11:28'),(186,'예약 정보 수정','/reserve-check-service/api/v1/reserves/?*','PUT',159,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:08','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:08'),(187,'예약 물품 한건 모든 정보 조회','/reserve-item-service/api/v1/reserve-items/relations/?*','GET',160,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:29:31','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:29:31'),(188,'예약 물품 목록 사용자 조회','/reserve-item-service/api/v1/?*/reserve-items','GET',161,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:22','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:22'),(189,'예약 물품 재고 수량 조회','/reserve-check-service/api/v1/reserves/?*/inventories','GET',162,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:11:43','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-06 16:57:27'),(190,'예약 신청 성공 여부','/reserve-request-service/api/v1/requests/direct/?*','GET',163,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:00','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:57:30'),(191,'예약 물품 사용여부 수정','/reserve-item-service/api/v1/reserve-items/?*/?*','PUT',164,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:30','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:30'),(192,'첨부파일 다 건 삭제','/portal-service/api/v1/attachments/?*/children','DELETE',165,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:03:48','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:03:48'),(193,'유형별 예약물품 최신데이터 조회','/reserve-item-service/api/v1/reserve-items/latest/?*','GET',166,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:20:48','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:20:48'),(194,'사용자 예약 신청 - 심사','/reserve-request-service/api/v1/requests/evaluates','POST',167,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:20','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 17:12:02'),(195,'사용자 소셜 정보 조회','/user-service/api/v1/users/social','POST',168,'65a00f65-8460-49af-98ec-042977e56f4b','2021-10-22 18:03:32','65a00f65-8460-49af-98ec-042977e56f4b','2021-10-22 18:03:32');
+INSERT INTO `authorization` VALUES (1,'사용자 목록 조회','/user-service/api/v1/users','GET',1,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(2,'사용자 단건 조회','/user-service/api/v1/users/?*','GET',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(3,'사용자 등록','/user-service/api/v1/users','POST',3,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(4,'사용자 수정','/user-service/api/v1/users/?*','PUT',4,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(5,'사용자 토큰 갱신','/user-service/api/v1/users/token/refresh','GET',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(6,'권한 페이지 목록 조회','/user-service/api/v1/roles','GET',6,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(7,'권한 전체 목록 조회','/user-service/api/v1/roles/all','GET',7,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(8,'인가 페이지 목록 조회','/user-service/api/v1/authorizations','GET',8,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(9,'인가 단건 조회','/user-service/api/v1/authorizations/?*','GET',9,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(10,'인가 다음 정렬 순서 조회','/user-service/api/v1/authorizations/sort-seq/next','GET',10,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:22:19'),(11,'인가 등록','/user-service/api/v1/authorizations','POST',11,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(12,'인가 수정','/user-service/api/v1/authorizations/?*','PUT',12,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(13,'인가 삭제','/user-service/api/v1/authorizations/?*','DELETE',13,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(14,'인가 여부 확인','/user-service/api/v1/authorizations/check','GET',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(15,'권한 인가 페이지 목록 조회','/user-service/api/v1/role-authorizations','GET',15,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(16,'권한 인가 다건 등록','/user-service/api/v1/role-authorizations','POST',16,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:06:53'),(17,'코드 페이지 목록 조회','/portal-service/api/v1/codes','GET',18,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(18,'코드 단건 조회','/portal-service/api/v1/codes/?*','GET',19,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(19,'코드 등록','/portal-service/api/v1/codes','POST',20,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(20,'코드 수정','/portal-service/api/v1/codes/?*','PUT',20,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(21,'코드 사용여부 수정','/portal-service/api/v1/codes/?*/toggle-use','PUT',22,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(22,'코드 삭제','/portal-service/api/v1/codes/?*','DELETE',21,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(23,'코드 상세 페이지 목록 조회','/portal-service/api/v1/code-details','GET',22,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(24,'코드 상세 단건 조회','/portal-service/api/v1/code-details/?*','GET',23,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(25,'코드 상세 등록','/portal-service/api/v1/code-details','POST',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(26,'코드 상세 수정','/portal-service/api/v1/code-details/?*','PUT',26,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(27,'코드 상세 사용여부 수정','/portal-service/api/v1/code-details/?*/toggle-use','PUT',27,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(28,'코드 상세 삭제','/portal-service/api/v1/code-details/?*','DELETE',28,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(29,'첨부파일 단건 업로드','/portal-service/api/v1/upload','POST',29,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(30,'첨부파일 다건 업로드','/portal-service/api/v1/upload/multi','POST',30,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(31,'에디터 파일 업로드','/portal-service/api/v1/upload/editor','POST',31,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(32,'에디터 이미지 조회','/portal-service/api/v1/images/editor/**','GET',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(33,'이미지 조회','/portal-service/api/v1/images/?*','GET',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(34,'첨부파일 다운로드','/portal-service/api/v1/download/?*','GET',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(35,'첨부파일코드의 첨부파일 목록 조회','/portal-service/api/v1/attachments/?*','GET',35,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(36,'첨부파일 페이지 목록 조회','/portal-service/api/v1/attachments','GET',36,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:04'),(37,'첨부파일 삭제여부 수정','/portal-service/api/v1/attachments/?*/?*','PUT',37,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:23'),(38,'첨부파일 단건 삭제','/portal-service/api/v1/attachments/?*','DELETE',38,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:31'),(39,'첨부파일 신규 등록','/portal-service/api/v1/attachments/upload','POST',39,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(40,'첨부파일 추가 등록','/portal-service/api/v1/attachments/upload/?*','PUT',40,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(41,'첨부파일 수정','/portal-service/api/v1/attachments/?*','PUT',41,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),(42,'이용약관/개인정보수집동의 상세 페이지 목록 조회','/portal-service/api/v1/policies','GET',42,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:38'),(43,'이용약관/개인정보수집동의 상세 단건 조회','/portal-service/api/v1/policies/?*','GET',43,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:45'),(44,'이용약관/개인정보수집동의 상세 등록','/portal-service/api/v1/policies','POST',44,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:53'),(45,'이용약관/개인정보수집동의 상세 수정','/portal-service/api/v1/policies/?*','PUT',45,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:05:58'),(46,'이용약관/개인정보수집동의 상세 사용여부 수정','/portal-service/api/v1/policies/?*/?*','PUT',46,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:18:04'),(47,'이용약관/개인정보수집동의 상세 삭제','/portal-service/api/v1/policies/?*','DELETE',47,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:06:12'),(48,'공통코드 상세 목록 조회','/portal-service/api/v1/code-details/?*/codes','GET',48,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:14:22','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:14:22'),(49,'회원가입 시 이용약관/개인정보수집동의 마지막 한건 조회','/portal-service/api/v1/policies/latest/?*','GET',52,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:38:03','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:38:03'),(50,'컨텐츠 페이지 목록 조회','/portal-service/api/v1/contents','GET',53,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(51,'컨텐츠 단건 조회','/portal-service/api/v1/contents/?*','GET',54,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(52,'컨텐츠 등록','/portal-service/api/v1/contents','POST',55,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(53,'컨텐츠 수정','/portal-service/api/v1/contents/?*','PUT',56,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(54,'컨텐츠 삭제','/portal-service/api/v1/contents/?*','DELETE',57,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:00:46'),(55,'개인정보처리방침 페이지 목록 조회','/portal-service/api/v1/privacies','GET',58,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(56,'개인정보처리방침 사용중 전체 목록 조회','/portal-service/api/v1/privacies/all/use','GET',59,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 16:16:39'),(57,'개인정보처리방침 단건 조회','/portal-service/api/v1/privacies/?*','GET',60,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(58,'개인정보처리방침 등록','/portal-service/api/v1/privacies','POST',61,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(59,'개인정보처리방침 수정','/portal-service/api/v1/privacies/?*','PUT',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(60,'개인정보처리방침 사용 여부 수정','/portal-service/api/v1/privacies/?*/?*','PUT',63,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(61,'개인정보처리방침 삭제','/portal-service/api/v1/privacies/?*','DELETE',64,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:37:36'),(62,'게시판 페이지 목록 조회','/board-service/api/v1/boards','GET',65,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(63,'게시판 단건 조회','/board-service/api/v1/boards/?*','GET',66,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(64,'게시판 등록','/board-service/api/v1/boards','POST',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(65,'게시판 수정','/board-service/api/v1/boards/?*','PUT',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(66,'게시판 삭제','/board-service/api/v1/boards/?*','DELETE',69,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:16'),(67,'로그인 후 메뉴  조회','/portal-service/api/v1/menu-roles/?*','GET',70,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:09:05','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-17 16:00:10'),(68,'사이트 목록 조회','/portal-service/api/v1/sites','GET',71,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:48:53','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:06:18'),(70,'공통코드 상세 목록 조회(code 포함)','/portal-service/api/v1/code-details/?*/codes/?*','GET',50,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:22:14','65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:22:14'),(71,'상위공통코드 목록','/portal-service/api/v1/codes-parent','GET',21,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-07-29 15:03:41','a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-07-29 15:03:41'),(78,'권한 인가 다건 삭제','/user-service/api/v1/role-authorizations','PUT',17,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:06:40','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:13:54'),(79,'코드의 부모코드 단건 조회','/portal-service/api/v1/code-details/?*/parent','GET',25,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-08-02 09:38:19','a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-08-02 09:40:08'),(81,'메뉴관리 트리 목록 조회','/portal-service/api/v1/menus/?*/tree','GET',81,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:12','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:12'),(82,'메뉴관리 메뉴정보 한건 조회','/portal-service/api/v1/menus/?*','GET',82,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:44','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:31:44'),(83,'메뉴관리 메뉴 추가','/portal-service/api/v1/menus','POST',83,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:32:25','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:32:25'),(84,'메뉴 관리 순서 및 부모 메뉴 변경','/portal-service/api/v1/menus/tree','PUT',84,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:33:26','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:33:26'),(85,'메뉴관리 메뉴 이름변경','/portal-service/api/v1/menus/?*/?*','PUT',85,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:34:25','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:34:25'),(87,'메뉴관리 한건 메뉴정보 수정','/portal-service/api/v1/menus/?*','PUT',86,'','2021-08-03 10:37:03','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:38:40'),(88,'메뉴관리 한건 메뉴정보 삭제','/portal-service/api/v1/menus/?*','DELETE',87,'','2021-08-03 10:37:21','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:38:48'),(93,'권한별 메뉴관리 트리 목록 조회','/portal-service/api/v1/menu-roles/?*/?*','GET',92,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-13 15:17:29','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-13 15:17:29'),(94,'권한별 메뉴 관리 저장','/portal-service/api/v1/menu-roles','POST',93,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-16 14:46:34','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-16 14:46:34'),(99,'배너 페이지 목록 조회','/portal-service/api/v1/banners','GET',94,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(100,'배너 단건 조회','/portal-service/api/v1/banners/?*','GET',95,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(101,'배너 등록','/portal-service/api/v1/banners','POST',96,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(102,'배너 수정','/portal-service/api/v1/banners/?*','PUT',97,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(103,'배너 사용 여부 수정','/portal-service/api/v1/banners/?*/?*','PUT',98,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(104,'배너 삭제','/portal-service/api/v1/banners/?*','DELETE',99,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24','65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:32:24'),(107,'예약 지역 목록 조회','/reserve-item-service/api/v1/locations','GET',102,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:15','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:15'),(108,'예약 지역 저장','/reserve-item-service/api/v1/locations','POST',103,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:06:59','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:06:59'),(109,'배너 다음 정렬 순서 조회','/portal-service/api/v1/banners/?*/sort-seq/next','GET',104,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:23:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 17:01:50'),(110,'배너 유형별 목록 조회','/portal-service/api/v1/?*/banners/?*/?*','GET',105,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:45:51','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 17:31:16'),(111,'월별 접속 통계','/portal-service/api/v1/statistics/monthly/?*','GET',106,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:53:47','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:53:47'),(112,'일별 접속 통계','/portal-service/api/v1/statistics/daily/?*','GET',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:06','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:06'),(125,'접속통계로그 등록','/portal-service/api/v1/statistics/?*','POST',124,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:01','a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 16:18:15'),(126,'예약 지역 수정','/reserve-item-service/api/v1/locations/?*','PUT',125,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:28:42','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:28:42'),(128,'예약 지역 한건 조회','/reserve-item-service/api/v1/locations/?*','GET',126,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:19:17','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:19:17'),(141,'댓글 전체 목록 조회','/board-service/api/v1/comments/total/?*/?*','GET',127,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(142,'댓글 전체 목록 조회(미삭제)','/board-service/api/v1/comments/all/?*/?*','GET',128,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(143,'댓글 목록 조회','/board-service/api/v1/comments/?*/?*','GET',129,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(144,'댓글 목록 조회(미삭제)','/board-service/api/v1/comments/list/?*/?*','GET',130,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(145,'댓글 등록','/board-service/api/v1/comments','POST',131,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(146,'댓글 수정','/board-service/api/v1/comments','PUT',132,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(147,'댓글 삭제','/board-service/api/v1/comments/?*/?*/?*','DELETE',133,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(148,'댓글 수정(작성자 체크)','/board-service/api/v1/comments/update','PUT',134,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(149,'댓글 삭제(작성자 체크)','/board-service/api/v1/comments/delete/?*/?*/?*','DELETE',135,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:31'),(150,'예약 물품 목록 조회','/reserve-item-service/api/v1/reserve-items','GET',136,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:33','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:33'),(151,'예약 물품 한건 조회','/reserve-item-service/api/v1/reserve-items/?*','GET',137,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:56','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:12:56'),(152,'예약 물품 한건 저장','/reserve-item-service/api/v1/reserve-items','POST',138,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:17','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:17'),(153,'예약 물품 한건 수정','/reserve-item-service/api/v1/reserve-items/?*','PUT',139,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:39','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:13:39'),(154,'게시물 페이지 목록 조회(삭제 포함)','/board-service/api/v1/posts/?*','GET',108,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(155,'게시물 페이지 목록 조회(삭제 제외)','/board-service/api/v1/posts/list/?*','GET',109,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(156,'게시물 단건 조회(삭제 포함)','/board-service/api/v1/posts/?*/?*','GET',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(157,'게시물 단건 조회(삭제 제외)','/board-service/api/v1/posts/view/?*/?*','GET',111,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(158,'게시물 등록','/board-service/api/v1/posts/?*','POST',112,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(159,'게시물 수정','/board-service/api/v1/posts/?*/?*','PUT',113,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(160,'게시물 다건 삭제','/board-service/api/v1/posts/remove','PUT',114,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(161,'게시물 다건 복원','/board-service/api/v1/posts/restore','PUT',115,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(162,'게시물 다건 완전 삭제','/board-service/api/v1/posts/delete','PUT',116,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(163,'게시물 등록(작성자 체크)','/board-service/api/v1/posts/save/?*','POST',117,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(164,'게시물 수정(작성자 체크)','/board-service/api/v1/posts/update/?*/?*','PUT',118,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(165,'게시물 삭제(작성자 체크)','/board-service/api/v1/posts/remove/?*/?*','DELETE',119,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(166,'최근 게시물 목록 조회','/board-service/api/v1/posts/newest/?*/?*','GET',120,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:00'),(167,'사용자 이메일 중복 확인','/user-service/api/v1/users/exists','POST',140,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 14:05:07','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:56:17'),(168,'예약 지역 삭제','/reserve-item-service/api/v1/locations/?*','DELETE',141,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:37','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:37'),(169,'사용자 회원 가입','/user-service/api/v1/users/join','POST',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:04:34','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:04:34'),(170,'사용자 비밀번호 찾기','/user-service/api/v1/users/password/find','POST',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 13:22:44','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:45:19'),(171,'사용자 비밀번호 찾기 유효성 확인','/user-service/api/v1/users/password/valid/?*','GET',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 12:32:35','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:45:30'),(172,'사용자 비밀번호 찾기 변경','/user-service/api/v1/users/password/change','PUT',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:18','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:58:14'),(173,'예약 신청 목록 조회','/reserve-check-service/api/v1/reserves','GET',146,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-15 15:15:09','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:54:31'),(174,'사용자 예약 신청','/reserve-request-service/api/v1/requests','POST',147,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:46:55','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:46:55'),(175,'사용자 비밀번호 변경','/user-service/api/v1/users/password/update','PUT',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:57:59','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:57:59'),(176,'사용자 비밀번호 확인','/user-service/api/v1/users/password/match','POST',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 14:45:41','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 14:45:41'),(177,'예약지역 사용여부 토글','/reserve-item-service/api/v1/locations/?*/?*','PUT',150,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 15:11:24','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 15:11:24'),(178,'사용자 정보 수정','/user-service/api/v1/users/info/?*','PUT',151,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 17:09:28','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 17:09:28'),(179,'사용자 회원탈퇴','/user-service/api/v1/users/leave','POST',152,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 09:31:01','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 09:43:45'),(180,'사용자 삭제','/user-service/api/v1/users/delete/?*','DELETE',153,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 13:05:29','65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 13:21:56'),(181,'사용자별 예약 목록 조회','/reserve-check-service/api/v1/?*/reserves','GET',154,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:00','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:00'),(182,'예약 정보 한건 조회','/reserve-check-service/api/v1/reserves/?*','GET',155,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:32','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:32'),(183,'관리자용 예약 신청 등록','/reserve-check-service/api/v1/reserves','POST',156,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:58','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:55:58'),(184,'예약 취소','/reserve-check-service/api/v1/reserves/cancel/?*','PUT',157,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:56:38','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:56:38'),(185,'예약 승인','/reserve-check-service/api/v1/reserves/approve/?*','PUT',158,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:56:53','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-06 15:11:28'),(186,'예약 정보 수정','/reserve-check-service/api/v1/reserves/?*','PUT',159,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:08','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:08'),(187,'예약 물품 한건 모든 정보 조회','/reserve-item-service/api/v1/reserve-items/relations/?*','GET',160,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:29:31','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:29:31'),(188,'예약 물품 목록 사용자 조회','/reserve-item-service/api/v1/?*/reserve-items','GET',161,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:22','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:22'),(189,'예약 물품 재고 수량 조회','/reserve-check-service/api/v1/reserves/?*/inventories','GET',162,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:11:43','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-06 16:57:27'),(190,'예약 신청 성공 여부','/reserve-request-service/api/v1/requests/direct/?*','GET',163,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:00','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:57:30'),(191,'예약 물품 사용여부 수정','/reserve-item-service/api/v1/reserve-items/?*/?*','PUT',164,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:30','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:30'),(192,'첨부파일 다 건 삭제','/portal-service/api/v1/attachments/?*/children','DELETE',165,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:03:48','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:03:48'),(193,'유형별 예약물품 최신데이터 조회','/reserve-item-service/api/v1/reserve-items/latest/?*','GET',166,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:20:48','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:20:48'),(194,'사용자 예약 신청 - 심사','/reserve-request-service/api/v1/requests/evaluates','POST',167,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:20','87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 17:12:02'),(195,'사용자 소셜 정보 조회','/user-service/api/v1/users/social','POST',168,'65a00f65-8460-49af-98ec-042977e56f4b','2021-10-22 18:03:32','65a00f65-8460-49af-98ec-042977e56f4b','2021-10-22 18:03:32'),(196,'사용자 목록 내보내기','/user-service/api/v1/users/export/?*','GET',169,'65a00f65-8460-49af-98ec-042977e56f4b','2026-10-18 00:00:00','65a00f65-8460-49af-98ec-042977e56f4b','2026-10-18 00:00:00');
 /*!40000 ALTER TABLE `authorization` ENABLE KEYS */;
 UNLOCK TABLES;
 
@@ -360,6 +363,7 @@ CREATE TABLE `location` (
 DROP TABLE IF EXISTS `login_log`;
 /*!40101 SET @saved_cs_client     = @@character_set_client */;
 /*!50503 SET character_set_client = utf8mb4 */;
+-- 월 단위 파티션(pYYYYMM)은 user-service 의 LogTableRetentionService 가 미리 추가하고 보관 기간이 지나면 삭제한다
 CREATE TABLE `login_log` (
   `log_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '로그 id',
   `site_id` bigint(20) DEFAULT NULL COMMENT '사이트 id',
@@ -367,10 +371,61 @@ CREATE TABLE `login_log` (
   `ip_addr` varchar(50) DEFAULT NULL COMMENT 'ip 주소',
   `success_at` bit(1) NOT NULL COMMENT '성공 여부',
   `fail_content` varchar(500) DEFAULT NULL COMMENT '실패 내용',
+  `created_date` datetime(6) NOT NULL COMMENT '생성 일시',
+  `modified_date` datetime(6) DEFAULT NULL COMMENT '수정 일시',
+  PRIMARY KEY (`log_id`,`created_date`)
+) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8mb4 COMMENT='로그인 log'
+/*!50500 PARTITION BY RANGE  COLUMNS(created_date)
+(PARTITION p_max VALUES LESS THAN (MAXVALUE) ENGINE = InnoDB) */;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Table structure for table `refresh_token`
+--
+
+DROP TABLE IF EXISTS `refresh_token`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `refresh_token` (
+  `token_hash` varchar(64) NOT NULL COMMENT 'refresh token 해시',
+  `user_id` varchar(255) NOT NULL COMMENT '사용자 id',
+  `jti` varchar(36) NOT NULL COMMENT '토큰 id',
+  `family_id` varchar(36) NOT NULL COMMENT '재발급 family id',
+  `expires_date` datetime(6) NOT NULL COMMENT '만료 일시',
+  `used_date` datetime(6) DEFAULT NULL COMMENT '재발급 사용 일시',
   `created_date` datetime(6) DEFAULT NULL COMMENT '생성 일시',
   `modified_date` datetime(6) DEFAULT NULL COMMENT '수정 일시',
-  PRIMARY KEY (`log_id`)
-) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8mb4 COMMENT='로그인 log';
+  PRIMARY KEY (`token_hash`),
+  KEY `idx_refresh_token_user_id` (`user_id`),
+  KEY `idx_refresh_token_family_id` (`family_id`),
+  KEY `idx_refresh_token_expires_date` (`expires_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='refresh token';
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Table structure for table `mail_outbox`
+--
+
+DROP TABLE IF EXISTS `mail_outbox`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `mail_outbox` (
+  `mail_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '메일 id',
+  `to_addr` varchar(100) NOT NULL COMMENT '받는 사람 이메일 주소',
+  `subject` varchar(200) NOT NULL COMMENT '제목',
+  `content` mediumtext NOT NULL COMMENT 'html 본문',
+  `status` varchar(20) NOT NULL COMMENT '발송 상태',
+  `attempt_count` int(11) NOT NULL DEFAULT '0' COMMENT '발송 시도 수',
+  `next_attempt_date` datetime(6) NOT NULL COMMENT '다음 시도 일시',
+  `claim_id` varchar(36) DEFAULT NULL COMMENT '점유 id',
+  `last_error` varchar(500) DEFAULT NULL COMMENT '마지막 발송 오류',
+  `sent_date` datetime(6) DEFAULT NULL COMMENT '발송 일시',
+  `created_date` datetime(6) DEFAULT NULL COMMENT '생성 일시',
+  `modified_date` datetime(6) DEFAULT NULL COMMENT '수정 일시',
+  PRIMARY KEY (`mail_id`),
+  KEY `idx_mail_outbox_status` (`status`,`next_attempt_date`),
+  KEY `idx_mail_outbox_claim_id` (`claim_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='메일 발송 대기';
 /*!40101 SET character_set_client = @saved_cs_client */;
 
 --
@@ -697,7 +752,7 @@ CREATE TABLE `role_authorization` (
 
 LOCK TABLES `role_authorization` WRITE;
 /*!40000 ALTER TABLE `role_authorization` DISABLE KEYS */;
-INSERT INTO `role_authorization` VALUES ('ROLE_ADMIN',1,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 14:03:25'),('ROLE_ADMIN',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',3,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',4,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',6,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',7,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',8,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',9,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',10,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',11,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',12,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',13,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',15,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',16,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',17,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',18,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',19,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',20,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',21,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',22,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',23,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',25,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',26,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',27,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',28,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',29,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',30,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',31,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',35,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',36,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',37,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',38,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',39,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',40,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',41,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',42,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',43,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',44,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',45,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',46,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',47,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',48,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:17:37'),('ROLE_ADMIN',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:38:54'),('ROLE_ADMIN',50,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:50'),('ROLE_ADMIN',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',52,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',53,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',54,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',55,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:11'),('ROLE_ADMIN',56,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:11'),('ROLE_ADMIN',57,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:12'),('ROLE_ADMIN',58,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:13'),('ROLE_ADMIN',59,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:13'),('ROLE_ADMIN',60,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:14'),('ROLE_ADMIN',61,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:09'),('ROLE_ADMIN',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:38'),('ROLE_ADMIN',63,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 12:46:35'),('ROLE_ADMIN',64,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:38'),('ROLE_ADMIN',65,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:38'),('ROLE_ADMIN',66,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:40:33'),('ROLE_ADMIN',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:35'),('ROLE_ADMIN',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:49:06'),('ROLE_ADMIN',70,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:26:12'),('ROLE_ADMIN',71,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-07-29 15:07:47'),('ROLE_ADMIN',78,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:06:59'),('ROLE_ADMIN',79,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-08-02 09:39:31'),('ROLE_ADMIN',81,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:37'),('ROLE_ADMIN',82,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:37'),('ROLE_ADMIN',83,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:38'),('ROLE_ADMIN',84,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:38'),('ROLE_ADMIN',85,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:39'),('ROLE_ADMIN',87,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:40'),('ROLE_ADMIN',88,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:40'),('ROLE_ADMIN',93,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-13 15:17:57'),('ROLE_ADMIN',94,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-16 14:46:57'),('ROLE_ADMIN',99,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',100,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',101,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',102,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',103,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:25'),('ROLE_ADMIN',104,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:24'),('ROLE_ADMIN',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:52'),('ROLE_ADMIN',108,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:07:13'),('ROLE_ADMIN',109,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:23:25'),('ROLE_ADMIN',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:46:02'),('ROLE_ADMIN',111,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:27'),('ROLE_ADMIN',112,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:27'),('ROLE_ADMIN',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:30'),('ROLE_ADMIN',126,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:28:59'),('ROLE_ADMIN',128,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:21:12'),('ROLE_ADMIN',141,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',146,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',147,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',150,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:10'),('ROLE_ADMIN',151,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:10'),('ROLE_ADMIN',152,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:11'),('ROLE_ADMIN',153,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:12'),('ROLE_ADMIN',154,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',156,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',158,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',159,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',160,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',161,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',162,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:30'),('ROLE_ADMIN',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:30'),('ROLE_ADMIN',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:30'),('ROLE_ADMIN',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 14:05:17'),('ROLE_ADMIN',168,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:52'),('ROLE_ADMIN',170,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:35'),('ROLE_ADMIN',171,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:34'),('ROLE_ADMIN',172,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:32'),('ROLE_ADMIN',173,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-15 15:15:23'),('ROLE_ADMIN',174,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:47:10'),('ROLE_ADMIN',175,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:43'),('ROLE_ADMIN',176,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:41'),('ROLE_ADMIN',177,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 15:11:42'),('ROLE_ADMIN',178,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-19 14:12:56'),('ROLE_ADMIN',180,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 13:05:39'),('ROLE_ADMIN',181,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:22'),('ROLE_ADMIN',182,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:23'),('ROLE_ADMIN',183,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:24'),('ROLE_ADMIN',184,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:24'),('ROLE_ADMIN',185,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:25'),('ROLE_ADMIN',186,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:26'),('ROLE_ADMIN',187,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:29:49'),('ROLE_ADMIN',188,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:37'),('ROLE_ADMIN',189,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:11:57'),('ROLE_ADMIN',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:14'),('ROLE_ADMIN',191,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:43'),('ROLE_ADMIN',192,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:04:00'),('ROLE_ADMIN',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:15'),('ROLE_ADMIN',194,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:41'),('ROLE_ADMIN',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:07:27'),('ROLE_ANONYMOUS',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-07 12:33:43'),('ROLE_ANONYMOUS',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 19:06:20'),('ROLE_ANONYMOUS',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 19:01:59'),('ROLE_ANONYMOUS',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:18'),('ROLE_ANONYMOUS',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:19'),('ROLE_ANONYMOUS',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 17:27:35'),('ROLE_ANONYMOUS',35,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-24 11:24:59'),('ROLE_ANONYMOUS',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:39:04'),('ROLE_ANONYMOUS',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 12:04:33'),('ROLE_ANONYMOUS',56,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 10:13:49'),('ROLE_ANONYMOUS',63,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-25 17:56:43'),('ROLE_ANONYMOUS',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:42'),('ROLE_ANONYMOUS',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 12:29:13'),('ROLE_ANONYMOUS',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:45'),('ROLE_ANONYMOUS',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:47'),('ROLE_ANONYMOUS',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:48'),('ROLE_ANONYMOUS',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:49'),('ROLE_ANONYMOUS',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:50'),('ROLE_ANONYMOUS',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:50'),('ROLE_ANONYMOUS',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:41'),('ROLE_ANONYMOUS',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:43'),('ROLE_ANONYMOUS',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:48'),('ROLE_ANONYMOUS',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:52'),('ROLE_ANONYMOUS',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:53'),('ROLE_ANONYMOUS',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:54'),('ROLE_ANONYMOUS',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 14:05:22'),('ROLE_ANONYMOUS',169,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:04:45'),('ROLE_ANONYMOUS',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-15 09:13:10'),('ROLE_ANONYMOUS',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:26'),('ROLE_ANONYMOUS',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-10-22 18:03:50'),('ROLE_EMPLOYEE',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:44:50'),('ROLE_EMPLOYEE',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:44:55'),('ROLE_EMPLOYEE',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:42:41'),('ROLE_EMPLOYEE',17,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:18'),('ROLE_EMPLOYEE',18,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:15'),('ROLE_EMPLOYEE',23,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:37'),('ROLE_EMPLOYEE',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:37'),('ROLE_EMPLOYEE',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:28'),('ROLE_EMPLOYEE',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:29'),('ROLE_EMPLOYEE',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 17:27:40'),('ROLE_EMPLOYEE',35,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-24 11:25:14'),('ROLE_EMPLOYEE',39,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:09'),('ROLE_EMPLOYEE',40,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:10'),('ROLE_EMPLOYEE',41,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:49'),('ROLE_EMPLOYEE',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:39:13'),('ROLE_EMPLOYEE',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:24'),('ROLE_EMPLOYEE',56,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 10:13:45'),('ROLE_EMPLOYEE',57,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:35'),('ROLE_EMPLOYEE',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:39'),('ROLE_EMPLOYEE',63,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-25 17:56:54'),('ROLE_EMPLOYEE',64,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:11'),('ROLE_EMPLOYEE',65,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:12'),('ROLE_EMPLOYEE',66,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:14'),('ROLE_EMPLOYEE',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:38'),('ROLE_EMPLOYEE',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:44'),('ROLE_EMPLOYEE',71,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:25'),('ROLE_EMPLOYEE',79,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:33'),('ROLE_EMPLOYEE',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:50'),('ROLE_EMPLOYEE',108,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:07:15'),('ROLE_EMPLOYEE',111,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:29'),('ROLE_EMPLOYEE',112,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:30'),('ROLE_EMPLOYEE',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:34'),('ROLE_EMPLOYEE',126,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:29:01'),('ROLE_EMPLOYEE',128,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:21:19'),('ROLE_EMPLOYEE',141,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:21'),('ROLE_EMPLOYEE',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:55'),('ROLE_EMPLOYEE',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:29'),('ROLE_EMPLOYEE',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:56'),('ROLE_EMPLOYEE',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:30'),('ROLE_EMPLOYEE',146,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:31'),('ROLE_EMPLOYEE',147,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:33'),('ROLE_EMPLOYEE',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:34'),('ROLE_EMPLOYEE',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:35'),('ROLE_EMPLOYEE',150,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:18'),('ROLE_EMPLOYEE',151,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:18'),('ROLE_EMPLOYEE',152,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:19'),('ROLE_EMPLOYEE',153,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:19'),('ROLE_EMPLOYEE',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:56'),('ROLE_EMPLOYEE',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:02'),('ROLE_EMPLOYEE',158,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:04'),('ROLE_EMPLOYEE',159,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:05'),('ROLE_EMPLOYEE',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:14'),('ROLE_EMPLOYEE',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:15'),('ROLE_EMPLOYEE',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:16'),('ROLE_EMPLOYEE',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:17'),('ROLE_EMPLOYEE',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:40'),('ROLE_EMPLOYEE',168,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:55'),('ROLE_EMPLOYEE',169,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:42'),('ROLE_EMPLOYEE',170,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:22'),('ROLE_EMPLOYEE',171,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:21'),('ROLE_EMPLOYEE',172,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:53'),('ROLE_EMPLOYEE',173,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-15 15:15:27'),('ROLE_EMPLOYEE',174,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:47:16'),('ROLE_EMPLOYEE',175,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:47'),('ROLE_EMPLOYEE',176,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:49'),('ROLE_EMPLOYEE',178,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-19 14:13:02'),('ROLE_EMPLOYEE',179,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:49'),('ROLE_EMPLOYEE',181,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:53'),('ROLE_EMPLOYEE',182,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:36'),('ROLE_EMPLOYEE',183,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:38'),('ROLE_EMPLOYEE',184,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:40'),('ROLE_EMPLOYEE',185,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:41'),('ROLE_EMPLOYEE',186,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:42'),('ROLE_EMPLOYEE',187,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:30:07'),('ROLE_EMPLOYEE',188,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:46'),('ROLE_EMPLOYEE',189,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:12:02'),('ROLE_EMPLOYEE',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:20'),('ROLE_EMPLOYEE',191,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:49'),('ROLE_EMPLOYEE',192,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:52'),('ROLE_EMPLOYEE',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:19'),('ROLE_EMPLOYEE',194,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:43'),('ROLE_EMPLOYEE',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:59'),('ROLE_USER',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:45:01'),('ROLE_USER',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:45:03'),('ROLE_USER',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:42:39'),('ROLE_USER',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:39:55'),('ROLE_USER',29,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:28'),('ROLE_USER',31,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:31'),('ROLE_USER',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:24'),('ROLE_USER',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:25'),('ROLE_USER',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 17:27:38'),('ROLE_USER',35,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-24 11:25:10'),('ROLE_USER',39,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:41'),('ROLE_USER',40,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:43'),('ROLE_USER',41,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:45'),('ROLE_USER',43,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:41:00'),('ROLE_USER',48,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:35:23'),('ROLE_USER',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:39:09'),('ROLE_USER',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 13:27:34'),('ROLE_USER',56,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 12:01:55'),('ROLE_USER',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:10:55'),('ROLE_USER',63,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:10:59'),('ROLE_USER',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:40'),('ROLE_USER',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:41:20'),('ROLE_USER',70,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:35:24'),('ROLE_USER',79,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:39:57'),('ROLE_USER',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:47'),('ROLE_USER',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 12:29:28'),('ROLE_USER',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:52'),('ROLE_USER',128,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:32:36'),('ROLE_USER',141,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:42'),('ROLE_USER',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:46'),('ROLE_USER',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:41:53'),('ROLE_USER',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:42'),('ROLE_USER',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:54'),('ROLE_USER',146,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:53'),('ROLE_USER',147,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:54'),('ROLE_USER',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:56'),('ROLE_USER',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:56'),('ROLE_USER',150,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:59'),('ROLE_USER',151,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:00'),('ROLE_USER',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:58'),('ROLE_USER',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:00'),('ROLE_USER',158,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:31'),('ROLE_USER',159,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:32'),('ROLE_USER',160,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:32'),('ROLE_USER',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:02'),('ROLE_USER',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:05'),('ROLE_USER',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:06'),('ROLE_USER',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:07'),('ROLE_USER',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:59:38'),('ROLE_USER',169,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:07'),('ROLE_USER',170,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:05'),('ROLE_USER',171,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:04'),('ROLE_USER',172,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:57'),('ROLE_USER',173,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:30:17'),('ROLE_USER',174,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:49'),('ROLE_USER',175,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:58:24'),('ROLE_USER',176,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 14:45:52'),('ROLE_USER',178,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 17:09:37'),('ROLE_USER',179,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 09:31:10'),('ROLE_USER',181,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:54'),('ROLE_USER',182,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:58:06'),('ROLE_USER',184,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:58:03'),('ROLE_USER',186,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:58:00'),('ROLE_USER',187,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:28'),('ROLE_USER',188,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:51'),('ROLE_USER',189,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:12:07'),('ROLE_USER',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:24'),('ROLE_USER',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:23'),('ROLE_USER',194,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:50'),('ROLE_USER',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:39');
+INSERT INTO `role_authorization` VALUES ('ROLE_ADMIN',1,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 14:03:25'),('ROLE_ADMIN',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',3,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',4,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',6,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',7,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',8,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',9,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',10,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',11,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',12,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',13,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',15,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',16,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',17,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',18,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',19,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',20,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',21,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',22,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',23,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',25,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',26,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',27,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',28,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',29,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',30,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',31,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',35,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',36,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',37,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',38,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',39,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',40,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',41,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',42,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',43,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',44,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',45,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',46,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',47,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:05:06'),('ROLE_ADMIN',48,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 11:17:37'),('ROLE_ADMIN',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:38:54'),('ROLE_ADMIN',50,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:50'),('ROLE_ADMIN',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',52,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',53,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',54,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 18:02:47'),('ROLE_ADMIN',55,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:11'),('ROLE_ADMIN',56,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:11'),('ROLE_ADMIN',57,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:12'),('ROLE_ADMIN',58,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:13'),('ROLE_ADMIN',59,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:13'),('ROLE_ADMIN',60,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:14'),('ROLE_ADMIN',61,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 11:38:09'),('ROLE_ADMIN',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:38'),('ROLE_ADMIN',63,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 12:46:35'),('ROLE_ADMIN',64,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:38'),('ROLE_ADMIN',65,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-26 16:15:38'),('ROLE_ADMIN',66,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:40:33'),('ROLE_ADMIN',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:35'),('ROLE_ADMIN',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:49:06'),('ROLE_ADMIN',70,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-28 16:26:12'),('ROLE_ADMIN',71,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-07-29 15:07:47'),('ROLE_ADMIN',78,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-02 09:06:59'),('ROLE_ADMIN',79,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-08-02 09:39:31'),('ROLE_ADMIN',81,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:37'),('ROLE_ADMIN',82,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:37'),('ROLE_ADMIN',83,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:38'),('ROLE_ADMIN',84,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:38'),('ROLE_ADMIN',85,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:39'),('ROLE_ADMIN',87,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:40'),('ROLE_ADMIN',88,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-03 10:46:40'),('ROLE_ADMIN',93,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-13 15:17:57'),('ROLE_ADMIN',94,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-16 14:46:57'),('ROLE_ADMIN',99,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',100,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',101,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',102,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:33'),('ROLE_ADMIN',103,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:25'),('ROLE_ADMIN',104,'65a00f65-8460-49af-98ec-042977e56f4b','2021-08-18 17:42:24'),('ROLE_ADMIN',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:52'),('ROLE_ADMIN',108,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:07:13'),('ROLE_ADMIN',109,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:23:25'),('ROLE_ADMIN',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 10:46:02'),('ROLE_ADMIN',111,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:27'),('ROLE_ADMIN',112,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:27'),('ROLE_ADMIN',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:30'),('ROLE_ADMIN',126,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:28:59'),('ROLE_ADMIN',128,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:21:12'),('ROLE_ADMIN',141,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',146,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',147,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:43'),('ROLE_ADMIN',150,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:10'),('ROLE_ADMIN',151,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:10'),('ROLE_ADMIN',152,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:11'),('ROLE_ADMIN',153,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:12'),('ROLE_ADMIN',154,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',156,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',158,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',159,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',160,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',161,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',162,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:25'),('ROLE_ADMIN',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:30'),('ROLE_ADMIN',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:30'),('ROLE_ADMIN',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:30'),('ROLE_ADMIN',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 14:05:17'),('ROLE_ADMIN',168,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:52'),('ROLE_ADMIN',170,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:35'),('ROLE_ADMIN',171,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:34'),('ROLE_ADMIN',172,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:32'),('ROLE_ADMIN',173,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-15 15:15:23'),('ROLE_ADMIN',174,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:47:10'),('ROLE_ADMIN',175,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:43'),('ROLE_ADMIN',176,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:41'),('ROLE_ADMIN',177,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 15:11:42'),('ROLE_ADMIN',178,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-19 14:12:56'),('ROLE_ADMIN',180,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-23 13:05:39'),('ROLE_ADMIN',181,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:22'),('ROLE_ADMIN',182,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:23'),('ROLE_ADMIN',183,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:24'),('ROLE_ADMIN',184,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:24'),('ROLE_ADMIN',185,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:25'),('ROLE_ADMIN',186,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:26'),('ROLE_ADMIN',187,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:29:49'),('ROLE_ADMIN',188,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:37'),('ROLE_ADMIN',189,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:11:57'),('ROLE_ADMIN',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:14'),('ROLE_ADMIN',191,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:43'),('ROLE_ADMIN',192,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:04:00'),('ROLE_ADMIN',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:15'),('ROLE_ADMIN',194,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:41'),('ROLE_ADMIN',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:07:27'),('ROLE_ANONYMOUS',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-07 12:33:43'),('ROLE_ANONYMOUS',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 19:06:20'),('ROLE_ANONYMOUS',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 19:01:59'),('ROLE_ANONYMOUS',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:18'),('ROLE_ANONYMOUS',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:19'),('ROLE_ANONYMOUS',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 17:27:35'),('ROLE_ANONYMOUS',35,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-24 11:24:59'),('ROLE_ANONYMOUS',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:39:04'),('ROLE_ANONYMOUS',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 12:04:33'),('ROLE_ANONYMOUS',56,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 10:13:49'),('ROLE_ANONYMOUS',63,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-25 17:56:43'),('ROLE_ANONYMOUS',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:42'),('ROLE_ANONYMOUS',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 12:29:13'),('ROLE_ANONYMOUS',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:45'),('ROLE_ANONYMOUS',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:47'),('ROLE_ANONYMOUS',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:48'),('ROLE_ANONYMOUS',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:49'),('ROLE_ANONYMOUS',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:50'),('ROLE_ANONYMOUS',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:50'),('ROLE_ANONYMOUS',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:41'),('ROLE_ANONYMOUS',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:43'),('ROLE_ANONYMOUS',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:48'),('ROLE_ANONYMOUS',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:52'),('ROLE_ANONYMOUS',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:53'),('ROLE_ANONYMOUS',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:54'),('ROLE_ANONYMOUS',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 14:05:22'),('ROLE_ANONYMOUS',169,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-13 17:04:45'),('ROLE_ANONYMOUS',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-15 09:13:10'),('ROLE_ANONYMOUS',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:26'),('ROLE_ANONYMOUS',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-10-22 18:03:50'),('ROLE_EMPLOYEE',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:44:50'),('ROLE_EMPLOYEE',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:44:55'),('ROLE_EMPLOYEE',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:42:41'),('ROLE_EMPLOYEE',17,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:18'),('ROLE_EMPLOYEE',18,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:15'),('ROLE_EMPLOYEE',23,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:37'),('ROLE_EMPLOYEE',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:37'),('ROLE_EMPLOYEE',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:28'),('ROLE_EMPLOYEE',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:29'),('ROLE_EMPLOYEE',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 17:27:40'),('ROLE_EMPLOYEE',35,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-24 11:25:14'),('ROLE_EMPLOYEE',39,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:09'),('ROLE_EMPLOYEE',40,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:10'),('ROLE_EMPLOYEE',41,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:49'),('ROLE_EMPLOYEE',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:39:13'),('ROLE_EMPLOYEE',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:24'),('ROLE_EMPLOYEE',56,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-12 10:13:45'),('ROLE_EMPLOYEE',57,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:35'),('ROLE_EMPLOYEE',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:39'),('ROLE_EMPLOYEE',63,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-25 17:56:54'),('ROLE_EMPLOYEE',64,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:11'),('ROLE_EMPLOYEE',65,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:12'),('ROLE_EMPLOYEE',66,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:14'),('ROLE_EMPLOYEE',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:38'),('ROLE_EMPLOYEE',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:38:44'),('ROLE_EMPLOYEE',71,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:25'),('ROLE_EMPLOYEE',79,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:37:33'),('ROLE_EMPLOYEE',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:50'),('ROLE_EMPLOYEE',108,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 16:07:15'),('ROLE_EMPLOYEE',111,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:29'),('ROLE_EMPLOYEE',112,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-06 17:54:30'),('ROLE_EMPLOYEE',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:34'),('ROLE_EMPLOYEE',126,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-08 17:29:01'),('ROLE_EMPLOYEE',128,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 13:21:19'),('ROLE_EMPLOYEE',141,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:21'),('ROLE_EMPLOYEE',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:55'),('ROLE_EMPLOYEE',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:29'),('ROLE_EMPLOYEE',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:56'),('ROLE_EMPLOYEE',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:30'),('ROLE_EMPLOYEE',146,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:31'),('ROLE_EMPLOYEE',147,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:33'),('ROLE_EMPLOYEE',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:34'),('ROLE_EMPLOYEE',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:35'),('ROLE_EMPLOYEE',150,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:18'),('ROLE_EMPLOYEE',151,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:18'),('ROLE_EMPLOYEE',152,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:19'),('ROLE_EMPLOYEE',153,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-09 20:14:19'),('ROLE_EMPLOYEE',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:08:56'),('ROLE_EMPLOYEE',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:02'),('ROLE_EMPLOYEE',158,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:04'),('ROLE_EMPLOYEE',159,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:05'),('ROLE_EMPLOYEE',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:14'),('ROLE_EMPLOYEE',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:15'),('ROLE_EMPLOYEE',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:16'),('ROLE_EMPLOYEE',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:17'),('ROLE_EMPLOYEE',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:40'),('ROLE_EMPLOYEE',168,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-13 14:13:55'),('ROLE_EMPLOYEE',169,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:42'),('ROLE_EMPLOYEE',170,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:22'),('ROLE_EMPLOYEE',171,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:21'),('ROLE_EMPLOYEE',172,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-15 14:46:53'),('ROLE_EMPLOYEE',173,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-15 15:15:27'),('ROLE_EMPLOYEE',174,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-16 09:47:16'),('ROLE_EMPLOYEE',175,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:47'),('ROLE_EMPLOYEE',176,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:49'),('ROLE_EMPLOYEE',178,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-19 14:13:02'),('ROLE_EMPLOYEE',179,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:49'),('ROLE_EMPLOYEE',181,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:53'),('ROLE_EMPLOYEE',182,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:36'),('ROLE_EMPLOYEE',183,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:38'),('ROLE_EMPLOYEE',184,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:40'),('ROLE_EMPLOYEE',185,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:41'),('ROLE_EMPLOYEE',186,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:42'),('ROLE_EMPLOYEE',187,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:30:07'),('ROLE_EMPLOYEE',188,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:46'),('ROLE_EMPLOYEE',189,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:12:02'),('ROLE_EMPLOYEE',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:20'),('ROLE_EMPLOYEE',191,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-07 11:12:49'),('ROLE_EMPLOYEE',192,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-08 14:17:52'),('ROLE_EMPLOYEE',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:19'),('ROLE_EMPLOYEE',194,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:43'),('ROLE_EMPLOYEE',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:09:59'),('ROLE_USER',2,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:45:01'),('ROLE_USER',5,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:45:03'),('ROLE_USER',14,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-14 09:42:39'),('ROLE_USER',24,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:39:55'),('ROLE_USER',29,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:28'),('ROLE_USER',31,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:31'),('ROLE_USER',32,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:24'),('ROLE_USER',33,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 14:06:25'),('ROLE_USER',34,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 17:27:38'),('ROLE_USER',35,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-08-24 11:25:10'),('ROLE_USER',39,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:41'),('ROLE_USER',40,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:43'),('ROLE_USER',41,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:40:45'),('ROLE_USER',43,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:41:00'),('ROLE_USER',48,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:35:23'),('ROLE_USER',49,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-23 16:39:09'),('ROLE_USER',51,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 13:27:34'),('ROLE_USER',56,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 12:01:55'),('ROLE_USER',62,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:10:55'),('ROLE_USER',63,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:10:59'),('ROLE_USER',67,'65a00f65-8460-49af-98ec-042977e56f4b','2021-07-27 19:11:40'),('ROLE_USER',68,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:41:20'),('ROLE_USER',70,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:35:24'),('ROLE_USER',79,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:39:57'),('ROLE_USER',107,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-03 11:24:47'),('ROLE_USER',110,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-06 12:29:28'),('ROLE_USER',125,'a2ebc791-7396-4e35-b771-30a4d50e0fdd','2021-09-07 15:52:52'),('ROLE_USER',128,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:32:36'),('ROLE_USER',141,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:42'),('ROLE_USER',142,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:46'),('ROLE_USER',143,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:41:53'),('ROLE_USER',144,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-30 21:45:42'),('ROLE_USER',145,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:54'),('ROLE_USER',146,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:53'),('ROLE_USER',147,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:54'),('ROLE_USER',148,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:56'),('ROLE_USER',149,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-09 16:53:56'),('ROLE_USER',150,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:59'),('ROLE_USER',151,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:00'),('ROLE_USER',155,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:29:58'),('ROLE_USER',157,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:00'),('ROLE_USER',158,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:31'),('ROLE_USER',159,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:32'),('ROLE_USER',160,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:11:32'),('ROLE_USER',163,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:02'),('ROLE_USER',164,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:05'),('ROLE_USER',165,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:06'),('ROLE_USER',166,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-10 12:30:07'),('ROLE_USER',167,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:59:38'),('ROLE_USER',169,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:07'),('ROLE_USER',170,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:05'),('ROLE_USER',171,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:17:04'),('ROLE_USER',172,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 14:16:57'),('ROLE_USER',173,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-25 21:30:17'),('ROLE_USER',174,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:49'),('ROLE_USER',175,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 10:58:24'),('ROLE_USER',176,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 14:45:52'),('ROLE_USER',178,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-16 17:09:37'),('ROLE_USER',179,'65a00f65-8460-49af-98ec-042977e56f4b','2021-09-17 09:31:10'),('ROLE_USER',181,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:57:54'),('ROLE_USER',182,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:58:06'),('ROLE_USER',184,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:58:03'),('ROLE_USER',186,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-24 15:58:00'),('ROLE_USER',187,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:28'),('ROLE_USER',188,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-27 15:56:51'),('ROLE_USER',189,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-09-29 15:12:07'),('ROLE_USER',190,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-01 09:54:24'),('ROLE_USER',193,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-13 11:21:23'),('ROLE_USER',194,'87638675-11fa-49e5-9bd1-d2524bf6fa45','2021-10-14 16:27:50'),('ROLE_USER',195,'65a00f65-8460-49af-98ec-042977e56f4b','2021-12-29 17:12:39'),('ROLE_ADMIN',196,'65a00f65-8460-49af-98ec-042977e56f4b','2026-10-18 00:00:00');
 /*!40000 ALTER TABLE `role_authorization` ENABLE KEYS */;
 UNLOCK TABLES;
 
@@ -738,15 +793,18 @@ UNLOCK TABLES;
 DROP TABLE IF EXISTS `statistics`;
 /*!40101 SET @saved_cs_client     = @@character_set_client */;
 /*!50503 SET character_set_client = utf8mb4 */;
+-- 월 단위 파티션(pYYYYMM)은 user-service 의 LogTableRetentionService 가 미리 추가하고 보관 기간이 지나면 삭제한다
 CREATE TABLE `statistics` (
   `log_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '로그 id',
   `statistics_id` varchar(255) DEFAULT NULL COMMENT '접속 통계 id',
   `ip_addr` varchar(100) DEFAULT NULL COMMENT 'ip 주소',
   `site_id` bigint(20) DEFAULT NULL COMMENT '사이트 id',
-  `created_date` datetime(6) DEFAULT NULL COMMENT '생성 일시',
+  `created_date` datetime(6) NOT NULL COMMENT '생성 일시',
   `modified_date` datetime(6) DEFAULT NULL COMMENT '수정 일시',
-  PRIMARY KEY (`log_id`)
-) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8mb4 COMMENT='접속 통계';
+  PRIMARY KEY (`log_id`,`created_date`)
+) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8mb4 COMMENT='접속 통계'
+/*!50500 PARTITION BY RANGE  COLUMNS(created_date)
+(PARTITION p_max VALUES LESS THAN (MAXVALUE) ENGINE = InnoDB) */;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
 